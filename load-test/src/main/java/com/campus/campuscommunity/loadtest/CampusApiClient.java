@@ -0,0 +1,113 @@
+package com.campus.campuscommunity.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+/**
+ * 캠퍼스 커뮤니티 REST API 호출
+ *
+ * 모든 가상 사용자가 하나의 HttpClient(연결 풀)를 공유하고, 요청마다 사용자 자신의 JWT를 붙입니다.
+ */
+public final class CampusApiClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final String baseUrl;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public CampusApiClient(String baseUrl) {
+        this.baseUrl = baseUrl;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newCachedThreadPool(runnable -> {
+                    Thread thread = new Thread(runnable, "load-test-http");
+                    thread.setDaemon(true);
+                    return thread;
+                }))
+                .build();
+    }
+
+    /**
+     * 로그인 후 JWT 반환
+     */
+    public String login(String email, String password) throws IOException, InterruptedException {
+        Result result = post("/api/users/login", null, Map.of("email", email, "password", password));
+        if (!result.success()) {
+            throw new IllegalStateException("로그인 실패: " + email + ", 상태=" + result.status());
+        }
+        return result.body().path("data").path("token").asText();
+    }
+
+    public Result get(String path, String token) throws IOException, InterruptedException {
+        return send(request(path, token).GET().build());
+    }
+
+    public Result post(String path, String token, Object body) throws IOException, InterruptedException {
+        HttpRequest.BodyPublisher publisher = body == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+        return send(request(path, token)
+                .header("Content-Type", "application/json")
+                .POST(publisher)
+                .build());
+    }
+
+    public static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json");
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private Result send(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        JsonNode body = null;
+        byte[] bytes = response.body();
+        if (bytes != null && bytes.length > 0) {
+            try {
+                body = objectMapper.readTree(bytes);
+            } catch (IOException e) {
+                // JSON이 아닌 응답 (오류 페이지 등)
+            }
+        }
+        return new Result(response.statusCode(), body, bytes == null ? 0 : bytes.length);
+    }
+
+    /**
+     * 응답 결과
+     * @param status HTTP 상태 코드
+     * @param body JSON 본문 (없거나 JSON이 아니면 null)
+     * @param bytes 응답 크기
+     */
+    public record Result(int status, JsonNode body, int bytes) {
+
+        public boolean success() {
+            return status >= 200 && status < 300;
+        }
+
+        // ApiResponse.data 아래 값
+        public JsonNode data() {
+            return body == null ? null : body.path("data");
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.campus.campuscommunity.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 시드 데이터 생성
+ *
+ * - 사용자: 학과 인증이 끝난 로컬 계정을 DB에 직접 입력합니다. (학생증 OCR 인증은 외부 API라 부하 테스트에서 제외)
+ * - 게시글/댓글: 실제 API로 작성해 캐시/이벤트 등 애플리케이션 경로를 그대로 거치게 합니다.
+ * 같은 randomSeed를 사용하면 같은 데이터가 만들어집니다.
+ */
+public final class DatasetSeeder {
+
+    public static final String PASSWORD = "loadtest1234!";
+    static final String[] CATEGORIES = {
+            "COMPUTER_SCIENCE", "ELECTRONICS", "MECHANICAL", "MANAGEMENT",
+            "CAREER", "STUDY", "CLUB", "CAMPUS_LIFE", "FREE", "QNA"
+    };
+    private static final String[] DEPARTMENTS = {"컴퓨터공학과", "전자공학과", "기계공학과", "경영학과"};
+    private static final String[] WORDS = {
+            "수강신청", "중간고사", "기말고사", "과제", "스터디", "동아리", "학식", "도서관", "기숙사", "장학금",
+            "취업", "인턴", "교수님", "팀플", "졸업", "MT", "축제", "시험기간", "전공", "교양"
+    };
+    private static final String INSERT_USER_SQL =
+            "INSERT IGNORE INTO users (email, password, name, department, verified, provider_type, role) " +
+                    "VALUES (?, ?, ?, ?, true, 'LOCAL', 'USER')";
+    private static final int SEED_THREADS = 16;
+
+    private final LoadTestConfig config;
+    private final CampusApiClient client;
+    private final Random random;
+
+    public DatasetSeeder(LoadTestConfig config, CampusApiClient client) {
+        this.config = config;
+        this.client = client;
+        this.random = new Random(config.randomSeed());
+    }
+
+    public Dataset seed(String jdbcUrl, String jdbcUser, String jdbcPassword) throws Exception {
+        long startedAt = System.nanoTime();
+        List<String> emails = insertUsers(jdbcUrl, jdbcUser, jdbcPassword);
+        List<String> tokens = loginAll(emails);
+        List<Long> boardIds = createBoards(emails, tokens);
+        List<Long> commentIds = createComments(emails, tokens, boardIds);
+        System.out.printf("시드 데이터 생성 완료: 사용자=%d, 게시글=%d, 댓글=%d (%.1f초)%n",
+                emails.size(), boardIds.size(), commentIds.size(), (System.nanoTime() - startedAt) / 1e9);
+        return new Dataset(emails, tokens, boardIds, commentIds);
+    }
+
+    private List<String> insertUsers(String jdbcUrl, String jdbcUser, String jdbcPassword) throws SQLException {
+        // 해시 비용이 크므로 모든 사용자가 같은 비밀번호 해시를 사용
+        String passwordHash = new BCryptPasswordEncoder().encode(PASSWORD);
+        List<String> emails = new ArrayList<>(config.seedUsers());
+        try (Connection connection = DriverManager.getConnection(jdbcUrl, jdbcUser, jdbcPassword);
+             PreparedStatement statement = connection.prepareStatement(INSERT_USER_SQL)) {
+            for (int i = 0; i < config.seedUsers(); i++) {
+                String email = "loadtest" + i + "@campus.ac.kr";
+                statement.setString(1, email);
+                statement.setString(2, passwordHash);
+                statement.setString(3, "부하테스트" + i);
+                statement.setString(4, DEPARTMENTS[i % DEPARTMENTS.length]);
+                statement.addBatch();
+                emails.add(email);
+            }
+            statement.executeBatch();
+        }
+        return emails;
+    }
+
+    private List<String> loginAll(List<String> emails) throws Exception {
+        return runParallel(emails.size(), i -> client.login(emails.get(i), PASSWORD));
+    }
+
+    private List<Long> createBoards(List<String> emails, List<String> tokens) throws Exception {
+        // 작성자/내용은 미리 정해 두어 병렬 실행 순서와 관계없이 같은 데이터가 되도록 함
+        List<Map<String, Object>> requests = new ArrayList<>(config.seedBoards());
+        List<Integer> writers = new ArrayList<>(config.seedBoards());
+        for (int i = 0; i < config.seedBoards(); i++) {
+            requests.add(boardRequest(random));
+            writers.add(random.nextInt(emails.size()));
+        }
+        return runParallel(config.seedBoards(), i -> {
+            int writer = writers.get(i);
+            CampusApiClient.Result result = client.post(
+                    "/api/boards?email=" + CampusApiClient.encode(emails.get(writer)), tokens.get(writer), requests.get(i));
+            return requireId(result, "게시글 작성", result.data());
+        });
+    }
+
+    private List<Long> createComments(List<String> emails, List<String> tokens, List<Long> boardIds) throws Exception {
+        List<Map<String, Object>> requests = new ArrayList<>(config.seedComments());
+        List<Integer> writers = new ArrayList<>(config.seedComments());
+        for (int i = 0; i < config.seedComments(); i++) {
+            requests.add(commentRequest(random, pickPopular(random, boardIds)));
+            writers.add(random.nextInt(emails.size()));
+        }
+        return runParallel(config.seedComments(), i -> {
+            int writer = writers.get(i);
+            CampusApiClient.Result result = client.post(
+                    "/api/comments?email=" + CampusApiClient.encode(emails.get(writer)), tokens.get(writer), requests.get(i));
+            return requireId(result, "댓글 작성", result.data().path("comment"));
+        });
+    }
+
+    static Map<String, Object> boardRequest(Random random) {
+        return Map.of(
+                "title", sentence(random, 3 + random.nextInt(5)),
+                "content", sentence(random, 20 + random.nextInt(120)),
+                "category", CATEGORIES[random.nextInt(CATEGORIES.length)]);
+    }
+
+    static Map<String, Object> commentRequest(Random random, long boardId) {
+        return Map.of(
+                "boardId", boardId,
+                "content", sentence(random, 3 + random.nextInt(25)));
+    }
+
+    /**
+     * 인기 게시글에 조회가 몰리는 분포 (앞쪽 20% 게시글이 약 80%를 차지)
+     */
+    static long pickPopular(Random random, List<Long> ids) {
+        int hot = Math.max(1, ids.size() / 5);
+        int index = random.nextInt(10) < 8 ? random.nextInt(hot) : random.nextInt(ids.size());
+        return ids.get(index);
+    }
+
+    private static String sentence(Random random, int words) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                builder.append(' ');
+            }
+            builder.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return builder.toString();
+    }
+
+    private static long requireId(CampusApiClient.Result result, String action, JsonNode node) {
+        if (!result.success() || node == null || !node.hasNonNull("id")) {
+            throw new IllegalStateException(action + " 실패: 상태=" + result.status() + ", 응답=" + result.body());
+        }
+        return node.get("id").asLong();
+    }
+
+    private static <T> List<T> runParallel(int count, IndexedTask<T> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(SEED_THREADS);
+        try {
+            List<Future<T>> futures = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> task.run(index)));
+            }
+            List<T> results = new ArrayList<>(count);
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface IndexedTask<T> {
+        T run(int index) throws IOException, InterruptedException;
+    }
+
+    /**
+     * 생성된 데이터 (사용자 목록과 토큰은 같은 순서)
+     */
+    public record Dataset(List<String> emails, List<String> tokens, List<Long> boardIds, List<Long> commentIds) {
+    }
+}
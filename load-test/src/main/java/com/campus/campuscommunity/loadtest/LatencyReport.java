@@ -0,0 +1,141 @@
+package com.campus.campuscommunity.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트별 지연 시간/처리량 집계
+ *
+ * HdrHistogram Recorder로 여러 가상 사용자 스레드가 잠금 없이 기록하고,
+ * 측정 종료 시 엔드포인트별 처리량과 p50/p95/p99/최대 지연을 계산합니다.
+ */
+public final class LatencyReport {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private volatile boolean recording;
+    private long startedAt;
+    private long stoppedAt;
+
+    // 측정 시작 (준비 구간 기록 초기화)
+    public void start() {
+        endpoints.values().forEach(Endpoint::reset);
+        startedAt = System.nanoTime();
+        recording = true;
+    }
+
+    public void stop() {
+        recording = false;
+        stoppedAt = System.nanoTime();
+    }
+
+    public void record(String endpoint, long latencyNanos, boolean success) {
+        Endpoint stats = endpoints.computeIfAbsent(endpoint, name -> new Endpoint());
+        if (!recording) {
+            return;
+        }
+        stats.recorder.recordValue(Math.min(latencyNanos, HIGHEST_TRACKABLE_NANOS));
+        if (!success) {
+            stats.errors.increment();
+        }
+    }
+
+    /**
+     * 집계 결과 (엔드포인트 이름순 + 전체)
+     */
+    public Map<String, Summary> summarize() {
+        double seconds = (stoppedAt - startedAt) / 1e9;
+        Map<String, Summary> summaries = new TreeMap<>();
+        Histogram total = new Histogram(HIGHEST_TRACKABLE_NANOS, 3);
+        long totalErrors = 0;
+        for (Map.Entry<String, Endpoint> entry : endpoints.entrySet()) {
+            Histogram histogram = entry.getValue().recorder.getIntervalHistogram();
+            long errors = entry.getValue().errors.sum();
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            summaries.put(entry.getKey(), Summary.of(histogram, errors, seconds));
+            total.add(histogram);
+            totalErrors += errors;
+        }
+        Map<String, Summary> ordered = new LinkedHashMap<>(summaries);
+        if (total.getTotalCount() > 0) {
+            ordered.put("TOTAL", Summary.of(total, totalErrors, seconds));
+        }
+        return ordered;
+    }
+
+    public void print(Map<String, Summary> summaries) {
+        System.out.printf("%n%-32s %9s %9s %8s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "req/s", "errors", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)");
+        summaries.forEach((endpoint, summary) -> System.out.printf("%-32s %9d %9.1f %8d %9.2f %9.2f %9.2f %9.2f%n",
+                endpoint, summary.requests(), summary.throughput(), summary.errors(),
+                summary.p50Millis(), summary.p95Millis(), summary.p99Millis(), summary.maxMillis()));
+    }
+
+    public void write(Path file, LoadTestConfig config, Map<String, Summary> summaries) throws IOException {
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("finishedAt", Instant.now().toString());
+        document.put("virtualUsers", config.virtualUsers());
+        document.put("durationSeconds", config.duration().toSeconds());
+        document.put("thinkTimeMillis", config.thinkTime().toMillis());
+        document.put("seed", Map.of(
+                "users", config.seedUsers(),
+                "boards", config.seedBoards(),
+                "comments", config.seedComments(),
+                "randomSeed", config.randomSeed()));
+        document.put("endpoints", summaries);
+
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), document);
+        System.out.println("\n결과 저장: " + file.toAbsolutePath());
+    }
+
+    private static final class Endpoint {
+        private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_NANOS, 3);
+        private final LongAdder errors = new LongAdder();
+
+        private void reset() {
+            recorder.reset();
+            errors.reset();
+        }
+    }
+
+    /**
+     * 엔드포인트 집계 결과 (지연 시간 단위: ms)
+     */
+    public record Summary(long requests, long errors, double throughput,
+                          double p50Millis, double p95Millis, double p99Millis, double maxMillis) {
+
+        private static Summary of(Histogram histogram, long errors, double seconds) {
+            return new Summary(
+                    histogram.getTotalCount(),
+                    errors,
+                    seconds > 0 ? histogram.getTotalCount() / seconds : 0,
+                    toMillis(histogram.getValueAtPercentile(50)),
+                    toMillis(histogram.getValueAtPercentile(95)),
+                    toMillis(histogram.getValueAtPercentile(99)),
+                    toMillis(histogram.getMaxValue()));
+        }
+
+        private static double toMillis(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.campus.campuscommunity.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정
+ *
+ * 명령행 인자(--이름 값)로 지정하며, 지정하지 않은 항목은 기본값을 사용합니다.
+ * --base-url을 지정하면 이미 실행 중인 서버를 대상으로 하고, 지정하지 않으면
+ * MySQL 컨테이너와 애플리케이션(--app-jar)을 직접 띄웁니다.
+ */
+public record LoadTestConfig(
+        String baseUrl,         // 대상 서버 주소 (없으면 직접 실행)
+        String jdbcUrl,         // 시드 데이터 입력용 DB 주소 (--base-url 사용 시 필수)
+        String jdbcUser,
+        String jdbcPassword,
+        Path appJar,            // 직접 실행할 애플리케이션 jar
+        int appPort,
+        int virtualUsers,       // 동시 가상 사용자 수
+        Duration warmup,        // 측정에서 제외할 준비 시간
+        Duration duration,      // 측정 시간
+        Duration thinkTime,     // 요청 사이 대기 시간 (평균)
+        int seedUsers,          // 시드 사용자 수
+        int seedBoards,         // 시드 게시글 수
+        int seedComments,       // 시드 댓글 수
+        long randomSeed,        // 요청 순서/데이터 재현용 시드
+        Path reportFile         // JSON 결과 파일
+) {
+
+    public static LoadTestConfig parse(String[] args) {
+        Arguments arguments = new Arguments(args);
+        return new LoadTestConfig(
+                arguments.get("base-url", null),
+                arguments.get("jdbc-url", null),
+                arguments.get("jdbc-user", "root"),
+                arguments.get("jdbc-password", "root"),
+                arguments.has("app-jar") ? Path.of(arguments.get("app-jar", null)) : null,
+                Integer.parseInt(arguments.get("app-port", "18080")),
+                Integer.parseInt(arguments.get("users", "50")),
+                Duration.ofSeconds(Long.parseLong(arguments.get("warmup-seconds", "30"))),
+                Duration.ofSeconds(Long.parseLong(arguments.get("duration-seconds", "120"))),
+                Duration.ofMillis(Long.parseLong(arguments.get("think-time-ms", "200"))),
+                Integer.parseInt(arguments.get("seed-users", "200")),
+                Integer.parseInt(arguments.get("seed-boards", "2000")),
+                Integer.parseInt(arguments.get("seed-comments", "5000")),
+                Long.parseLong(arguments.get("random-seed", "20250415")),
+                Path.of(arguments.get("report", "build/reports/load-test/report.json"))
+        );
+    }
+
+    // 직접 MySQL/애플리케이션을 띄우는지 여부
+    public boolean managedEnvironment() {
+        return baseUrl == null;
+    }
+
+    public void validate() {
+        if (managedEnvironment() && appJar == null) {
+            throw new IllegalArgumentException("--base-url 또는 --app-jar 중 하나는 필수입니다.");
+        }
+        if (!managedEnvironment() && jdbcUrl == null) {
+            throw new IllegalArgumentException("--base-url 사용 시 시드 데이터 입력을 위한 --jdbc-url이 필요합니다.");
+        }
+        if (virtualUsers <= 0 || seedUsers < virtualUsers) {
+            throw new IllegalArgumentException("--seed-users는 --users 이상이어야 합니다.");
+        }
+        if (seedBoards <= 0) {
+            throw new IllegalArgumentException("--seed-boards는 1 이상이어야 합니다.");
+        }
+    }
+
+    // "--이름 값" 형식의 인자 파서 (같은 이름이 여러 번 오면 마지막 값 사용)
+    private static final class Arguments {
+        private final Map<String, String> values = new HashMap<>();
+
+        private Arguments(String[] args) {
+            for (int i = 0; i < args.length; i++) {
+                if (!args[i].startsWith("--")) {
+                    throw new IllegalArgumentException("알 수 없는 인자: " + args[i]);
+                }
+                String name = args[i].substring(2);
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("값이 없는 인자: " + args[i]);
+                }
+                values.put(name, args[++i]);
+            }
+        }
+
+        private boolean has(String name) {
+            return values.containsKey(name);
+        }
+
+        private String get(String name, String defaultValue) {
+            return values.getOrDefault(name, defaultValue);
+        }
+    }
+}
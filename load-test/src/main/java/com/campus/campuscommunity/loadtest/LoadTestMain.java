@@ -0,0 +1,37 @@
+package com.campus.campuscommunity.loadtest;
+
+import java.util.Map;
+
+/**
+ * 캠퍼스 커뮤니티 부하 테스트 실행
+ *
+ * 1. 대상 환경 준비 (MySQL 컨테이너 + 애플리케이션 실행, 또는 외부 서버)
+ * 2. 시드 데이터 생성 (사용자/게시글/댓글)
+ * 3. 가상 사용자 트래픽 실행 (준비 구간 이후 측정)
+ * 4. 엔드포인트별 처리량/p50/p95/p99 출력 및 JSON 저장
+ *
+ * 예) gradle :load-test:loadTest -PloadTest.args="--users 100 --duration-seconds 300"
+ */
+public final class LoadTestMain {
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+        config.validate();
+
+        try (TestEnvironment environment = TestEnvironment.start(config)) {
+            CampusApiClient client = new CampusApiClient(environment.baseUrl());
+            DatasetSeeder.Dataset dataset = new DatasetSeeder(config, client)
+                    .seed(environment.jdbcUrl(), environment.jdbcUser(), environment.jdbcPassword());
+
+            LatencyReport report = new LatencyReport();
+            new Workload(config, client, dataset, report).run();
+
+            Map<String, LatencyReport.Summary> summaries = report.summarize();
+            report.print(summaries);
+            report.write(config.reportFile(), config, summaries);
+        }
+    }
+}
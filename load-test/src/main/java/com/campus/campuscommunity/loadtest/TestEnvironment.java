@@ -0,0 +1,159 @@
+package com.campus.campuscommunity.loadtest;
+
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 부하 테스트 대상 환경
+ *
+ * - 직접 실행: MySQL 컨테이너(Testcontainers)를 띄우고, 그 DB를 사용하도록 애플리케이션 jar를 별도 프로세스로 실행합니다.
+ * - 외부 서버: 주어진 주소와 DB를 그대로 사용합니다.
+ */
+public final class TestEnvironment implements AutoCloseable {
+
+    private static final DockerImageName MYSQL_IMAGE = DockerImageName.parse("mysql:8.0");
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(3);
+
+    private final String baseUrl;
+    private final String jdbcUrl;
+    private final String jdbcUser;
+    private final String jdbcPassword;
+    private final MySQLContainer<?> mysql;
+    private final Process application;
+
+    private TestEnvironment(String baseUrl, String jdbcUrl, String jdbcUser, String jdbcPassword,
+                            MySQLContainer<?> mysql, Process application) {
+        this.baseUrl = baseUrl;
+        this.jdbcUrl = jdbcUrl;
+        this.jdbcUser = jdbcUser;
+        this.jdbcPassword = jdbcPassword;
+        this.mysql = mysql;
+        this.application = application;
+    }
+
+    public static TestEnvironment start(LoadTestConfig config) throws IOException, InterruptedException {
+        if (!config.managedEnvironment()) {
+            return new TestEnvironment(config.baseUrl(), config.jdbcUrl(), config.jdbcUser(), config.jdbcPassword(), null, null);
+        }
+
+        MySQLContainer<?> mysql = new MySQLContainer<>(MYSQL_IMAGE)
+                .withDatabaseName("campus_community")
+                .withUsername("campus")
+                .withPassword("campus")
+                .withCommand("--character-set-server=utf8mb4", "--collation-server=utf8mb4_unicode_ci");
+        System.out.println("MySQL 컨테이너 시작...");
+        mysql.start();
+
+        String jdbcUrl = mysql.getJdbcUrl() + "?useSSL=false&allowPublicKeyRetrieval=true&serverTimezone=Asia/Seoul&rewriteBatchedStatements=true";
+        Process application = null;
+        try {
+            application = startApplication(config.appJar(), config.appPort(), jdbcUrl, mysql);
+            String baseUrl = "http://localhost:" + config.appPort();
+            waitUntilReady(baseUrl, application);
+            return new TestEnvironment(baseUrl, jdbcUrl, mysql.getUsername(), mysql.getPassword(), mysql, application);
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            if (application != null) {
+                application.destroyForcibly();
+            }
+            mysql.stop();
+            throw e;
+        }
+    }
+
+    private static Process startApplication(Path appJar, int port, String jdbcUrl, MySQLContainer<?> mysql) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-jar");
+        command.add(appJar.toAbsolutePath().toString());
+        command.add("--server.port=" + port);
+        command.add("--spring.datasource.url=" + jdbcUrl);
+        command.add("--spring.datasource.username=" + mysql.getUsername());
+        command.add("--spring.datasource.password=" + mysql.getPassword());
+        command.add("--spring.jpa.hibernate.ddl-auto=update");
+        // 측정에 영향을 주는 SQL/보안 디버그 로그 끄기
+        command.add("--spring.jpa.show-sql=false");
+        command.add("--logging.level.org.springframework.security=INFO");
+        // 외부 연동 설정은 부하 테스트에서 사용하지 않으므로 임의 값
+        command.add("--google.cloud.api-key=load-test");
+        command.add("--spring.security.oauth2.client.registration.google.client-id=load-test");
+        command.add("--spring.security.oauth2.client.registration.google.client-secret=load-test");
+
+        File logFile = new File("build/load-test-app.log");
+        logFile.getParentFile().mkdirs();
+        System.out.println("애플리케이션 시작: " + appJar + " (로그: " + logFile.getAbsolutePath() + ")");
+        return new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logFile)
+                .start();
+    }
+
+    // HTTP 응답이 올 때까지 대기 (인증이 필요한 API라 상태 코드는 확인하지 않음, 포트는 컨텍스트 준비 후 열림)
+    private static void waitUntilReady(String baseUrl, Process application) throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/boards/feed?size=1"))
+                .timeout(Duration.ofSeconds(5))
+                .GET()
+                .build();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!application.isAlive()) {
+                throw new IllegalStateException("애플리케이션이 종료되었습니다. 종료 코드=" + application.exitValue());
+            }
+            try {
+                client.send(request, HttpResponse.BodyHandlers.discarding());
+                System.out.println("애플리케이션 준비 완료: " + baseUrl);
+                return;
+            } catch (IOException e) {
+                // 아직 포트가 열리지 않음
+            }
+            Thread.sleep(1000);
+        }
+        throw new IllegalStateException("애플리케이션 시작 시간 초과: " + STARTUP_TIMEOUT);
+    }
+
+    public String baseUrl() {
+        return baseUrl;
+    }
+
+    public String jdbcUrl() {
+        return jdbcUrl;
+    }
+
+    public String jdbcUser() {
+        return jdbcUser;
+    }
+
+    public String jdbcPassword() {
+        return jdbcPassword;
+    }
+
+    @Override
+    public void close() {
+        if (application != null) {
+            application.destroy();
+            try {
+                if (!application.waitFor(30, TimeUnit.SECONDS)) {
+                    application.destroyForcibly();
+                }
+            } catch (InterruptedException e) {
+                application.destroyForcibly();
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (mysql != null) {
+            mysql.stop();
+        }
+    }
+}
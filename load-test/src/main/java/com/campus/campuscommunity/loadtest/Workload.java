@@ -0,0 +1,199 @@
+package com.campus.campuscommunity.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 캠퍼스 트래픽 혼합 부하
+ *
+ * 가상 사용자마다 스레드 하나가 로그인한 토큰으로 아래 비율의 요청을 반복합니다.
+ * - 피드 조회 70%: 커서 피드(다음 페이지 이어 보기 포함), 페이지 목록
+ * - 상세 조회 15%: 게시글 상세, 댓글 목록, 내 정보
+ * - 좋아요 10%: 게시글 좋아요/싫어요, 댓글 좋아요
+ * - 작성 5%: 게시글, 댓글
+ *
+ * 닫힌 모델(응답을 받은 뒤 다음 요청)이므로 서버가 느려지면 요청 수도 줄어듭니다.
+ * 지연 시간은 서버 응답 시간 기준이며, 부하가 한계를 넘는 구간은 처리량 감소로 함께 확인해야 합니다.
+ */
+public final class Workload {
+
+    private final LoadTestConfig config;
+    private final CampusApiClient client;
+    private final DatasetSeeder.Dataset dataset;
+    private final LatencyReport report;
+    private final AtomicBoolean running = new AtomicBoolean(true);
+
+    public Workload(LoadTestConfig config, CampusApiClient client, DatasetSeeder.Dataset dataset, LatencyReport report) {
+        this.config = config;
+        this.client = client;
+        this.dataset = dataset;
+        this.report = report;
+    }
+
+    /**
+     * 준비 시간 동안 실행한 뒤 기록을 초기화하고, 측정 시간 동안 실행
+     */
+    public void run() throws InterruptedException {
+        CountDownLatch finished = new CountDownLatch(config.virtualUsers());
+        for (int i = 0; i < config.virtualUsers(); i++) {
+            VirtualUser user = new VirtualUser(i, new Random(config.randomSeed() + i));
+            Thread thread = new Thread(() -> {
+                try {
+                    user.loop();
+                } finally {
+                    finished.countDown();
+                }
+            }, "virtual-user-" + i);
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        System.out.printf("준비 실행: %d초 (가상 사용자 %d명)%n", config.warmup().toSeconds(), config.virtualUsers());
+        Thread.sleep(config.warmup().toMillis());
+        report.start();
+        System.out.printf("측정 실행: %d초%n", config.duration().toSeconds());
+        Thread.sleep(config.duration().toMillis());
+        report.stop();
+
+        running.set(false);
+        finished.await();
+    }
+
+    private final class VirtualUser {
+
+        private final String token;
+        private final String emailParam;
+        private final Random random;
+        private Long feedCursor;
+
+        private VirtualUser(int index, Random random) {
+            this.token = dataset.tokens().get(index);
+            this.emailParam = "email=" + CampusApiClient.encode(dataset.emails().get(index));
+            this.random = random;
+        }
+
+        private void loop() {
+            while (running.get()) {
+                step();
+                pause();
+            }
+        }
+
+        private void step() {
+            int roll = random.nextInt(100);
+            if (roll < 70) {
+                readFeed();
+            } else if (roll < 85) {
+                readDetail();
+            } else if (roll < 95) {
+                like();
+            } else {
+                write();
+            }
+        }
+
+        private void readFeed() {
+            if (random.nextInt(10) < 7) {
+                // 이전 응답의 커서로 다음 페이지를 이어 보거나 처음부터 조회
+                String path = feedPath(feedCursor != null && random.nextInt(3) > 0 ? feedCursor : null);
+                CampusApiClient.Result result = call("GET /api/boards/feed", () -> client.get(path, token));
+                JsonNode data = result == null ? null : result.data();
+                feedCursor = data != null && data.path("hasNext").asBoolean() ? data.path("nextCursor").asLong() : null;
+            } else {
+                String category = DatasetSeeder.CATEGORIES[random.nextInt(DatasetSeeder.CATEGORIES.length)];
+                String path = "/api/boards?page=" + random.nextInt(5) + "&size=10&category=" + category + "&" + emailParam;
+                call("GET /api/boards", () -> client.get(path, token));
+            }
+        }
+
+        // 일부 요청은 카테고리 피드
+        private String feedPath(Long cursor) {
+            String path = "/api/boards/feed?size=20";
+            if (cursor != null) {
+                path += "&cursor=" + cursor;
+            }
+            if (random.nextInt(4) == 0) {
+                path += "&category=" + DatasetSeeder.CATEGORIES[random.nextInt(DatasetSeeder.CATEGORIES.length)];
+            }
+            return path;
+        }
+
+        private void readDetail() {
+            int roll = random.nextInt(15);
+            long boardId = DatasetSeeder.pickPopular(random, dataset.boardIds());
+            if (roll < 9) {
+                call("GET /api/boards/{id}", () -> client.get("/api/boards/" + boardId + "?" + emailParam, token));
+            } else if (roll < 13) {
+                call("GET /api/comments/board/{id}", () -> client.get("/api/comments/board/" + boardId + "?" + emailParam, token));
+            } else {
+                call("GET /api/users/me", () -> client.get("/api/users/me?" + emailParam, token));
+            }
+        }
+
+        private void like() {
+            int roll = random.nextInt(10);
+            if (roll < 7) {
+                long boardId = DatasetSeeder.pickPopular(random, dataset.boardIds());
+                if (random.nextInt(5) > 0) {
+                    call("POST /api/boards/{id}/like", () -> client.post("/api/boards/" + boardId + "/like?" + emailParam, token, null));
+                } else {
+                    call("POST /api/boards/{id}/dislike", () -> client.post("/api/boards/" + boardId + "/dislike?" + emailParam, token, null));
+                }
+            } else if (!dataset.commentIds().isEmpty()) {
+                long commentId = dataset.commentIds().get(random.nextInt(dataset.commentIds().size()));
+                call("POST /api/comments/{id}/like", () -> client.post("/api/comments/" + commentId + "/like?" + emailParam, token, null));
+            }
+        }
+
+        private void write() {
+            if (random.nextInt(5) < 2) {
+                call("POST /api/boards", () -> client.post("/api/boards?" + emailParam, token, DatasetSeeder.boardRequest(random)));
+            } else {
+                long boardId = DatasetSeeder.pickPopular(random, dataset.boardIds());
+                call("POST /api/comments", () -> client.post("/api/comments?" + emailParam, token,
+                        DatasetSeeder.commentRequest(random, boardId)));
+            }
+        }
+
+        private CampusApiClient.Result call(String endpoint, ApiCall apiCall) {
+            long startedAt = System.nanoTime();
+            try {
+                CampusApiClient.Result result = apiCall.call();
+                report.record(endpoint, System.nanoTime() - startedAt, result.success());
+                return result;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running.set(false);
+                return null;
+            } catch (Exception e) {
+                // 타임아웃/연결 오류도 오류로 기록
+                report.record(endpoint, System.nanoTime() - startedAt, false);
+                return null;
+            }
+        }
+
+        // 평균 thinkTime의 지수 분포 대기 (사용자마다 요청 간격이 고르게 퍼지도록)
+        private void pause() {
+            long mean = config.thinkTime().toMillis();
+            if (mean <= 0) {
+                return;
+            }
+            long millis = (long) (-Math.log(1 - ThreadLocalRandom.current().nextDouble()) * mean);
+            try {
+                Thread.sleep(Math.min(millis, mean * 10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running.set(false);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface ApiCall {
+        CampusApiClient.Result call() throws Exception;
+    }
+}
@@ -0,0 +1,131 @@
+package com.campus.campuscommunity.benchmark;
+
+import com.campus.campuscommunity.domain.board.entity.Board;
+import com.campus.campuscommunity.domain.board.entity.BoardCategory;
+import com.campus.campuscommunity.domain.comment.entity.Comment;
+import com.campus.campuscommunity.domain.user.entity.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크용 데이터 생성기
+ * 같은 seed로 항상 같은 데이터를 만들어 커밋 간 결과를 비교할 수 있게 합니다.
+ */
+public final class BenchmarkData {
+
+    public static final String[] DEPARTMENTS = {
+            "컴퓨터공학과", "전자공학과", "기계공학과", "경영학과", "경제학과",
+            "국어국문학과", "심리학과", "간호학과", "디자인학과", "산업경영공학과"
+    };
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 3, 1, 9, 0);
+
+    private BenchmarkData() {
+    }
+
+    public static Random random() {
+        return new Random(20250301L);
+    }
+
+    public static List<User> users(int count, Random random) {
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            users.add(User.builder()
+                    .id((long) i + 1)
+                    .email("student" + i + "@campus.ac.kr")
+                    .name("학생" + i)
+                    .department(DEPARTMENTS[random.nextInt(DEPARTMENTS.length)])
+                    .verified(true)
+                    .providerType(User.ProviderType.LOCAL)
+                    .role(User.Role.USER)
+                    .build());
+        }
+        return users;
+    }
+
+    public static List<Board> boards(int count, List<User> users, Random random) {
+        BoardCategory[] categories = BoardCategory.values();
+        List<Board> boards = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            User writer = users.get(random.nextInt(users.size()));
+            LocalDateTime createdAt = BASE_TIME.plusMinutes(i);
+            boards.add(Board.builder()
+                    .id((long) i + 1)
+                    .title("게시글 제목 " + i + " - 스터디 모집합니다")
+                    .content(text(random, 200 + random.nextInt(1800)))
+                    .writer(writer)
+                    .writerDepartment(writer.getDepartment())
+                    .category(categories[random.nextInt(categories.length)])
+                    .viewCount(random.nextInt(5000))
+                    .likeCount(random.nextInt(300))
+                    .dislikeCount(random.nextInt(30))
+                    .commentCount(random.nextInt(50))
+                    .createdAt(createdAt)
+                    .updatedAt(createdAt)
+                    .build());
+        }
+        return boards;
+    }
+
+    /**
+     * 한 게시글의 댓글 생성 (약 1/4은 일반 댓글, 나머지는 대댓글)
+     * @return [0] 일반 댓글, [1] 대댓글
+     */
+    public static List<List<Comment>> comments(int count, Board board, List<User> users, Random random) {
+        int topLevelCount = Math.max(1, count / 4);
+        List<Comment> topLevel = new ArrayList<>(topLevelCount);
+        List<Comment> replies = new ArrayList<>(count - topLevelCount);
+
+        for (int i = 0; i < count; i++) {
+            User writer = users.get(random.nextInt(users.size()));
+            Comment parent = i < topLevelCount ? null : topLevel.get(random.nextInt(topLevelCount));
+            LocalDateTime createdAt = BASE_TIME.plusSeconds(i);
+            Comment comment = Comment.builder()
+                    .id((long) i + 1)
+                    .content(text(random, 20 + random.nextInt(200)))
+                    .board(board)
+                    .writer(writer)
+                    .writerDepartment(writer.getDepartment())
+                    .parent(parent)
+                    .likeCount(random.nextInt(100))
+                    .createdAt(createdAt)
+                    .updatedAt(createdAt)
+                    .build();
+            if (parent == null) {
+                topLevel.add(comment);
+            } else {
+                replies.add(comment);
+            }
+        }
+        return List.of(topLevel, replies);
+    }
+
+    private static final String[] PHRASES = {
+            "스터디 모집합니다.", "이번 학기 전공 수업", "과제 제출 기한이", "도서관 세미나실에서",
+            "매주 화요일 저녁 7시", "중간고사 범위는", "교수님께서 말씀하신", "관심 있으신 분은 댓글 남겨주세요.",
+            "학과 사무실에", "장학금 신청 기간", "동아리 신입 부원", "기숙사 식당 메뉴"
+    };
+
+    // 자주 쓰는 문구를 이어 붙인 게시글 본문 형태의 텍스트 (실제 본문처럼 반복이 있어 압축됨)
+    public static String prose(Random random, int length) {
+        StringBuilder builder = new StringBuilder(length + 32);
+        while (builder.length() < length) {
+            builder.append(PHRASES[random.nextInt(PHRASES.length)])
+                    .append(random.nextInt(5) == 0 ? '\n' : ' ');
+        }
+        builder.setLength(length);
+        return builder.toString();
+    }
+
+    // 한글 음절로 된 임의 텍스트
+    public static String text(Random random, int length) {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append(i % 7 == 6 ? ' ' : (char) ('가' + random.nextInt(2000)));
+        }
+        return builder.toString();
+    }
+}
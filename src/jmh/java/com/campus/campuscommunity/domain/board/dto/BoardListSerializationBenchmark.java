@@ -0,0 +1,102 @@
+package com.campus.campuscommunity.domain.board.dto;
+
+import com.campus.campuscommunity.benchmark.BenchmarkData;
+import com.campus.campuscommunity.global.common.response.ApiResponse;
+import com.campus.campuscommunity.global.config.JacksonConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 게시글 목록 응답 직렬화 비용과 응답 크기
+ *
+ * - format: full(기본 응답), compact(categories 사전), projected(fields=title,likeCount,commentCount,createdAt)
+ * - blackbird: Blackbird 모듈 사용 여부
+ * 원본/gzip 바이트 수는 setUp에서 출력합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BoardListSerializationBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    @Param({"full", "compact", "projected"})
+    private String format;
+
+    @Param({"false", "true"})
+    private boolean blackbird;
+
+    private ObjectWriter writer;
+    private ApiResponse<BoardResponseDto.BoardListResponse> response;
+
+    @Setup
+    public void setUp() throws IOException {
+        Random random = BenchmarkData.random();
+        BoardResponseDto.BoardListResponse list = BoardResponseDto.BoardListResponse.builder()
+                .boards(BoardResponseDto.BoardSummary.fromList(
+                        BenchmarkData.boards(pageSize, BenchmarkData.users(1000, random), random)))
+                .totalPages(50)
+                .totalElements(50L * pageSize)
+                .currentPage(0)
+                .build();
+        response = ApiResponse.success("compact".equals(format) ? list.compact() : list);
+
+        // 애플리케이션 ObjectMapper와 같은 설정 (JacksonConfig의 mixIn/필터 + 날짜 ISO 문자열)
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        new JacksonConfig().fieldProjectionCustomizer().customize(builder);
+        if (blackbird) {
+            builder.modulesToInstall(new BlackbirdModule());
+        }
+        ObjectMapper objectMapper = builder.build();
+
+        writer = objectMapper.writer();
+        if ("projected".equals(format)) {
+            writer = writer.with(new SimpleFilterProvider().addFilter(JacksonConfig.PROJECTION_FILTER,
+                    SimpleBeanPropertyFilter.filterOutAllExcept(Set.of("id", "title", "likeCount", "commentCount", "createdAt"))));
+        }
+
+        byte[] json = serialize();
+        System.out.printf("%n[%s, %d건] 원본 %d bytes, gzip %d bytes%n", format, pageSize, json.length, gzip(json).length);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return writer.writeValueAsBytes(response);
+    }
+
+    // 직렬화 + gzip (server.compression 사용 시 요청당 CPU)
+    @Benchmark
+    public byte[] serializeAndGzip() throws IOException {
+        return gzip(writer.writeValueAsBytes(response));
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(bytes.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+            gzip.write(bytes);
+        }
+        return output.toByteArray();
+    }
+}
@@ -0,0 +1,41 @@
+package com.campus.campuscommunity.domain.board.dto;
+
+import com.campus.campuscommunity.benchmark.BenchmarkData;
+import com.campus.campuscommunity.domain.board.entity.Board;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BoardSummary.fromList 변환 비용 (게시글 목록/피드 응답)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BoardSummaryBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int rows;
+
+    private List<Board> boards;
+
+    @Setup
+    public void setUp() {
+        Random random = BenchmarkData.random();
+        boards = BenchmarkData.boards(rows, BenchmarkData.users(1000, random), random);
+    }
+
+    @Benchmark
+    public List<BoardResponseDto.BoardSummary> fromList() {
+        return BoardResponseDto.BoardSummary.fromList(boards);
+    }
+}
@@ -0,0 +1,64 @@
+package com.campus.campuscommunity.domain.comment.dto;
+
+import com.campus.campuscommunity.benchmark.BenchmarkData;
+import com.campus.campuscommunity.domain.board.entity.Board;
+import com.campus.campuscommunity.domain.comment.entity.Comment;
+import com.campus.campuscommunity.domain.user.entity.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CommentListResponse.from 계층 구조 조립 비용 (게시글 댓글 목록 응답)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CommentListResponseBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int rows;
+
+    private List<Comment> topLevelComments;
+    private List<Comment> replies;
+    private Map<Long, Boolean> likeStatusMap;
+    private Map<Long, Integer> replyCountMap;
+
+    @Setup
+    public void setUp() {
+        Random random = BenchmarkData.random();
+        List<User> users = BenchmarkData.users(1000, random);
+        Board board = BenchmarkData.boards(1, users, random).get(0);
+
+        List<List<Comment>> comments = BenchmarkData.comments(rows, board, users, random);
+        topLevelComments = comments.get(0);
+        replies = comments.get(1);
+
+        // 조회자가 약 10%의 댓글에 좋아요를 누른 상태
+        likeStatusMap = new HashMap<>();
+        replyCountMap = new HashMap<>();
+        for (Comment comment : topLevelComments) {
+            likeStatusMap.put(comment.getId(), random.nextInt(10) == 0);
+        }
+        for (Comment reply : replies) {
+            likeStatusMap.put(reply.getId(), random.nextInt(10) == 0);
+            replyCountMap.merge(reply.getParent().getId(), 1, Integer::sum);
+        }
+    }
+
+    @Benchmark
+    public CommentResponseDto.CommentListResponse from() {
+        return CommentResponseDto.CommentListResponse.from(topLevelComments, replies, likeStatusMap, replyCountMap);
+    }
+}
@@ -0,0 +1,71 @@
+package com.campus.campuscommunity.domain.user.service;
+
+import com.campus.campuscommunity.benchmark.BenchmarkData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * StudentIdVerificationService.detectDepartment 비용 (학생증 OCR 텍스트에서 학과 찾기)
+ *
+ * OCR 결과를 흉내 낸 텍스트를 미리 만들어 두고 차례로 검사합니다.
+ * - listed: 학과 목록에 있는 학과 (목록 앞/뒤쪽 학과가 섞여 있음)
+ * - pattern: 목록에 없어 정규식으로 찾는 경우
+ * - missing: 학과를 찾지 못하는 경우 (목록 전체 + 정규식까지 모두 수행)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DetectDepartmentBenchmark {
+
+    private static final String[] LISTED = {"컴퓨터공학과", "기계공학과", "경영학과", "간호학과", "응급구조학과", "산업경영공학과"};
+    private static final String[] UNLISTED = {"미래융합학부", "스마트모빌리티공학", "글로벌리더십전공"};
+
+    @Param({"1000", "10000", "100000"})
+    private int rows;
+
+    @Param({"listed", "pattern", "missing"})
+    private String kind;
+
+    private StudentIdVerificationService service;
+    private String[] texts;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        service = new StudentIdVerificationService(null);
+
+        Random random = BenchmarkData.random();
+        texts = new String[rows];
+        for (int i = 0; i < rows; i++) {
+            texts[i] = ocrText(random, i);
+        }
+    }
+
+    private String ocrText(Random random, int i) {
+        String department = switch (kind) {
+            case "listed" -> LISTED[random.nextInt(LISTED.length)];
+            case "pattern" -> "소속: " + UNLISTED[random.nextInt(UNLISTED.length)];
+            default -> "";
+        };
+        return "OO대학교 학생증 STUDENT ID CARD\n"
+                + "성명 " + BenchmarkData.text(random, 3) + "\n"
+                + department + "\n"
+                + "학번 20" + (20 + random.nextInt(6)) + String.format("%05d", i % 100000) + "\n"
+                + "발급일 2025.03.02 " + BenchmarkData.text(random, 20);
+    }
+
+    @Benchmark
+    public String detectDepartment() {
+        index = (index + 1) % texts.length;
+        return service.detectDepartment(texts[index]);
+    }
+}
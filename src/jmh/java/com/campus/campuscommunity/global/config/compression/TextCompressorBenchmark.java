@@ -0,0 +1,58 @@
+package com.campus.campuscommunity.global.config.compression;
+
+import com.campus.campuscommunity.benchmark.BenchmarkData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 긴 본문 압축 저장 비용 (작성/수정 시 compress, 조회 시 decompress)
+ * setUp에서 원문/저장 바이트 수를 출력해 저장 공간 절감률도 함께 확인합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TextCompressorBenchmark {
+
+    // 문자 수 (한글 1자 = UTF-8 3바이트)
+    @Param({"2000", "20000"})
+    private int length;
+
+    // prose: 문구가 반복되는 일반 게시글, random: 압축이 거의 안 되는 임의 음절
+    @Param({"prose", "random"})
+    private String kind;
+
+    private TextCompressor compressor;
+    private String text;
+    private String stored;
+
+    @Setup
+    public void setUp() {
+        Random random = BenchmarkData.random();
+        compressor = new TextCompressor(4096);
+        text = "prose".equals(kind) ? BenchmarkData.prose(random, length) : BenchmarkData.text(random, length);
+        stored = compressor.compress(text);
+        System.out.printf("%n[%s/%d] 원문 %d bytes -> 저장 %d bytes (압축=%s)%n", kind, length,
+                text.getBytes(StandardCharsets.UTF_8).length, stored.getBytes(StandardCharsets.UTF_8).length,
+                TextCompressor.isCompressed(stored));
+    }
+
+    @Benchmark
+    public String compress() {
+        return compressor.compress(text);
+    }
+
+    @Benchmark
+    public String decompress() {
+        return TextCompressor.decompress(stored);
+    }
+}
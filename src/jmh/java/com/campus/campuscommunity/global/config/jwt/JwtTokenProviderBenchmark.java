@@ -0,0 +1,70 @@
+package com.campus.campuscommunity.global.config.jwt;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtTokenProvider 토큰 생성/검증/파싱 비용 (모든 인증 요청마다 실행)
+ * 여러 사용자의 토큰을 돌아가며 사용해 한 토큰만 반복할 때의 분기 예측/캐시 효과를 줄입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenProviderBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int users;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String[] tokens;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        // 인증 객체 생성(getAuthentication)은 DB 조회가 필요하므로 제외하고 토큰 처리만 측정
+        jwtTokenProvider = new JwtTokenProvider(username -> {
+            throw new UnsupportedOperationException();
+        });
+        jwtTokenProvider.init();
+
+        tokens = new String[users];
+        for (int i = 0; i < users; i++) {
+            tokens[i] = jwtTokenProvider.createToken("student" + i + "@campus.ac.kr");
+        }
+    }
+
+    private String nextToken() {
+        index = (index + 1) % tokens.length;
+        return tokens[index];
+    }
+
+    @Benchmark
+    public String createToken() {
+        return jwtTokenProvider.createToken("student" + index++ % users + "@campus.ac.kr");
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtTokenProvider.validateToken(nextToken());
+    }
+
+    @Benchmark
+    public String getUserPk() {
+        return jwtTokenProvider.getUserPk(nextToken());
+    }
+
+    // JwtAuthenticationFilter가 요청마다 수행하는 검증 + 사용자 추출
+    @Benchmark
+    public String validateAndGetUserPk() {
+        String token = nextToken();
+        return jwtTokenProvider.validateToken(token) ? jwtTokenProvider.getUserPk(token) : null;
+    }
+}
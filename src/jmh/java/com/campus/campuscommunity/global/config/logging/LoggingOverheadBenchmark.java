@@ -0,0 +1,175 @@
+package com.campus.campuscommunity.global.config.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.OutputStreamAppender;
+import ch.qos.logback.core.encoder.Encoder;
+import net.logstash.logback.encoder.LogstashEncoder;
+import org.hibernate.engine.jdbc.internal.FormatStyle;
+import org.hibernate.engine.jdbc.internal.Formatter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.slf4j.MDC;
+
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 한 건이 남기는 로그 비용 비교 (게시글 목록 조회 기준: SQL 4건, 보안 필터 15개)
+ *
+ * - legacy: show-sql + format_sql (SQL마다 포맷 후 System.out 출력), Spring Security DEBUG, 동기 콘솔 출력
+ * - production: prod 프로필 (SQL/보안 DEBUG 미출력, 진단 TurboFilter 판단만 수행, 비동기 JSON 출력)
+ *
+ * 출력은 /dev/null로 보내므로 실제 stdout(컨테이너 로그 수집 파이프)보다 쓰기 비용이 작게 측정됩니다.
+ * production의 AsyncAppender는 대기열이 가득 차면 INFO 로그를 버리므로(neverBlock), 버려진 로그도 처리량에 포함됩니다.
+ * 실행: gradle jmh -Pjmh.includes=LoggingOverhead
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+public class LoggingOverheadBenchmark {
+
+    private static final String[] STATEMENTS = {
+            "select u1_0.id,u1_0.created_at,u1_0.department,u1_0.email,u1_0.password,u1_0.role,u1_0.updated_at "
+                    + "from users u1_0 where u1_0.email=?",
+            "select b1_0.id,b1_0.category,b1_0.comment_count,b1_0.created_at,b1_0.dislike_count,b1_0.like_count,"
+                    + "b1_0.title,b1_0.updated_at,b1_0.view_count,b1_0.writer_id from boards b1_0 "
+                    + "where b1_0.deleted=0 order by b1_0.created_at desc,b1_0.id desc limit ?,?",
+            "select count(b1_0.id) from boards b1_0 where b1_0.deleted=0",
+            "select u1_0.id,u1_0.department from users u1_0 where u1_0.id in (?,?,?,?,?,?,?,?,?,?)"
+    };
+
+    private static final String[] SECURITY_FILTERS = {
+            "DisableEncodeUrlFilter", "WebAsyncManagerIntegrationFilter", "SecurityContextHolderFilter",
+            "HeaderWriterFilter", "CorsFilter", "LogoutFilter", "OAuth2AuthorizationRequestRedirectFilter",
+            "OAuth2LoginAuthenticationFilter", "JwtAuthenticationFilter", "RequestCacheAwareFilter",
+            "SecurityContextHolderAwareRequestFilter", "AnonymousAuthenticationFilter", "SessionManagementFilter",
+            "ExceptionTranslationFilter", "AuthorizationFilter"
+    };
+
+    @Param({"legacy", "production"})
+    private String mode;
+
+    private LoggerContext loggerContext;
+    private Logger sqlLogger;
+    private Logger securityLogger;
+    private Logger appLogger;
+    private PrintStream showSqlOut;
+    private Formatter sqlFormatter;
+    private boolean legacy;
+
+    @Setup
+    public void setUp() throws IOException {
+        legacy = "legacy".equals(mode);
+        loggerContext = new LoggerContext();
+        loggerContext.start();
+
+        // System.out과 같은 구성 (버퍼 + println마다 flush)
+        showSqlOut = new PrintStream(new BufferedOutputStream(devNull(), 8192), true);
+        sqlFormatter = FormatStyle.BASIC.getFormatter();
+
+        Logger root = loggerContext.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.INFO);
+        if (legacy) {
+            root.addAppender(outputAppender(patternEncoder()));
+        } else {
+            DiagnosticTurboFilter turboFilter = new DiagnosticTurboFilter();
+            turboFilter.addLogger("org.springframework.security");
+            turboFilter.addLogger("org.hibernate.SQL");
+            turboFilter.setContext(loggerContext);
+            turboFilter.start();
+            loggerContext.addTurboFilter(turboFilter);
+
+            AsyncAppender asyncAppender = new AsyncAppender();
+            asyncAppender.setContext(loggerContext);
+            asyncAppender.setQueueSize(8192);
+            asyncAppender.setNeverBlock(true);
+            asyncAppender.addAppender(outputAppender(jsonEncoder()));
+            asyncAppender.start();
+            root.addAppender(asyncAppender);
+        }
+
+        sqlLogger = loggerContext.getLogger("org.hibernate.SQL");
+        securityLogger = loggerContext.getLogger("org.springframework.security.web.FilterChainProxy");
+        securityLogger.setLevel(legacy ? Level.DEBUG : Level.INFO);
+        appLogger = loggerContext.getLogger("com.campus.campuscommunity.domain.board.service.BoardService");
+        MDC.put("traceId", "6f1c2a9e4b7d3c58a0e1f2d3c4b5a697");
+    }
+
+    @TearDown
+    public void tearDown() {
+        MDC.clear();
+        loggerContext.stop();
+        showSqlOut.close();
+    }
+
+    @Benchmark
+    public void request() {
+        securityLogger.debug("Securing GET /api/boards?page=0&size=20");
+        for (int i = 0; i < SECURITY_FILTERS.length; i++) {
+            securityLogger.debug("Invoking {} ({}/{})", SECURITY_FILTERS[i], i + 1, SECURITY_FILTERS.length);
+        }
+        securityLogger.debug("Secured GET /api/boards?page=0&size=20");
+
+        for (String statement : STATEMENTS) {
+            if (legacy) {
+                // Hibernate SqlStatementLogger (show-sql=true, format_sql=true)
+                showSqlOut.println("Hibernate: " + sqlFormatter.format(statement));
+            } else if (sqlLogger.isDebugEnabled()) {
+                sqlLogger.debug(sqlFormatter.format(statement));
+            }
+        }
+
+        appLogger.info("게시글 목록 조회: page={}, size={}, 결과={}건", 0, 20, 20);
+    }
+
+    private OutputStreamAppender<ILoggingEvent> outputAppender(Encoder<ILoggingEvent> encoder) throws IOException {
+        OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+        appender.setContext(loggerContext);
+        appender.setEncoder(encoder);
+        appender.setOutputStream(devNull());
+        appender.start();
+        return appender;
+    }
+
+    // Spring Boot 기본 콘솔 패턴과 같은 형식
+    private Encoder<ILoggingEvent> patternEncoder() {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(loggerContext);
+        encoder.setPattern("%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p [campus-community,%X{traceId:-},%X{spanId:-}] "
+                + "%5(${PID:- }) --- [%15.15t] %-40.40logger{39} : %m%n");
+        encoder.start();
+        return encoder;
+    }
+
+    private Encoder<ILoggingEvent> jsonEncoder() {
+        LogstashEncoder encoder = new LogstashEncoder();
+        encoder.setContext(loggerContext);
+        encoder.setCustomFields("{\"application\":\"campus-community\"}");
+        encoder.addIncludeMdcKeyName("traceId");
+        encoder.addIncludeMdcKeyName("spanId");
+        encoder.start();
+        return encoder;
+    }
+
+    private static OutputStream devNull() throws IOException {
+        return new FileOutputStream("/dev/null");
+    }
+}
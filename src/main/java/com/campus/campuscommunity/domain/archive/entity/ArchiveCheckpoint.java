@@ -0,0 +1,48 @@
+package com.campus.campuscommunity.domain.archive.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관 작업 진행 위치 (대상 테이블별 마지막으로 처리한 ID)
+ *
+ * 배치와 같은 트랜잭션에서 갱신하므로 중간에 멈춰도 다음 실행이 이어서 처리합니다.
+ * 끝까지 처리하면 0으로 돌아가 다음 실행은 처음부터 다시 훑습니다.
+ */
+@Entity
+@Table(name = "archive_checkpoints")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArchiveCheckpoint {
+
+    @Id
+    @Column(length = 50)
+    private String name;
+
+    @Column(nullable = false)
+    private Long lastId;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    public ArchiveCheckpoint(String name) {
+        this.name = name;
+        this.lastId = 0L;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // 처리한 마지막 ID 기록
+    public void advance(Long lastId) {
+        this.lastId = lastId;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // 한 바퀴 완료, 처음부터 다시
+    public void reset() {
+        advance(0L);
+    }
+}
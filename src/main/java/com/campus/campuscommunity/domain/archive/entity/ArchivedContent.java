@@ -0,0 +1,55 @@
+package com.campus.campuscommunity.domain.archive.entity;
+
+import com.campus.campuscommunity.global.config.id.SnowflakeId;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관된 게시글/댓글 (삭제 후 보관 기간이 지나 원본 테이블에서 옮긴 데이터)
+ *
+ * payload는 원본 행과 딸린 행(본문, 좋아요, 댓글)을 담은 JSON을 TextCompressor로 압축한 값입니다.
+ * - BOARD: {"board": 행, "content": 본문, "likes": [행], "comments": [{"comment": 행, "likes": [행]}]}
+ * - COMMENT: {"comment": 행, "likes": [행]}
+ */
+@Entity
+@Table(name = "archived_contents", indexes = {
+        @Index(name = "idx_archived_contents_original", columnList = "content_type, original_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class ArchivedContent {
+
+    @Id
+    @SnowflakeId
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "content_type", nullable = false, length = 20)
+    private ContentType contentType;
+
+    @Column(nullable = false)
+    private Long originalId; // 원본 게시글/댓글 ID
+
+    @Column(nullable = false)
+    private Long boardId; // 게시글 ID (댓글이면 댓글이 달린 게시글)
+
+    private LocalDateTime deletedAt; // 원본 삭제 일시
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt; // 보관 일시
+
+    @Column(nullable = false, columnDefinition = "MEDIUMTEXT")
+    private String payload; // 압축한 JSON
+
+    public enum ContentType {
+        BOARD, COMMENT
+    }
+}
@@ -0,0 +1,20 @@
+package com.campus.campuscommunity.domain.archive.repository;
+
+import com.campus.campuscommunity.domain.archive.entity.ArchiveCheckpoint;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ArchiveCheckpointRepository extends JpaRepository<ArchiveCheckpoint, String> {
+
+    // 진행 위치 조회 + 행 잠금 (여러 인스턴스가 같은 배치를 동시에 처리하지 않도록)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM ArchiveCheckpoint c WHERE c.name = :name")
+    Optional<ArchiveCheckpoint> findForUpdate(@Param("name") String name);
+}
@@ -0,0 +1,14 @@
+package com.campus.campuscommunity.domain.archive.repository;
+
+import com.campus.campuscommunity.domain.archive.entity.ArchivedContent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ArchivedContentRepository extends JpaRepository<ArchivedContent, Long> {
+
+    // 원본 게시글/댓글 ID로 보관 데이터 조회
+    Optional<ArchivedContent> findByContentTypeAndOriginalId(ArchivedContent.ContentType contentType, Long originalId);
+}
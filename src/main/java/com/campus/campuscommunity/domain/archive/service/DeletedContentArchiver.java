@@ -0,0 +1,282 @@
+package com.campus.campuscommunity.domain.archive.service;
+
+import com.campus.campuscommunity.domain.archive.entity.ArchiveCheckpoint;
+import com.campus.campuscommunity.domain.archive.entity.ArchivedContent;
+import com.campus.campuscommunity.domain.archive.repository.ArchiveCheckpointRepository;
+import com.campus.campuscommunity.domain.archive.repository.ArchivedContentRepository;
+import com.campus.campuscommunity.domain.board.entity.Board;
+import com.campus.campuscommunity.global.config.compression.TextCompressor;
+import com.campus.campuscommunity.global.config.id.SnowflakeIdGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 삭제된 게시글/댓글 보관 작업
+ *
+ * 삭제(soft delete) 후 retention-days가 지난 게시글/댓글을 딸린 행과 함께 archived_contents로 옮기고 원본 테이블에서 지웁니다.
+ * - 게시글: 본문, 좋아요, 모든 댓글과 댓글 좋아요를 함께 옮김
+ * - 댓글 (살아 있는 게시글의 삭제된 댓글): 댓글 좋아요를 함께 옮김, 대댓글이 남아 있는 댓글은 대댓글이 먼저 옮겨질 때까지 둠
+ *
+ * batch-size건씩 한 트랜잭션으로 처리하고(보관 insert + 원본 delete + 진행 위치 갱신),
+ * 배치 사이에 pause-ms만큼 쉬어 복제 지연을 줄이며, 한 번 실행에 최대 max-batches-per-run 배치만 처리합니다.
+ * 진행 위치(archive_checkpoints)는 행 잠금으로 갱신하므로 여러 인스턴스가 동시에 실행해도 같은 행을 두 번 옮기지 않습니다.
+ * 삭제 일시가 없는 예전 행은 마지막 수정 일시를 삭제 일시로 봅니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "campus.archive.enabled", havingValue = "true")
+public class DeletedContentArchiver {
+
+    static final String BOARDS = "boards";
+    static final String COMMENTS = "comments";
+
+    private static final String SELECT_BOARD_IDS_SQL =
+            "SELECT id FROM boards WHERE is_deleted = true AND id > :lastId AND id < :maxId " +
+            "AND COALESCE(deleted_at, updated_at) < :cutoff ORDER BY id LIMIT :limit";
+    private static final String SELECT_COMMENT_IDS_SQL =
+            "SELECT c.id FROM comments c WHERE c.is_deleted = true AND c.id > :lastId AND c.id < :maxId " +
+            "AND COALESCE(c.deleted_at, c.updated_at) < :cutoff " +
+            "AND NOT EXISTS (SELECT 1 FROM comments r WHERE r.parent_id = c.id) ORDER BY c.id LIMIT :limit";
+
+    private static final String SELECT_BOARDS_SQL = "SELECT * FROM boards WHERE id IN (:ids)";
+    private static final String SELECT_BOARD_CONTENTS_SQL = "SELECT board_id, content FROM board_contents WHERE board_id IN (:ids)";
+    private static final String SELECT_BOARD_LIKES_SQL = "SELECT * FROM board_likes WHERE board_id IN (:ids)";
+    private static final String SELECT_BOARD_COMMENTS_SQL = "SELECT * FROM comments WHERE board_id IN (:ids) ORDER BY id";
+    private static final String SELECT_BOARD_COMMENT_LIKES_SQL =
+            "SELECT l.* FROM comment_likes l JOIN comments c ON c.id = l.comment_id WHERE c.board_id IN (:ids)";
+    private static final String SELECT_COMMENTS_SQL = "SELECT * FROM comments WHERE id IN (:ids)";
+    private static final String SELECT_COMMENT_LIKES_SQL = "SELECT * FROM comment_likes WHERE comment_id IN (:ids)";
+
+    // 외래 키 순서대로 삭제 (댓글 좋아요 -> 댓글 -> 게시글 좋아요/본문 -> 게시글)
+    private static final List<String> DELETE_BOARDS_SQL = List.of(
+            "DELETE FROM comment_likes WHERE comment_id IN (SELECT id FROM comments WHERE board_id IN (:ids))",
+            "UPDATE comments SET parent_id = NULL WHERE board_id IN (:ids) AND parent_id IS NOT NULL",
+            "DELETE FROM comments WHERE board_id IN (:ids)",
+            "DELETE FROM board_likes WHERE board_id IN (:ids)",
+            "DELETE FROM board_contents WHERE board_id IN (:ids)",
+            "DELETE FROM boards WHERE id IN (:ids)");
+    private static final List<String> DELETE_COMMENTS_SQL = List.of(
+            "DELETE FROM comment_likes WHERE comment_id IN (:ids)",
+            "DELETE FROM comments WHERE id IN (:ids)");
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ArchivedContentRepository archivedContentRepository;
+    private final ArchiveCheckpointRepository archiveCheckpointRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ObjectMapper objectMapper;
+    private final TextCompressor compressor = new TextCompressor(0); // 크기와 관계없이 줄어들면 압축
+    private final int retentionDays;
+    private final int batchSize;
+    private final long pauseMillis;
+    private final int maxBatchesPerRun;
+
+    public DeletedContentArchiver(NamedParameterJdbcTemplate jdbcTemplate,
+                                  ArchivedContentRepository archivedContentRepository,
+                                  ArchiveCheckpointRepository archiveCheckpointRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  EntityManagerFactory entityManagerFactory,
+                                  ObjectMapper objectMapper,
+                                  @Value("${campus.archive.retention-days:30}") int retentionDays,
+                                  @Value("${campus.archive.batch-size:200}") int batchSize,
+                                  @Value("${campus.archive.pause-ms:200}") long pauseMillis,
+                                  @Value("${campus.archive.max-batches-per-run:500}") int maxBatchesPerRun) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.archivedContentRepository = archivedContentRepository;
+        this.archiveCheckpointRepository = archiveCheckpointRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.entityManagerFactory = entityManagerFactory;
+        this.objectMapper = objectMapper;
+        this.retentionDays = retentionDays;
+        this.batchSize = batchSize;
+        this.pauseMillis = pauseMillis;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    /**
+     * 보관 기간이 지난 삭제 게시글/댓글 보관 (기본: 매일 04:30)
+     */
+    @Scheduled(cron = "${campus.archive.cron:0 30 4 * * *}")
+    public void archive() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        // 게시글을 먼저 옮겨 삭제된 게시글의 댓글은 게시글과 함께 보관
+        int boards = run(BOARDS, cutoff, SELECT_BOARD_IDS_SQL, this::archiveBoards);
+        int comments = run(COMMENTS, cutoff, SELECT_COMMENT_IDS_SQL, this::archiveComments);
+        log.info("삭제 게시글/댓글 보관 완료: 기준={}, 게시글={}건, 댓글={}건", cutoff, boards, comments);
+    }
+
+    private int run(String name, LocalDateTime cutoff, String selectIdsSql, Consumer<List<Long>> archiver) {
+        createCheckpointIfAbsent(name);
+        // 기준 시각 이전에 삭제된 행은 그 전에 만들어졌으므로 ID 상한으로 최근 파티션을 건너뜀
+        long maxId = SnowflakeIdGenerator.maxIdBefore(cutoff.atZone(ZoneId.systemDefault()).toInstant());
+
+        int total = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            List<Long> archived = transactionTemplate.execute(status -> {
+                ArchiveCheckpoint checkpoint = archiveCheckpointRepository.findForUpdate(name).orElseThrow();
+                List<Long> ids = jdbcTemplate.queryForList(selectIdsSql, new MapSqlParameterSource()
+                        .addValue("lastId", checkpoint.getLastId())
+                        .addValue("maxId", maxId)
+                        .addValue("cutoff", cutoff)
+                        .addValue("limit", batchSize), Long.class);
+                if (ids.isEmpty()) {
+                    checkpoint.reset();
+                    return ids;
+                }
+                archiver.accept(ids);
+                checkpoint.advance(ids.get(ids.size() - 1));
+                return ids;
+            });
+            if (archived == null || archived.isEmpty()) {
+                break;
+            }
+            total += archived.size();
+            if (BOARDS.equals(name)) {
+                archived.forEach(id -> entityManagerFactory.getCache().evict(Board.class, id));
+            }
+            log.debug("보관 진행: {}, 마지막 ID={}, 누적={}건", name, archived.get(archived.size() - 1), total);
+
+            // 복제 지연/잠금 경합을 줄이기 위해 배치 사이에 쉼
+            try {
+                Thread.sleep(pauseMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return total;
+    }
+
+    private void createCheckpointIfAbsent(String name) {
+        if (archiveCheckpointRepository.existsById(name)) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> archiveCheckpointRepository.saveAndFlush(new ArchiveCheckpoint(name)));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 먼저 만듦
+        }
+    }
+
+    // 게시글 + 본문/좋아요/댓글/댓글 좋아요 보관
+    private void archiveBoards(List<Long> ids) {
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", ids);
+        Map<Long, String> contents = new HashMap<>();
+        jdbcTemplate.queryForList(SELECT_BOARD_CONTENTS_SQL, params)
+                .forEach(row -> contents.put(id(row, "board_id"), TextCompressor.decompress((String) row.get("content"))));
+        Map<Long, List<Map<String, Object>>> likesByBoard = groupBy(jdbcTemplate.queryForList(SELECT_BOARD_LIKES_SQL, params), "board_id");
+        Map<Long, List<Map<String, Object>>> commentLikes = groupBy(jdbcTemplate.queryForList(SELECT_BOARD_COMMENT_LIKES_SQL, params), "comment_id");
+        Map<Long, List<Map<String, Object>>> commentsByBoard = new HashMap<>();
+        for (Map<String, Object> comment : jdbcTemplate.queryForList(SELECT_BOARD_COMMENTS_SQL, params)) {
+            commentsByBoard.computeIfAbsent(id(comment, "board_id"), key -> new ArrayList<>())
+                    .add(commentPayload(comment, commentLikes));
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<ArchivedContent> archives = new ArrayList<>(ids.size());
+        for (Map<String, Object> board : jdbcTemplate.queryForList(SELECT_BOARDS_SQL, params)) {
+            Long boardId = id(board, "id");
+            Map<String, Object> payload = new LinkedHashMap<>();
+            payload.put("board", normalize(board));
+            payload.put("content", contents.get(boardId));
+            payload.put("likes", normalize(likesByBoard.getOrDefault(boardId, List.of())));
+            payload.put("comments", commentsByBoard.getOrDefault(boardId, List.of()));
+            archives.add(archive(ArchivedContent.ContentType.BOARD, boardId, boardId, board, payload, now));
+        }
+
+        DELETE_BOARDS_SQL.forEach(sql -> jdbcTemplate.update(sql, params));
+        archivedContentRepository.saveAll(archives);
+    }
+
+    // 댓글 + 댓글 좋아요 보관
+    private void archiveComments(List<Long> ids) {
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", ids);
+        Map<Long, List<Map<String, Object>>> commentLikes = groupBy(jdbcTemplate.queryForList(SELECT_COMMENT_LIKES_SQL, params), "comment_id");
+
+        LocalDateTime now = LocalDateTime.now();
+        List<ArchivedContent> archives = new ArrayList<>(ids.size());
+        for (Map<String, Object> comment : jdbcTemplate.queryForList(SELECT_COMMENTS_SQL, params)) {
+            archives.add(archive(ArchivedContent.ContentType.COMMENT, id(comment, "id"), id(comment, "board_id"),
+                    comment, commentPayload(comment, commentLikes), now));
+        }
+
+        DELETE_COMMENTS_SQL.forEach(sql -> jdbcTemplate.update(sql, params));
+        archivedContentRepository.saveAll(archives);
+    }
+
+    private Map<String, Object> commentPayload(Map<String, Object> comment, Map<Long, List<Map<String, Object>>> commentLikes) {
+        Map<String, Object> row = normalize(comment);
+        row.put("content", TextCompressor.decompress((String) row.get("content")));
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("comment", row);
+        payload.put("likes", normalize(commentLikes.getOrDefault(id(comment, "id"), List.of())));
+        return payload;
+    }
+
+    private ArchivedContent archive(ArchivedContent.ContentType type, Long originalId, Long boardId,
+                                    Map<String, Object> row, Map<String, Object> payload, LocalDateTime archivedAt) {
+        try {
+            return ArchivedContent.builder()
+                    .contentType(type)
+                    .originalId(originalId)
+                    .boardId(boardId)
+                    .deletedAt(toLocalDateTime(row.get("deleted_at")))
+                    .archivedAt(archivedAt)
+                    .payload(compressor.compress(objectMapper.writeValueAsString(payload)))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("보관 데이터 변환 실패: " + type + " " + originalId, e);
+        }
+    }
+
+    private static Map<Long, List<Map<String, Object>>> groupBy(List<Map<String, Object>> rows, String column) {
+        Map<Long, List<Map<String, Object>>> groups = new HashMap<>();
+        rows.forEach(row -> groups.computeIfAbsent(id(row, column), key -> new ArrayList<>()).add(row));
+        return groups;
+    }
+
+    // JDBC 결과 행은 컬럼 이름 대소문자를 구분하지 않음 (LinkedCaseInsensitiveMap)
+    private static Long id(Map<String, Object> row, String column) {
+        return ((Number) row.get(column)).longValue();
+    }
+
+    private static List<Map<String, Object>> normalize(List<Map<String, Object>> rows) {
+        return rows.stream().map(DeletedContentArchiver::normalize).toList();
+    }
+
+    // 드라이버마다 다른 날짜 타입(Timestamp/LocalDateTime)을 LocalDateTime으로 맞춤
+    private static Map<String, Object> normalize(Map<String, Object> row) {
+        Map<String, Object> normalized = new LinkedHashMap<>();
+        row.forEach((column, value) -> normalized.put(column.toLowerCase(Locale.ROOT), value instanceof Timestamp ? toLocalDateTime(value) : value));
+        return normalized;
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
+}
@@ -1,24 +1,37 @@
 package com.campus.campuscommunity.domain.board.controller;
 
 import com.campus.campuscommunity.global.common.response.ApiResponse;
+import com.campus.campuscommunity.global.common.response.ETags;
+import com.campus.campuscommunity.global.common.response.FieldProjection;
+import com.campus.campuscommunity.global.config.HttpCachePolicy;
+import com.campus.campuscommunity.global.config.idempotency.Idempotent;
+import com.campus.campuscommunity.global.config.idempotency.IdempotencyInterceptor;
+import com.campus.campuscommunity.global.config.ratelimit.RateLimitConfig;
+import com.campus.campuscommunity.global.config.ratelimit.RateLimited;
 import com.campus.campuscommunity.domain.board.dto.BoardRequestDto;
 import com.campus.campuscommunity.domain.board.dto.BoardResponseDto;
 import com.campus.campuscommunity.domain.board.entity.BoardCategory;
 import com.campus.campuscommunity.domain.board.service.BoardService;
+import com.campus.campuscommunity.domain.board.service.BoardStreamService;
 import com.campus.campuscommunity.domain.user.dto.UserResponseDto;
 import com.campus.campuscommunity.domain.user.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.security.Principal;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -29,7 +42,9 @@ import java.util.Map;
 public class BoardController {
 
     private final BoardService boardService;
+    private final BoardStreamService boardStreamService;
     private final UserService userService;
+    private final HttpCachePolicy httpCachePolicy;
 
     /**
      * 게시글 작성 API
@@ -62,6 +77,7 @@ public class BoardController {
                                             "    \"viewCount\": 0,\n" +
                                             "    \"likeCount\": 0,\n" +
                                             "    \"dislikeCount\": 0,\n" +
+                                            "    \"commentCount\": 0,\n" +
                                             "    \"createdAt\": \"2025-04-30T01:20:00\",\n" +
                                             "    \"updatedAt\": \"2025-04-30T01:20:00\",\n" +
                                             "    \"likeStatus\": \"NONE\"\n" +
@@ -104,8 +120,16 @@ public class BoardController {
                                             "}"
                             )
                     )
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "429",
+                    description = "요청 제한 초과 (Retry-After 헤더의 초만큼 기다린 뒤 다시 시도)"
             )
     })
+    @Parameter(in = ParameterIn.HEADER, name = IdempotencyInterceptor.HEADER,
+            description = "재시도 중복 방지 키 (같은 키로 다시 보내면 처리하지 않고 처음 응답을 그대로 돌려줌)", example = "9b2e6f0c-3d5a-4f7e-8c1b-2a6d9e4f7b30")
+    @Idempotent
+    @RateLimited(RateLimitConfig.BOARD_CREATE)
     @PostMapping
     public ResponseEntity<ApiResponse<BoardResponseDto.BoardDetailResponse>> createBoard(
             @Parameter(description = "사용자 이메일", example = "user@university.ac.kr", required = true)
@@ -149,6 +173,7 @@ public class BoardController {
                                             "    \"viewCount\": 43,\n" +
                                             "    \"likeCount\": 15,\n" +
                                             "    \"dislikeCount\": 3,\n" +
+                                            "    \"commentCount\": 0,\n" +
                                             "    \"createdAt\": \"2025-04-15T14:30:00\",\n" +
                                             "    \"updatedAt\": \"2025-04-15T15:45:00\",\n" +
                                             "    \"likeStatus\": \"LIKE\"\n" +
@@ -177,10 +202,25 @@ public class BoardController {
             @Parameter(description = "게시글 ID", example = "1", required = true)
             @PathVariable("id") Long boardId,
             @Parameter(description = "사용자 이메일 (좋아요 상태 확인용, 선택사항)", example = "user@university.ac.kr")
-            @RequestParam(required = false) String email) {
+            @RequestParam(required = false) String email,
+            @Parameter(description = "이전 응답의 ETag (일치하면 304 Not Modified)")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        // 상세 캐시에 있으면 상세 조회 없이 ETag 비교 (일치하면 조회수만 증가시키고 304 응답)
+        String cachedETag = boardService.findBoardDetailETag(boardId, email);
+        if (ETags.matches(ifNoneMatch, cachedETag)) {
+            boardService.increaseViewCount(boardId);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(cachedETag)
+                    .cacheControl(httpCachePolicy.revalidate())
+                    .build();
+        }
 
         BoardResponseDto.BoardDetailResponse response = boardService.getBoardDetail(boardId, email);
-        return ResponseEntity.ok(ApiResponse.success(response));
+        return ResponseEntity.ok()
+                .eTag(boardService.boardDetailETag(response, email))
+                .cacheControl(httpCachePolicy.revalidate())
+                .body(ApiResponse.success(response));
     }
 
     /**
@@ -237,6 +277,8 @@ public class BoardController {
                     )
             )
     })
+    @Parameter(name = FieldProjection.PARAMETER, in = ParameterIn.QUERY, description = "응답에 포함할 목록 항목 필드 (쉼표 구분, id는 항상 포함)", example = "title,likeCount,createdAt")
+    @FieldProjection
     @GetMapping
     public ResponseEntity<ApiResponse<Map<String, Object>>> getBoardList(
             @Parameter(description = "검색 키워드", example = "스터디")
@@ -252,7 +294,9 @@ public class BoardController {
             @Parameter(description = "페이지 크기", example = "10")
             @RequestParam(defaultValue = "10") int size,
             @Parameter(description = "사용자 이메일 (인증 상태 확인용, 선택사항)", example = "user@university.ac.kr")
-            @RequestParam(required = false) String email) {
+            @RequestParam(required = false) String email,
+            @Parameter(description = "true면 게시글마다 categoryDisplayName을 반복하지 않고 categories 사전으로 한 번만 응답", example = "false")
+            @RequestParam(defaultValue = "false") boolean compact) {
 
         BoardRequestDto.SearchRequest request = BoardRequestDto.SearchRequest.builder()
                 .keyword(keyword)
@@ -266,7 +310,7 @@ public class BoardController {
         BoardResponseDto.BoardListResponse boardListResponse = boardService.getBoardList(request);
 
         Map<String, Object> response = new HashMap<>();
-        response.put("boards", boardListResponse);
+        response.put("boards", compact ? boardListResponse.compact() : boardListResponse);
 
         // 이메일이 제공된 경우 인증 상태 추가
         if (email != null && !email.isEmpty()) {
@@ -285,6 +329,63 @@ public class BoardController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    /**
+     * 게시글 피드 조회 API (키셋 페이지네이션)
+     * GET /api/boards/feed
+     */
+    @Operation(
+            summary = "게시글 피드 조회",
+            description = "최신 게시글을 커서 기반으로 조회합니다. 응답의 nextCursor 값을 다음 요청의 cursor로 전달하면 이어지는 게시글을 조회합니다. " +
+                    "게시글 ID가 생성 시각 순이므로 OFFSET 없이 조회되어 페이지가 깊어져도 성능이 일정합니다."
+    )
+    @io.swagger.v3.oas.annotations.responses.ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "게시글 피드 조회 성공",
+                    content = @Content(schema = @Schema(implementation = BoardResponseDto.BoardFeedResponse.class))
+            )
+    })
+    @Parameter(name = FieldProjection.PARAMETER, in = ParameterIn.QUERY, description = "응답에 포함할 목록 항목 필드 (쉼표 구분, id는 항상 포함)", example = "title,likeCount,createdAt")
+    @FieldProjection
+    @GetMapping("/feed")
+    public ResponseEntity<ApiResponse<BoardResponseDto.BoardFeedResponse>> getBoardFeed(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)", example = "118283947520")
+            @RequestParam(required = false) Long cursor,
+            @Parameter(description = "카테고리", example = "FREE", schema = @Schema(implementation = BoardCategory.class))
+            @RequestParam(required = false) BoardCategory category,
+            @Parameter(description = "페이지 크기 (1~100)", example = "10")
+            @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "true면 게시글마다 categoryDisplayName을 반복하지 않고 categories 사전으로 한 번만 응답", example = "false")
+            @RequestParam(defaultValue = "false") boolean compact,
+            @Parameter(hidden = true) Principal principal) {
+
+        // 로그인하지 않은 요청의 피드는 CDN/리버스 프록시가 캐시할 수 있음 (principal == null)
+        BoardResponseDto.BoardFeedResponse response = boardService.getBoardFeed(cursor, category, size);
+        return ResponseEntity.ok()
+                .cacheControl(httpCachePolicy.feed(principal == null))
+                .varyBy(HttpHeaders.AUTHORIZATION)
+                .body(ApiResponse.success(compact ? response.compact() : response));
+    }
+
+    /**
+     * 새 게시글 실시간 구독 API (Server-Sent Events)
+     * GET /api/boards/stream
+     */
+    @Operation(
+            summary = "새 게시글 실시간 구독",
+            description = "새 게시글이 작성되면 board-created 이벤트로 게시글 요약 정보(BoardSummary)를 전송합니다. " +
+                    "카테고리/학과로 필터링할 수 있으며, 연결이 끊기면 게시글 피드 API로 빠진 게시글을 조회한 뒤 다시 구독합니다."
+    )
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamBoards(
+            @Parameter(description = "카테고리", example = "FREE", schema = @Schema(implementation = BoardCategory.class))
+            @RequestParam(required = false) BoardCategory category,
+            @Parameter(description = "학과", example = "컴퓨터공학과")
+            @RequestParam(required = false) String department) {
+
+        return boardStreamService.subscribe(category, department);
+    }
+
     /**
      * 게시글 수정 API
      * PUT /api/boards/{id}
@@ -316,6 +417,7 @@ public class BoardController {
                                             "    \"viewCount\": 43,\n" +
                                             "    \"likeCount\": 15,\n" +
                                             "    \"dislikeCount\": 3,\n" +
+                                            "    \"commentCount\": 0,\n" +
                                             "    \"createdAt\": \"2025-04-15T14:30:00\",\n" +
                                             "    \"updatedAt\": \"2025-04-30T01:30:00\",\n" +
                                             "    \"likeStatus\": \"LIKE\"\n" +
@@ -432,6 +534,7 @@ public class BoardController {
                                             "    \"viewCount\": 43,\n" +
                                             "    \"likeCount\": 16,\n" +
                                             "    \"dislikeCount\": 3,\n" +
+                                            "    \"commentCount\": 0,\n" +
                                             "    \"createdAt\": \"2025-04-15T14:30:00\",\n" +
                                             "    \"updatedAt\": \"2025-04-15T15:45:00\",\n" +
                                             "    \"likeStatus\": \"LIKE\"\n" +
@@ -447,8 +550,16 @@ public class BoardController {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
                     responseCode = "404",
                     description = "게시글 없음"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "429",
+                    description = "요청 제한 초과 (Retry-After 헤더의 초만큼 기다린 뒤 다시 시도)"
             )
     })
+    @Parameter(in = ParameterIn.HEADER, name = IdempotencyInterceptor.HEADER,
+            description = "재시도 중복 방지 키 (같은 키로 다시 보내면 처리하지 않고 처음 응답을 그대로 돌려줌)", example = "9b2e6f0c-3d5a-4f7e-8c1b-2a6d9e4f7b30")
+    @Idempotent
+    @RateLimited(RateLimitConfig.LIKE)
     @PostMapping("/{id}/like")
     public ResponseEntity<ApiResponse<BoardResponseDto.BoardDetailResponse>> likeBoard(
             @Parameter(description = "게시글 ID", example = "1", required = true)
@@ -491,6 +602,7 @@ public class BoardController {
                                             "    \"viewCount\": 43,\n" +
                                             "    \"likeCount\": 15,\n" +
                                             "    \"dislikeCount\": 4,\n" +
+                                            "    \"commentCount\": 0,\n" +
                                             "    \"createdAt\": \"2025-04-15T14:30:00\",\n" +
                                             "    \"updatedAt\": \"2025-04-15T15:45:00\",\n" +
                                             "    \"likeStatus\": \"DISLIKE\"\n" +
@@ -506,8 +618,16 @@ public class BoardController {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
                     responseCode = "404",
                     description = "게시글 없음"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "429",
+                    description = "요청 제한 초과 (Retry-After 헤더의 초만큼 기다린 뒤 다시 시도)"
             )
     })
+    @Parameter(in = ParameterIn.HEADER, name = IdempotencyInterceptor.HEADER,
+            description = "재시도 중복 방지 키 (같은 키로 다시 보내면 처리하지 않고 처음 응답을 그대로 돌려줌)", example = "9b2e6f0c-3d5a-4f7e-8c1b-2a6d9e4f7b30")
+    @Idempotent
+    @RateLimited(RateLimitConfig.LIKE)
     @PostMapping("/{id}/dislike")
     public ResponseEntity<ApiResponse<BoardResponseDto.BoardDetailResponse>> dislikeBoard(
             @Parameter(description = "게시글 ID", example = "1", required = true)
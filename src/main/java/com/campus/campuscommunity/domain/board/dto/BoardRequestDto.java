@@ -101,6 +101,11 @@ public class BoardRequestDto {
         @Schema(description = "페이지 크기", example = "10", defaultValue = "10")
         @Builder.Default
         private int size = 10;
+
+        // 목록 캐시 키 (검색 조건 전체를 포함)
+        public String cacheKey() {
+            return keyword + "|" + category + "|" + department + "|" + sort + "|" + page + "|" + size;
+        }
     }
 
     /**
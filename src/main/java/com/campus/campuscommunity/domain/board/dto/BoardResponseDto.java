@@ -2,6 +2,8 @@ package com.campus.campuscommunity.domain.board.dto;
 
 import com.campus.campuscommunity.domain.board.entity.Board;
 import com.campus.campuscommunity.domain.board.entity.BoardCategory;
+import com.campus.campuscommunity.domain.board.repository.BoardSummaryView;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -9,7 +11,9 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -22,7 +26,7 @@ public class BoardResponseDto {
      * 게시글 상세 정보 응답 DTO
      */
     @Getter
-    @Builder
+    @Builder(toBuilder = true)
     @NoArgsConstructor
     @AllArgsConstructor
     @Schema(description = "게시글 상세 정보 응답 DTO")
@@ -58,6 +62,9 @@ public class BoardResponseDto {
         @Schema(description = "싫어요 수", example = "3")
         private Integer dislikeCount;
 
+        @Schema(description = "댓글 수", example = "7")
+        private Integer commentCount;
+
         @Schema(description = "생성 시간", example = "2025-04-15T14:30:00")
         private LocalDateTime createdAt;
 
@@ -85,6 +92,7 @@ public class BoardResponseDto {
                     .viewCount(board.getViewCount())
                     .likeCount(board.getLikeCount())
                     .dislikeCount(board.getDislikeCount())
+                    .commentCount(board.getCommentCount())
                     .createdAt(board.getCreatedAt())
                     .updatedAt(board.getUpdatedAt())
                     .likeStatus(likeStatus)
@@ -113,15 +121,57 @@ public class BoardResponseDto {
 
         @Schema(description = "현재 페이지 번호 (0부터 시작)", example = "0")
         private int currentPage;
+
+        @Schema(description = "카테고리 표시 이름 사전 (compact 응답에만 포함, 게시글마다 categoryDisplayName을 반복하지 않음)",
+                example = "{\"FREE\": \"자유게시판\"}")
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private Map<BoardCategory, String> categories;
+
+        // compact 응답으로 변환 (캐시된 원본은 그대로 두고 복사)
+        public BoardListResponse compact() {
+            return new BoardListResponse(BoardSummary.withoutDisplayNames(boards), totalPages, totalElements,
+                    currentPage, BoardSummary.categoryDictionary(boards));
+        }
     }
 
     /**
-     * 게시글 요약 정보 (목록용)
+     * 게시글 피드 응답 DTO (키셋 페이지네이션)
      */
     @Getter
     @Builder
     @NoArgsConstructor
     @AllArgsConstructor
+    @Schema(description = "게시글 피드 응답 DTO (키셋 페이지네이션)")
+    public static class BoardFeedResponse {
+
+        @Schema(description = "게시글 목록")
+        private List<BoardSummary> boards;
+
+        @Schema(description = "다음 페이지 요청 시 사용할 커서 (마지막 게시글 ID, 다음 페이지가 없으면 null)", example = "118283947520")
+        private Long nextCursor;
+
+        @Schema(description = "다음 페이지 존재 여부", example = "true")
+        private boolean hasNext;
+
+        @Schema(description = "카테고리 표시 이름 사전 (compact 응답에만 포함, 게시글마다 categoryDisplayName을 반복하지 않음)",
+                example = "{\"FREE\": \"자유게시판\"}")
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private Map<BoardCategory, String> categories;
+
+        // compact 응답으로 변환
+        public BoardFeedResponse compact() {
+            return new BoardFeedResponse(BoardSummary.withoutDisplayNames(boards), nextCursor, hasNext,
+                    BoardSummary.categoryDictionary(boards));
+        }
+    }
+
+    /**
+     * 게시글 요약 정보 (목록용)
+     */
+    @Getter
+    @Builder(toBuilder = true)
+    @NoArgsConstructor
+    @AllArgsConstructor
     @Schema(description = "게시글 요약 정보 (목록용)")
     public static class BoardSummary {
 
@@ -137,7 +187,8 @@ public class BoardResponseDto {
         @Schema(description = "카테고리", example = "FREE")
         private BoardCategory category;
 
-        @Schema(description = "카테고리 표시 이름", example = "자유게시판")
+        @Schema(description = "카테고리 표시 이름 (compact 응답에서는 생략, 응답의 categories 사전 사용)", example = "자유게시판")
+        @JsonInclude(JsonInclude.Include.NON_NULL)
         private String categoryDisplayName;
 
         @Schema(description = "조회수", example = "42")
@@ -162,17 +213,55 @@ public class BoardResponseDto {
                     .categoryDisplayName(board.getCategory().getDisplayName())
                     .viewCount(board.getViewCount())
                     .likeCount(board.getLikeCount())
-                    .commentCount(0) // 댓글 기능 구현 시 업데이트
+                    .commentCount(board.getCommentCount())
                     .createdAt(board.getCreatedAt())
                     .build();
         }
 
+        // 목록 조회 projection에서 요약 정보 생성
+        public static BoardSummary from(BoardSummaryView view) {
+            return BoardSummary.builder()
+                    .id(view.id())
+                    .title(view.title())
+                    .writerDepartment(view.writerDepartment())
+                    .category(view.category())
+                    .categoryDisplayName(view.category().getDisplayName())
+                    .viewCount(view.viewCount())
+                    .likeCount(view.likeCount())
+                    .commentCount(view.commentCount())
+                    .createdAt(view.createdAt())
+                    .build();
+        }
+
         // Board 엔티티 리스트에서 BoardSummary 리스트 생성
         public static List<BoardSummary> fromList(List<Board> boards) {
             return boards.stream()
                     .map(BoardSummary::from)
                     .collect(Collectors.toList());
         }
+
+        // projection 리스트에서 BoardSummary 리스트 생성
+        public static List<BoardSummary> fromViews(List<BoardSummaryView> views) {
+            return views.stream()
+                    .map(BoardSummary::from)
+                    .collect(Collectors.toList());
+        }
+
+        // 카테고리 표시 이름을 뺀 복사본 (compact 응답용)
+        static List<BoardSummary> withoutDisplayNames(List<BoardSummary> summaries) {
+            return summaries.stream()
+                    .map(summary -> summary.toBuilder().categoryDisplayName(null).build())
+                    .collect(Collectors.toList());
+        }
+
+        // 목록에 나온 카테고리의 표시 이름 사전
+        static Map<BoardCategory, String> categoryDictionary(List<BoardSummary> summaries) {
+            Map<BoardCategory, String> categories = new EnumMap<>(BoardCategory.class);
+            for (BoardSummary summary : summaries) {
+                categories.putIfAbsent(summary.getCategory(), summary.getCategory().getDisplayName());
+            }
+            return categories;
+        }
     }
 
     /**
@@ -197,4 +286,44 @@ public class BoardResponseDto {
         @Schema(description = "현재 싫어요 수", example = "3")
         private Integer dislikeCount;
     }
+
+    /**
+     * 게시글 카운트 변화량 DTO (WebSocket /topic/boards/{boardId}/counters 로 전송)
+     * 변화량과 함께 전송 시점의 현재 값을 담습니다.
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "게시글 카운트 변화량 DTO (실시간 전송용)")
+    public static class BoardCounterDelta {
+
+        @Schema(description = "게시글 ID", example = "1")
+        private Long boardId;
+
+        @Schema(description = "좋아요 수 변화량", example = "3")
+        private int likeDelta;
+
+        @Schema(description = "싫어요 수 변화량", example = "-1")
+        private int dislikeDelta;
+
+        @Schema(description = "댓글 수 변화량", example = "1")
+        private int commentDelta;
+
+        @Schema(description = "댓글별 좋아요 수 변화량 (댓글 ID -> 변화량)")
+        private Map<Long, Integer> commentLikeDeltas;
+
+        // 메시지를 놓친 클라이언트가 변화량 대신 그대로 덮어써 맞출 수 있도록 전송 시점의 값도 함께 보냄
+        @Schema(description = "현재 좋아요 수", example = "15")
+        private Integer likeCount;
+
+        @Schema(description = "현재 싫어요 수", example = "2")
+        private Integer dislikeCount;
+
+        @Schema(description = "현재 댓글 수", example = "8")
+        private Integer commentCount;
+
+        @Schema(description = "변화가 있던 댓글의 현재 좋아요 수 (댓글 ID -> 좋아요 수)")
+        private Map<Long, Integer> commentLikeCounts;
+    }
 }
\ No newline at end of file
@@ -1,11 +1,16 @@
 package com.campus.campuscommunity.domain.board.entity;
 
+import com.campus.campuscommunity.domain.department.service.DepartmentIdConverter;
 import com.campus.campuscommunity.domain.user.entity.User;
+import com.campus.campuscommunity.global.config.id.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -13,29 +18,36 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "boards")
+@Table(name = "boards", indexes = {
+        @Index(name = "idx_boards_writer_department_id", columnList = "writer_department_id, id") // 학과별 최신순 조회
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 @EntityListeners(AuditingEntityListener.class) // 자동으로 생성/수정 시간 관리
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "board") // 2차 캐시 (soft delete 포함 변경 시 캐시 항목 갱신)
+@DynamicUpdate // 변경된 컬럼만 UPDATE (조회수는 BoardViewCountBuffer가 별도로 반영하므로 덮어쓰지 않음)
 public class Board {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId // 시간 순 ID (애플리케이션에서 생성, JDBC 배치 insert 가능)
     private Long id;
 
     @Column(nullable = false, length = 100)
     private String title;
 
-    @Column(nullable = false, columnDefinition = "TEXT")
-    private String content;
+    // 본문은 board_contents 테이블에 분리 저장 (상세 조회/수정 시에만 지연 로딩)
+    @OneToOne(mappedBy = "board", fetch = FetchType.LAZY, optional = false, cascade = CascadeType.ALL)
+    private BoardContent body;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "user_id")
+    @JoinColumn(name = "user_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT)) // 파티션 테이블은 외래 키 불가
     private User writer;
 
-    @Column(nullable = false)
+    @Column(name = "writer_department_id", nullable = false)
+    @Convert(converter = DepartmentIdConverter.class) // 학과 사전 ID로 저장 (별칭은 표준 학과명으로)
     private String writerDepartment; // 작성자 학과 (익명 표시용)
 
     @Enumerated(EnumType.STRING)
@@ -66,6 +78,8 @@ public class Board {
     @Column(nullable = false)
     private boolean isDeleted = false; // 삭제 여부 (soft delete)
 
+    private LocalDateTime deletedAt; // 삭제 일시 (삭제 후 보관 기간이 지나면 archived_contents로 이동)
+
     // 조회수 증가 메서드
     public void increaseViewCount() {
         this.viewCount += 1;
@@ -91,16 +105,38 @@ public class Board {
         this.dislikeCount = Math.max(0, this.dislikeCount - 1);
     }
 
+    // 본문 (지연 로딩, 트랜잭션 안에서 호출)
+    public String getContent() {
+        return body != null ? body.getContent() : null;
+    }
+
     // 게시글 내용 수정 메서드
     public void update(String title, String content, BoardCategory category) {
         this.title = title;
-        this.content = content;
+        this.body.update(content);
         this.category = category;
     }
 
+    // 저장 시 본문에 게시글을 연결 (본문 PK = 게시글 ID)
+    @PrePersist
+    private void attachBody() {
+        if (body != null) {
+            body.attachTo(this);
+        }
+    }
+
+    public static class BoardBuilder {
+
+        // 본문 문자열로 BoardContent 생성
+        public BoardBuilder content(String content) {
+            return body(new BoardContent(content));
+        }
+    }
+
     // 게시글 삭제 메서드 (soft delete)
     public void delete() {
         this.isDeleted = true;
+        this.deletedAt = LocalDateTime.now();
     }
     // Board 엔티티에 추가된 필드
     @Builder.Default
@@ -0,0 +1,46 @@
+package com.campus.campuscommunity.domain.board.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게시글 본문 (board_contents 테이블, 게시글과 1:1, PK = 게시글 ID)
+ *
+ * 본문 TEXT를 boards 테이블에서 분리해 목록 조회/정렬/카운터 UPDATE가 좁은 행만 다루게 합니다.
+ * 본문은 상세 조회/수정처럼 실제로 필요할 때만 지연 로딩됩니다.
+ */
+@Entity
+@Table(name = "board_contents")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BoardContent {
+
+    @Id
+    @Column(name = "board_id")
+    private Long boardId;
+
+    // 게시글 ID를 PK로 공유
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "board_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT)) // boards는 파티션 테이블 (외래 키 참조 불가)
+    private Board board;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String content; // 키워드 검색(LIKE) 대상이므로 압축하지 않음
+
+    public BoardContent(String content) {
+        this.content = content;
+    }
+
+    // 게시글 저장 시 연결 (Board의 @PrePersist에서 호출)
+    void attachTo(Board board) {
+        this.board = board;
+    }
+
+    // 본문 수정
+    void update(String content) {
+        this.content = content;
+    }
+}
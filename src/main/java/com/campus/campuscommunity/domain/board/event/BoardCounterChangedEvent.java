@@ -0,0 +1,34 @@
+package com.campus.campuscommunity.domain.board.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시글 화면의 카운트(좋아요/싫어요/댓글 수, 댓글 좋아요 수) 변경 이벤트 (트랜잭션 커밋 후 처리)
+ */
+@Getter
+@RequiredArgsConstructor
+public class BoardCounterChangedEvent {
+
+    private final Long boardId;
+    private final int likeDelta;        // 게시글 좋아요 수 변화량
+    private final int dislikeDelta;     // 게시글 싫어요 수 변화량
+    private final int commentDelta;     // 댓글 수 변화량
+    private final Long commentId;       // 좋아요가 바뀐 댓글 ID (없으면 null)
+    private final int commentLikeDelta; // 댓글 좋아요 수 변화량
+
+    // 게시글 좋아요/싫어요 변경
+    public static BoardCounterChangedEvent ofBoardLike(Long boardId, int likeDelta, int dislikeDelta) {
+        return new BoardCounterChangedEvent(boardId, likeDelta, dislikeDelta, 0, null, 0);
+    }
+
+    // 댓글 작성/삭제
+    public static BoardCounterChangedEvent ofComment(Long boardId, int commentDelta) {
+        return new BoardCounterChangedEvent(boardId, 0, 0, commentDelta, null, 0);
+    }
+
+    // 댓글 좋아요 변경
+    public static BoardCounterChangedEvent ofCommentLike(Long boardId, Long commentId, int commentLikeDelta) {
+        return new BoardCounterChangedEvent(boardId, 0, 0, 0, commentId, commentLikeDelta);
+    }
+}
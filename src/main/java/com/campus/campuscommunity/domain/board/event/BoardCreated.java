@@ -0,0 +1,18 @@
+package com.campus.campuscommunity.domain.board.event;
+
+import com.campus.campuscommunity.domain.board.entity.BoardCategory;
+import com.campus.campuscommunity.domain.outbox.event.OutboxMessage;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 생성 (outbox 이벤트, 커밋 후 OutboxRelay가 구독자에게 전달)
+ * 실시간 구독자 전송은 BoardCreatedEvent가 따로 맡습니다.
+ */
+public record BoardCreated(Long boardId, Long writerId, BoardCategory category, LocalDateTime createdAt) implements OutboxMessage {
+
+    @Override
+    public Long aggregateId() {
+        return boardId;
+    }
+}
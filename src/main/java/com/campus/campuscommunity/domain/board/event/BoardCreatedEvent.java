@@ -0,0 +1,15 @@
+package com.campus.campuscommunity.domain.board.event;
+
+import com.campus.campuscommunity.domain.board.dto.BoardResponseDto;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시글 생성 이벤트 (트랜잭션 커밋 후 처리)
+ */
+@Getter
+@RequiredArgsConstructor
+public class BoardCreatedEvent {
+
+    private final BoardResponseDto.BoardSummary board; // 생성된 게시글 요약 정보
+}
@@ -0,0 +1,27 @@
+package com.campus.campuscommunity.domain.board.event;
+
+import com.campus.campuscommunity.domain.outbox.event.OutboxMessage;
+
+/**
+ * 게시글/댓글 좋아요 변경 (outbox 이벤트)
+ * 댓글 좋아요도 게시글 단위로 순서를 지키도록 게시글 ID를 함께 담습니다.
+ */
+public record LikeToggled(Long boardId,
+                          Long commentId,   // 댓글 좋아요면 댓글 ID, 게시글이면 null
+                          Long userId,      // 누른 사용자
+                          int likeDelta,
+                          int dislikeDelta) implements OutboxMessage {
+
+    public static LikeToggled ofBoard(Long boardId, Long userId, int likeDelta, int dislikeDelta) {
+        return new LikeToggled(boardId, null, userId, likeDelta, dislikeDelta);
+    }
+
+    public static LikeToggled ofComment(Long boardId, Long commentId, Long userId, int likeDelta) {
+        return new LikeToggled(boardId, commentId, userId, likeDelta, 0);
+    }
+
+    @Override
+    public Long aggregateId() {
+        return boardId;
+    }
+}
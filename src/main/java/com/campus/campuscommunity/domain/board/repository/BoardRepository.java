@@ -2,10 +2,14 @@ package com.campus.campuscommunity.domain.board.repository;
 
 import com.campus.campuscommunity.domain.board.entity.Board;
 import com.campus.campuscommunity.domain.board.entity.BoardCategory;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -16,25 +20,44 @@ import java.util.Optional;
 public interface BoardRepository extends JpaRepository<Board, Long> {
 
     // 삭제되지 않은 게시글 단일 조회
-    @Query("SELECT b FROM Board b WHERE b.id = :id AND b.isDeleted = false")
-    Optional<Board> findActiveById(@Param("id") Long id);
+    // PK 조회(findById)를 거쳐야 2차 캐시를 사용하므로 삭제 여부는 엔티티에서 확인
+    default Optional<Board> findActiveById(Long id) {
+        return findById(id).filter(board -> !board.isDeleted());
+    }
+
+    // 목록/피드 조회는 BoardSummaryView로 필요한 컬럼만 조회 (본문 제외, 엔티티 적재 없음)
+    // 최신순 정렬은 생성 일시 대신 ID(생성 순서, PK)로 함 (파티션 키와 같은 컬럼이라 파일 정렬 없이 PK 순서로 읽음)
 
     // 페이징으로 삭제되지 않은 모든 게시글 조회
-    Page<Board> findByIsDeletedFalseOrderByCreatedAtDesc(Pageable pageable);
+    Page<BoardSummaryView> findByIsDeletedFalseOrderByIdDesc(Pageable pageable);
+
+    // 카테고리별 게시글 조회 (쿼리 캐시 사용, boards 테이블 변경 시 자동 무효화)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "query.board.byCategory")
+    })
+    Page<BoardSummaryView> findByIsDeletedFalseAndCategoryOrderByIdDesc(BoardCategory category, Pageable pageable);
+
+    // 키셋 페이지네이션 피드 조회 (ID가 생성 시각 순이므로 커서보다 작은 ID = 더 오래된 게시글)
+    Slice<BoardSummaryView> findByIsDeletedFalseAndIdLessThanOrderByIdDesc(Long cursor, Pageable pageable);
 
-    // 카테고리별 게시글 조회
-    Page<Board> findByIsDeletedFalseAndCategoryOrderByCreatedAtDesc(BoardCategory category, Pageable pageable);
+    // 카테고리별 키셋 페이지네이션 피드 조회
+    Slice<BoardSummaryView> findByIsDeletedFalseAndCategoryAndIdLessThanOrderByIdDesc(BoardCategory category, Long cursor, Pageable pageable);
 
     // 학과별 게시글 조회
-    Page<Board> findByIsDeletedFalseAndWriterDepartmentOrderByCreatedAtDesc(String department, Pageable pageable);
+    Page<BoardSummaryView> findByIsDeletedFalseAndWriterDepartmentOrderByIdDesc(String department, Pageable pageable);
 
     // 특정 사용자의 게시글 조회
-    Page<Board> findByIsDeletedFalseAndWriter_IdOrderByCreatedAtDesc(Long userId, Pageable pageable);
+    Page<BoardSummaryView> findByIsDeletedFalseAndWriter_IdOrderByIdDesc(Long userId, Pageable pageable);
 
     // 인기 게시글 조회 (좋아요 수 기준)
-    Page<Board> findByIsDeletedFalseOrderByLikeCountDescCreatedAtDesc(Pageable pageable);
+    Page<BoardSummaryView> findByIsDeletedFalseOrderByLikeCountDescIdDesc(Pageable pageable);
 
     // 제목 또는 내용으로 게시글 검색
-    @Query("SELECT b FROM Board b WHERE b.isDeleted = false AND (b.title LIKE %:keyword% OR b.content LIKE %:keyword%) ORDER BY b.createdAt DESC")
-    Page<Board> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
+    // 본문은 검색 조건에만 사용하고 조회하지 않음
+    @Query(value = "SELECT new com.campus.campuscommunity.domain.board.repository.BoardSummaryView(" +
+            "b.id, b.title, b.writerDepartment, b.category, b.viewCount, b.likeCount, b.commentCount, b.createdAt) " +
+            "FROM Board b WHERE b.isDeleted = false AND (b.title LIKE %:keyword% OR b.body.content LIKE %:keyword%) ORDER BY b.id DESC",
+            countQuery = "SELECT COUNT(b) FROM Board b WHERE b.isDeleted = false AND (b.title LIKE %:keyword% OR b.body.content LIKE %:keyword%)")
+    Page<BoardSummaryView> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.campus.campuscommunity.domain.board.repository;
+
+import com.campus.campuscommunity.domain.board.entity.BoardCategory;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록 조회용 projection
+ *
+ * 목록/피드에 필요한 컬럼만 SELECT 합니다 (본문 content TEXT 컬럼은 읽지 않음).
+ * 엔티티가 아니므로 영속성 컨텍스트에 올라가지 않고 dirty checking 스냅샷도 만들어지지 않습니다.
+ * 컴포넌트 이름은 Board 필드 이름과 같아야 합니다 (파생 쿼리가 이름으로 생성자 인자를 맞춤).
+ */
+public record BoardSummaryView(
+        Long id,
+        String title,
+        String writerDepartment,
+        BoardCategory category,
+        Integer viewCount,
+        Integer likeCount,
+        Integer commentCount,
+        LocalDateTime createdAt) {
+}
@@ -0,0 +1,106 @@
+package com.campus.campuscommunity.domain.board.service;
+
+import com.campus.campuscommunity.global.config.migration.MigrationHistory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * 게시글 본문 이전 (boards.content -> board_contents)
+ *
+ * 본문을 board_contents 테이블로 분리하기 전에 만들어진 DB를 위해 시작할 때 실행합니다 (기본으로 켜져 있음).
+ * ddl-auto=update가 board_contents 테이블을 먼저 만들고, 끝나면 schema_migrations에 기록해 다음 시작부터는 기록만 확인합니다.
+ *
+ * 1. boards.content가 NOT NULL이면 NULL 허용으로 변경 (이전 중에도 새 게시글 작성 가능, 새 게시글은 board_contents에만 저장)
+ * 2. ID 순서로 batch-size건씩 board_contents에 복사 (배치마다 커밋, 이미 복사된 게시글은 INSERT IGNORE로 건너뛰므로
+ *    여러 인스턴스가 함께 시작하거나 다시 실행해도 안전)
+ * 3. 빠진 게시글이 없으면 완료 기록, drop-legacy-column=true면 boards.content 컬럼 삭제
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "campus.board.content-migration.enabled", havingValue = "true", matchIfMissing = true)
+public class BoardContentMigration implements ApplicationRunner {
+
+    private static final String MIGRATION_NAME = "board-content";
+
+    private static final String MAKE_LEGACY_COLUMN_NULLABLE_SQL = "ALTER TABLE boards MODIFY content TEXT NULL";
+    private static final String DROP_LEGACY_COLUMN_SQL = "ALTER TABLE boards DROP COLUMN content";
+
+    // 다음 배치의 마지막 게시글 ID
+    private static final String NEXT_BATCH_END_SQL =
+            "SELECT MAX(id) FROM (SELECT id FROM boards WHERE id > ? ORDER BY id LIMIT ?) batch";
+
+    private static final String COPY_BATCH_SQL =
+            "INSERT IGNORE INTO board_contents (board_id, content) " +
+            "SELECT b.id, b.content FROM boards b " +
+            "WHERE b.id > ? AND b.id <= ? AND b.content IS NOT NULL " +
+            "AND NOT EXISTS (SELECT 1 FROM board_contents c WHERE c.board_id = b.id)";
+
+    private static final String COUNT_MISSING_SQL =
+            "SELECT COUNT(*) FROM boards b WHERE NOT EXISTS (SELECT 1 FROM board_contents c WHERE c.board_id = b.id)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MigrationHistory migrationHistory;
+    private final int batchSize;
+    private final long pauseMillis;
+    private final boolean dropLegacyColumn;
+
+    public BoardContentMigration(JdbcTemplate jdbcTemplate,
+                                 MigrationHistory migrationHistory,
+                                 @Value("${campus.board.content-migration.batch-size:1000}") int batchSize,
+                                 @Value("${campus.board.content-migration.pause-ms:50}") long pauseMillis,
+                                 @Value("${campus.board.content-migration.drop-legacy-column:false}") boolean dropLegacyColumn) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.migrationHistory = migrationHistory;
+        this.batchSize = batchSize;
+        this.pauseMillis = pauseMillis;
+        this.dropLegacyColumn = dropLegacyColumn;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws InterruptedException {
+        // 완료 기록이 있으면 끝 (drop-legacy-column을 나중에 켠 경우에만 컬럼을 한 번 더 확인)
+        if (migrationHistory.isDone(MIGRATION_NAME) && !dropLegacyColumn) {
+            return;
+        }
+        Optional<Boolean> nullable = migrationHistory.columnNullable("boards", "content");
+        if (nullable.isEmpty()) {
+            migrationHistory.markDone(MIGRATION_NAME);
+            return;
+        }
+
+        if (!nullable.get()) {
+            jdbcTemplate.execute(MAKE_LEGACY_COLUMN_NULLABLE_SQL);
+        }
+
+        long lastId = 0;
+        long copied = 0;
+        Long batchEnd;
+        while ((batchEnd = jdbcTemplate.queryForObject(NEXT_BATCH_END_SQL, Long.class, lastId, batchSize)) != null) {
+            copied += jdbcTemplate.update(COPY_BATCH_SQL, lastId, batchEnd);
+            lastId = batchEnd;
+            log.debug("게시글 본문 이전 진행: 마지막 ID={}, 복사={}건", lastId, copied);
+            // 복제 지연/잠금 경합을 줄이기 위해 배치 사이에 쉼
+            Thread.sleep(pauseMillis);
+        }
+
+        Long missing = jdbcTemplate.queryForObject(COUNT_MISSING_SQL, Long.class);
+        log.info("게시글 본문 이전 완료: 복사={}건, 본문 없는 게시글={}건", copied, missing);
+
+        if (missing != null && missing > 0) {
+            log.warn("게시글 본문 이전: 본문 없는 게시글이 있어 다음 시작 때 다시 확인");
+            return;
+        }
+        if (dropLegacyColumn) {
+            jdbcTemplate.execute(DROP_LEGACY_COLUMN_SQL);
+            log.info("게시글 본문 이전: boards.content 컬럼 삭제");
+        }
+        migrationHistory.markDone(MIGRATION_NAME);
+    }
+}
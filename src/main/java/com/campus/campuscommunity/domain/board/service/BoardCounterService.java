@@ -0,0 +1,219 @@
+package com.campus.campuscommunity.domain.board.service;
+
+import com.campus.campuscommunity.domain.board.dto.BoardResponseDto;
+import com.campus.campuscommunity.domain.board.event.BoardCounterChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글 카운트 실시간 전송(WebSocket/STOMP) 서비스
+ *
+ * 변경이 생길 때마다 보내지 않고 게시글별로 변화량을 모아 두었다가 주기적으로(기본 250ms) 한 번에 보냅니다.
+ * 인기 게시글에 좋아요가 몰려도 구독자에게는 주기마다 최대 한 건의 메시지만 전송됩니다.
+ * 구독 주소: /topic/boards/{boardId}/counters
+ *
+ * - 메시지에는 변화량과 함께 전송 시점의 현재 값(DB)을 담아, 메시지를 놓친 클라이언트도 다음 메시지로 맞춰집니다.
+ * - campus.board.counter-relay=redis면 모은 메시지를 Redis pub/sub으로 보내고, 모든 노드가 받아 자기 노드 구독자에게 전송합니다
+ *   (내장 브로커는 같은 노드의 세션에만 전송하므로 여러 노드에서 필요). local(기본값)은 바로 전송합니다.
+ */
+@Slf4j
+@Service
+public class BoardCounterService {
+
+    public static final String RELAY_CHANNEL = "campus:board:counters";
+
+    private static final String BOARD_COUNTS_SQL = "SELECT id, like_count, dislike_count, comment_count FROM boards WHERE id IN (%s)";
+    private static final String COMMENT_LIKE_COUNTS_SQL = "SELECT id, like_count FROM comments WHERE id IN (%s)";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final ConcurrentHashMap<Long, PendingCounters> pendingCounters = new ConcurrentHashMap<>();
+
+    public BoardCounterService(SimpMessagingTemplate messagingTemplate,
+                               JdbcTemplate jdbcTemplate,
+                               ObjectMapper objectMapper,
+                               ObjectProvider<StringRedisTemplate> stringRedisTemplate,
+                               @Value("${campus.board.counter-relay:local}") String relay) {
+        this.messagingTemplate = messagingTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.stringRedisTemplate = "redis".equals(relay) ? stringRedisTemplate.getObject() : null;
+    }
+
+    public static String topic(Long boardId) {
+        return "/topic/boards/" + boardId + "/counters";
+    }
+
+    /**
+     * 카운트 변경 트랜잭션이 커밋된 뒤 변화량 누적
+     */
+    @TransactionalEventListener
+    public void onCounterChanged(BoardCounterChangedEvent event) {
+        // compute는 같은 게시글에 대해 원자적으로 실행되므로 flush와 겹쳐도 변화량이 유실되지 않습니다
+        pendingCounters.compute(event.getBoardId(), (boardId, counters) -> {
+            PendingCounters target = counters != null ? counters : new PendingCounters();
+            target.add(event);
+            return target;
+        });
+    }
+
+    /**
+     * 모인 변화량에 현재 값을 더해 게시글별 토픽으로 전송
+     */
+    @Scheduled(fixedDelayString = "${campus.board.counter-flush-interval-ms:250}")
+    public void flush() {
+        if (pendingCounters.isEmpty()) {
+            return;
+        }
+
+        Map<Long, PendingCounters> batch = new LinkedHashMap<>();
+        for (Long boardId : new ArrayList<>(pendingCounters.keySet())) {
+            PendingCounters counters = pendingCounters.remove(boardId);
+            if (counters != null && !counters.isEmpty()) {
+                batch.put(boardId, counters);
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        Map<Long, int[]> boardCounts;
+        Map<Long, Integer> commentLikeCounts;
+        try {
+            boardCounts = boardCounts(batch.keySet());
+            Set<Long> commentIds = new HashSet<>();
+            batch.values().forEach(counters -> commentIds.addAll(counters.commentLikeDeltas.keySet()));
+            commentLikeCounts = commentLikeCounts(commentIds);
+        } catch (Exception e) {
+            // 현재 값을 못 읽어도 변화량은 보냄
+            log.warn("게시글 카운트 현재 값 조회 실패: 오류={}", e.getMessage());
+            boardCounts = Collections.emptyMap();
+            commentLikeCounts = Collections.emptyMap();
+        }
+
+        for (Map.Entry<Long, PendingCounters> entry : batch.entrySet()) {
+            Long boardId = entry.getKey();
+            try {
+                publish(entry.getValue().toDelta(boardId, boardCounts.get(boardId), commentLikeCounts));
+            } catch (Exception e) {
+                log.warn("게시글 카운트 전송 실패: 게시글ID={}, 오류={}", boardId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 다른 노드(또는 자신)가 Redis로 보낸 카운트 메시지 수신
+     */
+    public void receive(String message) {
+        try {
+            deliver(objectMapper.readValue(message, BoardResponseDto.BoardCounterDelta.class));
+        } catch (Exception e) {
+            log.warn("게시글 카운트 메시지 처리 실패: 오류={}", e.getMessage());
+        }
+    }
+
+    private void publish(BoardResponseDto.BoardCounterDelta delta) throws JsonProcessingException {
+        if (stringRedisTemplate == null) {
+            deliver(delta);
+            return;
+        }
+        stringRedisTemplate.convertAndSend(RELAY_CHANNEL, objectMapper.writeValueAsString(delta));
+    }
+
+    private void deliver(BoardResponseDto.BoardCounterDelta delta) {
+        messagingTemplate.convertAndSend(topic(delta.getBoardId()), delta);
+    }
+
+    // 게시글 ID -> [좋아요, 싫어요, 댓글 수]
+    private Map<Long, int[]> boardCounts(Collection<Long> boardIds) {
+        Map<Long, int[]> counts = new HashMap<>();
+        jdbcTemplate.query(BOARD_COUNTS_SQL.formatted(placeholders(boardIds.size())),
+                rs -> {
+                    counts.put(rs.getLong(1), new int[]{rs.getInt(2), rs.getInt(3), rs.getInt(4)});
+                },
+                boardIds.toArray());
+        return counts;
+    }
+
+    private Map<Long, Integer> commentLikeCounts(Collection<Long> commentIds) {
+        Map<Long, Integer> counts = new HashMap<>();
+        if (commentIds.isEmpty()) {
+            return counts;
+        }
+        jdbcTemplate.query(COMMENT_LIKE_COUNTS_SQL.formatted(placeholders(commentIds.size())),
+                rs -> {
+                    counts.put(rs.getLong(1), rs.getInt(2));
+                },
+                commentIds.toArray());
+        return counts;
+    }
+
+    private static String placeholders(int count) {
+        return String.join(",", Collections.nCopies(count, "?"));
+    }
+
+    // 게시글 하나의 누적 변화량 (ConcurrentHashMap.compute 안에서만 변경)
+    private static final class PendingCounters {
+        private int likeDelta;
+        private int dislikeDelta;
+        private int commentDelta;
+        private final Map<Long, Integer> commentLikeDeltas = new HashMap<>();
+
+        private void add(BoardCounterChangedEvent event) {
+            likeDelta += event.getLikeDelta();
+            dislikeDelta += event.getDislikeDelta();
+            commentDelta += event.getCommentDelta();
+            if (event.getCommentId() != null) {
+                commentLikeDeltas.merge(event.getCommentId(), event.getCommentLikeDelta(), Integer::sum);
+            }
+        }
+
+        private boolean isEmpty() {
+            commentLikeDeltas.values().removeIf(delta -> delta == 0);
+            return likeDelta == 0 && dislikeDelta == 0 && commentDelta == 0 && commentLikeDeltas.isEmpty();
+        }
+
+        private BoardResponseDto.BoardCounterDelta toDelta(Long boardId, int[] counts, Map<Long, Integer> commentLikeCounts) {
+            Map<Long, Integer> currentCommentLikes = new HashMap<>();
+            commentLikeDeltas.keySet().forEach(commentId -> {
+                Integer count = commentLikeCounts.get(commentId);
+                if (count != null) {
+                    currentCommentLikes.put(commentId, count);
+                }
+            });
+            return BoardResponseDto.BoardCounterDelta.builder()
+                    .boardId(boardId)
+                    .likeDelta(likeDelta)
+                    .dislikeDelta(dislikeDelta)
+                    .commentDelta(commentDelta)
+                    .commentLikeDeltas(commentLikeDeltas)
+                    .likeCount(counts != null ? counts[0] : null)
+                    .dislikeCount(counts != null ? counts[1] : null)
+                    .commentCount(counts != null ? counts[2] : null)
+                    .commentLikeCounts(currentCommentLikes)
+                    .build();
+        }
+    }
+}
@@ -1,27 +1,52 @@
 package com.campus.campuscommunity.domain.board.service;
 
+import com.campus.campuscommunity.global.common.request.PageSizes;
 import com.campus.campuscommunity.global.common.response.ResponseCode;
 import com.campus.campuscommunity.global.config.exception.CustomException;
 import com.campus.campuscommunity.domain.board.dto.BoardRequestDto;
 import com.campus.campuscommunity.domain.board.dto.BoardResponseDto;
 import com.campus.campuscommunity.domain.board.entity.Board;
+import com.campus.campuscommunity.domain.board.entity.BoardCategory;
 import com.campus.campuscommunity.domain.board.entity.BoardLike;
+import com.campus.campuscommunity.domain.board.event.BoardCounterChangedEvent;
+import com.campus.campuscommunity.domain.board.event.BoardCreated;
+import com.campus.campuscommunity.domain.board.event.BoardCreatedEvent;
+import com.campus.campuscommunity.domain.board.event.LikeToggled;
 import com.campus.campuscommunity.domain.board.repository.BoardLikeRepository;
 import com.campus.campuscommunity.domain.board.repository.BoardRepository;
+import com.campus.campuscommunity.domain.board.repository.BoardSummaryView;
+import com.campus.campuscommunity.domain.department.service.DepartmentDictionary;
+import com.campus.campuscommunity.domain.outbox.service.Outbox;
 import com.campus.campuscommunity.domain.user.entity.User;
 import com.campus.campuscommunity.domain.user.repository.UserRepository;
+import com.campus.campuscommunity.global.common.response.ETags;
+import com.campus.campuscommunity.global.config.cache.CacheNames;
+import com.campus.campuscommunity.global.config.logging.LogMarkers;
+import com.campus.campuscommunity.global.config.tracing.SpanAttributes;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
 /**
  * 게시판 관련 비즈니스 로직을 처리하는 서비스 클래스
  */
@@ -29,11 +54,18 @@ import java.util.Optional;
 @Service
 @RequiredArgsConstructor
 @Transactional
+@Observed(name = "campus.service") // 메서드별 추적 span
 public class BoardService {
 
     private final BoardRepository boardRepository;
     private final BoardLikeRepository boardLikeRepository;
     private final UserRepository userRepository;
+    private final DepartmentDictionary departmentDictionary;
+    private final BoardViewCountBuffer boardViewCountBuffer;
+    private final CacheManager cacheManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Outbox outbox;
+    private final SpanAttributes spanAttributes;
 
     /**
      * 게시글 생성
@@ -41,6 +73,7 @@ public class BoardService {
      * @param request 게시글 작성 요청 정보
      * @return 생성된 게시글 상세 정보
      */
+    @CacheEvict(cacheNames = CacheNames.BOARD_LIST, allEntries = true)
     public BoardResponseDto.BoardDetailResponse createBoard(String email, BoardRequestDto.CreateRequest request) {
         log.info("게시글 생성 요청: 이메일={}, 제목={}", email, request.getTitle());
 
@@ -61,7 +94,7 @@ public class BoardService {
                 .title(request.getTitle())
                 .content(request.getContent())
                 .writer(user)
-                .writerDepartment(user.getDepartment()) // 학과만 표시
+                .writerDepartment(departmentDictionary.canonicalName(user.getDepartment())) // 학과만 표시 (표준 학과명)
                 .category(request.getCategory())
                 .viewCount(0)
                 .likeCount(0)
@@ -75,33 +108,83 @@ public class BoardService {
         Board savedBoard = boardRepository.save(board);
         log.info("게시글 생성 완료: id={}", savedBoard.getId());
 
+        // 새 게시글 이벤트 발행 (커밋 후 실시간 구독자에게 전송) + outbox 기록 (구독자가 있으면 커밋 후 OutboxRelay가 전달)
+        eventPublisher.publishEvent(new BoardCreatedEvent(BoardResponseDto.BoardSummary.from(savedBoard)));
+        outbox.append(new BoardCreated(savedBoard.getId(), user.getId(), savedBoard.getCategory(), savedBoard.getCreatedAt()));
+
         // 응답 DTO 변환 후 반환
         return BoardResponseDto.BoardDetailResponse.from(savedBoard);
     }
     /**
      * 게시글 상세 조회
+     * 게시글 정보는 상세 캐시(boardDetail)에서 읽고, 조회수 증가는 BoardViewCountBuffer에 모아 주기적으로 반영합니다.
+     * 사용자별 좋아요 상태와 아직 반영되지 않은 조회수는 캐시 값 위에 덧붙입니다.
      * @param boardId 게시글 ID
      * @param email 조회자 이메일 (좋아요 상태 확인용, null 가능)
      * @return 게시글 상세 정보
      */
-    @Transactional
+    @Transactional(readOnly = true)
     public BoardResponseDto.BoardDetailResponse getBoardDetail(Long boardId, String email) {
-        log.info("게시글 상세 조회: id={}, 조회자={}", boardId, email);
-
-        // 게시글 조회
-        Board board = boardRepository.findActiveById(boardId)
-                .orElseThrow(() -> new CustomException(ResponseCode.NOT_FOUND, "게시글을 찾을 수 없습니다."));
+        log.info(LogMarkers.HOT_PATH, "게시글 상세 조회: {}, {}", kv("boardId", boardId), kv("viewer", email));
+        spanAttributes.put(SpanAttributes.BOARD_ID, boardId);
+
+        // 게시글 조회 (캐시에 없으면 DB 조회 후 저장)
+        Cache boardDetailCache = cacheManager.getCache(CacheNames.BOARD_DETAIL);
+        BoardResponseDto.BoardDetailResponse detail = boardDetailCache.get(boardId, BoardResponseDto.BoardDetailResponse.class);
+        if (detail == null) {
+            Board board = boardRepository.findActiveById(boardId)
+                    .orElseThrow(() -> new CustomException(ResponseCode.NOT_FOUND, "게시글을 찾을 수 없습니다."));
+            detail = BoardResponseDto.BoardDetailResponse.from(board);
+            boardDetailCache.put(boardId, detail);
+        }
 
-        // 조회수 증가
-        board.increaseViewCount();
-        boardRepository.save(board);
-        log.debug("게시글 조회수 증가: id={}, 현재 조회수={}", boardId, board.getViewCount());
+        // 조회수 증가 (DB 반영은 주기적으로 일괄 처리)
+        boardViewCountBuffer.increase(boardId);
+        int viewCount = detail.getViewCount() + (int) boardViewCountBuffer.getPendingCount(boardId);
+        log.debug("게시글 조회수 증가: id={}, 현재 조회수={}", boardId, viewCount);
 
         // 사용자의 좋아요 상태 확인
-        String likeStatus = getLikeStatus(board, email);
+        String likeStatus = getLikeStatus(boardId, email);
 
         // 응답 DTO 변환 후 반환
-        return BoardResponseDto.BoardDetailResponse.from(board, likeStatus);
+        return detail.toBuilder()
+                .viewCount(viewCount)
+                .likeStatus(likeStatus)
+                .build();
+    }
+
+    /**
+     * 게시글 상세 ETag (상세 캐시에 있을 때만 계산, 없으면 null)
+     * 캐시 조회만 하므로 트랜잭션(DB 커넥션)을 시작하지 않습니다.
+     * @param boardId 게시글 ID
+     * @param email 조회자 이메일 (null 가능)
+     * @return ETag 또는 null (상세 조회를 실행해야 알 수 있음)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public String findBoardDetailETag(Long boardId, String email) {
+        Cache boardDetailCache = cacheManager.getCache(CacheNames.BOARD_DETAIL);
+        BoardResponseDto.BoardDetailResponse detail = boardDetailCache.get(boardId, BoardResponseDto.BoardDetailResponse.class);
+        return detail != null ? boardDetailETag(detail, email) : null;
+    }
+
+    /**
+     * 게시글 상세 ETag
+     * 수정 시각과 좋아요/싫어요/댓글 수로 만듭니다. 좋아요 상태는 조회자마다 다르므로 이메일을 포함하고,
+     * (조회자가 좋아요를 누르면 좋아요 수가 바뀌므로 좋아요 상태도 반영됨)
+     * 조회수는 조회할 때마다 바뀌므로 제외한 약한 ETag입니다.
+     */
+    public String boardDetailETag(BoardResponseDto.BoardDetailResponse detail, String email) {
+        return ETags.weak("board", detail.getId(), detail.getUpdatedAt(), detail.getLikeCount(),
+                detail.getDislikeCount(), detail.getCommentCount(), email);
+    }
+
+    /**
+     * 조회수만 증가 (ETag가 일치해 304로 응답한 상세 조회)
+     * @param boardId 게시글 ID
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void increaseViewCount(Long boardId) {
+        boardViewCountBuffer.increase(boardId);
     }
 
     /**
@@ -110,13 +193,14 @@ public class BoardService {
      * @return 게시글 목록 정보
      */
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.BOARD_LIST, key = "#request.cacheKey()")
     public BoardResponseDto.BoardListResponse getBoardList(BoardRequestDto.SearchRequest request) {
-        log.info("게시글 목록 조회: 키워드={}, 카테고리={}, 학과={}, 정렬={}",
-                request.getKeyword(), request.getCategory(), request.getDepartment(), request.getSort());
+        log.info(LogMarkers.HOT_PATH, "게시글 목록 조회: {}, {}, {}, {}", kv("keyword", request.getKeyword()),
+                kv("category", request.getCategory()), kv("department", request.getDepartment()), kv("sort", request.getSort()));
 
         // 페이징 및 정렬 설정
         Pageable pageable = createPageable(request);
-        Page<Board> boardPage;
+        Page<BoardSummaryView> boardPage;
 
         // 검색 조건에 따른 게시글 조회
         if (request.getKeyword() != null && !request.getKeyword().isEmpty()) {
@@ -125,27 +209,58 @@ public class BoardService {
             log.debug("키워드 검색 결과: 총 {}건", boardPage.getTotalElements());
         } else if (request.getCategory() != null) {
             // 카테고리별 조회
-            boardPage = boardRepository.findByIsDeletedFalseAndCategoryOrderByCreatedAtDesc(request.getCategory(), pageable);
+            boardPage = boardRepository.findByIsDeletedFalseAndCategoryOrderByIdDesc(request.getCategory(), pageable);
             log.debug("카테고리별 조회 결과: 총 {}건", boardPage.getTotalElements());
         } else if (request.getDepartment() != null && !request.getDepartment().isEmpty()) {
-            // 학과별 조회
-            boardPage = boardRepository.findByIsDeletedFalseAndWriterDepartmentOrderByCreatedAtDesc(request.getDepartment(), pageable);
+            // 학과별 조회 (별칭도 같은 학과로 조회, 사전에 없는 학과는 게시글도 없음)
+            boardPage = departmentDictionary.findCanonicalName(request.getDepartment())
+                    .map(department -> boardRepository.findByIsDeletedFalseAndWriterDepartmentOrderByIdDesc(department, pageable))
+                    .orElseGet(() -> Page.empty(pageable));
             log.debug("학과별 조회 결과: 총 {}건", boardPage.getTotalElements());
         } else {
             // 전체 조회
-            boardPage = boardRepository.findByIsDeletedFalseOrderByCreatedAtDesc(pageable);
+            boardPage = boardRepository.findByIsDeletedFalseOrderByIdDesc(pageable);
             log.debug("전체 조회 결과: 총 {}건", boardPage.getTotalElements());
         }
 
         // 응답 DTO 변환 후 반환
         return BoardResponseDto.BoardListResponse.builder()
-                .boards(BoardResponseDto.BoardSummary.fromList(boardPage.getContent()))
+                .boards(BoardResponseDto.BoardSummary.fromViews(boardPage.getContent()))
                 .totalPages(boardPage.getTotalPages())
                 .totalElements(boardPage.getTotalElements())
                 .currentPage(boardPage.getNumber())
                 .build();
     }
 
+    /**
+     * 게시글 피드 조회 (키셋 페이지네이션)
+     * 게시글 ID가 생성 시각 순으로 증가하므로 마지막으로 받은 ID를 커서로 사용합니다.
+     * @param cursor 이전 페이지의 마지막 게시글 ID (첫 페이지는 null)
+     * @param category 카테고리 필터 (null 가능)
+     * @param size 페이지 크기
+     * @return 게시글 피드 정보
+     */
+    @Transactional(readOnly = true)
+    public BoardResponseDto.BoardFeedResponse getBoardFeed(Long cursor, BoardCategory category, int size) {
+        log.info(LogMarkers.HOT_PATH, "게시글 피드 조회: {}, {}, {}", kv("cursor", cursor), kv("category", category), kv("size", size));
+
+        Long effectiveCursor = cursor != null ? cursor : Long.MAX_VALUE;
+        Pageable pageable = PageRequest.of(0, PageSizes.require(size));
+
+        Slice<BoardSummaryView> boardSlice = category != null
+                ? boardRepository.findByIsDeletedFalseAndCategoryAndIdLessThanOrderByIdDesc(category, effectiveCursor, pageable)
+                : boardRepository.findByIsDeletedFalseAndIdLessThanOrderByIdDesc(effectiveCursor, pageable);
+
+        List<BoardSummaryView> boards = boardSlice.getContent();
+        Long nextCursor = boardSlice.hasNext() && !boards.isEmpty() ? boards.get(boards.size() - 1).id() : null;
+
+        return BoardResponseDto.BoardFeedResponse.builder()
+                .boards(BoardResponseDto.BoardSummary.fromViews(boards))
+                .nextCursor(nextCursor)
+                .hasNext(boardSlice.hasNext())
+                .build();
+    }
+
     /**
      * 게시글 수정
      * @param boardId 게시글 ID
@@ -153,6 +268,10 @@ public class BoardService {
      * @param request 게시글 수정 요청 정보
      * @return 수정된 게시글 상세 정보
      */
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.BOARD_DETAIL, key = "#boardId"),
+            @CacheEvict(cacheNames = CacheNames.BOARD_LIST, allEntries = true)
+    })
     public BoardResponseDto.BoardDetailResponse updateBoard(Long boardId, String email, BoardRequestDto.UpdateRequest request) {
         log.info("게시글 수정 요청: id={}, 이메일={}", boardId, email);
 
@@ -187,6 +306,11 @@ public class BoardService {
      * @param boardId 게시글 ID
      * @param email 삭제자 이메일
      */
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.BOARD_DETAIL, key = "#boardId"),
+            @CacheEvict(cacheNames = CacheNames.BOARD_LIST, allEntries = true),
+            @CacheEvict(cacheNames = CacheNames.COMMENT_LIST_VERSION, key = "#boardId")
+    })
     public void deleteBoard(Long boardId, String email) {
         log.info("게시글 삭제 요청: id={}, 이메일={}", boardId, email);
 
@@ -214,8 +338,9 @@ public class BoardService {
      * @param isLike true: 좋아요, false: 싫어요
      * @return 업데이트된 게시글 상세 정보
      */
+    @CacheEvict(cacheNames = CacheNames.BOARD_DETAIL, key = "#boardId")
     public BoardResponseDto.BoardDetailResponse toggleLike(Long boardId, String email, boolean isLike) {
-        log.info("게시글 좋아요/싫어요 요청: id={}, 이메일={}, 좋아요={}", boardId, email, isLike);
+        log.info(LogMarkers.HOT_PATH, "게시글 좋아요/싫어요 요청: {}, {}, {}", kv("boardId", boardId), kv("email", email), kv("like", isLike));
 
         // 게시글 조회
         Board board = boardRepository.findActiveById(boardId)
@@ -233,14 +358,25 @@ public class BoardService {
         // 현재 좋아요/싫어요 상태 확인
         Optional<BoardLike> boardLikeOpt = boardLikeRepository.findByBoardAndUser(board, user);
         BoardLike.LikeStatus newStatus = isLike ? BoardLike.LikeStatus.LIKE : BoardLike.LikeStatus.DISLIKE;
+        int likeCountBefore = board.getLikeCount();
+        int dislikeCountBefore = board.getDislikeCount();
 
+        BoardResponseDto.BoardDetailResponse response;
         if (boardLikeOpt.isPresent()) {
             // 기존 좋아요/싫어요가 있는 경우
-            return processExistingLike(board, boardLikeOpt.get(), newStatus);
+            response = processExistingLike(board, boardLikeOpt.get(), newStatus);
         } else {
             // 새로운 좋아요/싫어요인 경우
-            return processNewLike(board, user, newStatus);
+            response = processNewLike(board, user, newStatus);
         }
+
+        // 카운트 변경 이벤트 발행 (커밋 후 게시글 구독자에게 변화량 전송)
+        int likeDelta = board.getLikeCount() - likeCountBefore;
+        int dislikeDelta = board.getDislikeCount() - dislikeCountBefore;
+        eventPublisher.publishEvent(BoardCounterChangedEvent.ofBoardLike(boardId, likeDelta, dislikeDelta));
+        outbox.append(LikeToggled.ofBoard(boardId, user.getId(), likeDelta, dislikeDelta));
+
+        return response;
     }
 
     /**
@@ -331,11 +467,11 @@ public class BoardService {
 
     /**
      * 게시글에 대한 사용자의 좋아요 상태 확인
-     * @param board 게시글
+     * @param boardId 게시글 ID
      * @param email 사용자 이메일
      * @return 좋아요 상태 (NONE, LIKE, DISLIKE)
      */
-    private String getLikeStatus(Board board, String email) {
+    private String getLikeStatus(Long boardId, String email) {
         if (email == null) {
             return "NONE";
         }
@@ -345,7 +481,7 @@ public class BoardService {
             return "NONE";
         }
 
-        Optional<BoardLike> boardLike = boardLikeRepository.findByBoardAndUser(board, user);
+        Optional<BoardLike> boardLike = boardLikeRepository.findByBoardAndUser(boardRepository.getReferenceById(boardId), user);
         return boardLike.map(like -> like.getStatus().name()).orElse("NONE");
     }
 
@@ -380,10 +516,11 @@ public class BoardService {
                 break;
             case "created":
             default:
-                sort = Sort.by(Sort.Direction.DESC, "createdAt");
+                // ID가 생성 시각 순이므로 ID로 정렬 (PK 순서)
+                sort = Sort.by(Sort.Direction.DESC, "id");
                 break;
         }
 
-        return PageRequest.of(request.getPage(), request.getSize(), sort);
+        return PageRequest.of(Math.max(request.getPage(), 0), PageSizes.require(request.getSize()), sort);
     }
 }
\ No newline at end of file
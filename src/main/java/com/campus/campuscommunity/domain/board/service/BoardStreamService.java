@@ -0,0 +1,61 @@
+package com.campus.campuscommunity.domain.board.service;
+
+import com.campus.campuscommunity.domain.board.dto.BoardResponseDto;
+import com.campus.campuscommunity.domain.board.entity.BoardCategory;
+import com.campus.campuscommunity.domain.board.event.BoardCreatedEvent;
+import com.campus.campuscommunity.domain.department.service.DepartmentDictionary;
+import com.campus.campuscommunity.global.config.logging.LogMarkers;
+import com.campus.campuscommunity.global.config.sse.SseEmitterHub;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * 새 게시글 실시간 알림(SSE) 서비스
+ * 게시글 목록을 주기적으로 다시 조회하지 않고, 새 게시글이 생기면 구독자에게 BoardSummary를 보냅니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BoardStreamService {
+
+    private static final String CHANNEL = "boards";
+    private static final String EVENT_NAME = "board-created";
+
+    private final SseEmitterHub sseEmitterHub;
+    private final DepartmentDictionary departmentDictionary;
+
+    /**
+     * 새 게시글 구독
+     * @param category 카테고리 필터 (null이면 전체)
+     * @param department 학과 필터 (null이면 전체)
+     * @return SSE 연결
+     */
+    public SseEmitter subscribe(BoardCategory category, String department) {
+        log.info(LogMarkers.HOT_PATH, "새 게시글 구독: {}, {}", kv("category", category), kv("department", department));
+        boolean filterDepartment = department != null && !department.isEmpty();
+        // 새 게시글의 학과는 표준 학과명이므로 별칭도 표준 학과명으로 바꿔 비교
+        String canonicalDepartment = filterDepartment
+                ? departmentDictionary.findCanonicalName(department).orElse(department)
+                : null;
+
+        return sseEmitterHub.subscribe(CHANNEL, data -> {
+            BoardResponseDto.BoardSummary board = (BoardResponseDto.BoardSummary) data;
+            return (category == null || category == board.getCategory())
+                    && (!filterDepartment || canonicalDepartment.equals(board.getWriterDepartment()));
+        });
+    }
+
+    /**
+     * 게시글 생성 트랜잭션이 커밋된 뒤 구독자에게 전송
+     */
+    @TransactionalEventListener
+    public void onBoardCreated(BoardCreatedEvent event) {
+        BoardResponseDto.BoardSummary board = event.getBoard();
+        sseEmitterHub.publish(CHANNEL, EVENT_NAME, board.getId(), board);
+    }
+}
@@ -0,0 +1,95 @@
+package com.campus.campuscommunity.domain.board.service;
+
+import com.campus.campuscommunity.domain.board.entity.Board;
+import com.campus.campuscommunity.global.config.cache.CacheNames;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글 조회수 버퍼
+ *
+ * 상세 조회는 캐시에서 응답하므로 조회할 때마다 게시글을 UPDATE 하지 않고,
+ * 증가분을 메모리에 모았다가 주기적으로 한 번에 반영합니다.
+ * (여러 인스턴스가 동시에 반영해도 view_count = view_count + ? 이므로 값이 덮어써지지 않습니다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardViewCountBuffer {
+
+    private static final String INCREASE_VIEW_COUNT_SQL = "UPDATE boards SET view_count = view_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final CacheManager cacheManager;
+
+    private final ConcurrentHashMap<Long, Long> pendingCounts = new ConcurrentHashMap<>();
+
+    // 조회수 1 증가 (DB 반영 전까지 대기)
+    public void increase(Long boardId) {
+        pendingCounts.merge(boardId, 1L, Long::sum);
+    }
+
+    // 아직 DB에 반영되지 않은 조회수
+    public long getPendingCount(Long boardId) {
+        return pendingCounts.getOrDefault(boardId, 0L);
+    }
+
+    /**
+     * 모인 조회수를 DB에 반영
+     * 반영한 게시글은 2차 캐시/상세 캐시에서 제거해 다음 조회 시 새 조회수를 읽게 합니다.
+     */
+    @Scheduled(fixedDelayString = "${campus.board.view-count-flush-interval-ms:5000}")
+    public void flush() {
+        if (pendingCounts.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batchArgs = new ArrayList<>();
+        for (Long boardId : new ArrayList<>(pendingCounts.keySet())) {
+            Long count = pendingCounts.remove(boardId);
+            if (count != null && count > 0) {
+                batchArgs.add(new Object[]{count, boardId});
+            }
+        }
+        if (batchArgs.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(INCREASE_VIEW_COUNT_SQL, batchArgs);
+        } catch (Exception e) {
+            // 반영 실패 시 다음 주기에 다시 시도
+            log.error("조회수 반영 실패: {}건, 오류={}", batchArgs.size(), e.getMessage());
+            batchArgs.forEach(args -> pendingCounts.merge((Long) args[1], (Long) args[0], Long::sum));
+            return;
+        }
+
+        Cache boardDetailCache = cacheManager.getCache(CacheNames.BOARD_DETAIL);
+        for (Object[] args : batchArgs) {
+            Long boardId = (Long) args[1];
+            entityManagerFactory.getCache().evict(Board.class, boardId);
+            if (boardDetailCache != null) {
+                boardDetailCache.evict(boardId);
+            }
+        }
+        log.debug("조회수 반영 완료: {}건", batchArgs.size());
+    }
+
+    // 종료 시 남은 조회수 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -1,20 +1,33 @@
 package com.campus.campuscommunity.domain.comment.controller;
 
 import com.campus.campuscommunity.global.common.response.ApiResponse;
+import com.campus.campuscommunity.global.common.response.ETags;
+import com.campus.campuscommunity.global.common.response.FieldProjection;
+import com.campus.campuscommunity.global.config.HttpCachePolicy;
+import com.campus.campuscommunity.global.config.idempotency.Idempotent;
+import com.campus.campuscommunity.global.config.idempotency.IdempotencyInterceptor;
+import com.campus.campuscommunity.global.config.ratelimit.RateLimitConfig;
+import com.campus.campuscommunity.global.config.ratelimit.RateLimited;
 import com.campus.campuscommunity.domain.comment.dto.CommentRequestDto;
 import com.campus.campuscommunity.domain.comment.dto.CommentResponseDto;
+import com.campus.campuscommunity.domain.comment.service.CommentListVersions;
 import com.campus.campuscommunity.domain.comment.service.CommentService;
+import com.campus.campuscommunity.domain.comment.service.CommentStreamService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/comments")
@@ -23,6 +36,9 @@ import org.springframework.web.bind.annotation.*;
 public class CommentController {
 
     private final CommentService commentService;
+    private final CommentStreamService commentStreamService;
+    private final CommentListVersions commentListVersions;
+    private final HttpCachePolicy httpCachePolicy;
 
     /**
      * 댓글 작성 API
@@ -77,8 +93,16 @@ public class CommentController {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
                     responseCode = "404",
                     description = "게시글 또는 부모 댓글을 찾을 수 없음"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "429",
+                    description = "요청 제한 초과 (Retry-After 헤더의 초만큼 기다린 뒤 다시 시도)"
             )
     })
+    @Parameter(in = ParameterIn.HEADER, name = IdempotencyInterceptor.HEADER,
+            description = "재시도 중복 방지 키 (같은 키로 다시 보내면 처리하지 않고 처음 응답을 그대로 돌려줌)", example = "9b2e6f0c-3d5a-4f7e-8c1b-2a6d9e4f7b30")
+    @Idempotent
+    @RateLimited(RateLimitConfig.COMMENT_CREATE)
     @PostMapping
     public ResponseEntity<ApiResponse<CommentResponseDto.CommentActionResponse>> createComment(
             @Parameter(description = "사용자 이메일", example = "user@university.ac.kr", required = true)
@@ -249,8 +273,16 @@ public class CommentController {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
                     responseCode = "404",
                     description = "댓글을 찾을 수 없음"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "429",
+                    description = "요청 제한 초과 (Retry-After 헤더의 초만큼 기다린 뒤 다시 시도)"
             )
     })
+    @Parameter(in = ParameterIn.HEADER, name = IdempotencyInterceptor.HEADER,
+            description = "재시도 중복 방지 키 (같은 키로 다시 보내면 처리하지 않고 처음 응답을 그대로 돌려줌)", example = "9b2e6f0c-3d5a-4f7e-8c1b-2a6d9e4f7b30")
+    @Idempotent
+    @RateLimited(RateLimitConfig.LIKE)
     @PostMapping("/{id}/like")
     public ResponseEntity<ApiResponse<CommentResponseDto.CommentActionResponse>> likeComment(
             @Parameter(description = "댓글 ID", example = "1", required = true)
@@ -339,14 +371,46 @@ public class CommentController {
                     description = "게시글을 찾을 수 없음"
             )
     })
+    @Parameter(name = FieldProjection.PARAMETER, in = ParameterIn.QUERY, description = "응답에 포함할 목록 항목 필드 (쉼표 구분, id는 항상 포함)", example = "content,likeCount,replies")
+    @FieldProjection
     @GetMapping("/board/{boardId}")
     public ResponseEntity<ApiResponse<CommentResponseDto.CommentListResponse>> getCommentsByBoardId(
             @Parameter(description = "게시글 ID", example = "1", required = true)
             @PathVariable("boardId") Long boardId,
             @Parameter(description = "사용자 이메일 (좋아요 상태 확인용, 선택사항)", example = "user@university.ac.kr")
-            @RequestParam(required = false) String email) {
+            @RequestParam(required = false) String email,
+            @Parameter(description = "이전 응답의 ETag (일치하면 304 Not Modified)")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        // 댓글 목록 버전은 캐시에 있으므로 목록 조회 없이 비교 (목록보다 먼저 구해야 변경 직전 목록에 새 버전이 붙지 않음)
+        String eTag = commentListVersions.eTag(boardId, email);
+        if (ETags.matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(httpCachePolicy.revalidate())
+                    .build();
+        }
 
         CommentResponseDto.CommentListResponse response = commentService.getCommentsByBoardId(boardId, email);
-        return ResponseEntity.ok(ApiResponse.success(response));
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(httpCachePolicy.revalidate())
+                .body(ApiResponse.success(response));
+    }
+
+    /**
+     * 게시글의 새 댓글 실시간 구독 API (Server-Sent Events)
+     * GET /api/comments/board/{boardId}/stream
+     */
+    @Operation(
+            summary = "새 댓글 실시간 구독",
+            description = "게시글에 새 댓글(대댓글 포함)이 작성되면 comment-created 이벤트로 댓글 정보(CommentInfo)를 전송합니다."
+    )
+    @GetMapping(value = "/board/{boardId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamComments(
+            @Parameter(description = "게시글 ID", example = "1", required = true)
+            @PathVariable("boardId") Long boardId) {
+
+        return commentStreamService.subscribe(boardId);
     }
 }
\ No newline at end of file
@@ -1,7 +1,10 @@
 package com.campus.campuscommunity.domain.comment.entity;
 
 import com.campus.campuscommunity.domain.board.entity.Board;
+import com.campus.campuscommunity.domain.department.service.DepartmentIdConverter;
 import com.campus.campuscommunity.domain.user.entity.User;
+import com.campus.campuscommunity.global.config.compression.CompressedTextConverter;
+import com.campus.campuscommunity.global.config.id.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -23,25 +26,27 @@ import java.time.LocalDateTime;
 public class Comment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId // 시간 순 ID (애플리케이션에서 생성, JDBC 배치 insert 가능)
     private Long id;
 
     @Column(nullable = false, columnDefinition = "TEXT")
+    @Convert(converter = CompressedTextConverter.class) // 긴 댓글은 압축 저장
     private String content;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "board_id", nullable = false)
+    @JoinColumn(name = "board_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT)) // 파티션 테이블은 외래 키 불가
     private Board board;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "user_id", nullable = false)
+    @JoinColumn(name = "user_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private User writer;
 
-    @Column(nullable = false)
+    @Column(name = "writer_department_id", nullable = false)
+    @Convert(converter = DepartmentIdConverter.class) // 학과 사전 ID로 저장 (별칭은 표준 학과명으로)
     private String writerDepartment; // 작성자 학과 (익명 표시용)
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "parent_id")
+    @JoinColumn(name = "parent_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private Comment parent; // 부모 댓글 (대댓글인 경우)
 
     @Builder.Default
@@ -60,6 +65,8 @@ public class Comment {
     @Column(nullable = false)
     private boolean isDeleted = false; // 삭제 여부 (soft delete)
 
+    private LocalDateTime deletedAt; // 삭제 일시 (삭제 후 보관 기간이 지나면 archived_contents로 이동)
+
     // 좋아요 수 증가 메서드
     public void increaseLikeCount() {
         this.likeCount += 1;
@@ -78,5 +85,6 @@ public class Comment {
     // 댓글 삭제 메서드 (soft delete)
     public void delete() {
         this.isDeleted = true;
+        this.deletedAt = LocalDateTime.now();
     }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.campus.campuscommunity.domain.comment.entity;
 
 import com.campus.campuscommunity.domain.user.entity.User;
+import com.campus.campuscommunity.global.config.id.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -24,11 +25,11 @@ import java.time.LocalDateTime;
 public class CommentLike {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId // 시간 순 ID (애플리케이션에서 생성, JDBC 배치 insert 가능)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "comment_id", nullable = false)
+    @JoinColumn(name = "comment_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT)) // comments는 파티션 테이블 (외래 키 참조 불가)
     private Comment comment;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,22 @@
+package com.campus.campuscommunity.domain.comment.event;
+
+import com.campus.campuscommunity.domain.outbox.event.OutboxMessage;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 생성 (outbox 이벤트, 커밋 후 OutboxRelay가 구독자에게 전달)
+ * 실시간 구독자 전송은 CommentCreatedEvent가 따로 맡습니다.
+ */
+public record CommentCreated(Long commentId,
+                             Long boardId,
+                             Long writerId,
+                             Long parentId,        // 대댓글이면 부모 댓글 ID
+                             Long parentWriterId,  // 대댓글이면 부모 댓글 작성자 ID
+                             LocalDateTime createdAt) implements OutboxMessage {
+
+    @Override
+    public Long aggregateId() {
+        return boardId;
+    }
+}
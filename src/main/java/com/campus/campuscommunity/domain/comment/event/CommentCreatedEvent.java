@@ -0,0 +1,15 @@
+package com.campus.campuscommunity.domain.comment.event;
+
+import com.campus.campuscommunity.domain.comment.dto.CommentResponseDto;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 댓글 생성 이벤트 (트랜잭션 커밋 후 처리)
+ */
+@Getter
+@RequiredArgsConstructor
+public class CommentCreatedEvent {
+
+    private final CommentResponseDto.CommentInfo comment; // 생성된 댓글 정보
+}
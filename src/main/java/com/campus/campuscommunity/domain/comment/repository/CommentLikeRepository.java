@@ -4,8 +4,12 @@ import com.campus.campuscommunity.domain.comment.entity.Comment;
 import com.campus.campuscommunity.domain.comment.entity.CommentLike;
 import com.campus.campuscommunity.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -20,6 +24,10 @@ public interface CommentLikeRepository extends JpaRepository<CommentLike, Long>
     // 특정 사용자가 특정 댓글에 좋아요를 했는지 확인
     boolean existsByCommentAndUser(Comment comment, User user);
 
+    // 주어진 댓글 중 사용자가 좋아요 한 댓글 ID 목록 (댓글 목록 N+1 방지)
+    @Query("SELECT cl.comment.id FROM CommentLike cl WHERE cl.user = :user AND cl.comment.id IN :commentIds")
+    List<Long> findLikedCommentIds(@Param("user") User user, @Param("commentIds") Collection<Long> commentIds);
+
     // 특정 댓글의 모든 좋아요 삭제 (댓글 삭제 시 사용)
     void deleteAllByComment(Comment comment);
 }
\ No newline at end of file
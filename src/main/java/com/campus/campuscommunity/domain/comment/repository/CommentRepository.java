@@ -3,6 +3,7 @@ package com.campus.campuscommunity.domain.comment.repository;
 import com.campus.campuscommunity.domain.board.entity.Board;
 import com.campus.campuscommunity.domain.comment.entity.Comment;
 import com.campus.campuscommunity.domain.user.entity.User;
+import com.campus.campuscommunity.global.config.id.SnowflakeIdGenerator;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -10,6 +11,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,35 +22,75 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     @Query("SELECT c FROM Comment c WHERE c.id = :id AND c.isDeleted = false")
     Optional<Comment> findActiveById(@Param("id") Long id);
 
+    // 게시글/부모 댓글 기준 조회는 "c.id > :after" 조건을 함께 걸어 그보다 오래된 파티션을 건너뜀
+    // (댓글은 게시글/부모 댓글보다 나중에 만들어지므로 SnowflakeIdGenerator.minIdAfter로 ID 하한을 구함)
+    // 정렬도 생성 일시 대신 ID(생성 순서, PK)로 함
+
     // 특정 게시글의 모든 일반 댓글 조회 (대댓글 제외, 삭제되지 않은 것만)
-    @Query("SELECT c FROM Comment c WHERE c.board.id = :boardId AND c.parent IS NULL AND c.isDeleted = false ORDER BY c.createdAt ASC")
-    List<Comment> findActiveToplevelByBoardId(@Param("boardId") Long boardId);
+    default List<Comment> findActiveToplevelByBoardId(Long boardId) {
+        return findActiveToplevelByBoardId(boardId, SnowflakeIdGenerator.minIdAfter(boardId));
+    }
+
+    @Query("SELECT c FROM Comment c WHERE c.board.id = :boardId AND c.parent IS NULL AND c.isDeleted = false AND c.id > :after ORDER BY c.id ASC")
+    List<Comment> findActiveToplevelByBoardId(@Param("boardId") Long boardId, @Param("after") long after);
 
     // 특정 게시글의 모든 댓글 조회 (대댓글 포함, 삭제되지 않은 것만)
-    @Query("SELECT c FROM Comment c WHERE c.board.id = :boardId AND c.isDeleted = false ORDER BY c.createdAt ASC")
-    List<Comment> findActiveByBoardId(@Param("boardId") Long boardId);
+    default List<Comment> findActiveByBoardId(Long boardId) {
+        return findActiveByBoardId(boardId, SnowflakeIdGenerator.minIdAfter(boardId));
+    }
+
+    @Query("SELECT c FROM Comment c WHERE c.board.id = :boardId AND c.isDeleted = false AND c.id > :after ORDER BY c.id ASC")
+    List<Comment> findActiveByBoardId(@Param("boardId") Long boardId, @Param("after") long after);
 
     // 특정 게시글의 모든 댓글 페이징 조회
-    @Query("SELECT c FROM Comment c WHERE c.board.id = :boardId AND c.isDeleted = false ORDER BY c.createdAt ASC")
-    Page<Comment> findActiveByBoardId(@Param("boardId") Long boardId, Pageable pageable);
+    default Page<Comment> findActiveByBoardId(Long boardId, Pageable pageable) {
+        return findActiveByBoardId(boardId, SnowflakeIdGenerator.minIdAfter(boardId), pageable);
+    }
+
+    @Query("SELECT c FROM Comment c WHERE c.board.id = :boardId AND c.isDeleted = false AND c.id > :after ORDER BY c.id ASC")
+    Page<Comment> findActiveByBoardId(@Param("boardId") Long boardId, @Param("after") long after, Pageable pageable);
 
     // 특정 부모 댓글의 대댓글 목록 조회
-    @Query("SELECT c FROM Comment c WHERE c.parent.id = :parentId AND c.isDeleted = false ORDER BY c.createdAt ASC")
-    List<Comment> findActiveRepliesByParentId(@Param("parentId") Long parentId);
+    default List<Comment> findActiveRepliesByParentId(Long parentId) {
+        return findActiveRepliesByParentId(parentId, SnowflakeIdGenerator.minIdAfter(parentId));
+    }
+
+    @Query("SELECT c FROM Comment c WHERE c.parent.id = :parentId AND c.isDeleted = false AND c.id > :after ORDER BY c.id ASC")
+    List<Comment> findActiveRepliesByParentId(@Param("parentId") Long parentId, @Param("after") long after);
+
+    // 여러 부모 댓글의 대댓글을 한 번에 조회 (댓글 목록 N+1 방지)
+    default List<Comment> findActiveRepliesByParentIdIn(List<Long> parentIds) {
+        return findActiveRepliesByParentIdIn(parentIds, SnowflakeIdGenerator.minIdAfter(Collections.min(parentIds)));
+    }
+
+    @Query("SELECT c FROM Comment c WHERE c.parent.id IN :parentIds AND c.isDeleted = false AND c.id > :after ORDER BY c.id ASC")
+    List<Comment> findActiveRepliesByParentIdIn(@Param("parentIds") List<Long> parentIds, @Param("after") long after);
 
     // 특정 사용자가 작성한 댓글 목록 조회
-    @Query("SELECT c FROM Comment c WHERE c.writer.id = :userId AND c.isDeleted = false ORDER BY c.createdAt DESC")
+    @Query("SELECT c FROM Comment c WHERE c.writer.id = :userId AND c.isDeleted = false ORDER BY c.id DESC")
     Page<Comment> findActiveByUserId(@Param("userId") Long userId, Pageable pageable);
 
     // 특정 게시글의 댓글 수 카운트
-    @Query("SELECT COUNT(c) FROM Comment c WHERE c.board.id = :boardId AND c.isDeleted = false")
-    Long countActiveByBoardId(@Param("boardId") Long boardId);
+    default Long countActiveByBoardId(Long boardId) {
+        return countActiveByBoardId(boardId, SnowflakeIdGenerator.minIdAfter(boardId));
+    }
+
+    @Query("SELECT COUNT(c) FROM Comment c WHERE c.board.id = :boardId AND c.isDeleted = false AND c.id > :after")
+    Long countActiveByBoardId(@Param("boardId") Long boardId, @Param("after") long after);
 
     // 특정 게시글의 일반 댓글 수 카운트 (대댓글 제외)
-    @Query("SELECT COUNT(c) FROM Comment c WHERE c.board.id = :boardId AND c.parent IS NULL AND c.isDeleted = false")
-    Long countActiveToplevelByBoardId(@Param("boardId") Long boardId);
+    default Long countActiveToplevelByBoardId(Long boardId) {
+        return countActiveToplevelByBoardId(boardId, SnowflakeIdGenerator.minIdAfter(boardId));
+    }
+
+    @Query("SELECT COUNT(c) FROM Comment c WHERE c.board.id = :boardId AND c.parent IS NULL AND c.isDeleted = false AND c.id > :after")
+    Long countActiveToplevelByBoardId(@Param("boardId") Long boardId, @Param("after") long after);
 
     // 특정 부모 댓글의 대댓글 수 카운트
-    @Query("SELECT COUNT(c) FROM Comment c WHERE c.parent.id = :parentId AND c.isDeleted = false")
-    Long countActiveRepliesByParentId(@Param("parentId") Long parentId);
-}
\ No newline at end of file
+    default Long countActiveRepliesByParentId(Long parentId) {
+        return countActiveRepliesByParentId(parentId, SnowflakeIdGenerator.minIdAfter(parentId));
+    }
+
+    @Query("SELECT COUNT(c) FROM Comment c WHERE c.parent.id = :parentId AND c.isDeleted = false AND c.id > :after")
+    Long countActiveRepliesByParentId(@Param("parentId") Long parentId, @Param("after") long after);
+}
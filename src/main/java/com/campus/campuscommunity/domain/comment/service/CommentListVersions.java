@@ -0,0 +1,47 @@
+package com.campus.campuscommunity.domain.comment.service;
+
+import com.campus.campuscommunity.global.common.response.ETags;
+import com.campus.campuscommunity.global.config.cache.CacheNames;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 게시글별 댓글 목록 버전 (댓글 목록 응답의 ETag)
+ *
+ * 댓글 작성/수정/삭제/좋아요 때 {@link #changed(Long)}로 버전을 지우고, 다음 조회 때 새 임의 값을 만듭니다.
+ * 버전은 애플리케이션 캐시(commentListVersion)에 있으므로 ETag 확인에 DB 조회가 필요 없습니다.
+ * (캐시에서 밀려나 새 값이 만들어지면 ETag가 바뀌어 한 번 더 전체 응답을 보낼 뿐, 오래된 응답이 재사용되지는 않습니다)
+ *
+ * 버전 삭제는 트랜잭션 커밋 이후에 반영되므로, 조회 쪽은 댓글을 읽기 전에 ETag를 먼저 구해야
+ * 커밋 직전의 목록에 새 버전이 붙는 일이 없습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CommentListVersions {
+
+    private final CacheManager cacheManager;
+
+    /**
+     * 댓글 목록 ETag
+     * @param boardId 게시글 ID
+     * @param email 조회자 이메일 (좋아요 여부가 조회자마다 다름, null 가능)
+     */
+    public String eTag(Long boardId, String email) {
+        String version = cache().get(boardId, () -> Long.toHexString(ThreadLocalRandom.current().nextLong()));
+        // 약한 ETag: 압축/fields 여부에 따라 바이트가 달라지고, Tomcat은 강한 ETag 응답을 압축하지 않음
+        return ETags.weak("comments", boardId, version, email);
+    }
+
+    // 게시글의 댓글 목록이 바뀜 (트랜잭션 안이면 커밋 후 반영)
+    public void changed(Long boardId) {
+        cache().evict(boardId);
+    }
+
+    private Cache cache() {
+        return cacheManager.getCache(CacheNames.COMMENT_LIST_VERSION);
+    }
+}
@@ -3,19 +3,33 @@ package com.campus.campuscommunity.domain.comment.service;
 import com.campus.campuscommunity.global.common.response.ResponseCode;
 import com.campus.campuscommunity.global.config.exception.CustomException;
 import com.campus.campuscommunity.domain.board.entity.Board;
+import com.campus.campuscommunity.domain.board.event.BoardCounterChangedEvent;
+import com.campus.campuscommunity.domain.board.event.LikeToggled;
 import com.campus.campuscommunity.domain.board.repository.BoardRepository;
 import com.campus.campuscommunity.domain.comment.dto.CommentRequestDto;
 import com.campus.campuscommunity.domain.comment.dto.CommentResponseDto;
 import com.campus.campuscommunity.domain.comment.entity.Comment;
 import com.campus.campuscommunity.domain.comment.entity.CommentLike;
+import com.campus.campuscommunity.domain.comment.event.CommentCreated;
+import com.campus.campuscommunity.domain.comment.event.CommentCreatedEvent;
 import com.campus.campuscommunity.domain.comment.repository.CommentLikeRepository;
 import com.campus.campuscommunity.domain.comment.repository.CommentRepository;
+import com.campus.campuscommunity.domain.department.service.DepartmentDictionary;
+import com.campus.campuscommunity.domain.outbox.service.Outbox;
 import com.campus.campuscommunity.domain.user.entity.User;
 import com.campus.campuscommunity.domain.user.repository.UserRepository;
 import com.campus.campuscommunity.global.common.response.ResponseCode;
 import com.campus.campuscommunity.global.config.exception.CustomException;
+import com.campus.campuscommunity.global.config.cache.CacheNames;
+import com.campus.campuscommunity.global.config.logging.LogMarkers;
+import com.campus.campuscommunity.global.config.tracing.SpanAttributes;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,6 +40,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
 /**
  * 댓글 관련 비즈니스 로직을 처리하는 서비스 클래스
  */
@@ -33,12 +49,19 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 @Transactional
+@Observed(name = "campus.service") // 메서드별 추적 span
 public class CommentService {
 
     private final CommentRepository commentRepository;
     private final CommentLikeRepository commentLikeRepository;
     private final BoardRepository boardRepository;
     private final UserRepository userRepository;
+    private final DepartmentDictionary departmentDictionary;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Outbox outbox;
+    private final SpanAttributes spanAttributes;
+    private final CommentListVersions commentListVersions;
+    private final CacheManager cacheManager;
 
     /**
      * 댓글 작성
@@ -46,6 +69,7 @@ public class CommentService {
      * @param request 댓글 작성 요청 정보
      * @return 작성된 댓글 정보
      */
+    @CacheEvict(cacheNames = CacheNames.BOARD_DETAIL, key = "#request.boardId") // 상세의 댓글 수 (커밋 후 삭제)
     public CommentResponseDto.CommentActionResponse createComment(String email, CommentRequestDto.CreateRequest request) {
         log.info("댓글 작성 요청: 이메일={}, 게시글ID={}, 부모댓글ID={}",
                 email, request.getBoardId(), request.getParentId());
@@ -80,7 +104,7 @@ public class CommentService {
                 .content(request.getContent())
                 .board(board)
                 .writer(user)
-                .writerDepartment(user.getDepartment()) // 학과만 표시
+                .writerDepartment(departmentDictionary.canonicalName(user.getDepartment())) // 학과만 표시 (표준 학과명)
                 .parent(parent)
                 .likeCount(0)
                 .isDeleted(false)
@@ -97,8 +121,19 @@ public class CommentService {
 
         log.info("댓글 작성 완료: id={}, 게시글 댓글 수={}", savedComment.getId(), board.getCommentCount());
 
-        // 7. 응답 DTO 변환 후 반환
-        return CommentResponseDto.CommentActionResponse.from(savedComment, false);
+        // 7. 응답 DTO 변환
+        CommentResponseDto.CommentActionResponse response = CommentResponseDto.CommentActionResponse.from(savedComment, false);
+
+        // 8. 새 댓글 이벤트 발행 (커밋 후 실시간 구독자에게 전송) + outbox 기록 (커밋 후 OutboxRelay가 전달)
+        eventPublisher.publishEvent(new CommentCreatedEvent(response.getComment()));
+        eventPublisher.publishEvent(BoardCounterChangedEvent.ofComment(board.getId(), 1));
+        outbox.append(new CommentCreated(savedComment.getId(), board.getId(), user.getId(),
+                parent != null ? parent.getId() : null,
+                parent != null ? parent.getWriter().getId() : null,
+                savedComment.getCreatedAt()));
+        commentListVersions.changed(board.getId());
+
+        return response;
     }
 
     /**
@@ -132,6 +167,7 @@ public class CommentService {
         comment.update(request.getContent());
         Comment updatedComment = commentRepository.save(comment);
         log.info("댓글 수정 완료: id={}", updatedComment.getId());
+        commentListVersions.changed(comment.getBoard().getId());
 
         // 5. 사용자의 좋아요 여부 확인
         boolean liked = commentLikeRepository.existsByCommentAndUser(updatedComment, user);
@@ -169,6 +205,15 @@ public class CommentService {
         boardRepository.save(board);
 
         log.info("댓글 삭제 완료: id={}, 게시글 댓글 수={}", commentId, board.getCommentCount());
+
+        // 6. 카운트 변경 이벤트 발행 (커밋 후 게시글 구독자에게 변화량 전송)
+        eventPublisher.publishEvent(BoardCounterChangedEvent.ofComment(board.getId(), -1));
+        commentListVersions.changed(board.getId());
+        // 상세의 댓글 수 (트랜잭션 캐시이므로 커밋 후 삭제)
+        Cache boardDetailCache = cacheManager.getCache(CacheNames.BOARD_DETAIL);
+        if (boardDetailCache != null) {
+            boardDetailCache.evict(board.getId());
+        }
     }
 
     /**
@@ -178,7 +223,7 @@ public class CommentService {
      * @return 업데이트된 댓글 정보
      */
     public CommentResponseDto.CommentActionResponse toggleLike(Long commentId, String email) {
-        log.info("댓글 좋아요 요청: id={}, 이메일={}", commentId, email);
+        log.info(LogMarkers.HOT_PATH, "댓글 좋아요 요청: {}, {}", kv("commentId", commentId), kv("email", email));
 
         // 1. 댓글 조회
         Comment comment = commentRepository.findActiveById(commentId)
@@ -197,6 +242,12 @@ public class CommentService {
         // 3. 좋아요 여부 확인 및 처리
         boolean isLiked = processLikeToggle(comment, user);
 
+        // 카운트 변경 이벤트 발행 (커밋 후 게시글 구독자에게 변화량 전송)
+        eventPublisher.publishEvent(BoardCounterChangedEvent.ofCommentLike(
+                comment.getBoard().getId(), comment.getId(), isLiked ? 1 : -1));
+        outbox.append(LikeToggled.ofComment(comment.getBoard().getId(), comment.getId(), user.getId(), isLiked ? 1 : -1));
+        commentListVersions.changed(comment.getBoard().getId());
+
         // 4. 응답 DTO 변환 후 반환
         return CommentResponseDto.CommentActionResponse.from(comment, isLiked);
     }
@@ -242,7 +293,8 @@ public class CommentService {
      */
     @Transactional(readOnly = true)
     public CommentResponseDto.CommentListResponse getCommentsByBoardId(Long boardId, String email) {
-        log.info("게시글 댓글 목록 조회: boardId={}, 조회자={}", boardId, email);
+        log.info(LogMarkers.HOT_PATH, "게시글 댓글 목록 조회: {}, {}", kv("boardId", boardId), kv("viewer", email));
+        spanAttributes.put(SpanAttributes.BOARD_ID, boardId);
 
         // 1. 게시글 존재 여부 확인
         if (!boardRepository.existsById(boardId)) {
@@ -258,15 +310,12 @@ public class CommentService {
                 .map(Comment::getId)
                 .collect(Collectors.toList());
 
-        // 4. 대댓글 조회
-        List<Comment> allReplies = new ArrayList<>();
-        if (!parentIds.isEmpty()) {
-            for (Long parentId : parentIds) {
-                List<Comment> replies = commentRepository.findActiveRepliesByParentId(parentId);
-                allReplies.addAll(replies);
-            }
-        }
+        // 4. 대댓글 조회 (부모 댓글 전체를 한 번에)
+        List<Comment> allReplies = parentIds.isEmpty()
+                ? new ArrayList<>()
+                : commentRepository.findActiveRepliesByParentIdIn(parentIds);
         log.debug("대댓글 수: {}", allReplies.size());
+        spanAttributes.put(SpanAttributes.COMMENT_COUNT, topLevelComments.size() + allReplies.size());
 
         // 5. 사용자 조회 (좋아요 상태 확인용)
         User user = null;
@@ -276,7 +325,7 @@ public class CommentService {
 
         // 6. 각 댓글의 좋아요 상태 및 대댓글 수 맵 생성
         Map<Long, Boolean> likeStatusMap = getLikeStatusMap(topLevelComments, allReplies, user);
-        Map<Long, Integer> replyCountMap = getReplyCountMap(parentIds);
+        Map<Long, Integer> replyCountMap = getReplyCountMap(allReplies);
 
         // 7. 응답 DTO 변환 후 반환
         return CommentResponseDto.CommentListResponse.from(topLevelComments, allReplies, likeStatusMap, replyCountMap);
@@ -301,27 +350,28 @@ public class CommentService {
         allCommentIds.addAll(topLevelComments.stream().map(Comment::getId).collect(Collectors.toList()));
         allCommentIds.addAll(allReplies.stream().map(Comment::getId).collect(Collectors.toList()));
 
-        // 각 댓글의 좋아요 상태 확인
-        for (Long commentId : allCommentIds) {
-            commentRepository.findById(commentId).ifPresent(comment ->
-                    likeStatusMap.put(commentId, commentLikeRepository.existsByCommentAndUser(comment, user))
-            );
+        if (allCommentIds.isEmpty()) {
+            return likeStatusMap;
         }
 
+        // 좋아요 한 댓글 ID를 한 번에 조회
+        allCommentIds.forEach(commentId -> likeStatusMap.put(commentId, false));
+        commentLikeRepository.findLikedCommentIds(user, allCommentIds)
+                .forEach(commentId -> likeStatusMap.put(commentId, true));
+
         return likeStatusMap;
     }
 
     /**
-     * 대댓글 수 맵 생성
-     * @param parentIds 부모 댓글 ID 목록
+     * 대댓글 수 맵 생성 (이미 조회한 삭제되지 않은 대댓글 목록으로 계산)
+     * @param allReplies 모든 대댓글 목록
      * @return 부모 댓글 ID -> 대댓글 수 맵
      */
-    private Map<Long, Integer> getReplyCountMap(List<Long> parentIds) {
+    private Map<Long, Integer> getReplyCountMap(List<Comment> allReplies) {
         Map<Long, Integer> replyCountMap = new HashMap<>();
 
-        for (Long parentId : parentIds) {
-            int replyCount = commentRepository.countActiveRepliesByParentId(parentId).intValue();
-            replyCountMap.put(parentId, replyCount);
+        for (Comment reply : allReplies) {
+            replyCountMap.merge(reply.getParent().getId(), 1, Integer::sum);
         }
 
         return replyCountMap;
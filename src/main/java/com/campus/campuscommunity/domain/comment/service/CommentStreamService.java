@@ -0,0 +1,59 @@
+package com.campus.campuscommunity.domain.comment.service;
+
+import com.campus.campuscommunity.domain.board.repository.BoardRepository;
+import com.campus.campuscommunity.domain.comment.dto.CommentResponseDto;
+import com.campus.campuscommunity.domain.comment.event.CommentCreatedEvent;
+import com.campus.campuscommunity.global.common.response.ResponseCode;
+import com.campus.campuscommunity.global.config.exception.CustomException;
+import com.campus.campuscommunity.global.config.logging.LogMarkers;
+import com.campus.campuscommunity.global.config.sse.SseEmitterHub;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * 새 댓글 실시간 알림(SSE) 서비스
+ * 게시글별 채널로 새 댓글(CommentInfo)을 보냅니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CommentStreamService {
+
+    private static final String EVENT_NAME = "comment-created";
+
+    private final SseEmitterHub sseEmitterHub;
+    private final BoardRepository boardRepository;
+
+    /**
+     * 게시글의 새 댓글 구독
+     * @param boardId 게시글 ID
+     * @return SSE 연결
+     */
+    public SseEmitter subscribe(Long boardId) {
+        log.info(LogMarkers.HOT_PATH, "새 댓글 구독: {}", kv("boardId", boardId));
+
+        // 게시글 존재 여부 확인
+        boardRepository.findActiveById(boardId)
+                .orElseThrow(() -> new CustomException(ResponseCode.NOT_FOUND, "게시글을 찾을 수 없습니다."));
+
+        return sseEmitterHub.subscribe(channel(boardId), data -> true);
+    }
+
+    /**
+     * 댓글 작성 트랜잭션이 커밋된 뒤 구독자에게 전송
+     */
+    @TransactionalEventListener
+    public void onCommentCreated(CommentCreatedEvent event) {
+        CommentResponseDto.CommentInfo comment = event.getComment();
+        sseEmitterHub.publish(channel(comment.getBoardId()), EVENT_NAME, comment.getId(), comment);
+    }
+
+    private String channel(Long boardId) {
+        return "comments:board:" + boardId;
+    }
+}
@@ -0,0 +1,30 @@
+package com.campus.campuscommunity.domain.department.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 학과 사전 (표준 학과명, 정수 ID)
+ *
+ * 게시글/댓글은 작성자 학과를 문자열 대신 이 ID로 저장합니다 (DepartmentIdConverter).
+ * "컴퓨터공학", "컴퓨터공학부" 같은 다른 표기는 DepartmentAlias로 같은 학과에 연결됩니다.
+ */
+@Entity
+@Table(name = "departments")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Department {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Column(nullable = false, unique = true, length = 50)
+    private String name; // 표준 학과명
+
+    public Department(String name) {
+        this.name = name;
+    }
+}
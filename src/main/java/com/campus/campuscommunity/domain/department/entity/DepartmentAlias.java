@@ -0,0 +1,29 @@
+package com.campus.campuscommunity.domain.department.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 학과 별칭 (예: 컴퓨터공학부 -> 컴퓨터공학과)
+ */
+@Entity
+@Table(name = "department_aliases")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DepartmentAlias {
+
+    @Id
+    @Column(length = 50)
+    private String alias;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "department_id", nullable = false)
+    private Department department;
+
+    public DepartmentAlias(String alias, Department department) {
+        this.alias = alias;
+        this.department = department;
+    }
+}
@@ -0,0 +1,9 @@
+package com.campus.campuscommunity.domain.department.repository;
+
+import com.campus.campuscommunity.domain.department.entity.DepartmentAlias;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DepartmentAliasRepository extends JpaRepository<DepartmentAlias, String> {
+}
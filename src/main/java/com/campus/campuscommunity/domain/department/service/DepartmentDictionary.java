@@ -0,0 +1,166 @@
+package com.campus.campuscommunity.domain.department.service;
+
+import com.campus.campuscommunity.domain.department.entity.Department;
+import com.campus.campuscommunity.domain.department.entity.DepartmentAlias;
+import com.campus.campuscommunity.domain.department.repository.DepartmentAliasRepository;
+import com.campus.campuscommunity.domain.department.repository.DepartmentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 학과 사전 (학과명/별칭 <-> 정수 ID)
+ *
+ * 학과 수가 적으므로 전체를 메모리에 올려 두고 조회는 DB 없이 처리합니다.
+ * - 처음 사용할 때 departments 테이블을 읽고, 비어 있으면 DepartmentCatalog로 채웁니다.
+ * - 사전에 없는 학과로 글을 쓰면 새 학과로 등록합니다 (별도 트랜잭션, 글 작성이 롤백돼도 학과는 남음).
+ * - 다른 인스턴스가 등록한 학과 ID를 만나면 다시 읽습니다.
+ * 조회는 불변 스냅샷을 읽기만 하고, 등록/다시 읽기만 동기화합니다.
+ */
+@Slf4j
+@Service
+public class DepartmentDictionary {
+
+    private final DepartmentRepository departmentRepository;
+    private final DepartmentAliasRepository departmentAliasRepository;
+    private final TransactionTemplate newTransaction;
+
+    private volatile Entries entries; // 처음 사용할 때 로딩
+
+    public DepartmentDictionary(DepartmentRepository departmentRepository,
+                                DepartmentAliasRepository departmentAliasRepository,
+                                PlatformTransactionManager transactionManager) {
+        this.departmentRepository = departmentRepository;
+        this.departmentAliasRepository = departmentAliasRepository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 학과 ID 조회 (사전에 없으면 새 학과로 등록)
+     * @param name 학과명 또는 별칭
+     */
+    public Integer idOf(String name) {
+        Integer id = entries().idByKey().get(DepartmentCatalog.key(name));
+        return id != null ? id : register(name);
+    }
+
+    /**
+     * 표준 학과명 (사전에 없으면 새 학과로 등록)
+     * @param name 학과명 또는 별칭
+     */
+    public String canonicalName(String name) {
+        return nameOf(idOf(name));
+    }
+
+    /**
+     * 표준 학과명 조회 (등록하지 않음, 검색 조건 등 사용자 입력용)
+     * @param name 학과명 또는 별칭
+     */
+    public Optional<String> findCanonicalName(String name) {
+        Integer id = entries().idByKey().get(DepartmentCatalog.key(name));
+        return Optional.ofNullable(id).map(this::nameOf);
+    }
+
+    /**
+     * 학과 ID -> 표준 학과명
+     */
+    public String nameOf(Integer id) {
+        String name = entries().nameById().get(id);
+        if (name == null) {
+            // 다른 인스턴스가 등록한 학과
+            name = reload().nameById().get(id);
+            if (name == null) {
+                throw new IllegalStateException("학과 사전에 없는 학과 ID: " + id);
+            }
+        }
+        return name;
+    }
+
+    private Entries entries() {
+        Entries current = entries;
+        return current != null ? current : load();
+    }
+
+    private synchronized Entries load() {
+        if (entries == null) {
+            Long count = newTransaction.execute(status -> departmentRepository.count());
+            if (count != null && count == 0) {
+                seed();
+            }
+            reload();
+        }
+        return entries;
+    }
+
+    // 호출한 쪽 트랜잭션의 스냅샷(REPEATABLE READ)에 가려지지 않도록 새 트랜잭션에서 읽음
+    private synchronized Entries reload() {
+        Map<String, Integer> idByKey = new HashMap<>();
+        Map<Integer, String> nameById = new HashMap<>();
+        newTransaction.executeWithoutResult(status -> {
+            for (Department department : departmentRepository.findAll()) {
+                idByKey.put(DepartmentCatalog.key(department.getName()), department.getId());
+                nameById.put(department.getId(), department.getName());
+            }
+            for (DepartmentAlias alias : departmentAliasRepository.findAll()) {
+                // 학과명과 겹치는 별칭은 학과명 우선
+                idByKey.putIfAbsent(DepartmentCatalog.key(alias.getAlias()), alias.getDepartment().getId());
+            }
+        });
+        entries = new Entries(Map.copyOf(idByKey), Map.copyOf(nameById));
+        log.info("학과 사전 로딩: 학과 {}개, 조회 키 {}개", nameById.size(), idByKey.size());
+        return entries;
+    }
+
+    // 빈 사전을 DepartmentCatalog로 채움 (여러 인스턴스가 동시에 시작하면 먼저 채운 쪽 사용)
+    private void seed() {
+        try {
+            newTransaction.executeWithoutResult(status -> {
+                List<DepartmentAlias> aliases = new ArrayList<>();
+                DepartmentCatalog.seed().forEach((name, names) -> {
+                    Department department = departmentRepository.save(new Department(name));
+                    names.forEach(alias -> aliases.add(new DepartmentAlias(alias, department)));
+                });
+                departmentAliasRepository.saveAll(aliases);
+            });
+            log.info("학과 사전 초기 데이터 저장");
+        } catch (DataIntegrityViolationException e) {
+            log.info("학과 사전 초기 데이터가 이미 저장됨");
+        }
+    }
+
+    private synchronized Integer register(String name) {
+        String key = DepartmentCatalog.key(name);
+        Integer id = entries().idByKey().get(key);
+        if (id != null) {
+            return id;
+        }
+
+        // 공백을 뺀 표기로 저장 (조회 키와 같은 기준)
+        String normalized = name.replaceAll("\\s+", "");
+        try {
+            newTransaction.executeWithoutResult(status -> departmentRepository.saveAndFlush(new Department(normalized)));
+            log.info("학과 사전에 새 학과 등록: {}", normalized);
+        } catch (DataIntegrityViolationException e) {
+            log.info("학과 사전에 이미 등록된 학과: {}", normalized);
+        }
+
+        id = reload().idByKey().get(key);
+        if (id == null) {
+            throw new IllegalStateException("학과 등록 실패: " + name);
+        }
+        return id;
+    }
+
+    private record Entries(Map<String, Integer> idByKey, Map<Integer, String> nameById) {
+    }
+}
@@ -0,0 +1,44 @@
+package com.campus.campuscommunity.domain.department.service;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * 학과명 <-> 학과 ID 컨버터 (게시글/댓글의 작성자 학과)
+ *
+ * 엔티티에서는 표준 학과명(문자열)으로 다루고, 컬럼에는 학과 사전 ID(정수)를 저장합니다.
+ * 학과 조건 조회도 파라미터가 ID로 바뀌어 정수 비교가 됩니다.
+ * Hibernate가 EntityManagerFactory를 만드는 중에 생성하므로 학과 사전(리포지토리 사용)은 처음 변환할 때 가져옵니다.
+ *
+ * 아직 이전하지 않은 행(ddl-auto가 넣은 ID 0)은 오류 대신 UNKNOWN으로 읽고, UNKNOWN은 다시 0으로 저장해
+ * DepartmentMigration이 나중에 채울 수 있게 둡니다.
+ */
+@Converter
+public class DepartmentIdConverter implements AttributeConverter<String, Integer> {
+
+    public static final String UNKNOWN = "학과 미확인";
+    private static final int UNMIGRATED_ID = 0;
+
+    private final ObjectProvider<DepartmentDictionary> departmentDictionary;
+
+    public DepartmentIdConverter(ObjectProvider<DepartmentDictionary> departmentDictionary) {
+        this.departmentDictionary = departmentDictionary;
+    }
+
+    @Override
+    public Integer convertToDatabaseColumn(String attribute) {
+        if (attribute == null) {
+            return null;
+        }
+        return UNKNOWN.equals(attribute) ? UNMIGRATED_ID : departmentDictionary.getObject().idOf(attribute);
+    }
+
+    @Override
+    public String convertToEntityAttribute(Integer dbData) {
+        if (dbData == null) {
+            return null;
+        }
+        return dbData == UNMIGRATED_ID ? UNKNOWN : departmentDictionary.getObject().nameOf(dbData);
+    }
+}
@@ -0,0 +1,129 @@
+package com.campus.campuscommunity.domain.department.service;
+
+import com.campus.campuscommunity.global.config.migration.MigrationHistory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 작성자 학과 이전 (boards/comments.writer_department 문자열 -> writer_department_id)
+ *
+ * 학과 사전 도입 전에 만들어진 DB를 위해 시작할 때 실행합니다 (기본으로 켜져 있음).
+ * ddl-auto=update가 학과 사전 테이블과 writer_department_id 컬럼을 먼저 만들고,
+ * 테이블마다 끝나면 schema_migrations에 기록해 다음 시작부터는 기록만 확인합니다.
+ * 이전이 끝나기 전에 읽은 행의 학과는 DepartmentIdConverter.UNKNOWN으로 표시됩니다.
+ *
+ * 테이블(boards, comments)마다
+ * 1. writer_department가 NOT NULL이면 NULL 허용으로 변경 (이전 중에도 새 글 작성 가능, 새 글은 writer_department_id에만 저장)
+ * 2. ID 순서로 batch-size건씩 학과 ID 채우기 (배치마다 커밋, 이미 채운 행은 건너뛰므로 다시 실행해도 안전)
+ *    ddl-auto가 기존 행에 넣은 0(MySQL NOT NULL 컬럼 추가 시 기본값)도 빈 값으로 봅니다.
+ * 3. 빠진 행이 없으면 완료 기록, drop-legacy-column=true면 writer_department 컬럼 삭제
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "campus.department.migration.enabled", havingValue = "true", matchIfMissing = true)
+public class DepartmentMigration implements ApplicationRunner {
+
+    private static final List<String> TABLES = List.of("boards", "comments");
+    private static final String LEGACY_COLUMN = "writer_department";
+    private static final String MIGRATION_NAME = "department-id:%s";
+
+    private static final String MAKE_LEGACY_COLUMN_NULLABLE_SQL = "ALTER TABLE %s MODIFY writer_department VARCHAR(255) NULL";
+    private static final String DROP_LEGACY_COLUMN_SQL = "ALTER TABLE %s DROP COLUMN writer_department";
+
+    // 다음 배치의 마지막 ID
+    private static final String NEXT_BATCH_END_SQL =
+            "SELECT MAX(id) FROM (SELECT id FROM %s WHERE id > ? ORDER BY id LIMIT ?) batch";
+
+    private static final String SELECT_BATCH_SQL =
+            "SELECT id, writer_department FROM %s " +
+            "WHERE id > ? AND id <= ? AND writer_department IS NOT NULL " +
+            "AND (writer_department_id IS NULL OR writer_department_id = 0)";
+
+    private static final String UPDATE_SQL = "UPDATE %s SET writer_department_id = ? WHERE id = ?";
+
+    private static final String COUNT_MISSING_SQL =
+            "SELECT COUNT(*) FROM %s WHERE writer_department_id IS NULL OR writer_department_id = 0";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MigrationHistory migrationHistory;
+    private final DepartmentDictionary departmentDictionary;
+    private final int batchSize;
+    private final long pauseMillis;
+    private final boolean dropLegacyColumn;
+
+    public DepartmentMigration(JdbcTemplate jdbcTemplate,
+                               MigrationHistory migrationHistory,
+                               DepartmentDictionary departmentDictionary,
+                               @Value("${campus.department.migration.batch-size:1000}") int batchSize,
+                               @Value("${campus.department.migration.pause-ms:50}") long pauseMillis,
+                               @Value("${campus.department.migration.drop-legacy-column:false}") boolean dropLegacyColumn) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.migrationHistory = migrationHistory;
+        this.departmentDictionary = departmentDictionary;
+        this.batchSize = batchSize;
+        this.pauseMillis = pauseMillis;
+        this.dropLegacyColumn = dropLegacyColumn;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws InterruptedException {
+        for (String table : TABLES) {
+            migrate(table);
+        }
+    }
+
+    private void migrate(String table) throws InterruptedException {
+        String migrationName = MIGRATION_NAME.formatted(table);
+        // 완료 기록이 있으면 끝 (drop-legacy-column을 나중에 켠 경우에만 컬럼을 한 번 더 확인)
+        if (migrationHistory.isDone(migrationName) && !dropLegacyColumn) {
+            return;
+        }
+        Optional<Boolean> nullable = migrationHistory.columnNullable(table, LEGACY_COLUMN);
+        if (nullable.isEmpty()) {
+            migrationHistory.markDone(migrationName);
+            return;
+        }
+
+        if (!nullable.get()) {
+            jdbcTemplate.execute(MAKE_LEGACY_COLUMN_NULLABLE_SQL.formatted(table));
+        }
+
+        long lastId = 0;
+        long updated = 0;
+        Long batchEnd;
+        while ((batchEnd = jdbcTemplate.queryForObject(NEXT_BATCH_END_SQL.formatted(table), Long.class, lastId, batchSize)) != null) {
+            List<Object[]> rows = jdbcTemplate.query(SELECT_BATCH_SQL.formatted(table),
+                    (rs, rowNum) -> new Object[]{departmentDictionary.idOf(rs.getString(2)), rs.getLong(1)},
+                    lastId, batchEnd);
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPDATE_SQL.formatted(table), rows);
+                updated += rows.size();
+            }
+            lastId = batchEnd;
+            log.debug("작성자 학과 이전 진행: {}, 마지막 ID={}, 변경={}건", table, lastId, updated);
+            // 복제 지연/잠금 경합을 줄이기 위해 배치 사이에 쉼
+            Thread.sleep(pauseMillis);
+        }
+
+        Long missing = jdbcTemplate.queryForObject(COUNT_MISSING_SQL.formatted(table), Long.class);
+        log.info("작성자 학과 이전 완료: {}, 변경={}건, 학과 ID 없는 행={}건", table, updated, missing);
+
+        if (missing != null && missing > 0) {
+            log.warn("작성자 학과 이전: {}에 학과 ID 없는 행이 있어 다음 시작 때 다시 확인", table);
+            return;
+        }
+        if (dropLegacyColumn) {
+            jdbcTemplate.execute(DROP_LEGACY_COLUMN_SQL.formatted(table));
+            log.info("작성자 학과 이전: {}.{} 컬럼 삭제", table, LEGACY_COLUMN);
+        }
+        migrationHistory.markDone(migrationName);
+    }
+}
@@ -0,0 +1,130 @@
+package com.campus.campuscommunity.domain.notification.controller;
+
+import com.campus.campuscommunity.domain.notification.dto.NotificationResponseDto;
+import com.campus.campuscommunity.domain.notification.service.NotificationService;
+import com.campus.campuscommunity.global.common.response.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/notifications")
+@RequiredArgsConstructor
+@Tag(name = "알림", description = "대댓글 알림 조회 및 읽음 처리 API")
+public class NotificationController {
+
+    private final NotificationService notificationService;
+
+    /**
+     * 알림 목록 조회 API (키셋 페이지네이션)
+     * GET /api/notifications
+     */
+    @Operation(
+            summary = "알림 목록 조회",
+            description = "내 댓글에 달린 대댓글 알림을 최신순으로 조회합니다. 같은 댓글에 잠시 동안 달린 대댓글은 알림 하나로 묶여 replyCount로 표시됩니다. " +
+                    "응답의 nextCursor 값을 다음 요청의 cursor로 전달하면 이어지는 알림을 조회합니다."
+    )
+    @io.swagger.v3.oas.annotations.responses.ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "알림 목록 조회 성공",
+                    content = @Content(schema = @Schema(implementation = NotificationResponseDto.InboxResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "404",
+                    description = "사용자를 찾을 수 없음"
+            )
+    })
+    @GetMapping
+    public ResponseEntity<ApiResponse<NotificationResponseDto.InboxResponse>> getInbox(
+            @Parameter(description = "사용자 이메일", example = "user@university.ac.kr", required = true)
+            @RequestParam String email,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)", example = "118283947520")
+            @RequestParam(required = false) Long cursor,
+            @Parameter(description = "페이지 크기 (1~100)", example = "20")
+            @RequestParam(defaultValue = "20") int size) {
+
+        NotificationResponseDto.InboxResponse response = notificationService.getInbox(email, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 읽지 않은 알림 수 조회 API
+     * GET /api/notifications/unread-count
+     */
+    @Operation(
+            summary = "읽지 않은 알림 수 조회",
+            description = "읽지 않은 알림 수를 조회합니다. 알림을 만들거나 읽을 때 함께 갱신한 값을 읽으므로 알림이 많아도 빠르게 응답합니다."
+    )
+    @io.swagger.v3.oas.annotations.responses.ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "읽지 않은 알림 수 조회 성공",
+                    content = @Content(schema = @Schema(implementation = NotificationResponseDto.UnreadCountResponse.class))
+            )
+    })
+    @GetMapping("/unread-count")
+    public ResponseEntity<ApiResponse<NotificationResponseDto.UnreadCountResponse>> getUnreadCount(
+            @Parameter(description = "사용자 이메일", example = "user@university.ac.kr", required = true)
+            @RequestParam String email) {
+
+        return ResponseEntity.ok(ApiResponse.success(notificationService.getUnreadCount(email)));
+    }
+
+    /**
+     * 알림 읽음 처리 API
+     * PATCH /api/notifications/{id}/read
+     */
+    @Operation(
+            summary = "알림 읽음 처리",
+            description = "알림을 읽음으로 표시합니다. 이미 읽은 알림이면 아무것도 바꾸지 않습니다."
+    )
+    @io.swagger.v3.oas.annotations.responses.ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "204",
+                    description = "읽음 처리 성공"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "404",
+                    description = "알림을 찾을 수 없음"
+            )
+    })
+    @PatchMapping("/{id}/read")
+    public ResponseEntity<ApiResponse<Void>> markRead(
+            @Parameter(description = "알림 ID", example = "118283947520", required = true)
+            @PathVariable("id") Long notificationId,
+            @Parameter(description = "사용자 이메일", example = "user@university.ac.kr", required = true)
+            @RequestParam String email) {
+
+        notificationService.markRead(notificationId, email);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 알림 모두 읽음 처리 API
+     * PATCH /api/notifications/read-all
+     */
+    @Operation(
+            summary = "알림 모두 읽음 처리",
+            description = "읽지 않은 알림을 모두 읽음으로 표시합니다."
+    )
+    @io.swagger.v3.oas.annotations.responses.ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "204",
+                    description = "읽음 처리 성공"
+            )
+    })
+    @PatchMapping("/read-all")
+    public ResponseEntity<ApiResponse<Void>> markAllRead(
+            @Parameter(description = "사용자 이메일", example = "user@university.ac.kr", required = true)
+            @RequestParam String email) {
+
+        notificationService.markAllRead(email);
+        return ResponseEntity.noContent().build();
+    }
+}
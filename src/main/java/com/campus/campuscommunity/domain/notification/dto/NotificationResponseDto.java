@@ -0,0 +1,104 @@
+package com.campus.campuscommunity.domain.notification.dto;
+
+import com.campus.campuscommunity.domain.notification.entity.Notification;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 알림 관련 응답 DTO 클래스들을 정의합니다.
+ */
+@Schema(description = "알림 응답 DTO")
+public class NotificationResponseDto {
+
+    /**
+     * 알림 정보 응답 DTO
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "알림 정보 응답 DTO")
+    public static class NotificationInfo {
+
+        @Schema(description = "알림 ID", example = "118283947520")
+        private Long id;
+
+        @Schema(description = "알림 종류 (REPLY: 내 댓글에 대댓글)", example = "REPLY")
+        private Notification.Type type;
+
+        @Schema(description = "게시글 ID", example = "1")
+        private Long boardId;
+
+        @Schema(description = "대댓글이 달린 내 댓글 ID", example = "10")
+        private Long parentCommentId;
+
+        @Schema(description = "마지막 대댓글 ID", example = "15")
+        private Long lastCommentId;
+
+        @Schema(description = "묶인 대댓글 수", example = "3")
+        private int replyCount;
+
+        @Schema(description = "읽음 여부", example = "false")
+        private boolean read;
+
+        @Schema(description = "알림 생성 시간", example = "2025-04-30T01:30:00")
+        private LocalDateTime createdAt;
+
+        @Schema(description = "마지막 대댓글이 묶인 시간", example = "2025-04-30T01:35:00")
+        private LocalDateTime updatedAt;
+
+        public static NotificationInfo from(Notification notification) {
+            return NotificationInfo.builder()
+                    .id(notification.getId())
+                    .type(notification.getType())
+                    .boardId(notification.getBoardId())
+                    .parentCommentId(notification.getParentCommentId())
+                    .lastCommentId(notification.getLastCommentId())
+                    .replyCount(notification.getReplyCount())
+                    .read(notification.isRead())
+                    .createdAt(notification.getCreatedAt())
+                    .updatedAt(notification.getUpdatedAt())
+                    .build();
+        }
+    }
+
+    /**
+     * 알림 목록 응답 DTO (키셋 페이지네이션)
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "알림 목록 응답 DTO (키셋 페이지네이션)")
+    public static class InboxResponse {
+
+        @Schema(description = "알림 목록 (최신순)")
+        private List<NotificationInfo> notifications;
+
+        @Schema(description = "다음 페이지 요청 시 사용할 커서 (마지막 알림 ID, 다음 페이지가 없으면 null)", example = "118283947520")
+        private Long nextCursor;
+
+        @Schema(description = "다음 페이지 존재 여부", example = "true")
+        private boolean hasNext;
+    }
+
+    /**
+     * 읽지 않은 알림 수 응답 DTO
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "읽지 않은 알림 수 응답 DTO")
+    public static class UnreadCountResponse {
+
+        @Schema(description = "읽지 않은 알림 수", example = "2")
+        private int unreadCount;
+    }
+}
@@ -0,0 +1,74 @@
+package com.campus.campuscommunity.domain.notification.entity;
+
+import com.campus.campuscommunity.global.config.id.SnowflakeId;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 (내 댓글에 달린 대댓글)
+ *
+ * 같은 댓글(스레드)에 coalesce-window 안에 달린 대댓글은 읽기 전이면 알림 하나로 묶어 replyCount만 올립니다.
+ * 목록은 ID(알림 생성 시각) 역순 키셋 페이지네이션으로 조회합니다.
+ */
+@Entity
+@Table(name = "notifications", indexes = {
+        @Index(name = "idx_notifications_recipient", columnList = "recipient_id, id"),
+        @Index(name = "idx_notifications_thread", columnList = "parent_comment_id, id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@DynamicUpdate // 변경된 컬럼만 UPDATE (대댓글을 묶는 동안 읽음 처리된 is_read를 덮어쓰지 않음)
+public class Notification {
+
+    @Id
+    @SnowflakeId
+    private Long id;
+
+    @Column(nullable = false)
+    private Long recipientId; // 받는 사용자 ID (부모 댓글 작성자)
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Type type;
+
+    @Column(nullable = false)
+    private Long boardId;
+
+    @Column(nullable = false)
+    private Long parentCommentId; // 대댓글이 달린 댓글 (스레드)
+
+    @Column(nullable = false)
+    private Long lastCommentId; // 묶인 대댓글 중 마지막 대댓글
+
+    @Column(nullable = false)
+    private int replyCount; // 묶인 대댓글 수
+
+    @Column(name = "is_read", nullable = false)
+    private boolean isRead;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    // 대댓글 하나 더 묶기
+    public void addReply(Long commentId, LocalDateTime now) {
+        this.lastCommentId = commentId;
+        this.replyCount++;
+        this.updatedAt = now;
+    }
+
+    public enum Type {
+        REPLY // 내 댓글에 대댓글
+    }
+}
@@ -0,0 +1,25 @@
+package com.campus.campuscommunity.domain.notification.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 읽지 않은 알림 수
+ *
+ * 알림을 만들거나 읽음 처리할 때 변화량만큼 갱신하므로 COUNT(*) 없이 기본 키 조회로 응답합니다.
+ * 갱신은 NotificationCounters가 SQL로 직접 합니다.
+ */
+@Entity
+@Table(name = "notification_counters")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationCounter {
+
+    @Id
+    private Long userId;
+
+    @Column(nullable = false)
+    private int unreadCount;
+}
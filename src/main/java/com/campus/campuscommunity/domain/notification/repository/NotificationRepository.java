@@ -0,0 +1,25 @@
+package com.campus.campuscommunity.domain.notification.repository;
+
+import com.campus.campuscommunity.domain.notification.entity.Notification;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface NotificationRepository extends JpaRepository<Notification, Long> {
+
+    // 알림 목록 (키셋 페이지네이션, 최신순)
+    Slice<Notification> findByRecipientIdAndIdLessThanOrderByIdDesc(Long recipientId, Long cursor, Pageable pageable);
+
+    // 스레드별 최근 알림 (since 이후에 만든 알림, 대댓글 묶기용)
+    @Query("SELECT n FROM Notification n WHERE n.parentCommentId IN :parentCommentIds AND n.id > :since ORDER BY n.id")
+    List<Notification> findRecentByThreads(@Param("parentCommentIds") Collection<Long> parentCommentIds, @Param("since") long since);
+
+    boolean existsByIdAndRecipientId(Long id, Long recipientId);
+}
@@ -0,0 +1,49 @@
+package com.campus.campuscommunity.domain.notification.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 읽지 않은 알림 수 (notification_counters)
+ *
+ * 호출한 트랜잭션 안에서 변화량만큼 더하고 빼므로 알림 insert/읽음 처리와 함께 커밋되거나 롤백됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationCounters {
+
+    private static final String ADD_SQL = "UPDATE notification_counters SET unread_count = unread_count + ? WHERE user_id = ?";
+    private static final String INSERT_SQL = "INSERT INTO notification_counters (user_id, unread_count) VALUES (?, ?)";
+    private static final String SELECT_SQL = "SELECT unread_count FROM notification_counters WHERE user_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public int unreadCount(Long userId) {
+        List<Integer> counts = jdbcTemplate.queryForList(SELECT_SQL, Integer.class, userId);
+        return counts.isEmpty() ? 0 : counts.get(0);
+    }
+
+    // 새 알림 수만큼 증가 (처음이면 행 생성)
+    public void increase(Long userId, int delta) {
+        if (jdbcTemplate.update(ADD_SQL, delta, userId) > 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(INSERT_SQL, userId, delta);
+        } catch (DuplicateKeyException e) {
+            // 그 사이 다른 트랜잭션이 만듦
+            jdbcTemplate.update(ADD_SQL, delta, userId);
+        }
+    }
+
+    // 읽음 처리한 알림 수만큼 감소
+    public void decrease(Long userId, int delta) {
+        if (delta > 0) {
+            jdbcTemplate.update(ADD_SQL, -delta, userId);
+        }
+    }
+}
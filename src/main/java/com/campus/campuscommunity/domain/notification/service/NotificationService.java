@@ -0,0 +1,110 @@
+package com.campus.campuscommunity.domain.notification.service;
+
+import com.campus.campuscommunity.domain.notification.dto.NotificationResponseDto;
+import com.campus.campuscommunity.domain.notification.entity.Notification;
+import com.campus.campuscommunity.domain.notification.repository.NotificationRepository;
+import com.campus.campuscommunity.domain.user.entity.User;
+import com.campus.campuscommunity.domain.user.repository.UserRepository;
+import com.campus.campuscommunity.global.common.request.PageSizes;
+import com.campus.campuscommunity.global.common.response.ResponseCode;
+import com.campus.campuscommunity.global.config.exception.CustomException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 알림함 조회/읽음 처리 서비스
+ * 알림 생성은 ReplyNotifier가 outbox 이벤트로 따로 합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class NotificationService {
+
+    // 읽지 않은 알림만 바꾸므로 바뀐 행 수만큼 읽지 않은 알림 수를 줄이면 됨
+    private static final String MARK_READ_SQL =
+            "UPDATE notifications SET is_read = true WHERE id = ? AND recipient_id = ? AND is_read = false";
+    private static final String MARK_ALL_READ_SQL =
+            "UPDATE notifications SET is_read = true WHERE recipient_id = ? AND is_read = false";
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationCounters notificationCounters;
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 알림 목록 조회 (키셋 페이지네이션)
+     * @param email 사용자 이메일
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @return 알림 목록
+     */
+    @Transactional(readOnly = true)
+    public NotificationResponseDto.InboxResponse getInbox(String email, Long cursor, int size) {
+        User user = findUser(email);
+
+        Slice<Notification> slice = notificationRepository.findByRecipientIdAndIdLessThanOrderByIdDesc(
+                user.getId(), cursor != null ? cursor : Long.MAX_VALUE, PageRequest.of(0, PageSizes.require(size)));
+
+        List<Notification> notifications = slice.getContent();
+        Long nextCursor = slice.hasNext() && !notifications.isEmpty() ? notifications.get(notifications.size() - 1).getId() : null;
+
+        return NotificationResponseDto.InboxResponse.builder()
+                .notifications(notifications.stream().map(NotificationResponseDto.NotificationInfo::from).toList())
+                .nextCursor(nextCursor)
+                .hasNext(slice.hasNext())
+                .build();
+    }
+
+    /**
+     * 읽지 않은 알림 수 조회
+     * @param email 사용자 이메일
+     * @return 읽지 않은 알림 수
+     */
+    @Transactional(readOnly = true)
+    public NotificationResponseDto.UnreadCountResponse getUnreadCount(String email) {
+        User user = findUser(email);
+        return new NotificationResponseDto.UnreadCountResponse(notificationCounters.unreadCount(user.getId()));
+    }
+
+    /**
+     * 알림 읽음 처리 (이미 읽은 알림이면 그대로)
+     * @param notificationId 알림 ID
+     * @param email 사용자 이메일
+     */
+    public void markRead(Long notificationId, String email) {
+        User user = findUser(email);
+
+        if (jdbcTemplate.update(MARK_READ_SQL, notificationId, user.getId()) > 0) {
+            notificationCounters.decrease(user.getId(), 1);
+            return;
+        }
+        if (!notificationRepository.existsByIdAndRecipientId(notificationId, user.getId())) {
+            throw new CustomException(ResponseCode.NOT_FOUND, "알림을 찾을 수 없습니다.");
+        }
+    }
+
+    /**
+     * 알림 모두 읽음 처리
+     * @param email 사용자 이메일
+     */
+    public void markAllRead(String email) {
+        User user = findUser(email);
+
+        int updated = jdbcTemplate.update(MARK_ALL_READ_SQL, user.getId());
+        notificationCounters.decrease(user.getId(), updated);
+        log.info("알림 모두 읽음: 사용자ID={}, {}건", user.getId(), updated);
+    }
+
+    private User findUser(String email) {
+        return userRepository.findByEmail(email)
+                .orElseThrow(() -> new CustomException(ResponseCode.USER_NOT_FOUND));
+    }
+}
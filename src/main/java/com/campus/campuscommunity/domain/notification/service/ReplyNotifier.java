@@ -0,0 +1,120 @@
+package com.campus.campuscommunity.domain.notification.service;
+
+import com.campus.campuscommunity.domain.comment.event.CommentCreated;
+import com.campus.campuscommunity.domain.notification.entity.Notification;
+import com.campus.campuscommunity.domain.notification.repository.NotificationRepository;
+import com.campus.campuscommunity.domain.outbox.event.OutboxSubscriber;
+import com.campus.campuscommunity.global.config.id.SnowflakeIdGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 대댓글 알림 생성 (outbox CommentCreated 구독)
+ *
+ * 댓글 작성 트랜잭션에는 outbox 기록만 남고, 알림은 OutboxRelay가 모아 준 배치 단위로 여기서 만듭니다.
+ * - 부모 댓글 작성자에게 알림 (자기 댓글에 단 대댓글은 제외)
+ * - 같은 스레드에 coalesce-window-minutes 안에 만든 읽지 않은 알림이 있으면 새로 만들지 않고 묶음
+ *   (읽지 않은 경우에만 바꾸는 UPDATE로 묶으므로, 읽어 온 뒤 읽음 처리된 알림이면 0건이 바뀌고 새 알림을 만듦)
+ * - 새 알림은 한 번에 insert (JDBC 배치), 읽지 않은 알림 수는 받는 사람별로 한 번씩 증가
+ * 같은 이벤트를 다시 받으면 스레드의 마지막 대댓글 ID와 비교해 건너뜁니다 (대댓글 ID는 작성 순).
+ */
+@Slf4j
+@Component
+public class ReplyNotifier implements OutboxSubscriber<CommentCreated> {
+
+    // markRead/markAllRead와 동시에 실행돼도 읽음 처리된 알림에는 묶지 않음
+    private static final String ADD_REPLY_SQL =
+            "UPDATE notifications SET last_comment_id = ?, reply_count = reply_count + 1, updated_at = ? " +
+            "WHERE id = ? AND is_read = false";
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationCounters notificationCounters;
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration coalesceWindow;
+
+    public ReplyNotifier(NotificationRepository notificationRepository,
+                         NotificationCounters notificationCounters,
+                         JdbcTemplate jdbcTemplate,
+                         @Value("${campus.notification.coalesce-window-minutes:10}") long coalesceWindowMinutes) {
+        this.notificationRepository = notificationRepository;
+        this.notificationCounters = notificationCounters;
+        this.jdbcTemplate = jdbcTemplate;
+        this.coalesceWindow = Duration.ofMinutes(coalesceWindowMinutes);
+    }
+
+    @Override
+    public Class<CommentCreated> eventType() {
+        return CommentCreated.class;
+    }
+
+    @Override
+    public void handle(List<CommentCreated> events) {
+        List<CommentCreated> replies = events.stream()
+                .filter(event -> event.parentId() != null && !event.parentWriterId().equals(event.writerId()))
+                .toList();
+        if (replies.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        long since = SnowflakeIdGenerator.minIdAt(now.minus(coalesceWindow).atZone(ZoneId.systemDefault()).toInstant());
+        Set<Long> threads = replies.stream().map(CommentCreated::parentId).collect(Collectors.toSet());
+
+        // 스레드별 가장 최근 알림 (ID 순으로 읽으므로 마지막 값이 남음), 스레드별 마지막으로 반영한 대댓글 ID
+        Map<Long, Notification> latest = new HashMap<>();
+        notificationRepository.findRecentByThreads(threads, since)
+                .forEach(notification -> latest.put(notification.getParentCommentId(), notification));
+        Map<Long, Long> lastReplies = new HashMap<>();
+        latest.forEach((thread, notification) -> lastReplies.put(thread, notification.getLastCommentId()));
+
+        List<Notification> created = new ArrayList<>();
+        Map<Long, Integer> unread = new HashMap<>();
+        for (CommentCreated reply : replies) {
+            Notification notification = latest.get(reply.parentId());
+            Long lastReply = lastReplies.get(reply.parentId());
+            if (lastReply != null && reply.commentId() <= lastReply) {
+                continue; // 이미 반영한 대댓글 (재전달)
+            }
+            lastReplies.put(reply.parentId(), reply.commentId());
+            if (notification != null && created.contains(notification)) {
+                notification.addReply(reply.commentId(), now); // 이번 배치에서 만든 알림 (아직 insert 전)
+                continue;
+            }
+            if (notification != null && !notification.isRead()
+                    && jdbcTemplate.update(ADD_REPLY_SQL, reply.commentId(), now, notification.getId()) > 0) {
+                continue;
+            }
+
+            notification = Notification.builder()
+                    .recipientId(reply.parentWriterId())
+                    .type(Notification.Type.REPLY)
+                    .boardId(reply.boardId())
+                    .parentCommentId(reply.parentId())
+                    .lastCommentId(reply.commentId())
+                    .replyCount(1)
+                    .isRead(false)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build();
+            latest.put(reply.parentId(), notification);
+            created.add(notification);
+            unread.merge(reply.parentWriterId(), 1, Integer::sum);
+        }
+
+        notificationRepository.saveAll(created);
+        unread.forEach(notificationCounters::increase);
+        log.debug("대댓글 알림: 대댓글 {}건, 새 알림 {}건", replies.size(), created.size());
+    }
+}
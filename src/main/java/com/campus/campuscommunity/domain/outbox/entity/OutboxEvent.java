@@ -0,0 +1,73 @@
+package com.campus.campuscommunity.domain.outbox.entity;
+
+import com.campus.campuscommunity.global.config.id.SnowflakeId;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 전달 대기 중인 이벤트 (transactional outbox)
+ *
+ * 게시글/댓글/좋아요를 저장하는 트랜잭션에서 함께 insert하므로 커밋된 변경의 이벤트는 빠지지 않습니다.
+ * OutboxRelay가 ID 순서로 읽어 구독자에게 전달한 뒤 삭제하고,
+ * 전달에 실패하면 attempts를 올리고 nextAttemptAt까지 같은 게시글의 뒤 이벤트와 함께 미룹니다.
+ * max-attempts번 실패하면 dead로 표시해 더는 전달하지 않습니다 (로그 확인 후 dead=false로 되돌리면 다시 전달).
+ */
+@Entity
+@Table(name = "outbox_events", indexes = {
+        @Index(name = "idx_outbox_events_pending", columnList = "dead, id"),
+        @Index(name = "idx_outbox_events_retry", columnList = "next_attempt_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEvent {
+
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(5);
+
+    @Id
+    @SnowflakeId
+    private Long id;
+
+    @Column(nullable = false, length = 50)
+    private String eventType; // OutboxMessage 클래스 이름
+
+    @Column(nullable = false)
+    private Long aggregateId; // 게시글 ID
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload; // 이벤트 JSON
+
+    @Column(nullable = false)
+    private int attempts;
+
+    private LocalDateTime nextAttemptAt; // 다시 전달할 수 있는 시각 (실패한 적 없으면 null)
+
+    @Column(nullable = false)
+    private boolean dead;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    public OutboxEvent(String eventType, Long aggregateId, String payload) {
+        this.eventType = eventType;
+        this.aggregateId = aggregateId;
+        this.payload = payload;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public boolean isDue(LocalDateTime now) {
+        return nextAttemptAt == null || !nextAttemptAt.isAfter(now);
+    }
+
+    // 전달 실패 기록 (1초부터 두 배씩, 최대 5분 뒤 재시도)
+    public void failed(LocalDateTime now, int maxAttempts) {
+        attempts++;
+        Duration backoff = Duration.ofSeconds(1L << Math.min(attempts - 1, 16));
+        nextAttemptAt = now.plus(backoff.compareTo(MAX_BACKOFF) < 0 ? backoff : MAX_BACKOFF);
+        dead = attempts >= maxAttempts;
+    }
+}
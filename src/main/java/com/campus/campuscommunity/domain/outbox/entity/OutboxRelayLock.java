@@ -0,0 +1,36 @@
+package com.campus.campuscommunity.domain.outbox.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * outbox 전달 잠금
+ *
+ * 배치마다 이 행을 잠그므로 여러 인스턴스 중 한 곳만 전달하고, 같은 게시글의 이벤트가 순서대로 전달됩니다.
+ */
+@Entity
+@Table(name = "outbox_relay_locks")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxRelayLock {
+
+    @Id
+    @Column(length = 50)
+    private String name;
+
+    @Column(nullable = false)
+    private LocalDateTime lastRelayedAt; // 마지막으로 이벤트를 전달한 시각
+
+    public OutboxRelayLock(String name) {
+        this.name = name;
+        this.lastRelayedAt = LocalDateTime.now();
+    }
+
+    public void relayed() {
+        this.lastRelayedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,13 @@
+package com.campus.campuscommunity.domain.outbox.event;
+
+/**
+ * outbox로 전달하는 이벤트 (JSON으로 저장했다가 OutboxRelay가 구독자에게 전달)
+ *
+ * 같은 aggregateId의 이벤트는 저장된 순서대로 전달되고, 구독자는 같은 이벤트를 두 번 받을 수 있습니다 (at-least-once).
+ * 저장 후에도 필드 이름을 바꾸지 말고, 바꿔야 하면 새 타입을 만듭니다 (남아 있는 행을 읽지 못함).
+ */
+public interface OutboxMessage {
+
+    // 순서를 지킬 단위 ID (게시글 ID)
+    Long aggregateId();
+}
@@ -0,0 +1,17 @@
+package com.campus.campuscommunity.domain.outbox.event;
+
+import java.util.List;
+
+/**
+ * outbox 이벤트 구독자 (빈으로 등록하면 OutboxRelay가 찾아 전달)
+ *
+ * 한 배치에서 eventType에 해당하는 이벤트를 저장 순서대로 모아 한 번에 받습니다.
+ * 예외를 던지면 배치 전체가 다시 전달되므로 같은 이벤트를 여러 번 받아도 결과가 같아야 합니다.
+ * 구독자마다 새 트랜잭션에서 호출됩니다.
+ */
+public interface OutboxSubscriber<T extends OutboxMessage> {
+
+    Class<T> eventType();
+
+    void handle(List<T> events);
+}
@@ -0,0 +1,23 @@
+package com.campus.campuscommunity.domain.outbox.repository;
+
+import com.campus.campuscommunity.domain.outbox.entity.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // after 이후 전달할 이벤트 (저장 순서), 재시도 시각 전인 이벤트가 있는 게시글은 제외
+    @Query("SELECT e FROM OutboxEvent e WHERE e.dead = false AND e.id > :after " +
+            "AND e.aggregateId NOT IN (SELECT r.aggregateId FROM OutboxEvent r WHERE r.dead = false AND r.nextAttemptAt > :now) " +
+            "ORDER BY e.id")
+    List<OutboxEvent> findDeliverable(@Param("after") long after, @Param("now") LocalDateTime now, Pageable pageable);
+
+    boolean existsByDeadFalse();
+}
@@ -0,0 +1,20 @@
+package com.campus.campuscommunity.domain.outbox.repository;
+
+import com.campus.campuscommunity.domain.outbox.entity.OutboxRelayLock;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface OutboxRelayLockRepository extends JpaRepository<OutboxRelayLock, String> {
+
+    // 잠금 행 조회 + 행 잠금 (다른 인스턴스는 배치가 끝날 때까지 대기)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT l FROM OutboxRelayLock l WHERE l.name = :name")
+    Optional<OutboxRelayLock> findForUpdate(@Param("name") String name);
+}
@@ -0,0 +1,54 @@
+package com.campus.campuscommunity.domain.outbox.service;
+
+import com.campus.campuscommunity.domain.outbox.entity.OutboxEvent;
+import com.campus.campuscommunity.domain.outbox.event.OutboxMessage;
+import com.campus.campuscommunity.domain.outbox.event.OutboxSubscriber;
+import com.campus.campuscommunity.domain.outbox.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * outbox 이벤트 기록
+ *
+ * 호출한 트랜잭션 안에서 outbox_events에 한 행을 추가할 뿐이고 (ID를 미리 만들므로 커밋 때 다른 insert와 함께 실행),
+ * 구독자 처리는 커밋 후 OutboxRelay가 따로 합니다. 쓰기 트랜잭션 밖에서는 호출할 수 없습니다.
+ * 구독하는 OutboxSubscriber 빈이 없는 이벤트 타입은 기록하지 않습니다 (전달할 곳 없이 insert/조회/delete만 생기므로).
+ */
+@Service
+public class Outbox {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final Set<Class<?>> subscribedTypes;
+
+    public Outbox(OutboxEventRepository outboxEventRepository,
+                  ObjectMapper objectMapper,
+                  List<OutboxSubscriber<?>> subscribers) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+        this.subscribedTypes = subscribers.stream().map(OutboxSubscriber::eventType).collect(Collectors.toUnmodifiableSet());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(OutboxMessage message) {
+        if (!subscribedTypes.contains(message.getClass())) {
+            return;
+        }
+        outboxEventRepository.save(new OutboxEvent(message.getClass().getSimpleName(), message.aggregateId(), toJson(message)));
+    }
+
+    private String toJson(OutboxMessage message) {
+        try {
+            return objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("outbox 이벤트 변환 실패: " + message.getClass().getSimpleName(), e);
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.campus.campuscommunity.domain.outbox.service;
+
+import com.campus.campuscommunity.domain.outbox.entity.OutboxEvent;
+import com.campus.campuscommunity.domain.outbox.entity.OutboxRelayLock;
+import com.campus.campuscommunity.domain.outbox.event.OutboxMessage;
+import com.campus.campuscommunity.domain.outbox.event.OutboxSubscriber;
+import com.campus.campuscommunity.domain.outbox.repository.OutboxEventRepository;
+import com.campus.campuscommunity.domain.outbox.repository.OutboxRelayLockRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * outbox 이벤트 전달 (in-process 이벤트 버스)
+ *
+ * poll-interval-ms마다 outbox_events를 ID 순서로 batch-size건씩 (앞 배치에서 읽은 ID 이후부터) 읽어 OutboxSubscriber 빈에게 나눠 주고, 전달한 행을 삭제합니다.
+ * - 배치마다 outbox_relay_locks 행을 잠그므로 여러 인스턴스 중 한 곳만 전달
+ * - 구독자는 이벤트 타입별로 모은 목록을 새 트랜잭션에서 한 번에 받음
+ * - 한 구독자라도 실패하면 이벤트를 하나씩 다시 전달해 실패한 이벤트만 남기고,
+ *   그 이벤트와 같은 게시글의 뒤 이벤트는 재시도 시각까지 미뤄 게시글 단위 순서를 지킴
+ *   (미뤄진 게시글의 이벤트는 조회에서 빠지므로 다른 게시글의 전달을 막지 않음)
+ * 삭제 전에 멈추면 다음 실행에서 다시 전달하므로 구독자는 같은 이벤트를 여러 번 받을 수 있습니다 (at-least-once).
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "campus.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+    static final String LOCK = "outbox";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxRelayLockRepository outboxRelayLockRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate subscriberTransactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Map<String, List<OutboxSubscriber<?>>> subscribers = new HashMap<>();
+    private final Map<String, Class<? extends OutboxMessage>> types = new HashMap<>();
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final int maxAttempts;
+    private final Timer lag;
+    private final Counter failures;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       OutboxRelayLockRepository outboxRelayLockRepository,
+                       PlatformTransactionManager transactionManager,
+                       ObjectMapper objectMapper,
+                       List<OutboxSubscriber<?>> subscribers,
+                       MeterRegistry meterRegistry,
+                       @Value("${campus.outbox.batch-size:100}") int batchSize,
+                       @Value("${campus.outbox.max-batches-per-run:50}") int maxBatchesPerRun,
+                       @Value("${campus.outbox.max-attempts:10}") int maxAttempts) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxRelayLockRepository = outboxRelayLockRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.subscriberTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.subscriberTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.objectMapper = objectMapper;
+        for (OutboxSubscriber<?> subscriber : subscribers) {
+            String type = subscriber.eventType().getSimpleName();
+            this.subscribers.computeIfAbsent(type, key -> new ArrayList<>()).add(subscriber);
+            this.types.put(type, subscriber.eventType());
+        }
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.maxAttempts = maxAttempts;
+        this.lag = Timer.builder("campus.outbox.lag")
+                .description("outbox 이벤트 저장부터 전달까지 걸린 시간")
+                .register(meterRegistry);
+        this.failures = Counter.builder("campus.outbox.failures")
+                .description("outbox 이벤트 전달 실패 횟수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 쌓인 이벤트 전달 (기본: 200ms 간격)
+     */
+    @Scheduled(fixedDelayString = "${campus.outbox.poll-interval-ms:200}")
+    public void relay() {
+        // 대부분 비어 있으므로 잠그기 전에 확인
+        if (!outboxEventRepository.existsByDeadFalse()) {
+            return;
+        }
+        createLockIfAbsent();
+
+        // 한 번 실행하는 동안 읽은 위치 이후만 읽어, 미뤄진 이벤트가 다음 배치의 자리를 차지하지 않게 함
+        Set<Long> blocked = new HashSet<>();
+        long after = 0L;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            long lastSeenId = after;
+            Long next = transactionTemplate.execute(status -> relayBatch(lastSeenId, blocked));
+            if (next == null) {
+                return;
+            }
+            after = next;
+        }
+    }
+
+    // after 이후 한 배치 전달, 이어서 읽을 이벤트가 있으면 마지막으로 읽은 ID (없으면 null)
+    private Long relayBatch(long after, Set<Long> blocked) {
+        OutboxRelayLock lock = outboxRelayLockRepository.findForUpdate(LOCK).orElseThrow();
+        LocalDateTime now = LocalDateTime.now();
+        // 재시도 시각 전인 이벤트가 있는 게시글은 쿼리에서 제외
+        List<OutboxEvent> events = outboxEventRepository.findDeliverable(after, now, PageRequest.of(0, batchSize));
+        if (events.isEmpty()) {
+            return null;
+        }
+
+        // 이번 실행에서 실패한 게시글의 뒤 이벤트도 제외
+        List<OutboxEvent> ready = new ArrayList<>();
+        for (OutboxEvent event : events) {
+            if (blocked.contains(event.getAggregateId())) {
+                continue;
+            }
+            if (!event.isDue(now)) {
+                blocked.add(event.getAggregateId());
+                continue;
+            }
+            ready.add(event);
+        }
+
+        List<OutboxEvent> delivered = ready.isEmpty() ? List.of() : deliver(ready, blocked, now);
+        if (!delivered.isEmpty()) {
+            outboxEventRepository.deleteAllByIdInBatch(delivered.stream().map(OutboxEvent::getId).toList());
+            lock.relayed();
+            delivered.forEach(event -> lag.record(Duration.between(event.getCreatedAt(), LocalDateTime.now())));
+        }
+        return events.size() == batchSize ? events.get(events.size() - 1).getId() : null;
+    }
+
+    // 배치 전달, 실패하면 하나씩 다시 전달해 성공한 이벤트만 반환
+    private List<OutboxEvent> deliver(List<OutboxEvent> events, Set<Long> blocked, LocalDateTime now) {
+        try {
+            dispatch(events);
+            return events;
+        } catch (RuntimeException e) {
+            log.warn("outbox 배치 전달 실패, 하나씩 다시 전달: {}건, 오류={}", events.size(), e.getMessage());
+        }
+
+        List<OutboxEvent> delivered = new ArrayList<>();
+        for (OutboxEvent event : events) {
+            if (blocked.contains(event.getAggregateId())) {
+                continue;
+            }
+            try {
+                dispatch(List.of(event));
+                delivered.add(event);
+            } catch (RuntimeException e) {
+                failures.increment();
+                event.failed(now, maxAttempts);
+                blocked.add(event.getAggregateId());
+                if (event.isDead()) {
+                    log.error("outbox 이벤트 전달 포기: id={}, 타입={}, 게시글ID={}, 시도={}회",
+                            event.getId(), event.getEventType(), event.getAggregateId(), event.getAttempts(), e);
+                } else {
+                    log.warn("outbox 이벤트 전달 실패: id={}, 타입={}, 게시글ID={}, 시도={}회, 오류={}",
+                            event.getId(), event.getEventType(), event.getAggregateId(), event.getAttempts(), e.getMessage());
+                }
+            }
+        }
+        return delivered;
+    }
+
+    // 이벤트 타입별로 모아 구독자에게 전달 (구독자가 없는 타입은 버림)
+    private void dispatch(List<OutboxEvent> events) {
+        Map<String, List<OutboxMessage>> byType = new HashMap<>();
+        for (OutboxEvent event : events) {
+            if (types.containsKey(event.getEventType())) {
+                byType.computeIfAbsent(event.getEventType(), key -> new ArrayList<>()).add(read(event));
+            }
+        }
+        byType.forEach((type, messages) -> {
+            for (OutboxSubscriber<?> subscriber : subscribers.get(type)) {
+                subscriberTransactionTemplate.executeWithoutResult(status -> handle(subscriber, messages));
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends OutboxMessage> void handle(OutboxSubscriber<T> subscriber, List<OutboxMessage> messages) {
+        subscriber.handle((List<T>) messages);
+    }
+
+    private OutboxMessage read(OutboxEvent event) {
+        try {
+            return objectMapper.readValue(event.getPayload(), types.get(event.getEventType()));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("outbox 이벤트 변환 실패: id=" + event.getId(), e);
+        }
+    }
+
+    private void createLockIfAbsent() {
+        if (outboxRelayLockRepository.existsById(LOCK)) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> outboxRelayLockRepository.saveAndFlush(new OutboxRelayLock(LOCK)));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 먼저 만듦
+        }
+    }
+}
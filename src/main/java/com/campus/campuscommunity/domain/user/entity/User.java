@@ -6,6 +6,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name="users")
@@ -13,6 +15,8 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user") // 2차 캐시 (merge 저장 시 캐시 항목 갱신)
 public class User {
 
     @Id // 기본키(Primary Key) 지정
@@ -41,7 +45,9 @@ public class User {
 
     // 권한 추가
     @Enumerated(EnumType.STRING)
-    private Role role;
+    @Column(nullable = false)
+    @Builder.Default
+    private Role role = Role.USER;
 
     // 로그인 제공자 타입 열거형
     public enum ProviderType {
@@ -57,4 +63,18 @@ public class User {
     public String getRoleKey() {
         return this.role.name();
     }
+
+    // 비밀번호 해시를 뺀 복사본 (애플리케이션 캐시 저장용)
+    public User withoutPassword() {
+        return User.builder()
+                .id(id)
+                .email(email)
+                .name(name)
+                .department(department)
+                .verified(verified)
+                .providerType(providerType)
+                .providerId(providerId)
+                .role(role)
+                .build();
+    }
 }
\ No newline at end of file
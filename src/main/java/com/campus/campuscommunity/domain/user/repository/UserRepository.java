@@ -1,7 +1,15 @@
 package com.campus.campuscommunity.domain.user.repository;
 
 import com.campus.campuscommunity.domain.user.entity.User;
+import com.campus.campuscommunity.global.config.cache.CacheNames;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -9,11 +17,35 @@ import java.util.Optional;
 @Repository // 이 인터페이스가 Repository 역할을 함을 나타냅니다
 public interface UserRepository extends JpaRepository<User, Long> {
 
-    // 이메일로 사용자 찾기
-    // 메서드 이름만으로 SQL 쿼리가 자동 생성됩니다 (SELECT * FROM users WHERE email = ?)
-    Optional<User> findByEmail(String email);
+    // 이메일로 사용자 찾기 (애플리케이션 캐시 userByEmail 사용)
+    // 캐시(Redis L2 포함)에 비밀번호 해시가 남지 않도록 비밀번호를 뺀 복사본을 저장합니다
+    // 비밀번호가 필요하거나 사용자를 교체 저장하는 곳(로그인, 인증, 정보 수정)은 findUserByEmail을 사용합니다
+    // User는 setter가 없고 변경 시 save()로 교체 저장하므로, 아래 save/delete에서 캐시를 비웁니다
+    @Cacheable(cacheNames = CacheNames.USER_BY_EMAIL, key = "#p0", unless = "#result == null")
+    default Optional<User> findByEmail(String email) {
+        return findUserByEmail(email).map(User::withoutPassword);
+    }
+
+    // 이메일로 사용자 조회 쿼리 (SELECT * FROM users WHERE email = ?)
+    // 쿼리 캐시 사용: users 테이블이 변경되면 (UserService의 엔티티 교체 저장 포함) 자동으로 무효화됩니다
+    @Query("SELECT u FROM User u WHERE u.email = :email")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "query.user.byEmail")
+    })
+    Optional<User> findUserByEmail(@Param("email") String email);
 
     // 이메일 존재 여부 확인
     // 메서드 이름만으로 SQL 쿼리가 자동 생성됩니다 (SELECT EXISTS(SELECT 1 FROM users WHERE email = ?))
     boolean existsByEmail(String email);
-}
\ No newline at end of file
+
+    // 사용자 저장 시 이메일 캐시 삭제 (트랜잭션 커밋 후 반영)
+    @Override
+    @CacheEvict(cacheNames = CacheNames.USER_BY_EMAIL, key = "#p0.email")
+    <S extends User> S save(S entity);
+
+    // 사용자 삭제 시 이메일 캐시 삭제 (트랜잭션 커밋 후 반영)
+    @Override
+    @CacheEvict(cacheNames = CacheNames.USER_BY_EMAIL, key = "#p0.email")
+    void delete(User entity);
+}
@@ -0,0 +1,37 @@
+package com.campus.campuscommunity.domain.user.service;
+
+import com.campus.campuscommunity.global.config.migration.MigrationHistory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 권한이 비어 있는 사용자 채우기 (users.role NULL -> USER)
+ *
+ * 이메일 가입과 정보 수정이 권한 없이 사용자를 저장하던 때 만들어진 행을 한 번 채우고 schema_migrations에 기록합니다.
+ * (JWT 인증이 권한으로 ROLE_ 값을 만들므로 비어 있으면 인증된 요청이 모두 실패함)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserRoleBackfill implements ApplicationRunner {
+
+    private static final String MIGRATION_NAME = "user-role";
+    private static final String BACKFILL_SQL = "UPDATE users SET role = 'USER' WHERE role IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MigrationHistory migrationHistory;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (migrationHistory.isDone(MIGRATION_NAME)) {
+            return;
+        }
+        int updated = jdbcTemplate.update(BACKFILL_SQL);
+        migrationHistory.markDone(MIGRATION_NAME);
+        log.info("사용자 권한 채우기 완료: {}건", updated);
+    }
+}
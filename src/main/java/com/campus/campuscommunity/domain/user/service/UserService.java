@@ -7,6 +7,7 @@ import com.campus.campuscommunity.domain.user.dto.UserRequestDto;
 import com.campus.campuscommunity.domain.user.dto.UserResponseDto;
 import com.campus.campuscommunity.domain.user.entity.User;
 import com.campus.campuscommunity.domain.user.repository.UserRepository;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -16,10 +17,13 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
 @Slf4j // 로깅 기능 추가
 @Service
 @RequiredArgsConstructor
 @Transactional
+@Observed(name = "campus.service") // 메서드별 추적 span
 public class UserService {
 
     private final UserRepository userRepository;
@@ -52,6 +56,8 @@ public class UserService {
                 .name(request.getName())
                 .department(request.getDepartment())
                 .verified(false) // 초기에는 미인증 상태
+                .providerType(User.ProviderType.LOCAL)
+                .role(User.Role.USER)
                 .build();
 
         // 사용자 저장
@@ -68,10 +74,10 @@ public class UserService {
      * @return 로그인 응답 (토큰 + 사용자 정보)
      */
     public UserResponseDto.LoginResponse login(UserRequestDto.LoginRequest request) {
-        log.info("로그인 시도: 이메일={}", request.getEmail());
+        log.info("로그인 시도: {}", kv("email", request.getEmail()));
 
         // 이메일로 사용자 조회
-        User user = userRepository.findByEmail(request.getEmail())
+        User user = userRepository.findUserByEmail(request.getEmail())
                 .orElseThrow(() -> {
                     log.warn("로그인 실패: 사용자를 찾을 수 없음 - {}", request.getEmail());
                     return new CustomException(ResponseCode.USER_NOT_FOUND);
@@ -85,7 +91,7 @@ public class UserService {
 
         // JWT 토큰 생성
         String token = jwtTokenProvider.createToken(user.getEmail());
-        log.info("로그인 성공: 이메일={}", user.getEmail());
+        log.info("로그인 성공: {}", kv("email", user.getEmail()));
 
         // 응답 생성
         return UserResponseDto.LoginResponse.builder()
@@ -122,7 +128,7 @@ public class UserService {
     public UserResponseDto.UserInfo updateUserInfo(String email, UserRequestDto.UpdateRequest request) {
         log.info("사용자 정보 수정 시작: 이메일={}, 이름={}, 학과={}", email, request.getName(), request.getDepartment());
 
-        User user = userRepository.findByEmail(email)
+        User user = userRepository.findUserByEmail(email)
                 .orElseThrow(() -> {
                     log.warn("사용자 정보 수정 실패: 사용자를 찾을 수 없음 - {}", email);
                     return new CustomException(ResponseCode.USER_NOT_FOUND);
@@ -136,6 +142,9 @@ public class UserService {
                 .name(request.getName())
                 .department(request.getDepartment())
                 .verified(user.isVerified())
+                .role(user.getRole())
+                .providerType(user.getProviderType())
+                .providerId(user.getProviderId())
                 .build();
 
         User savedUser = userRepository.save(updatedUser);
@@ -153,7 +162,7 @@ public class UserService {
     public UserResponseDto.UserInfo changePassword(String email, UserRequestDto.PasswordChangeRequest request) {
         log.info("비밀번호 변경 시도: 이메일={}", email);
 
-        User user = userRepository.findByEmail(email)
+        User user = userRepository.findUserByEmail(email)
                 .orElseThrow(() -> {
                     log.warn("비밀번호 변경 실패: 사용자를 찾을 수 없음 - {}", email);
                     return new CustomException(ResponseCode.USER_NOT_FOUND);
@@ -177,6 +186,9 @@ public class UserService {
                 .name(user.getName())
                 .department(user.getDepartment())
                 .verified(user.isVerified())
+                .role(user.getRole())
+                .providerType(user.getProviderType())
+                .providerId(user.getProviderId())
                 .build();
 
         User savedUser = userRepository.save(updatedUser);
@@ -195,7 +207,7 @@ public class UserService {
         log.info("학생증 OCR 인증 시작: 이메일={}, 파일명={}", email, studentIdCard.getOriginalFilename());
 
         // 이메일로 사용자 조회
-        User user = userRepository.findByEmail(email)
+        User user = userRepository.findUserByEmail(email)
                 .orElseThrow(() -> {
                     log.warn("학생증 인증 실패: 사용자를 찾을 수 없음 - {}", email);
                     return new CustomException(ResponseCode.USER_NOT_FOUND);
@@ -214,6 +226,9 @@ public class UserService {
                     .name(user.getName())
                     .department(user.getDepartment())
                     .verified(true) // 인증 상태로 변경
+                    .role(user.getRole())
+                    .providerType(user.getProviderType())
+                    .providerId(user.getProviderId())
                     .build();
 
             User savedUser = userRepository.save(verifiedUser);
@@ -233,7 +248,7 @@ public class UserService {
     public void deleteUser(String email) {
         log.info("회원 탈퇴 시작: 이메일={}", email);
 
-        User user = userRepository.findByEmail(email)
+        User user = userRepository.findUserByEmail(email)
                 .orElseThrow(() -> {
                     log.warn("회원 탈퇴 실패: 사용자를 찾을 수 없음 - {}", email);
                     return new CustomException(ResponseCode.USER_NOT_FOUND);
@@ -253,7 +268,7 @@ public class UserService {
     public UserResponseDto.UserInfo updateOAuthUserInfo(String email, String department) {
         log.info("OAuth 사용자 정보 업데이트: 이메일={}, 학과={}", email, department);
 
-        User user = userRepository.findByEmail(email)
+        User user = userRepository.findUserByEmail(email)
                 .orElseThrow(() -> {
                     log.warn("OAuth 사용자 정보 업데이트 실패: 사용자를 찾을 수 없음 - {}", email);
                     return new CustomException(ResponseCode.USER_NOT_FOUND);
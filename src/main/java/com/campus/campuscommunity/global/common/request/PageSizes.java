@@ -0,0 +1,23 @@
+package com.campus.campuscommunity.global.common.request;
+
+import com.campus.campuscommunity.global.common.response.ResponseCode;
+import com.campus.campuscommunity.global.config.exception.CustomException;
+
+/**
+ * 목록 API의 페이지 크기 검사
+ * 0 이하는 PageRequest가 예외를 던지고(500), 상한이 없으면 한 번에 테이블 전체를 읽을 수 있어 400으로 거절합니다.
+ */
+public final class PageSizes {
+
+    public static final int MAX = 100;
+
+    private PageSizes() {
+    }
+
+    public static int require(int size) {
+        if (size < 1 || size > MAX) {
+            throw new CustomException(ResponseCode.BAD_REQUEST, "페이지 크기는 1~" + MAX + " 사이여야 합니다.");
+        }
+        return size;
+    }
+}
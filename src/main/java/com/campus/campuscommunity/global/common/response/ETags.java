@@ -0,0 +1,53 @@
+package com.campus.campuscommunity.global.common.response;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.StringJoiner;
+
+/**
+ * ETag 생성 및 If-None-Match 비교
+ * 값은 리소스 버전을 이루는 값들을 이어 붙인 문자열의 MD5입니다 (조회자 이메일 등이 헤더에 그대로 드러나지 않음).
+ */
+public final class ETags {
+
+    private ETags() {
+    }
+
+    // 강한 ETag ("...")
+    public static String strong(Object... parts) {
+        StringJoiner joiner = new StringJoiner("|");
+        for (Object part : parts) {
+            joiner.add(String.valueOf(part));
+        }
+        return "\"" + DigestUtils.md5DigestAsHex(joiner.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    // 약한 ETag (W/"...", 의미상 같은 내용이지만 바이트 단위로 같지는 않은 응답)
+    public static String weak(Object... parts) {
+        return "W/" + strong(parts);
+    }
+
+    /**
+     * If-None-Match 헤더가 ETag와 일치하는지 확인 (GET 요청이므로 약한 비교)
+     * @param ifNoneMatch If-None-Match 헤더 값 (null 가능, 여러 값은 쉼표로 구분)
+     * @param etag 현재 ETag
+     */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || etag == null) {
+            return false;
+        }
+        String current = opaqueTag(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if ("*".equals(trimmed) || opaqueTag(trimmed).equals(current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String opaqueTag(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+}
@@ -0,0 +1,23 @@
+package com.campus.campuscommunity.global.common.response;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * fields 요청 파라미터로 응답 필드를 고를 수 있는 API 표시
+ *
+ * 예: GET /api/boards/feed?fields=title,likeCount
+ * - 목록 항목(게시글 요약, 댓글)에만 적용되며 id는 항상 포함됩니다. 페이지 정보 등 감싸는 객체는 그대로입니다.
+ * - 댓글의 대댓글이 필요하면 replies도 지정해야 합니다.
+ * 적용 대상 클래스는 JacksonConfig에, 처리는 FieldProjectionAdvice에 있습니다.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface FieldProjection {
+
+    String PARAMETER = "fields";
+}
@@ -15,6 +15,9 @@ public enum ResponseCode {
     UNAUTHORIZED(401, "인증이 필요합니다."),
     FORBIDDEN(403, "접근 권한이 없습니다."),
     NOT_FOUND(404, "요청한 리소스를 찾을 수 없습니다."),
+    REQUEST_IN_PROGRESS(409, "같은 요청을 처리 중입니다. 잠시 후 다시 시도해주세요."),
+    IDEMPOTENCY_KEY_REUSED(422, "같은 Idempotency-Key로 내용이 다른 요청을 보냈습니다. 새 키를 사용해주세요."),
+    TOO_MANY_REQUESTS(429, "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
 
     // 회원 관련 오류
     EMAIL_DUPLICATION(409, "이미 가입된 이메일입니다."),
@@ -23,7 +26,8 @@ public enum ResponseCode {
     DEPARTMENT_NOT_VERIFIED(403, "학과 인증이 필요합니다. 학생증 인증을 완료해주세요."),
 
     // 서버 오류 (500번대)
-    SERVER_ERROR(500, "서버 내부 오류가 발생했습니다.");
+    SERVER_ERROR(500, "서버 내부 오류가 발생했습니다."),
+    SERVICE_UNAVAILABLE(503, "일시적으로 요청을 처리할 수 없습니다.");
 
 
 
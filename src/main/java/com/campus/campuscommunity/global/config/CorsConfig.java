@@ -6,15 +6,19 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
 public class CorsConfig implements WebMvcConfigurer {
+
+    // 허용 출처 (WebSocket 핸드셰이크에서도 사용)
+    public static final String[] ALLOWED_ORIGINS = {
+            "http://localhost:8080",
+            "http://218.51.41.52.nip.io:9600",
+            "http://218.51.41.52:9600",
+            "http://localhost:3000"
+    };
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/**")
-                .allowedOrigins(
-                        "http://localhost:8080",
-                        "http://218.51.41.52.nip.io:9600",
-                        "http://218.51.41.52:9600",
-                        "http://localhost:3000"
-                )
+                .allowedOrigins(ALLOWED_ORIGINS)
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS", "PATCH")
                 .allowedHeaders("*")
                 .allowCredentials(true)
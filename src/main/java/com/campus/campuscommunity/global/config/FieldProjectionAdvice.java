@@ -0,0 +1,59 @@
+package com.campus.campuscommunity.global.config;
+
+import com.campus.campuscommunity.global.common.response.FieldProjection;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * {@link FieldProjection} API의 fields 파라미터 처리
+ * 컨트롤러 반환 타입은 그대로 두고, 직렬화 단계에서 목록 항목의 필드만 거릅니다.
+ */
+@RestControllerAdvice
+public class FieldProjectionAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    private static final int MAX_FIELDS = 32;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return super.supports(returnType, converterType) && returnType.hasMethodAnnotation(FieldProjection.class);
+    }
+
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType,
+                                           MethodParameter returnType, ServerHttpRequest request,
+                                           ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)) {
+            return;
+        }
+        HttpServletRequest httpRequest = servletRequest.getServletRequest();
+        String fields = httpRequest.getParameter(FieldProjection.PARAMETER);
+        if (fields == null || fields.isBlank()) {
+            return;
+        }
+
+        Set<String> names = new LinkedHashSet<>();
+        names.add("id");
+        Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .limit(MAX_FIELDS)
+                .forEach(names::add);
+        bodyContainer.setFilters(new SimpleFilterProvider()
+                .addFilter(JacksonConfig.PROJECTION_FILTER, SimpleBeanPropertyFilter.filterOutAllExcept(names))
+                .setFailOnUnknownId(false));
+    }
+}
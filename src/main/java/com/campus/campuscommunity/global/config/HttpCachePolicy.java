@@ -0,0 +1,43 @@
+package com.campus.campuscommunity.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * HTTP 응답 캐시 정책 (Cache-Control)
+ *
+ * - ETag 응답(게시글 상세, 댓글 목록): 조회자별 내용이므로 브라우저에만 저장하고 매번 If-None-Match로 재검증
+ * - 비로그인 피드: CDN/리버스 프록시가 공유 캐시로 저장 (max-age 동안 재사용, 만료 후에도 잠시 이전 응답으로 응답하며 갱신)
+ * - 로그인 피드: 브라우저에만 짧게 저장 (Authorization 헤더가 있는 응답은 공유 캐시에 두지 않음)
+ * 응답에 Cache-Control을 지정하면 Spring Security의 기본 no-store 헤더는 추가되지 않습니다.
+ */
+@Component
+public class HttpCachePolicy {
+
+    private final Duration feedMaxAge;
+    private final Duration feedStaleWhileRevalidate;
+
+    public HttpCachePolicy(@Value("${campus.http-cache.feed-max-age-seconds:10}") long feedMaxAgeSeconds,
+                           @Value("${campus.http-cache.feed-stale-while-revalidate-seconds:30}") long staleWhileRevalidateSeconds) {
+        this.feedMaxAge = Duration.ofSeconds(feedMaxAgeSeconds);
+        this.feedStaleWhileRevalidate = Duration.ofSeconds(staleWhileRevalidateSeconds);
+    }
+
+    // ETag로 재검증하는 조회자별 응답
+    public CacheControl revalidate() {
+        return CacheControl.noCache().cachePrivate();
+    }
+
+    // 게시글 피드 (anonymous: 로그인하지 않은 요청)
+    public CacheControl feed(boolean anonymous) {
+        if (!anonymous) {
+            return CacheControl.maxAge(feedMaxAge).cachePrivate();
+        }
+        return CacheControl.maxAge(feedMaxAge)
+                .cachePublic()
+                .staleWhileRevalidate(feedStaleWhileRevalidate);
+    }
+}
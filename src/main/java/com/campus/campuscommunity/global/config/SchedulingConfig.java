@@ -0,0 +1,21 @@
+package com.campus.campuscommunity.global.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration
+@EnableScheduling // @Scheduled 작업 활성화
+public class SchedulingConfig {
+
+    // @Scheduled 작업 전용 스케줄러 (WebSocket 브로커 스케줄러와 분리)
+    // outbox 전달이 짧은 간격으로 한 스레드를 쓰므로 카운트 반영 등이 밀리지 않도록 3개
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(3);
+        scheduler.setThreadNamePrefix("scheduling-");
+        return scheduler;
+    }
+}
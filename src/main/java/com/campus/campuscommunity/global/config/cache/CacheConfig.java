@@ -0,0 +1,127 @@
+package com.campus.campuscommunity.global.config.cache;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 애플리케이션 캐시 설정
+ *
+ * campus.cache.mode
+ * - local (기본값): Caffeine L1만 사용 (단일 인스턴스, 개발 환경)
+ * - two-level: Caffeine L1 + Redis L2, Redis pub/sub으로 노드 간 L1 무효화
+ */
+@Slf4j
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    /**
+     * 캐시 이름별 TTL/크기
+     * L1 TTL은 무효화 메시지를 놓친 경우 다른 노드에 오래된 값이 남는 최대 시간입니다.
+     */
+    public static Map<String, TwoLevelCacheManager.CacheSpec> cacheSpecs() {
+        Map<String, TwoLevelCacheManager.CacheSpec> specs = new LinkedHashMap<>();
+        specs.put(CacheNames.BOARD_DETAIL, new TwoLevelCacheManager.CacheSpec(Duration.ofSeconds(30), Duration.ofMinutes(5), 10_000));
+        specs.put(CacheNames.BOARD_LIST, new TwoLevelCacheManager.CacheSpec(Duration.ofSeconds(15), Duration.ofSeconds(30), 1_000));
+        specs.put(CacheNames.USER_BY_EMAIL, new TwoLevelCacheManager.CacheSpec(Duration.ofMinutes(10), Duration.ofMinutes(30), 10_000));
+        specs.put(CacheNames.COMMENT_LIST_VERSION, new TwoLevelCacheManager.CacheSpec(Duration.ofMinutes(10), Duration.ofHours(6), 100_000));
+        return specs;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "campus.cache.mode", havingValue = "local", matchIfMissing = true)
+    public CacheManager localCacheManager() {
+        log.info("애플리케이션 캐시: 로컬(Caffeine) 모드");
+        return new TwoLevelCacheManager(cacheSpecs(), null, null, "local");
+    }
+
+    // 계층별 적중률 메트릭 (/actuator/prometheus)
+    @Bean
+    public TwoLevelCacheMetrics twoLevelCacheMetrics(CacheManager cacheManager) {
+        return new TwoLevelCacheMetrics(cacheManager);
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = "campus.cache.mode", havingValue = "two-level")
+    static class TwoLevelCacheConfig {
+
+        @Bean
+        public CacheManager twoLevelCacheManager(RedisConnectionFactory connectionFactory,
+                                                 StringRedisTemplate stringRedisTemplate,
+                                                 @Value("${spring.application.name}") String applicationName) {
+            String nodeId = applicationName + "-" + UUID.randomUUID();
+            log.info("애플리케이션 캐시: 2단계(Caffeine + Redis) 모드, 노드={}", nodeId);
+            return new TwoLevelCacheManager(cacheSpecs(), cacheRedisTemplate(connectionFactory), stringRedisTemplate, nodeId);
+        }
+
+        @Bean
+        public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                                CacheManager cacheManager) {
+            return invalidationListenerContainer(connectionFactory, (TwoLevelCacheManager) cacheManager);
+        }
+    }
+
+    /**
+     * 다른 노드의 무효화 메시지를 받아 L1을 비우는 리스너 컨테이너
+     */
+    public static RedisMessageListenerContainer invalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                             TwoLevelCacheManager cacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> cacheManager.handleInvalidation(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(TwoLevelCacheManager.INVALIDATION_CHANNEL));
+        return container;
+    }
+
+    /**
+     * L2 저장용 RedisTemplate (값은 타입 정보를 포함한 JSON)
+     * DTO/엔티티에 setter가 없으므로 필드 기준으로 직렬화합니다.
+     */
+    public static RedisTemplate<String, Object> cacheRedisTemplate(RedisConnectionFactory connectionFactory) {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
+                .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        objectMapper.activateDefaultTyping(
+                BasicPolymorphicTypeValidator.builder()
+                        .allowIfSubType("com.campus.campuscommunity.")
+                        .allowIfSubType("java.")
+                        .build(),
+                ObjectMapper.DefaultTyping.NON_FINAL);
+
+        RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(StringRedisSerializer.UTF_8);
+        redisTemplate.setValueSerializer(new GenericJackson2JsonRedisSerializer(objectMapper));
+        redisTemplate.afterPropertiesSet();
+        return redisTemplate;
+    }
+}
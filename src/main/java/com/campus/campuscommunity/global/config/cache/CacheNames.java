@@ -0,0 +1,15 @@
+package com.campus.campuscommunity.global.config.cache;
+
+/**
+ * 애플리케이션 캐시 이름 정의
+ */
+public final class CacheNames {
+
+    public static final String BOARD_DETAIL = "boardDetail";   // 게시글 상세 (좋아요 상태 제외)
+    public static final String BOARD_LIST = "boardList";       // 게시글 목록 페이지
+    public static final String USER_BY_EMAIL = "userByEmail";  // 이메일 -> 사용자
+    public static final String COMMENT_LIST_VERSION = "commentListVersion"; // 게시글 ID -> 댓글 목록 버전 (ETag)
+
+    private CacheNames() {
+    }
+}
@@ -0,0 +1,76 @@
+package com.campus.campuscommunity.global.config.cache;
+
+import com.campus.campuscommunity.global.common.response.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Hibernate 2차 캐시 / 쿼리 캐시의 region 별 적중/실패 통계와
+ * 애플리케이션 캐시(L1 Caffeine / L2 Redis)의 계층별 통계를 조회하는 API
+ */
+@RestController
+@RequestMapping("/api/admin/cache")
+@RequiredArgsConstructor
+@Tag(name = "캐시 관리", description = "2차 캐시 통계 조회 API")
+public class CacheStatisticsController {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final CacheManager cacheManager;
+
+    /**
+     * region 별 캐시 통계 조회 API
+     * GET /api/admin/cache/stats
+     */
+    @Operation(summary = "캐시 통계 조회", description = "2차 캐시 region 별 hit/miss/put 횟수와 애플리케이션 캐시 계층별 hit/miss 횟수를 조회합니다.")
+    @GetMapping("/stats")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getCacheStatistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Map<String, Object> regions = new LinkedHashMap<>();
+        for (String regionName : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(regionName);
+            if (regionStatistics == null) {
+                continue;
+            }
+            Map<String, Object> regionInfo = new LinkedHashMap<>();
+            regionInfo.put("hitCount", regionStatistics.getHitCount());
+            regionInfo.put("missCount", regionStatistics.getMissCount());
+            regionInfo.put("putCount", regionStatistics.getPutCount());
+            regions.put(regionName, regionInfo);
+        }
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("statisticsEnabled", statistics.isStatisticsEnabled());
+        response.put("secondLevelCacheHitCount", statistics.getSecondLevelCacheHitCount());
+        response.put("secondLevelCacheMissCount", statistics.getSecondLevelCacheMissCount());
+        response.put("queryCacheHitCount", statistics.getQueryCacheHitCount());
+        response.put("queryCacheMissCount", statistics.getQueryCacheMissCount());
+        response.put("regions", regions);
+
+        Map<String, Object> applicationCaches = new LinkedHashMap<>();
+        for (String cacheName : cacheManager.getCacheNames()) {
+            if (cacheManager instanceof TwoLevelCacheManager twoLevelCacheManager) {
+                TwoLevelCache cache = twoLevelCacheManager.findTwoLevelCache(cacheName);
+                if (cache != null) {
+                    applicationCaches.put(cacheName, cache.getStatistics());
+                }
+            }
+        }
+        response.put("applicationCaches", applicationCaches);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+}
@@ -0,0 +1,253 @@
+package com.campus.campuscommunity.global.config.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+/**
+ * 로컬 Caffeine(L1) + 공유 Redis(L2) 2단계 캐시
+ *
+ * - 조회: L1 -> L2 -> (없으면 호출자가 DB 조회 후 put)
+ * - 변경: L1/L2에서 삭제 후 다른 노드에 pub/sub으로 무효화 메시지를 보내 각 노드의 L1도 비웁니다.
+ * - Redis를 사용하지 않는 모드(local)에서는 L1만 사용합니다.
+ * - Redis 장애 시에는 L1과 DB만으로 동작합니다.
+ */
+@Slf4j
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+    public static final String ALL_KEYS = "*";
+
+    private final String name;
+    private final Cache<String, Object> localCache;
+    private final RedisTemplate<String, Object> redisTemplate; // local 모드에서는 null
+    private final Duration ttl;
+    private final BiConsumer<String, String> invalidationPublisher; // (캐시 이름, 키)
+
+    // 계층별 적중/실패 횟수
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder localMisses = new LongAdder();
+    private final LongAdder remoteHits = new LongAdder();
+    private final LongAdder remoteMisses = new LongAdder();
+    private final LongAdder remoteErrors = new LongAdder();
+
+    public TwoLevelCache(String name, Cache<String, Object> localCache, RedisTemplate<String, Object> redisTemplate,
+                         Duration ttl, BiConsumer<String, String> invalidationPublisher) {
+        super(false);
+        this.name = name;
+        this.localCache = localCache;
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+        this.invalidationPublisher = invalidationPublisher;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return localCache;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String cacheKey = key.toString();
+
+        Object value = localCache.getIfPresent(cacheKey);
+        if (value != null) {
+            localHits.increment();
+            return value;
+        }
+        localMisses.increment();
+
+        if (redisTemplate == null) {
+            return null;
+        }
+
+        try {
+            value = redisTemplate.opsForValue().get(redisKey(cacheKey));
+        } catch (Exception e) {
+            remoteErrors.increment();
+            log.warn("Redis 캐시 조회 실패: cache={}, key={}, 오류={}", name, cacheKey, e.getMessage());
+            return null;
+        }
+
+        if (value != null) {
+            remoteHits.increment();
+            localCache.put(cacheKey, value);
+        } else {
+            remoteMisses.increment();
+        }
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object value = lookup(key);
+        if (value != null) {
+            return (T) fromStoreValue(value);
+        }
+
+        T loaded;
+        try {
+            loaded = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        if (loaded != null) {
+            put(key, loaded);
+        }
+        return loaded;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            return;
+        }
+        String cacheKey = key.toString();
+        localCache.put(cacheKey, value);
+
+        if (redisTemplate == null) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(redisKey(cacheKey), value, ttl);
+        } catch (Exception e) {
+            remoteErrors.increment();
+            log.warn("Redis 캐시 저장 실패: cache={}, key={}, 오류={}", name, cacheKey, e.getMessage());
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        String cacheKey = key.toString();
+        localCache.invalidate(cacheKey);
+
+        if (redisTemplate == null) {
+            return;
+        }
+        try {
+            redisTemplate.delete(redisKey(cacheKey));
+            invalidationPublisher.accept(name, cacheKey);
+        } catch (Exception e) {
+            remoteErrors.increment();
+            log.warn("Redis 캐시 삭제 실패: cache={}, key={}, 오류={}", name, cacheKey, e.getMessage());
+        }
+    }
+
+    @Override
+    public void clear() {
+        localCache.invalidateAll();
+
+        if (redisTemplate == null) {
+            return;
+        }
+        try {
+            deleteRemoteKeys();
+            invalidationPublisher.accept(name, ALL_KEYS);
+        } catch (Exception e) {
+            remoteErrors.increment();
+            log.warn("Redis 캐시 전체 삭제 실패: cache={}, 오류={}", name, e.getMessage());
+        }
+    }
+
+    // 다른 노드에서 받은 무효화 메시지 처리 (L1만 비움)
+    void evictLocal(String key) {
+        if (ALL_KEYS.equals(key)) {
+            localCache.invalidateAll();
+        } else {
+            localCache.invalidate(key);
+        }
+    }
+
+    // 캐시 계층별 통계
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("localHits", localHits.sum());
+        statistics.put("localMisses", localMisses.sum());
+        statistics.put("localSize", localCache.estimatedSize());
+        statistics.put("remoteEnabled", redisTemplate != null);
+        statistics.put("remoteHits", remoteHits.sum());
+        statistics.put("remoteMisses", remoteMisses.sum());
+        statistics.put("remoteErrors", remoteErrors.sum());
+        return statistics;
+    }
+
+    public long getLocalHits() {
+        return localHits.sum();
+    }
+
+    public long getLocalMisses() {
+        return localMisses.sum();
+    }
+
+    public long getRemoteHits() {
+        return remoteHits.sum();
+    }
+
+    public long getRemoteMisses() {
+        return remoteMisses.sum();
+    }
+
+    public long getRemoteErrors() {
+        return remoteErrors.sum();
+    }
+
+    public long getLocalSize() {
+        return localCache.estimatedSize();
+    }
+
+    private String redisKey(String key) {
+        return keyPrefix() + key;
+    }
+
+    private String keyPrefix() {
+        return "campus:cache:" + name + ":";
+    }
+
+    // KEYS 대신 SCAN으로 해당 캐시의 키만 삭제
+    private void deleteRemoteKeys() {
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            ScanOptions options = ScanOptions.scanOptions().match(keyPrefix() + "*").count(500).build();
+            List<byte[]> keys = new ArrayList<>();
+            try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+                while (cursor.hasNext()) {
+                    keys.add(cursor.next());
+                    if (keys.size() == 500) {
+                        delete(connection, keys);
+                    }
+                }
+            }
+            delete(connection, keys);
+            return null;
+        });
+    }
+
+    private void delete(RedisConnection connection, List<byte[]> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        connection.keyCommands().del(keys.toArray(new byte[0][]));
+        log.debug("Redis 캐시 키 삭제: cache={}, {}건 (예: {})", name, keys.size(),
+                new String(keys.get(0), StandardCharsets.UTF_8));
+        keys.clear();
+    }
+}
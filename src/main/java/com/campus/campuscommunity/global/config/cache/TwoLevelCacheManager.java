@@ -0,0 +1,106 @@
+package com.campus.campuscommunity.global.config.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link TwoLevelCache}를 만드는 CacheManager
+ *
+ * - 캐시 이름별 TTL/최대 크기는 {@link CacheSpec}으로 지정합니다.
+ * - 트랜잭션 안에서의 put/evict는 커밋 이후에 반영되어, 롤백된 데이터가 캐시에 남지 않습니다.
+ * - redisTemplate이 null이면 L1(Caffeine)만 사용합니다.
+ */
+@Slf4j
+public class TwoLevelCacheManager extends AbstractTransactionSupportingCacheManager {
+
+    public static final String INVALIDATION_CHANNEL = "campus:cache:invalidation";
+
+    private final Map<String, CacheSpec> specs;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final String nodeId;
+
+    public TwoLevelCacheManager(Map<String, CacheSpec> specs, RedisTemplate<String, Object> redisTemplate,
+                                StringRedisTemplate stringRedisTemplate, String nodeId) {
+        this.specs = specs;
+        this.redisTemplate = redisTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.nodeId = nodeId;
+        setTransactionAware(true);
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        List<Cache> caches = new ArrayList<>();
+        specs.forEach((name, spec) -> caches.add(createCache(name, spec)));
+        return caches;
+    }
+
+    private TwoLevelCache createCache(String name, CacheSpec spec) {
+        com.github.benmanes.caffeine.cache.Cache<String, Object> localCache = Caffeine.newBuilder()
+                .maximumSize(spec.maximumSize())
+                .expireAfterWrite(spec.localTtl())
+                .build();
+        return new TwoLevelCache(name, localCache, redisTemplate, spec.remoteTtl(), this::publishInvalidation);
+    }
+
+    /**
+     * 다른 노드에 L1 무효화 메시지 발행
+     * 형식: "노드ID|캐시 이름|키"
+     */
+    private void publishInvalidation(String cacheName, String key) {
+        stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, nodeId + "|" + cacheName + "|" + key);
+    }
+
+    /**
+     * 무효화 메시지 수신 처리 (자신이 보낸 메시지는 무시)
+     */
+    public void handleInvalidation(String message) {
+        String[] parts = message.split("\\|", 3);
+        if (parts.length != 3) {
+            log.warn("잘못된 캐시 무효화 메시지: {}", message);
+            return;
+        }
+        if (nodeId.equals(parts[0])) {
+            return;
+        }
+        TwoLevelCache cache = findTwoLevelCache(parts[1]);
+        if (cache != null) {
+            cache.evictLocal(parts[2]);
+        }
+    }
+
+    // 트랜잭션 데코레이터를 벗긴 원본 캐시 조회
+    public TwoLevelCache findTwoLevelCache(String name) {
+        Cache cache = lookupCache(name);
+        if (cache instanceof TransactionAwareCacheDecorator decorator) {
+            cache = decorator.getTargetCache();
+        }
+        return cache instanceof TwoLevelCache twoLevelCache ? twoLevelCache : null;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 캐시별 설정
+     *
+     * @param localTtl    L1 만료 시간 (다른 노드의 무효화 메시지를 놓쳤을 때의 최대 지연)
+     * @param remoteTtl   L2 만료 시간
+     * @param maximumSize L1 최대 항목 수
+     */
+    public record CacheSpec(Duration localTtl, Duration remoteTtl, long maximumSize) {
+    }
+}
@@ -0,0 +1,58 @@
+package com.campus.campuscommunity.global.config.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 애플리케이션 캐시 메트릭
+ *
+ * 계층별(local/remote) 적중/실패 횟수를 cache.gets로 등록합니다.
+ * (TwoLevelCache는 Spring Boot가 자동으로 메트릭을 등록하는 캐시 종류가 아니므로 직접 등록)
+ */
+@RequiredArgsConstructor
+public class TwoLevelCacheMetrics implements MeterBinder {
+
+    private final CacheManager cacheManager;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (!(cacheManager instanceof TwoLevelCacheManager twoLevelCacheManager)) {
+            return;
+        }
+        for (String cacheName : cacheManager.getCacheNames()) {
+            TwoLevelCache cache = twoLevelCacheManager.findTwoLevelCache(cacheName);
+            if (cache == null) {
+                continue;
+            }
+            registerGets(registry, cache, "local", "hit", TwoLevelCache::getLocalHits);
+            registerGets(registry, cache, "local", "miss", TwoLevelCache::getLocalMisses);
+            registerGets(registry, cache, "remote", "hit", TwoLevelCache::getRemoteHits);
+            registerGets(registry, cache, "remote", "miss", TwoLevelCache::getRemoteMisses);
+            FunctionCounter.builder("cache.remote.errors", cache, TwoLevelCache::getRemoteErrors)
+                    .description("L2(Redis) 접근 실패 횟수")
+                    .tag("cache", cacheName)
+                    .register(registry);
+            Gauge.builder("cache.size", cache, TwoLevelCache::getLocalSize)
+                    .description("L1 캐시 항목 수 (추정치)")
+                    .tag("cache", cacheName)
+                    .tag("tier", "local")
+                    .register(registry);
+        }
+    }
+
+    private void registerGets(MeterRegistry registry, TwoLevelCache cache, String tier, String result,
+                              ToDoubleFunction<TwoLevelCache> count) {
+        FunctionCounter.builder("cache.gets", cache, count)
+                .description("캐시 계층별 조회 결과 횟수")
+                .tag("cache", cache.getName())
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(registry);
+    }
+}
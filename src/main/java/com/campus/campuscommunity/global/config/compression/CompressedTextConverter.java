@@ -0,0 +1,33 @@
+package com.campus.campuscommunity.global.config.compression;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import org.springframework.beans.factory.annotation.Value;
+
+/**
+ * 긴 본문 압축 저장 컨버터 (댓글 내용)
+ *
+ * 형식은 {@link TextCompressor} 참고. 컬럼 타입(TEXT)은 그대로이므로 기존 데이터는 이전 없이 읽을 수 있습니다.
+ * Hibernate가 Spring 빈 컨테이너로 생성하므로 설정값을 주입받습니다.
+ *
+ * 압축된 값은 LIKE로 찾을 수 없으므로 검색 조건에 쓰는 컬럼(게시글 본문 등)에는 붙이지 않습니다.
+ */
+@Converter
+public class CompressedTextConverter implements AttributeConverter<String, String> {
+
+    private final TextCompressor compressor;
+
+    public CompressedTextConverter(@Value("${campus.compression.text-threshold-bytes:4096}") int thresholdBytes) {
+        this.compressor = new TextCompressor(thresholdBytes);
+    }
+
+    @Override
+    public String convertToDatabaseColumn(String attribute) {
+        return compressor.compress(attribute);
+    }
+
+    @Override
+    public String convertToEntityAttribute(String dbData) {
+        return TextCompressor.decompress(dbData);
+    }
+}
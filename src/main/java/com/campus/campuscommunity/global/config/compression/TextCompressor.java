@@ -0,0 +1,77 @@
+package com.campus.campuscommunity.global.config.compression;
+
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 긴 본문 압축/해제 (LZ4)
+ *
+ * 저장 형식 (TEXT 컬럼에 그대로 저장되도록 문자열로 표현):
+ * - 압축하지 않은 본문: 원문 그대로
+ * - 압축한 본문: MARKER + 알고리즘(1자) + 원문 UTF-8 바이트 수 + ':' + Base64(압축 데이터)
+ *   예: "\u0001L5120:BAAAAP..."
+ *
+ * - 원문이 threshold 바이트 미만이거나 압축해도 작아지지 않으면 원문 그대로 둡니다.
+ * - 원문이 MARKER로 시작하면 크기와 관계없이 압축 형식으로 저장해 읽을 때 구분되게 합니다.
+ * - 압축 형식이 아닌 값(이전에 저장된 본문 포함)은 그대로 읽습니다.
+ * 압축은 한 번(작성/수정 시), 해제는 조회마다 일어나므로 압축률이 높은 LZ4 HC로 압축하고 빠른 해제기를 사용합니다.
+ */
+public final class TextCompressor {
+
+    public static final char MARKER = '\u0001';
+    public static final char LZ4 = 'L';
+
+    private static final LZ4Compressor COMPRESSOR = LZ4Factory.fastestInstance().highCompressor();
+    private static final LZ4FastDecompressor DECOMPRESSOR = LZ4Factory.fastestInstance().fastDecompressor();
+
+    private final int thresholdBytes;
+
+    /**
+     * @param thresholdBytes 이 크기(UTF-8 바이트) 이상인 본문만 압축
+     */
+    public TextCompressor(int thresholdBytes) {
+        this.thresholdBytes = thresholdBytes;
+    }
+
+    // 저장할 값으로 변환
+    public String compress(String text) {
+        if (text == null || text.isEmpty()) {
+            return text;
+        }
+        boolean startsWithMarker = text.charAt(0) == MARKER;
+        byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+        if (utf8.length < thresholdBytes && !startsWithMarker) {
+            return text;
+        }
+
+        byte[] compressed = COMPRESSOR.compress(utf8);
+        String stored = MARKER + String.valueOf(LZ4) + utf8.length + ':' + Base64.getEncoder().encodeToString(compressed);
+        // 압축 형식은 ASCII이므로 문자 수 = 저장 바이트 수
+        if (stored.length() >= utf8.length && !startsWithMarker) {
+            return text;
+        }
+        return stored;
+    }
+
+    // 저장된 값을 원문으로 변환
+    public static String decompress(String stored) {
+        if (!isCompressed(stored)) {
+            return stored;
+        }
+        if (stored.charAt(1) != LZ4) {
+            throw new IllegalStateException("지원하지 않는 압축 형식: " + stored.charAt(1));
+        }
+        int separator = stored.indexOf(':', 2);
+        int originalLength = Integer.parseInt(stored, 2, separator, 10);
+        byte[] compressed = Base64.getDecoder().decode(stored.substring(separator + 1));
+        return new String(DECOMPRESSOR.decompress(compressed, originalLength), StandardCharsets.UTF_8);
+    }
+
+    public static boolean isCompressed(String stored) {
+        return stored != null && stored.length() > 1 && stored.charAt(0) == MARKER;
+    }
+}
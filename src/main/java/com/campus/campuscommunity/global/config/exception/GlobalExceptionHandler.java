@@ -2,7 +2,9 @@ package com.campus.campuscommunity.global.config.exception;
 
 import com.campus.campuscommunity.global.common.response.ErrorResponse;
 import com.campus.campuscommunity.global.common.response.ResponseCode;
+import com.campus.campuscommunity.global.config.logging.LogMarkers;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -26,6 +28,16 @@ public class GlobalExceptionHandler {
                 .body(ErrorResponse.of(e.getResponseCode()));
     }
 
+    // 요청 제한 초과 (요청마다 남으므로 HOT_PATH 로그)
+    @ExceptionHandler(RateLimitExceededException.class)
+    protected ResponseEntity<ErrorResponse> handleRateLimitExceededException(RateLimitExceededException e) {
+        log.warn(LogMarkers.HOT_PATH, "RateLimitExceededException: {}", e.getMessage());
+        return ResponseEntity
+                .status(e.getResponseCode().getStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(ErrorResponse.of(e.getResponseCode()));
+    }
+
     // 유효성 검사 예외 처리
     @ExceptionHandler(MethodArgumentNotValidException.class)
     protected ResponseEntity<ErrorResponse> handleMethodArgumentNotValidException(MethodArgumentNotValidException e) {
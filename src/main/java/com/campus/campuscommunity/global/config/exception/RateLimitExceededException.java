@@ -0,0 +1,25 @@
+package com.campus.campuscommunity.global.config.exception;
+
+import com.campus.campuscommunity.global.common.response.ResponseCode;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * 요청 제한 초과 (429, Retry-After 헤더로 다시 시도할 수 있을 때까지의 초를 알림)
+ */
+@Getter
+public class RateLimitExceededException extends CustomException {
+
+    private final Duration retryAfter;
+
+    public RateLimitExceededException(Duration retryAfter) {
+        super(ResponseCode.TOO_MANY_REQUESTS);
+        this.retryAfter = retryAfter;
+    }
+
+    // Retry-After 헤더 값 (초 단위 올림, 최소 1초)
+    public long getRetryAfterSeconds() {
+        return Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+    }
+}
@@ -0,0 +1,18 @@
+package com.campus.campuscommunity.global.config.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 엔티티 ID를 {@link SnowflakeIdGenerator}로 애플리케이션에서 생성합니다.
+ * insert 전에 ID가 정해지므로 JDBC 배치 insert가 가능하고 AUTO_INCREMENT 락을 사용하지 않습니다.
+ */
+@IdGeneratorType(SnowflakeIdentifierGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface SnowflakeId {
+}
@@ -0,0 +1,93 @@
+package com.campus.campuscommunity.global.config.id;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시간 순으로 증가하는 Snowflake 방식 ID 생성기
+ *
+ * ID 구성 (총 53비트, JavaScript Number로도 정밀도 손실 없이 표현 가능):
+ * [타임스탬프 41비트 (EPOCH 이후 ms)][노드 ID 5비트][시퀀스 7비트]
+ *
+ * - 락 없이 CAS로만 상태를 갱신합니다.
+ * - 같은 ms 안에서 시퀀스를 모두 쓰면 다음 ms의 값을 미리 사용하므로 ID는 항상 단조 증가합니다.
+ * - 시계가 뒤로 가더라도 마지막으로 발급한 값 이후부터 발급하므로 중복되지 않습니다.
+ * - ID가 생성 시각 순서이므로 "id < cursor ORDER BY id DESC" 형태의 키셋 페이지네이션 커서로 사용할 수 있습니다.
+ */
+public class SnowflakeIdGenerator {
+
+    // 기준 시각 (2025-01-01T00:00:00Z)
+    public static final long EPOCH_MILLIS = 1735689600000L;
+
+    public static final int NODE_ID_BITS = 5;
+    public static final int SEQUENCE_BITS = 7;
+    public static final long MAX_NODE_ID = (1L << NODE_ID_BITS) - 1;
+
+    // 노드 간 시계 차이 허용치 (다른 노드에서 나중에 만든 행의 ID가 조금 작을 수 있음)
+    private static final Duration CLOCK_SKEW = Duration.ofHours(1);
+
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final int TIMESTAMP_SHIFT = NODE_ID_BITS + SEQUENCE_BITS;
+
+    // 노드 ID별 공유 인스턴스 (엔티티마다 생성기가 따로 만들어져도 같은 상태를 사용)
+    private static final Map<Long, SnowflakeIdGenerator> INSTANCES = new ConcurrentHashMap<>();
+
+    private final long nodeId;
+
+    // (EPOCH 이후 ms << SEQUENCE_BITS) | 시퀀스
+    private final AtomicLong lastState = new AtomicLong();
+
+    public SnowflakeIdGenerator(long nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 ID는 0 이상 " + MAX_NODE_ID + " 이하여야 합니다: " + nodeId);
+        }
+        this.nodeId = nodeId;
+    }
+
+    public static SnowflakeIdGenerator forNode(long nodeId) {
+        return INSTANCES.computeIfAbsent(nodeId, SnowflakeIdGenerator::new);
+    }
+
+    // 다음 ID 발급
+    public long nextId() {
+        long now = (System.currentTimeMillis() - EPOCH_MILLIS) << SEQUENCE_BITS;
+        while (true) {
+            long last = lastState.get();
+            long next = Math.max(now, last + 1);
+            if (lastState.compareAndSet(last, next)) {
+                long timestamp = next >>> SEQUENCE_BITS;
+                long sequence = next & SEQUENCE_MASK;
+                return (timestamp << TIMESTAMP_SHIFT) | (nodeId << SEQUENCE_BITS) | sequence;
+            }
+        }
+    }
+
+    public long getNodeId() {
+        return nodeId;
+    }
+
+    // ID에서 생성 시각 추출
+    public static Instant extractInstant(long id) {
+        return Instant.ofEpochMilli((id >>> TIMESTAMP_SHIFT) + EPOCH_MILLIS);
+    }
+
+    // 해당 시각 이후에 발급된 ID의 하한값 (시간 범위 조회 / 키셋 커서 변환용)
+    public static long minIdAt(Instant instant) {
+        long timestamp = Math.max(0, instant.toEpochMilli() - EPOCH_MILLIS);
+        return timestamp << TIMESTAMP_SHIFT;
+    }
+
+    // 이 ID보다 나중에 만든 행(댓글, 대댓글 등)의 ID 하한 (파티션 프루닝용 조건)
+    // IDENTITY 시절의 작은 ID는 하한 0
+    public static long minIdAfter(long id) {
+        return minIdAt(extractInstant(id).minus(CLOCK_SKEW));
+    }
+
+    // 해당 시각 이전에 만든 행의 ID 상한 (미포함, 파티션 프루닝용 조건)
+    public static long maxIdBefore(Instant instant) {
+        return minIdAt(instant.plus(CLOCK_SKEW));
+    }
+}
@@ -0,0 +1,51 @@
+package com.campus.campuscommunity.global.config.id;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+import java.lang.reflect.Member;
+import java.util.Map;
+
+/**
+ * {@link SnowflakeId}가 붙은 ID 필드에 사용되는 Hibernate ID 생성기
+ * 노드 ID는 spring.jpa.properties.campus.snowflake.node-id 설정값을 사용합니다.
+ *
+ * 노드 ID가 겹치는 두 인스턴스는 같은 ms에 같은 ID를 만들 수 있으므로 추측하지 않습니다.
+ * campus.snowflake.require-node-id=true(운영)이면 노드 ID 없이 시작하지 않고, 아니면(로컬/테스트 단일 인스턴스) 0을 씁니다.
+ */
+@Slf4j
+public class SnowflakeIdentifierGenerator implements IdentifierGenerator {
+
+    public static final String NODE_ID_SETTING = "campus.snowflake.node-id";
+    public static final String REQUIRE_NODE_ID_SETTING = "campus.snowflake.require-node-id";
+
+    private final SnowflakeIdGenerator generator;
+
+    public SnowflakeIdentifierGenerator(SnowflakeId config, Member idMember, CustomIdGeneratorCreationContext context) {
+        Map<String, Object> settings = context.getServiceRegistry()
+                .getService(ConfigurationService.class)
+                .getSettings();
+        Object configured = settings.get(NODE_ID_SETTING);
+
+        long nodeId;
+        if (configured == null || configured.toString().isBlank()) {
+            if (Boolean.parseBoolean(String.valueOf(settings.get(REQUIRE_NODE_ID_SETTING)))) {
+                throw new IllegalStateException("Snowflake 노드 ID가 설정되지 않았습니다. 인스턴스마다 다른 NODE_ID(0~"
+                        + SnowflakeIdGenerator.MAX_NODE_ID + ")를 지정하세요.");
+            }
+            nodeId = 0;
+            log.warn("Snowflake 노드 ID가 설정되지 않아 0을 사용합니다 (인스턴스가 여러 개면 NODE_ID를 지정해야 함)");
+        } else {
+            nodeId = Long.parseLong(configured.toString().trim());
+        }
+        this.generator = SnowflakeIdGenerator.forNode(nodeId);
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return generator.nextId();
+    }
+}
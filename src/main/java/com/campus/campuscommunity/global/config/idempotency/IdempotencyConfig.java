@@ -0,0 +1,59 @@
+package com.campus.campuscommunity.global.config.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+
+/**
+ * Idempotency-Key 설정 (게시글/댓글 작성, 좋아요 재시도 중복 방지)
+ *
+ * campus.idempotency.store
+ * - local (기본값): 인스턴스 내 저장 (재시도가 같은 인스턴스로 와야 함)
+ * - redis: Redis에 저장, 모든 인스턴스가 공유
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "campus.idempotency.enabled", havingValue = "true", matchIfMissing = true)
+public class IdempotencyConfig implements WebMvcConfigurer {
+
+    private final IdempotencyStore store;
+
+    public IdempotencyConfig(@Value("${campus.idempotency.store:local}") String store,
+                             @Value("${campus.idempotency.ttl-minutes:60}") long ttlMinutes,
+                             @Value("${campus.idempotency.lock-seconds:30}") long lockSeconds,
+                             @Value("${campus.idempotency.max-bytes:33554432}") long maxBytes,
+                             ObjectProvider<StringRedisTemplate> redisTemplate,
+                             ObjectMapper objectMapper) {
+        Duration ttl = Duration.ofMinutes(ttlMinutes);
+        this.store = "redis".equals(store)
+                ? new RedisIdempotencyStore(redisTemplate.getObject(), objectMapper, ttl, Duration.ofSeconds(lockSeconds))
+                : new LocalIdempotencyStore(ttl, maxBytes);
+        log.info("Idempotency-Key: {} 모드, 응답 보관 {}분", store, ttlMinutes);
+    }
+
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter() {
+        FilterRegistrationBean<IdempotencyFilter> registration = new FilterRegistrationBean<>(new IdempotencyFilter(store));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // 재시도 응답은 요청 제한 토큰을 쓰지 않도록 요청 제한보다 먼저 실행
+        registry.addInterceptor(new IdempotencyInterceptor(store))
+                .addPathPatterns("/api/**")
+                .order(Ordered.HIGHEST_PRECEDENCE);
+    }
+}
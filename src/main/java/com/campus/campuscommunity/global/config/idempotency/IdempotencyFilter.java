@@ -0,0 +1,97 @@
+package com.campus.campuscommunity.global.config.idempotency;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Idempotency-Key 요청의 응답 저장
+ *
+ * 헤더가 있는 요청만 응답을 버퍼에 담아 두었다가, IdempotencyInterceptor가 선점한 키가 있으면 응답을 저장합니다.
+ * 요청 본문도 미리 읽어 쿼리 문자열 + 본문의 SHA-256을 요청 지문으로 남깁니다 (인터셉터가 키와 함께 저장해 같은 키의 다른 요청을 거부).
+ * multipart/폼 요청은 본문을 먼저 읽으면 파트/파라미터를 읽을 수 없으므로 쿼리 문자열만 지문에 넣습니다.
+ * 5xx, 429(요청 제한)처럼 다시 보내면 결과가 달라질 수 있는 응답과 예외로 끝난 요청은 저장하지 않고 선점을 풉니다.
+ */
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    private final IdempotencyStore store;
+
+    public IdempotencyFilter(IdempotencyStore store) {
+        this.store = store;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getHeader(IdempotencyInterceptor.HEADER) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        HttpServletRequest requestToUse = request;
+        byte[] body = new byte[0];
+        if (!isFormOrMultipart(request)) {
+            CachedBodyRequest cached = new CachedBodyRequest(request);
+            requestToUse = cached;
+            body = cached.getBody();
+        }
+        String fingerprint = fingerprint(request.getQueryString(), body);
+        request.setAttribute(IdempotencyInterceptor.FINGERPRINT_ATTRIBUTE, fingerprint);
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        boolean completed = false;
+        try {
+            filterChain.doFilter(requestToUse, wrapper);
+            completed = true;
+        } finally {
+            String key = (String) request.getAttribute(IdempotencyInterceptor.KEY_ATTRIBUTE);
+            if (key != null) {
+                if (completed && isReplayable(wrapper.getStatus())) {
+                    store.complete(key, fingerprint, new StoredResponse(wrapper.getStatus(), wrapper.getContentType(), wrapper.getContentAsByteArray()));
+                } else {
+                    store.release(key);
+                }
+            }
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private boolean isReplayable(int status) {
+        return status < 500 && status != HttpStatus.TOO_MANY_REQUESTS.value();
+    }
+
+    private boolean isFormOrMultipart(HttpServletRequest request) {
+        String contentType = request.getContentType();
+        if (contentType == null) {
+            return false;
+        }
+        String lower = contentType.toLowerCase();
+        return lower.startsWith(MediaType.MULTIPART_FORM_DATA_VALUE) || lower.startsWith(MediaType.APPLICATION_FORM_URLENCODED_VALUE);
+    }
+
+    // SHA-256(쿼리 문자열 + 줄바꿈 + 본문)
+    static String fingerprint(String queryString, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            if (queryString != null) {
+                digest.update(queryString.getBytes(StandardCharsets.UTF_8));
+            }
+            digest.update((byte) '\n');
+            digest.update(body);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
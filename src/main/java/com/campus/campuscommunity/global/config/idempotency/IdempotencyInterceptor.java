@@ -0,0 +1,83 @@
+package com.campus.campuscommunity.global.config.idempotency;
+
+import com.campus.campuscommunity.global.common.response.ResponseCode;
+import com.campus.campuscommunity.global.config.exception.CustomException;
+import com.campus.campuscommunity.global.config.logging.LogMarkers;
+import com.campus.campuscommunity.global.config.security.RequestUserKey;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.io.IOException;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * {@link Idempotent} 컨트롤러 메서드의 Idempotency-Key 처리
+ *
+ * 키는 사용자(RequestUserKey) + 메서드 + 경로 + 헤더 값이므로 다른 사용자/엔드포인트의 같은 헤더 값과 섞이지 않습니다.
+ * 키와 함께 IdempotencyFilter가 만든 요청 지문(쿼리 + 본문 해시)을 저장합니다.
+ * - 처음 보는 키: 선점 후 처리 (응답은 IdempotencyFilter가 저장)
+ * - 처리가 끝난 키: 컨트롤러를 실행하지 않고 저장된 응답을 그대로 보냄 (Idempotent-Replayed: true)
+ * - 처리 중인 키: 409
+ * - 쿼리나 본문이 다른 요청이 같은 키를 사용: 422 (다른 요청에 처음 응답을 돌려주지 않음)
+ * 헤더가 없으면 멱등 처리 없이 그대로 처리합니다.
+ */
+@Slf4j
+public class IdempotencyInterceptor implements HandlerInterceptor {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    static final String KEY_ATTRIBUTE = IdempotencyInterceptor.class.getName() + ".key";
+    static final String FINGERPRINT_ATTRIBUTE = IdempotencyInterceptor.class.getName() + ".fingerprint";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyStore store;
+
+    public IdempotencyInterceptor(IdempotencyStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws IOException {
+        if (!(handler instanceof HandlerMethod handlerMethod) || !handlerMethod.hasMethodAnnotation(Idempotent.class)) {
+            return true;
+        }
+        String idempotencyKey = request.getHeader(HEADER);
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return true;
+        }
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new CustomException(ResponseCode.BAD_REQUEST, HEADER + " 헤더는 " + MAX_KEY_LENGTH + "자 이하여야 합니다.");
+        }
+
+        String key = RequestUserKey.of(request) + " " + request.getMethod() + " " + request.getRequestURI() + " " + idempotencyKey;
+        String fingerprint = (String) request.getAttribute(FINGERPRINT_ATTRIBUTE);
+        IdempotencyStore.Reservation reservation = store.reserve(key, fingerprint != null ? fingerprint : "");
+        switch (reservation.state()) {
+            case RESERVED -> {
+                request.setAttribute(KEY_ATTRIBUTE, key);
+                return true;
+            }
+            case IN_PROGRESS -> throw new CustomException(ResponseCode.REQUEST_IN_PROGRESS);
+            case MISMATCH -> throw new CustomException(ResponseCode.IDEMPOTENCY_KEY_REUSED);
+            default -> {
+                log.info(LogMarkers.HOT_PATH, "멱등 키 재시도 응답: {}, {}", kv("uri", request.getRequestURI()), kv("key", idempotencyKey));
+                replay(response, reservation.response());
+                return false;
+            }
+        }
+    }
+
+    private void replay(HttpServletResponse response, StoredResponse stored) throws IOException {
+        response.setStatus(stored.status());
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.getOutputStream().write(stored.body());
+    }
+}
@@ -0,0 +1,36 @@
+package com.campus.campuscommunity.global.config.idempotency;
+
+/**
+ * 멱등 키별 처음 응답 저장소
+ *
+ * 키마다 처음 요청의 지문(쿼리 + 본문 해시)을 함께 저장해, 같은 키로 내용이 다른 요청이 오면 MISMATCH를 돌려줍니다.
+ */
+public interface IdempotencyStore {
+
+    /**
+     * 키 선점 (처리 중으로 표시)
+     * @param fingerprint 요청 지문 (같은 키의 다음 요청과 비교)
+     * @return RESERVED면 이 요청이 처리, IN_PROGRESS면 다른 요청이 처리 중, COMPLETED면 저장된 응답 있음,
+     *         MISMATCH면 같은 키를 내용이 다른 요청이 이미 사용함
+     */
+    Reservation reserve(String key, String fingerprint);
+
+    // 처리 결과 저장 (TTL 동안 재시도에 그대로 응답)
+    void complete(String key, String fingerprint, StoredResponse response);
+
+    // 선점 해제 (저장하지 않을 응답, 다음 재시도가 다시 처리)
+    void release(String key);
+
+    record Reservation(State state, StoredResponse response) {
+
+        public enum State { RESERVED, IN_PROGRESS, COMPLETED, MISMATCH }
+
+        public static final Reservation RESERVED = new Reservation(State.RESERVED, null);
+        public static final Reservation IN_PROGRESS = new Reservation(State.IN_PROGRESS, null);
+        public static final Reservation MISMATCH = new Reservation(State.MISMATCH, null);
+
+        public static Reservation completed(StoredResponse response) {
+            return new Reservation(State.COMPLETED, response);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.campus.campuscommunity.global.config.idempotency;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Idempotency-Key 헤더를 지원할 컨트롤러 메서드 표시
+ * 같은 사용자가 같은 키로 다시 보낸 요청은 처리하지 않고 처음 응답을 그대로 돌려줍니다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Idempotent {
+}
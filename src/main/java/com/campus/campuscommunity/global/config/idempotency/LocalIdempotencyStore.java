@@ -0,0 +1,51 @@
+package com.campus.campuscommunity.global.config.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+
+/**
+ * 인스턴스 내 멱등 키 저장소 (Caffeine)
+ *
+ * 키와 응답 본문 크기의 합이 maxBytes를 넘지 않도록 오래된 항목부터 버리고, ttl이 지나면 만료됩니다.
+ */
+public class LocalIdempotencyStore implements IdempotencyStore {
+
+    private final Cache<String, Entry> entries;
+
+    public LocalIdempotencyStore(Duration ttl, long maxBytes) {
+        this.entries = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String key, Entry entry) -> key.length() + entry.fingerprint().length()
+                        + (entry.response() != null ? entry.response().body().length : 0))
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    @Override
+    public Reservation reserve(String key, String fingerprint) {
+        Entry existing = entries.asMap().putIfAbsent(key, new Entry(fingerprint, null));
+        if (existing == null) {
+            return Reservation.RESERVED;
+        }
+        if (!existing.fingerprint().equals(fingerprint)) {
+            return Reservation.MISMATCH;
+        }
+        return existing.response() != null ? Reservation.completed(existing.response()) : Reservation.IN_PROGRESS;
+    }
+
+    @Override
+    public void complete(String key, String fingerprint, StoredResponse response) {
+        entries.put(key, new Entry(fingerprint, response));
+    }
+
+    @Override
+    public void release(String key) {
+        entries.invalidate(key);
+    }
+
+    // response가 null이면 처리 중
+    private record Entry(String fingerprint, StoredResponse response) {
+    }
+}
@@ -0,0 +1,82 @@
+package com.campus.campuscommunity.global.config.idempotency;
+
+import com.campus.campuscommunity.global.config.logging.LogMarkers;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+
+/**
+ * Redis 멱등 키 저장소 (재시도가 다른 인스턴스로 가도 같은 응답)
+ *
+ * 선점은 SET NX로 하고, 처리 중 표시는 lockTtl 뒤에 만료됩니다 (처리 중 인스턴스가 죽어도 재시도 가능).
+ * 값은 처리 중이면 "in-progress:지문", 끝났으면 지문과 응답을 담은 JSON입니다.
+ * Redis에 접근할 수 없으면 멱등 처리 없이 요청을 그대로 처리합니다.
+ */
+@Slf4j
+public class RedisIdempotencyStore implements IdempotencyStore {
+
+    private static final String KEY_PREFIX = "idempotency:";
+    private static final String IN_PROGRESS_PREFIX = "in-progress:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final Duration lockTtl;
+
+    public RedisIdempotencyStore(StringRedisTemplate redisTemplate, ObjectMapper objectMapper, Duration ttl, Duration lockTtl) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+        this.lockTtl = lockTtl;
+    }
+
+    @Override
+    public Reservation reserve(String key, String fingerprint) {
+        try {
+            // 선점 실패 후 읽기 전에 만료되면 다시 선점
+            while (true) {
+                if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + key, IN_PROGRESS_PREFIX + fingerprint, lockTtl))) {
+                    return Reservation.RESERVED;
+                }
+                String value = redisTemplate.opsForValue().get(KEY_PREFIX + key);
+                if (value == null) {
+                    continue;
+                }
+                if (value.startsWith(IN_PROGRESS_PREFIX)) {
+                    return value.equals(IN_PROGRESS_PREFIX + fingerprint) ? Reservation.IN_PROGRESS : Reservation.MISMATCH;
+                }
+                Completed completed = objectMapper.readValue(value, Completed.class);
+                return completed.fingerprint().equals(fingerprint) ? Reservation.completed(completed.response()) : Reservation.MISMATCH;
+            }
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn(LogMarkers.HOT_PATH, "Redis 멱등 키 확인 실패, 멱등 처리 없이 진행: {}", e.getMessage());
+            return Reservation.RESERVED;
+        }
+    }
+
+    @Override
+    public void complete(String key, String fingerprint, StoredResponse response) {
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + key, objectMapper.writeValueAsString(new Completed(fingerprint, response)), ttl);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn(LogMarkers.HOT_PATH, "Redis 멱등 키 응답 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void release(String key) {
+        try {
+            redisTemplate.delete(KEY_PREFIX + key);
+        } catch (DataAccessException e) {
+            log.warn(LogMarkers.HOT_PATH, "Redis 멱등 키 해제 실패 (처리 중 표시는 만료 후 해제): {}", e.getMessage());
+        }
+    }
+
+    // 처리가 끝난 키의 저장 값
+    private record Completed(String fingerprint, StoredResponse response) {
+    }
+}
@@ -0,0 +1,10 @@
+package com.campus.campuscommunity.global.config.idempotency;
+
+/**
+ * 저장해 둔 처음 응답
+ * @param status HTTP 상태 코드
+ * @param contentType Content-Type 헤더
+ * @param body 응답 본문
+ */
+public record StoredResponse(int status, String contentType, byte[] body) {
+}
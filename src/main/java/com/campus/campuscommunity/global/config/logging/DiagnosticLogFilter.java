@@ -0,0 +1,50 @@
+package com.campus.campuscommunity.global.config.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 진단 로그 샘플링
+ *
+ * campus.logging.diagnostic.sample-rate 비율의 요청에만 MDC에 진단 표시를 남깁니다.
+ * 표시된 요청은 {@link DiagnosticTurboFilter}가 지정한 로거(Spring Security 등)의 DEBUG 로그를 출력합니다.
+ * (모든 요청의 필터 판단을 DEBUG로 남기지 않고, 일부 요청만 전체 흐름을 볼 수 있게 함)
+ * 보안 필터보다 먼저 실행되어야 인증 과정의 로그도 포함됩니다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+public class DiagnosticLogFilter extends OncePerRequestFilter {
+
+    private final double sampleRate;
+
+    public DiagnosticLogFilter(@Value("${campus.logging.diagnostic.sample-rate:0}") double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (sampleRate <= 0 || ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        MDC.put(DiagnosticTurboFilter.MDC_KEY, "true");
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(DiagnosticTurboFilter.MDC_KEY);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.campus.campuscommunity.global.config.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 진단 표시가 있는 요청에서만 지정한 로거의 DEBUG 로그를 출력하는 logback TurboFilter
+ *
+ * 로거 레벨(예: org.springframework.security=INFO)보다 먼저 판단하므로,
+ * {@link DiagnosticLogFilter}가 표시한 요청의 DEBUG 로그는 레벨 설정과 관계없이 출력됩니다.
+ * 표시가 없으면 NEUTRAL을 반환해 평소 레벨 설정을 따릅니다.
+ *
+ * logback-spring.xml 설정 예:
+ * <pre>
+ * &lt;turboFilter class="...DiagnosticTurboFilter"&gt;
+ *     &lt;logger&gt;org.springframework.security&lt;/logger&gt;
+ * &lt;/turboFilter&gt;
+ * </pre>
+ */
+public class DiagnosticTurboFilter extends TurboFilter {
+
+    public static final String MDC_KEY = "diagnostic";
+
+    private final List<String> loggerPrefixes = new ArrayList<>();
+
+    // logback 설정의 <logger> 요소마다 호출됨
+    public void addLogger(String loggerPrefix) {
+        loggerPrefixes.add(loggerPrefix.trim());
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // 모든 로그 호출마다 실행되므로 대부분의 요청(표시 없음)은 MDC 조회 한 번으로 끝냄
+        if (!"true".equals(MDC.get(MDC_KEY)) || !level.isGreaterOrEqual(Level.DEBUG)) {
+            return FilterReply.NEUTRAL;
+        }
+        String name = logger.getName();
+        for (String prefix : loggerPrefixes) {
+            if (name.startsWith(prefix)) {
+                return FilterReply.ACCEPT;
+            }
+        }
+        return FilterReply.NEUTRAL;
+    }
+}
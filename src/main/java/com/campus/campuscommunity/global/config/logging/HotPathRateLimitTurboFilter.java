@@ -0,0 +1,68 @@
+package com.campus.campuscommunity.global.config.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link LogMarkers#HOT_PATH} 마커가 붙은 로그를 메시지 형식별로 초당 permitsPerSecond 건까지만 출력하는 logback TurboFilter
+ *
+ * TurboFilter는 로그 이벤트를 만들기 전에 실행되므로, 제한에 걸린 로그는 메시지 포맷/이벤트 생성/출력 비용이 없습니다.
+ * 메시지 형식 문자열(코드의 상수)을 키로 쓰므로 호출마다 키를 새로 만들지 않습니다.
+ * 제한에 걸려 버린 로그 수는 {@link #getSuppressedCount()}로 확인합니다 (logging.hot-path.suppressed 지표).
+ */
+public class HotPathRateLimitTurboFilter extends TurboFilter {
+
+    private final ConcurrentMap<String, Window> windows = new ConcurrentHashMap<>();
+    private final LongAdder suppressed = new LongAdder();
+    private int permitsPerSecond = 10;
+
+    // logback 설정의 <permitsPerSecond> (0 이하이면 제한 없음)
+    public void setPermitsPerSecond(int permitsPerSecond) {
+        this.permitsPerSecond = permitsPerSecond;
+    }
+
+    public long getSuppressedCount() {
+        return suppressed.sum();
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // isInfoEnabled(marker) 같은 레벨 확인 호출(format == null)은 건수에 넣지 않음
+        if (marker == null || format == null || permitsPerSecond <= 0 || !marker.contains(LogMarkers.HOT_PATH)) {
+            return FilterReply.NEUTRAL;
+        }
+        // 레벨 설정으로 어차피 출력되지 않을 로그는 건수에 넣지 않음
+        if (!level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+
+        Window window = windows.computeIfAbsent(format, key -> new Window());
+        if (window.tryAcquire(System.currentTimeMillis() / 1000, permitsPerSecond)) {
+            return FilterReply.NEUTRAL;
+        }
+        suppressed.increment();
+        return FilterReply.DENY;
+    }
+
+    // 1초 고정 구간 카운터 (구간이 바뀌는 순간의 경합으로 몇 건 더 나가는 정도는 허용)
+    private static final class Window {
+        private volatile long second;
+        private final AtomicInteger count = new AtomicInteger();
+
+        private boolean tryAcquire(long now, int limit) {
+            if (second != now) {
+                second = now;
+                count.set(0);
+            }
+            return count.incrementAndGet() <= limit;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.campus.campuscommunity.global.config.logging;
+
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+
+/**
+ * 로그 마커
+ */
+public final class LogMarkers {
+
+    /**
+     * 요청마다 남는 조회성 로그 (목록/상세/피드 조회 등)
+     * {@link HotPathRateLimitTurboFilter}가 메시지 형식별로 초당 건수를 제한합니다.
+     * 로그인처럼 인증/감사 기록으로 남아야 하는 로그에는 붙이지 않습니다 (부하가 몰릴 때 버려짐).
+     * 인자는 StructuredArguments.kv(...)로 넘기면 JSON 로그에서 필드로 남습니다.
+     */
+    public static final Marker HOT_PATH = MarkerFactory.getMarker("HOT_PATH");
+
+    private LogMarkers() {
+    }
+}
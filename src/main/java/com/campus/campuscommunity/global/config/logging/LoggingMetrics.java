@@ -0,0 +1,57 @@
+package com.campus.campuscommunity.global.config.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.AsyncAppenderBase;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+
+/**
+ * 로그 출력 지표
+ *
+ * - logging.hot-path.suppressed: 초당 제한으로 버려진 HOT_PATH 로그 수
+ * - logging.async.queue.size / logging.async.queue.remaining: 비동기 appender 대기열 사용량
+ *   (남은 용량이 discardingThreshold 아래로 내려가면 INFO 이하 로그를 버리기 시작함)
+ * 로그 이벤트 수(레벨별)는 Spring Boot의 logback.events 지표로 확인합니다.
+ */
+@Component
+public class LoggingMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext loggerContext)) {
+            return;
+        }
+
+        loggerContext.getTurboFilterList().stream()
+                .filter(HotPathRateLimitTurboFilter.class::isInstance)
+                .map(HotPathRateLimitTurboFilter.class::cast)
+                .findFirst()
+                .ifPresent(filter -> FunctionCounter.builder("logging.hot-path.suppressed", filter,
+                                HotPathRateLimitTurboFilter::getSuppressedCount)
+                        .description("초당 제한으로 버려진 HOT_PATH 로그 수")
+                        .register(registry));
+
+        Logger root = loggerContext.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        for (Iterator<Appender<ILoggingEvent>> it = root.iteratorForAppenders(); it.hasNext(); ) {
+            if (it.next() instanceof AsyncAppenderBase<ILoggingEvent> async) {
+                Gauge.builder("logging.async.queue.size", async, AsyncAppenderBase::getNumberOfElementsInQueue)
+                        .description("비동기 로그 대기열에 쌓인 이벤트 수")
+                        .tag("appender", async.getName())
+                        .register(registry);
+                Gauge.builder("logging.async.queue.remaining", async, AsyncAppenderBase::getRemainingCapacity)
+                        .description("비동기 로그 대기열 남은 용량")
+                        .tag("appender", async.getName())
+                        .register(registry);
+            }
+        }
+    }
+}
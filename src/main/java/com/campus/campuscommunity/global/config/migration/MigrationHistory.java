@@ -0,0 +1,65 @@
+package com.campus.campuscommunity.global.config.migration;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 시작 시 데이터 이전 작업이 함께 쓰는 도구
+ * - 끝난 이전 기록 (schema_migrations)
+ * - 컬럼 존재/NULL 허용 여부 확인 (DB마다 식별자 대소문자가 달라 둘 다 확인)
+ */
+@Component
+@RequiredArgsConstructor
+public class MigrationHistory {
+
+    private static final String EXISTS_SQL = "SELECT COUNT(*) FROM schema_migrations WHERE name = ?";
+    private static final String INSERT_SQL = "INSERT INTO schema_migrations (name, completed_at) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public boolean isDone(String name) {
+        Integer count = jdbcTemplate.queryForObject(EXISTS_SQL, Integer.class, name);
+        return count != null && count > 0;
+    }
+
+    // 여러 인스턴스가 함께 끝내도 한 번만 기록
+    public void markDone(String name) {
+        try {
+            jdbcTemplate.update(INSERT_SQL, name, LocalDateTime.now());
+        } catch (DuplicateKeyException e) {
+            // 다른 인스턴스가 먼저 기록함
+        }
+    }
+
+    public boolean hasColumn(String table, String column) {
+        return columnNullable(table, column).isPresent();
+    }
+
+    // 컬럼이 있으면 NULL 허용 여부, 없으면 빈 값
+    public Optional<Boolean> columnNullable(String table, String column) {
+        return jdbcTemplate.execute((ConnectionCallback<Optional<Boolean>>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            Optional<Boolean> nullable = columnNullable(metaData, connection.getCatalog(), table, column);
+            return nullable.isPresent()
+                    ? nullable
+                    : columnNullable(metaData, connection.getCatalog(), table.toUpperCase(), column.toUpperCase());
+        });
+    }
+
+    private Optional<Boolean> columnNullable(DatabaseMetaData metaData, String catalog, String table, String column) throws SQLException {
+        try (ResultSet columns = metaData.getColumns(catalog, null, table, column)) {
+            return columns.next()
+                    ? Optional.of(columns.getInt("NULLABLE") != DatabaseMetaData.columnNoNulls)
+                    : Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.campus.campuscommunity.global.config.migration;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 끝난 데이터 이전 기록
+ *
+ * 시작할 때 실행되는 이전 작업이 끝나면 이름을 남겨, 다음 시작부터는 이 행만 확인하고 건너뜁니다.
+ */
+@Entity
+@Table(name = "schema_migrations")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SchemaMigration {
+
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    @Column(nullable = false)
+    private LocalDateTime completedAt;
+}
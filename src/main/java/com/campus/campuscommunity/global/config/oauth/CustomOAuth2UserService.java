@@ -50,7 +50,7 @@ public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequ
 
     // 사용자 정보 저장 또는 업데이트
     private User saveOrUpdate(OAuthAttributes attributes) {
-        Optional<User> userOptional = userRepository.findByEmail(attributes.getEmail());
+        Optional<User> userOptional = userRepository.findUserByEmail(attributes.getEmail());
 
         User user;
         if (userOptional.isPresent()) {
@@ -2,7 +2,11 @@ package com.campus.campuscommunity.global.config.ocr;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
@@ -12,25 +16,63 @@ import org.springframework.web.client.RestTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.Base64;
 
 @Service
 public class GoogleVisionOcrService {
 
+    // API 키는 URI 변수로 전달 (http.client.requests 메트릭의 uri 태그에 키가 남지 않도록)
+    private static final String VISION_API_URL = "https://vision.googleapis.com/v1/images:annotate?key={key}";
+
     @Value("${google.cloud.api-key}")
     private String apiKey;
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final RestTemplate restTemplate;
+    private final MeterRegistry meterRegistry;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
+    // RestTemplateBuilder로 생성해야 http.client.requests 메트릭이 기록됩니다
+    public GoogleVisionOcrService(RestTemplateBuilder restTemplateBuilder, MeterRegistry meterRegistry) {
+        this.restTemplate = restTemplateBuilder
+                .setConnectTimeout(Duration.ofSeconds(5))
+                .setReadTimeout(Duration.ofSeconds(30))
+                .build();
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 이미지에서 텍스트 추출
+     * 호출 시간은 campus.ocr.requests(outcome=success/error), 실패는 campus.ocr.errors(exception)로 기록합니다.
+     */
     public String extractText(MultipartFile imageFile) throws IOException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            String text = requestTextDetection(imageFile);
+            outcome = "success";
+            return text;
+        } catch (IOException | RuntimeException e) {
+            Counter.builder("campus.ocr.errors")
+                    .description("OCR 호출 실패 횟수")
+                    .tag("exception", e.getClass().getSimpleName())
+                    .register(meterRegistry)
+                    .increment();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("campus.ocr.requests")
+                    .description("OCR 호출 시간")
+                    .tag("provider", "google-vision")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    private String requestTextDetection(MultipartFile imageFile) throws IOException {
         // 이미지를 Base64로 인코딩
         byte[] imageBytes = imageFile.getBytes();
         String base64Image = Base64.getEncoder().encodeToString(imageBytes);
 
-        // API 요청 URL
-        String visionApiUrl = "https://vision.googleapis.com/v1/images:annotate?key=" + apiKey;
-
         // 요청 헤더 설정
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
@@ -53,7 +95,7 @@ public class GoogleVisionOcrService {
 
         // API 호출
         HttpEntity<String> requestEntity = new HttpEntity<>(requestJson, headers);
-        ResponseEntity<String> response = restTemplate.postForEntity(visionApiUrl, requestEntity, String.class);
+        ResponseEntity<String> response = restTemplate.postForEntity(VISION_API_URL, requestEntity, String.class, apiKey);
 
         // 응답 처리
         return parseOcrResponse(response.getBody());
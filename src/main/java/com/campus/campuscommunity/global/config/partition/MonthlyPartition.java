@@ -0,0 +1,49 @@
+package com.campus.campuscommunity.global.config.partition;
+
+import com.campus.campuscommunity.global.config.id.SnowflakeIdGenerator;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+
+/**
+ * 월별 ID 범위 파티션 (이름 p202510 = 2025년 10월에 만든 행)
+ *
+ * ID가 생성 시각 순이므로 다음 달 1일 0시의 최소 ID를 상한으로 두면 생성 월 기준 파티션이 됩니다.
+ * (MySQL 파티션 키는 PK에 포함되어야 하므로 created_at 대신 PK인 id로 나눔)
+ */
+public record MonthlyPartition(YearMonth month, long upperBound) {
+
+    private static final DateTimeFormatter NAME_FORMAT = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    public static MonthlyPartition of(YearMonth month, ZoneId zone) {
+        Instant nextMonth = month.plusMonths(1).atDay(1).atStartOfDay(zone).toInstant();
+        return new MonthlyPartition(month, SnowflakeIdGenerator.minIdAt(nextMonth));
+    }
+
+    // ID가 속한 달 (생성 월)
+    public static YearMonth monthOf(long id, ZoneId zone) {
+        return YearMonth.from(SnowflakeIdGenerator.extractInstant(id).atZone(zone));
+    }
+
+    // 파티션 이름 -> 달 (월별 파티션 이름이 아니면 빈 값)
+    public static Optional<YearMonth> parseMonth(String name) {
+        try {
+            return Optional.of(YearMonth.parse(name, NAME_FORMAT));
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    public String name() {
+        return NAME_FORMAT.format(month);
+    }
+
+    // ALTER TABLE ... PARTITION 정의
+    public String definition() {
+        return "PARTITION %s VALUES LESS THAN (%d)".formatted(name(), upperBound);
+    }
+}
@@ -0,0 +1,208 @@
+package com.campus.campuscommunity.global.config.partition;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * boards/comments 월별 파티션 관리 (MySQL)
+ *
+ * 두 테이블은 생성 월 기준 RANGE(id) 파티션으로 나눕니다 (MonthlyPartition, 마지막은 MAXVALUE 파티션 pmax).
+ * 조회가 최근 몇 주에 몰리므로 ID 조건(키셋 커서, 게시글 ID 이후 댓글 등)이 있는 쿼리는 최근 파티션만 읽습니다.
+ *
+ * 실행할 때마다 테이블별로
+ * 1. 파티션되어 있지 않으면 convert-existing=true일 때만 변환 (외래 키 삭제 후 가장 오래된 행의 달부터 파티션 생성, 테이블 재작성)
+ * 2. 지금부터 future-months개월 뒤까지 빠진 달의 파티션 추가 (pmax를 나눔, pmax가 비어 있으므로 바로 끝남)
+ * 3. detach-after-months개월보다 오래된 파티션 분리 (0이면 하지 않음)
+ *    MySQL에는 DETACH가 없으므로 같은 구조의 빈 테이블({테이블}_pYYYYMM)과 파티션을 맞바꾼 뒤 빈 파티션을 삭제합니다.
+ *    분리한 행은 목록/조회에서 빠지고, 분리된 테이블은 그대로 남아 필요하면 다시 맞바꿔 되돌릴 수 있습니다.
+ * MySQL이 아니면(H2 등) 아무것도 하지 않습니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "campus.partition.enabled", havingValue = "true")
+public class PartitionMaintenance {
+
+    private static final List<String> TABLES = List.of("boards", "comments");
+    private static final String MAX_PARTITION = "pmax";
+    private static final String MAX_PARTITION_DEFINITION = "PARTITION pmax VALUES LESS THAN MAXVALUE";
+
+    private static final String SELECT_PARTITIONS_SQL =
+            "SELECT PARTITION_NAME FROM information_schema.PARTITIONS " +
+            "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL " +
+            "ORDER BY PARTITION_ORDINAL_POSITION";
+    // 파티션 테이블은 외래 키를 갖거나 참조될 수 없음
+    private static final String SELECT_FOREIGN_KEYS_SQL =
+            "SELECT TABLE_NAME, CONSTRAINT_NAME FROM information_schema.REFERENTIAL_CONSTRAINTS " +
+            "WHERE CONSTRAINT_SCHEMA = DATABASE() AND (TABLE_NAME = ? OR REFERENCED_TABLE_NAME = ?)";
+    private static final String TABLE_EXISTS_SQL =
+            "SELECT COUNT(*) FROM information_schema.TABLES WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?";
+    private static final String MIN_ID_SQL = "SELECT MIN(id) FROM %s";
+
+    private static final String DROP_FOREIGN_KEY_SQL = "ALTER TABLE `%s` DROP FOREIGN KEY `%s`";
+    private static final String PARTITION_BY_SQL = "ALTER TABLE %s PARTITION BY RANGE (id) (%s)";
+    private static final String REORGANIZE_MAX_PARTITION_SQL = "ALTER TABLE %s REORGANIZE PARTITION pmax INTO (%s)";
+    private static final String ADD_PARTITIONS_SQL = "ALTER TABLE %s ADD PARTITION (%s)";
+
+    private static final String CREATE_DETACHED_TABLE_SQL = "CREATE TABLE %s LIKE %s";
+    private static final String REMOVE_PARTITIONING_SQL = "ALTER TABLE %s REMOVE PARTITIONING";
+    private static final String EXCHANGE_PARTITION_SQL = "ALTER TABLE %s EXCHANGE PARTITION %s WITH TABLE %s";
+    private static final String PARTITION_HAS_ROWS_SQL = "SELECT EXISTS (SELECT 1 FROM %s PARTITION (%s))";
+    private static final String DROP_PARTITION_SQL = "ALTER TABLE %s DROP PARTITION %s";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ZoneId zone;
+    private final int futureMonths;
+    private final int detachAfterMonths;
+    private final boolean convertExisting;
+
+    public PartitionMaintenance(JdbcTemplate jdbcTemplate,
+                                @Value("${campus.partition.zone:Asia/Seoul}") String zone,
+                                @Value("${campus.partition.future-months:3}") int futureMonths,
+                                @Value("${campus.partition.detach-after-months:0}") int detachAfterMonths,
+                                @Value("${campus.partition.convert-existing:false}") boolean convertExisting) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.zone = ZoneId.of(zone);
+        this.futureMonths = futureMonths;
+        this.detachAfterMonths = detachAfterMonths;
+        this.convertExisting = convertExisting;
+    }
+
+    /**
+     * 파티션 추가/분리 (기본: 매일 04:00)
+     * 여러 인스턴스가 동시에 실행하면 늦게 실행한 쪽의 DDL은 실패하고 다음 실행에서 다시 확인합니다.
+     */
+    @Scheduled(cron = "${campus.partition.cron:0 0 4 * * *}")
+    public void maintain() {
+        String database = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        if (!"MySQL".equalsIgnoreCase(database) && !"MariaDB".equalsIgnoreCase(database)) {
+            log.info("파티션 관리: {}는 지원하지 않아 건너뜀", database);
+            return;
+        }
+
+        YearMonth current = YearMonth.now(zone);
+        for (String table : TABLES) {
+            try {
+                maintain(table, current);
+            } catch (DataAccessException e) {
+                log.warn("파티션 관리 실패: {}", table, e);
+            }
+        }
+    }
+
+    private void maintain(String table, YearMonth current) {
+        List<String> partitions = jdbcTemplate.queryForList(SELECT_PARTITIONS_SQL, String.class, table);
+        YearMonth newest = current.plusMonths(futureMonths);
+
+        if (partitions.isEmpty()) {
+            partition(table, current, newest);
+            return;
+        }
+
+        addPartitions(table, partitions, newest);
+        if (detachAfterMonths > 0) {
+            detachPartitions(table, partitions, current.minusMonths(detachAfterMonths));
+        }
+    }
+
+    // 파티션되지 않은 테이블 변환
+    private void partition(String table, YearMonth current, YearMonth newest) {
+        if (!convertExisting) {
+            log.warn("파티션 관리: {} 테이블이 파티션되어 있지 않음 (campus.partition.convert-existing=true로 변환)", table);
+            return;
+        }
+
+        for (Map<String, Object> foreignKey : jdbcTemplate.queryForList(SELECT_FOREIGN_KEYS_SQL, table, table)) {
+            jdbcTemplate.execute(DROP_FOREIGN_KEY_SQL.formatted(foreignKey.get("TABLE_NAME"), foreignKey.get("CONSTRAINT_NAME")));
+            log.info("파티션 변환: 외래 키 삭제 {}.{}", foreignKey.get("TABLE_NAME"), foreignKey.get("CONSTRAINT_NAME"));
+        }
+
+        Long minId = jdbcTemplate.queryForObject(MIN_ID_SQL.formatted(table), Long.class);
+        YearMonth oldest = minId != null && MonthlyPartition.monthOf(minId, zone).isBefore(current)
+                ? MonthlyPartition.monthOf(minId, zone)
+                : current;
+
+        List<String> definitions = definitions(oldest, newest);
+        definitions.add(MAX_PARTITION_DEFINITION);
+        log.info("파티션 변환 시작: {}, {} ~ {} (테이블 재작성)", table, oldest, newest);
+        jdbcTemplate.execute(PARTITION_BY_SQL.formatted(table, String.join(", ", definitions)));
+        log.info("파티션 변환 완료: {}, 파티션 {}개", table, definitions.size());
+    }
+
+    // newest까지 빠진 달의 파티션 추가
+    private void addPartitions(String table, List<String> partitions, YearMonth newest) {
+        Optional<YearMonth> last = partitions.stream()
+                .map(MonthlyPartition::parseMonth)
+                .flatMap(Optional::stream)
+                .max(Comparator.naturalOrder());
+        if (last.isEmpty()) {
+            log.warn("파티션 관리: {} 테이블에 월별 파티션이 없어 건너뜀 ({})", table, partitions);
+            return;
+        }
+        if (!last.get().isBefore(newest)) {
+            return;
+        }
+
+        List<String> definitions = definitions(last.get().plusMonths(1), newest);
+        if (partitions.contains(MAX_PARTITION)) {
+            definitions.add(MAX_PARTITION_DEFINITION);
+            jdbcTemplate.execute(REORGANIZE_MAX_PARTITION_SQL.formatted(table, String.join(", ", definitions)));
+        } else {
+            jdbcTemplate.execute(ADD_PARTITIONS_SQL.formatted(table, String.join(", ", definitions)));
+        }
+        log.info("파티션 추가: {}, {} ~ {}", table, last.get().plusMonths(1), newest);
+    }
+
+    // oldestKept보다 오래된 파티션 분리
+    private void detachPartitions(String table, List<String> partitions, YearMonth oldestKept) {
+        for (String partition : partitions) {
+            Optional<YearMonth> month = MonthlyPartition.parseMonth(partition);
+            if (month.isEmpty() || !month.get().isBefore(oldestKept)) {
+                continue;
+            }
+
+            String detachedTable = table + "_" + partition;
+            // 맞바꾼 뒤 파티션 삭제 전에 실패했다면 분리된 테이블이 이미 있으므로 삭제만 다시 시도
+            if (!tableExists(detachedTable)) {
+                jdbcTemplate.execute(CREATE_DETACHED_TABLE_SQL.formatted(detachedTable, table));
+                jdbcTemplate.execute(REMOVE_PARTITIONING_SQL.formatted(detachedTable));
+                jdbcTemplate.execute(EXCHANGE_PARTITION_SQL.formatted(table, partition, detachedTable));
+            }
+
+            if (Boolean.TRUE.equals(jdbcTemplate.queryForObject(PARTITION_HAS_ROWS_SQL.formatted(table, partition), Boolean.class))) {
+                log.warn("파티션 분리: {}.{}에 행이 남아 있어 삭제하지 않음 ({} 테이블 확인 필요)", table, partition, detachedTable);
+                continue;
+            }
+            jdbcTemplate.execute(DROP_PARTITION_SQL.formatted(table, partition));
+            log.info("파티션 분리: {}.{} -> {}", table, partition, detachedTable);
+        }
+    }
+
+    private boolean tableExists(String table) {
+        Long count = jdbcTemplate.queryForObject(TABLE_EXISTS_SQL, Long.class, table);
+        return count != null && count > 0;
+    }
+
+    // from ~ to 월별 파티션 정의
+    private List<String> definitions(YearMonth from, YearMonth to) {
+        List<String> definitions = new ArrayList<>();
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            definitions.add(MonthlyPartition.of(month, zone).definition());
+        }
+        return definitions;
+    }
+}
@@ -0,0 +1,51 @@
+package com.campus.campuscommunity.global.config.query;
+
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DataSource를 datasource-proxy로 감싸 SQL 실행을 관찰하는 설정
+ *
+ * - campus.query-count.enabled: 요청별 SQL 수 집계 ({@link QueryCountListener})
+ * - campus.slow-query.enabled: 느린 SQL 로그 ({@link SlowQueryLogListener}, 기준 시간/샘플링 비율 지정)
+ * 둘 다 꺼져 있으면 DataSource를 감싸지 않습니다.
+ * (SQL마다 콘솔에 출력하는 spring.jpa.show-sql 대신 사용)
+ */
+@Configuration
+public class DataSourceProxyConfig {
+
+    // BeanPostProcessor는 다른 빈보다 먼저 만들어지므로 static으로 선언
+    @Bean
+    public static BeanPostProcessor dataSourceProxyPostProcessor(Environment environment) {
+        List<QueryExecutionListener> listeners = new ArrayList<>();
+        if (environment.getProperty("campus.query-count.enabled", Boolean.class, true)) {
+            listeners.add(new QueryCountListener());
+        }
+        if (environment.getProperty("campus.slow-query.enabled", Boolean.class, true)) {
+            listeners.add(new SlowQueryLogListener(
+                    environment.getProperty("campus.slow-query.threshold-ms", Long.class, 200L),
+                    environment.getProperty("campus.slow-query.sample-rate", Double.class, 1.0)));
+        }
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (listeners.isEmpty() || !(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+                    return bean;
+                }
+                ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create(dataSource).name(beanName);
+                listeners.forEach(builder::listener);
+                return builder.build();
+            }
+        };
+    }
+}
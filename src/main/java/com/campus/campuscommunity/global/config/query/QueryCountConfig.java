@@ -0,0 +1,53 @@
+package com.campus.campuscommunity.global.config.query;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+/**
+ * 요청별 SQL 실행 횟수 집계 설정
+ *
+ * - 실행된 SQL은 {@link DataSourceProxyConfig}가 DataSource에 붙인 {@link QueryCountListener}가 셉니다.
+ * - 리포지토리 프록시에 인터셉터를 추가해 SQL을 실행한 리포지토리 메서드를 기록합니다.
+ * - 집계 구간은 {@link QueryCountFilter}(HTTP 요청)가 엽니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "campus.query-count.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryCountConfig {
+
+    // BeanPostProcessor는 다른 빈보다 먼저 만들어지므로 static으로 선언
+    @Bean
+    public static BeanPostProcessor queryCountRepositoryPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory ->
+                            factory.addRepositoryProxyPostProcessor((proxyFactory, repositoryInformation) ->
+                                    proxyFactory.addAdvice(repositoryMethodInterceptor(
+                                            repositoryInformation.getRepositoryInterface().getSimpleName()))));
+                }
+                return bean;
+            }
+        };
+    }
+
+    // 리포지토리 메서드 실행 중임을 현재 집계에 기록
+    private static MethodInterceptor repositoryMethodInterceptor(String repositoryName) {
+        return invocation -> {
+            QueryCountContext context = QueryCountContext.current();
+            if (context == null) {
+                return invocation.proceed();
+            }
+            context.enterRepositoryMethod(repositoryName + "." + invocation.getMethod().getName());
+            try {
+                return invocation.proceed();
+            } finally {
+                context.exitRepositoryMethod();
+            }
+        };
+    }
+}
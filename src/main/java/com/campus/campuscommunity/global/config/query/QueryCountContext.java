@@ -0,0 +1,115 @@
+package com.campus.campuscommunity.global.config.query;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 현재 스레드에서 실행된 SQL 문 수 집계
+ *
+ * HTTP 요청(또는 테스트의 측정 구간) 시작 시 {@link #start()}로 열고, 끝나면 {@link #close()}로 닫습니다.
+ * 리포지토리 메서드 안에서 실행된 SQL은 "리포지토리.메서드" 별로, 그 밖(지연 로딩, 플러시 등)은
+ * {@link #OUTSIDE_REPOSITORY}로 따로 셉니다. N+1은 주로 같은 메서드의 횟수가 커지는 형태로 드러납니다.
+ */
+public final class QueryCountContext implements AutoCloseable {
+
+    public static final String OUTSIDE_REPOSITORY = "(지연 로딩/플러시)";
+
+    private static final ThreadLocal<QueryCountContext> CURRENT = new ThreadLocal<>();
+
+    private final QueryCountContext previous;
+    private final Deque<String> repositoryMethods = new ArrayDeque<>();
+    private final Map<String, Integer> countsByRepositoryMethod = new LinkedHashMap<>();
+    private int total;
+    private int selects;
+    private int inserts;
+    private int updates;
+    private int deletes;
+
+    private QueryCountContext(QueryCountContext previous) {
+        this.previous = previous;
+    }
+
+    // 집계 시작 (이미 열린 집계가 있으면 닫을 때 이전 집계로 돌아감)
+    public static QueryCountContext start() {
+        QueryCountContext context = new QueryCountContext(CURRENT.get());
+        CURRENT.set(context);
+        return context;
+    }
+
+    // 현재 스레드의 집계 (열려 있지 않으면 null)
+    public static QueryCountContext current() {
+        return CURRENT.get();
+    }
+
+    void enterRepositoryMethod(String method) {
+        repositoryMethods.push(method);
+    }
+
+    void exitRepositoryMethod() {
+        repositoryMethods.poll();
+    }
+
+    void record(String statement) {
+        total++;
+        switch (statementType(statement)) {
+            case "SELECT" -> selects++;
+            case "INSERT" -> inserts++;
+            case "UPDATE" -> updates++;
+            case "DELETE" -> deletes++;
+            default -> {
+            }
+        }
+        countsByRepositoryMethod.merge(currentRepositoryMethod(), 1, Integer::sum);
+    }
+
+    // 서비스가 호출한 바깥쪽 리포지토리 메서드 (default 메서드가 다른 쿼리 메서드를 호출하는 경우 포함)
+    String currentRepositoryMethod() {
+        return repositoryMethods.isEmpty() ? OUTSIDE_REPOSITORY : repositoryMethods.peekLast();
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public int getSelects() {
+        return selects;
+    }
+
+    public int getInserts() {
+        return inserts;
+    }
+
+    public int getUpdates() {
+        return updates;
+    }
+
+    public int getDeletes() {
+        return deletes;
+    }
+
+    // 리포지토리 메서드별 SQL 수 (실행 순서)
+    public Map<String, Integer> getCountsByRepositoryMethod() {
+        return Collections.unmodifiableMap(countsByRepositoryMethod);
+    }
+
+    @Override
+    public void close() {
+        if (previous != null) {
+            CURRENT.set(previous);
+        } else {
+            CURRENT.remove();
+        }
+    }
+
+    private static String statementType(String statement) {
+        String trimmed = statement.stripLeading();
+        int end = 0;
+        while (end < trimmed.length() && Character.isLetter(trimmed.charAt(end))) {
+            end++;
+        }
+        return trimmed.substring(0, end).toUpperCase();
+    }
+}
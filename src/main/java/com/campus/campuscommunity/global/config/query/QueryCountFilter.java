@@ -0,0 +1,83 @@
+package com.campus.campuscommunity.global.config.query;
+
+import com.campus.campuscommunity.global.config.tracing.SpanAttributes;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * HTTP 요청별 SQL 실행 횟수 집계
+ *
+ * - campus.sql.queries: 요청당 SQL 수 (uri 패턴/메서드 태그)
+ * - campus.sql.budget.exceeded: 허용치(campus.query-count.budget)를 넘은 요청 수
+ * 허용치를 넘으면 리포지토리 메서드별 SQL 수와 함께 경고 로그를 남깁니다.
+ * 요청 SQL 수는 HTTP 요청 span에도 db.query.count로 기록합니다.
+ * (인증 필터에서의 사용자 조회도 포함되도록 보안 필터보다 먼저 실행)
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnProperty(name = "campus.query-count.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+    private final SpanAttributes spanAttributes;
+    private final int budget;
+
+    public QueryCountFilter(MeterRegistry meterRegistry, SpanAttributes spanAttributes,
+                            @Value("${campus.query-count.budget:20}") int budget) {
+        this.meterRegistry = meterRegistry;
+        this.spanAttributes = spanAttributes;
+        this.budget = budget;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        try (QueryCountContext context = QueryCountContext.start()) {
+            filterChain.doFilter(request, response);
+            record(request, context);
+        }
+    }
+
+    private void record(HttpServletRequest request, QueryCountContext context) {
+        // 매핑되지 않은 요청은 태그 수가 늘어나지 않도록 UNKNOWN으로 묶음
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        spanAttributes.put(SpanAttributes.QUERY_COUNT, context.getTotal()); // HTTP 요청 span
+
+        DistributionSummary.builder("campus.sql.queries")
+                .description("HTTP 요청당 실행된 SQL 수")
+                .tag("uri", uri)
+                .tag("method", request.getMethod())
+                .serviceLevelObjectives(1, 5, 10, 20, 50, 100)
+                .register(meterRegistry)
+                .record(context.getTotal());
+
+        if (context.getTotal() > budget) {
+            Counter.builder("campus.sql.budget.exceeded")
+                    .description("SQL 수 허용치를 넘은 요청 수")
+                    .tag("uri", uri)
+                    .tag("method", request.getMethod())
+                    .register(meterRegistry)
+                    .increment();
+            log.warn("요청당 SQL 수 허용치 초과: {} {} → {}건 (허용 {}건, SELECT={}, INSERT={}, UPDATE={}, DELETE={}), 리포지토리 메서드별={}",
+                    request.getMethod(), uri, context.getTotal(), budget, context.getSelects(), context.getInserts(),
+                    context.getUpdates(), context.getDeletes(), context.getCountsByRepositoryMethod());
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.campus.campuscommunity.global.config.query;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+
+/**
+ * datasource-proxy 리스너: 실행된 SQL을 현재 스레드의 {@link QueryCountContext}에 기록
+ * 배치 실행은 DB 왕복 한 번이므로 한 건으로 셉니다.
+ */
+public class QueryCountListener implements QueryExecutionListener {
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        QueryCountContext context = QueryCountContext.current();
+        if (context == null || queryInfoList.isEmpty()) {
+            return;
+        }
+        context.record(queryInfoList.get(0).getQuery());
+    }
+}
@@ -0,0 +1,91 @@
+package com.campus.campuscommunity.global.config.query;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * datasource-proxy 리스너: 느린 SQL을 바인드 파라미터와 함께 로그로 남김
+ *
+ * - 실행 시간이 기준(thresholdMillis) 이상인 SQL만 대상으로 하고, 그중 sampleRate 비율만 기록합니다.
+ *   (DB 전체가 느려졌을 때 모든 SQL이 로그로 쏟아지지 않도록)
+ * - 로거 이름은 campus.sql.slow 이므로 로그 설정에서 따로 보내거나 끌 수 있습니다.
+ * - 긴 문자열 파라미터(게시글 본문 등)는 잘라서 기록합니다.
+ */
+@Slf4j(topic = "campus.sql.slow")
+public class SlowQueryLogListener implements QueryExecutionListener {
+
+    private static final int MAX_PARAMETER_LENGTH = 100;
+    private static final int MAX_BATCH_ENTRIES = 5;
+    private static final Comparator<ParameterSetOperation> BY_INDEX = Comparator.comparingInt(
+            operation -> operation.getArgs()[0] instanceof Integer index ? index : Integer.MAX_VALUE);
+
+    private final long thresholdMillis;
+    private final double sampleRate;
+
+    public SlowQueryLogListener(long thresholdMillis, double sampleRate) {
+        this.thresholdMillis = thresholdMillis;
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (execInfo.getElapsedTime() < thresholdMillis || queryInfoList.isEmpty()) {
+            return;
+        }
+        if (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return;
+        }
+
+        QueryCountContext context = QueryCountContext.current();
+        String repositoryMethod = context != null ? context.currentRepositoryMethod() : QueryCountContext.OUTSIDE_REPOSITORY;
+        QueryInfo queryInfo = queryInfoList.get(0);
+        log.warn("느린 SQL: {}ms, 리포지토리={}, 배치={}, 성공={}, SQL={}, 파라미터={}",
+                execInfo.getElapsedTime(), repositoryMethod, execInfo.isBatch() ? execInfo.getBatchSize() : 0,
+                execInfo.isSuccess(), queryInfo.getQuery(), formatParameters(queryInfo));
+    }
+
+    // 배치는 앞의 몇 건만 기록 ([1, 'a'] [2, 'b'] ...)
+    private static String formatParameters(QueryInfo queryInfo) {
+        List<List<ParameterSetOperation>> parametersList = queryInfo.getParametersList();
+        String formatted = parametersList.stream()
+                .limit(MAX_BATCH_ENTRIES)
+                .map(SlowQueryLogListener::formatParameterSet)
+                .collect(Collectors.joining(" "));
+        return parametersList.size() > MAX_BATCH_ENTRIES
+                ? formatted + " ... (" + parametersList.size() + "건)"
+                : formatted;
+    }
+
+    private static String formatParameterSet(List<ParameterSetOperation> operations) {
+        return operations.stream()
+                .sorted(BY_INDEX)
+                .map(SlowQueryLogListener::formatValue)
+                .collect(Collectors.joining(", ", "[", "]"));
+    }
+
+    private static String formatValue(ParameterSetOperation operation) {
+        Object[] args = operation.getArgs();
+        // setNull(index, sqlType)의 두 번째 인자는 값이 아님
+        Object value = args.length > 1 && !"setNull".equals(operation.getMethod().getName()) ? args[1] : null;
+        if (value == null) {
+            return "null";
+        }
+        String text = String.valueOf(value);
+        if (text.length() > MAX_PARAMETER_LENGTH) {
+            text = text.substring(0, MAX_PARAMETER_LENGTH) + "...(" + text.length() + "자)";
+        }
+        return value instanceof CharSequence ? "'" + text + "'" : text;
+    }
+}
@@ -0,0 +1,65 @@
+package com.campus.campuscommunity.global.config.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 인스턴스 내 토큰 버킷 요청 제한
+ *
+ * 버킷마다 "다음 토큰이 채워지는 예정 시각"(GCRA의 TAT) 하나만 AtomicLong에 두고 CAS로 갱신하므로 락이 없습니다.
+ * - 예정 시각이 지금보다 버킷 크기 x 충전 시간 이상 앞서면 제한 (버킷이 빔)
+ * - 예정 시각이 지금보다 과거면 버킷이 가득 찬 상태
+ * 버킷은 정책별 Caffeine 캐시에 두고, 가득 찰 때까지 쓰지 않은 버킷은 버립니다 (없는 버킷 = 가득 찬 버킷).
+ * 사용자 수가 maxKeys를 넘으면 오래 쓰지 않은 버킷부터 버리므로 메모리는 정책별 maxKeys개로 제한됩니다.
+ */
+public class LocalRateLimiter implements RateLimiter {
+
+    private final Map<String, RateLimitPolicy> policies;
+    private final Map<String, Cache<String, AtomicLong>> buckets = new HashMap<>();
+    private final LongSupplier nanoClock;
+
+    public LocalRateLimiter(Map<String, RateLimitPolicy> policies, long maxKeys) {
+        this(policies, maxKeys, System::nanoTime);
+    }
+
+    LocalRateLimiter(Map<String, RateLimitPolicy> policies, long maxKeys, LongSupplier nanoClock) {
+        this.policies = Map.copyOf(policies);
+        this.nanoClock = nanoClock;
+        policies.forEach((name, policy) -> buckets.put(name, Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(policy.fullRefill())
+                .ticker(nanoClock::getAsLong)
+                .build()));
+    }
+
+    @Override
+    public long tryAcquire(String policyName, String key) {
+        RateLimitPolicy policy = policies.get(policyName);
+        if (policy == null) {
+            throw new IllegalArgumentException("요청 제한 정책 없음: " + policyName);
+        }
+        long interval = policy.refillInterval().toNanos();
+        long burst = policy.fullRefill().toNanos();
+
+        AtomicLong bucket = buckets.get(policyName).get(key, k -> new AtomicLong(nanoClock.getAsLong()));
+        while (true) {
+            long now = nanoClock.getAsLong();
+            long scheduled = bucket.get();
+            long next = Math.max(scheduled, now) + interval;
+            long wait = next - now - burst;
+            if (wait > 0) {
+                // 1ms 미만도 1ms로 올림
+                return TimeUnit.NANOSECONDS.toMillis(wait + TimeUnit.MILLISECONDS.toNanos(1) - 1);
+            }
+            if (bucket.compareAndSet(scheduled, next)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.campus.campuscommunity.global.config.ratelimit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 쓰기 API 사용자별 요청 제한 설정
+ *
+ * campus.rate-limit.store
+ * - local (기본값): 인스턴스마다 따로 제한 (인스턴스 수만큼 더 허용됨)
+ * - redis: Redis에서 모든 인스턴스가 같은 버킷 사용 (Redis 장애 시 인스턴스 내 제한)
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "campus.rate-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitConfig implements WebMvcConfigurer {
+
+    public static final String BOARD_CREATE = "board-create";
+    public static final String COMMENT_CREATE = "comment-create";
+    public static final String LIKE = "like"; // 게시글 좋아요/싫어요, 댓글 좋아요
+
+    /**
+     * 정책별 버킷 크기/충전 시간
+     */
+    public static Map<String, RateLimitPolicy> policies() {
+        Map<String, RateLimitPolicy> policies = new LinkedHashMap<>();
+        policies.put(BOARD_CREATE, new RateLimitPolicy(5, Duration.ofSeconds(30)));
+        policies.put(COMMENT_CREATE, new RateLimitPolicy(10, Duration.ofSeconds(5)));
+        policies.put(LIKE, new RateLimitPolicy(30, Duration.ofSeconds(1)));
+        return policies;
+    }
+
+    private final RateLimitInterceptor interceptor;
+
+    public RateLimitConfig(@Value("${campus.rate-limit.store:local}") String store,
+                           @Value("${campus.rate-limit.max-keys:100000}") long maxKeys,
+                           ObjectProvider<StringRedisTemplate> redisTemplate,
+                           MeterRegistry meterRegistry) {
+        RateLimiter rateLimiter = new LocalRateLimiter(policies(), maxKeys);
+        if ("redis".equals(store)) {
+            rateLimiter = new RedisRateLimiter(redisTemplate.getObject(), policies(), rateLimiter);
+        }
+        log.info("쓰기 API 요청 제한: {} 모드, 정책={}", store, policies());
+        this.interceptor = new RateLimitInterceptor(rateLimiter, meterRegistry);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(interceptor).addPathPatterns("/api/**");
+    }
+}
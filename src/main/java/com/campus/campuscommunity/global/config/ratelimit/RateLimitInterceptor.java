@@ -0,0 +1,60 @@
+package com.campus.campuscommunity.global.config.ratelimit;
+
+import com.campus.campuscommunity.global.config.exception.RateLimitExceededException;
+import com.campus.campuscommunity.global.config.logging.LogMarkers;
+import com.campus.campuscommunity.global.config.security.RequestUserKey;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.Duration;
+
+import static net.logstash.logback.argument.StructuredArguments.kv;
+
+/**
+ * {@link RateLimited} 컨트롤러 메서드의 사용자별 요청 제한
+ *
+ * 사용자는 RequestUserKey로 구분합니다.
+ * 제한에 걸리면 RateLimitExceededException(429, Retry-After)을 던지고 campus.rate-limit.rejected 지표를 올립니다.
+ */
+@Slf4j
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private final RateLimiter rateLimiter;
+    private final MeterRegistry meterRegistry;
+
+    public RateLimitInterceptor(RateLimiter rateLimiter, MeterRegistry meterRegistry) {
+        this.rateLimiter = rateLimiter;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        RateLimited rateLimited = handlerMethod.getMethodAnnotation(RateLimited.class);
+        if (rateLimited == null) {
+            return true;
+        }
+
+        String key = RequestUserKey.of(request);
+        long retryAfterMillis = rateLimiter.tryAcquire(rateLimited.value(), key);
+        if (retryAfterMillis == 0) {
+            return true;
+        }
+
+        Counter.builder("campus.rate-limit.rejected")
+                .description("요청 제한으로 거절된 요청 수")
+                .tag("policy", rateLimited.value())
+                .register(meterRegistry)
+                .increment();
+        log.info(LogMarkers.HOT_PATH, "요청 제한: {}, {}, {}", kv("policy", rateLimited.value()), kv("user", key),
+                kv("retryAfterMs", retryAfterMillis));
+        throw new RateLimitExceededException(Duration.ofMillis(retryAfterMillis));
+    }
+}
@@ -0,0 +1,16 @@
+package com.campus.campuscommunity.global.config.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * 토큰 버킷 정책
+ * @param capacity 연속으로 보낼 수 있는 최대 요청 수 (버킷 크기)
+ * @param refillInterval 토큰 하나가 다시 채워지는 시간
+ */
+public record RateLimitPolicy(int capacity, Duration refillInterval) {
+
+    // 빈 버킷이 다시 가득 차는 시간 (이보다 오래 쓰지 않은 버킷은 가득 찬 버킷과 같으므로 버려도 됨)
+    public Duration fullRefill() {
+        return refillInterval.multipliedBy(capacity);
+    }
+}
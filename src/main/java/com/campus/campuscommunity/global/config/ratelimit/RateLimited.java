@@ -0,0 +1,18 @@
+package com.campus.campuscommunity.global.config.ratelimit;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 사용자별 요청 제한을 적용할 컨트롤러 메서드 표시
+ * 같은 정책 이름을 쓰는 엔드포인트는 토큰을 함께 씁니다 (정책은 RateLimitConfig.policies()).
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RateLimited {
+
+    // 정책 이름 (RateLimitConfig의 상수)
+    String value();
+}
@@ -0,0 +1,15 @@
+package com.campus.campuscommunity.global.config.ratelimit;
+
+/**
+ * 사용자별 토큰 버킷 요청 제한
+ */
+public interface RateLimiter {
+
+    /**
+     * 토큰 하나 사용
+     * @param policy 정책 이름
+     * @param key 사용자 키
+     * @return 허용이면 0, 제한이면 다시 시도할 수 있을 때까지 남은 ms
+     */
+    long tryAcquire(String policy, String key);
+}
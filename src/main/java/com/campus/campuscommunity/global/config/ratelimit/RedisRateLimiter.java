@@ -0,0 +1,68 @@
+package com.campus.campuscommunity.global.config.ratelimit;
+
+import com.campus.campuscommunity.global.config.logging.LogMarkers;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis 공유 토큰 버킷 요청 제한 (여러 인스턴스가 같은 버킷 사용)
+ *
+ * LocalRateLimiter와 같은 방식(GCRA)을 Lua 스크립트로 원자적으로 처리하며, 시각은 Redis 서버 시각(TIME)을 씁니다.
+ * 키는 버킷이 가득 차는 시각에 만료되므로 쓰지 않는 사용자의 버킷은 남지 않습니다.
+ * Redis에 접근할 수 없으면 인스턴스 내 제한(fallback)으로 처리합니다.
+ */
+@Slf4j
+public class RedisRateLimiter implements RateLimiter {
+
+    private static final String KEY_PREFIX = "rate-limit:";
+
+    // ARGV[1] = 충전 시간(ms), ARGV[2] = 버킷 크기 x 충전 시간(ms), 반환값 = 다시 시도할 때까지 남은 ms (0이면 허용)
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.replicate_commands then redis.replicate_commands() end
+            local interval = tonumber(ARGV[1])
+            local burst = tonumber(ARGV[2])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local scheduled = tonumber(redis.call('GET', KEYS[1]) or now)
+            local next = math.max(scheduled, now) + interval
+            local wait = next - now - burst
+            if wait > 0 then
+                return wait
+            end
+            redis.call('SET', KEYS[1], next, 'PX', next - now)
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Map<String, RateLimitPolicy> policies;
+    private final RateLimiter fallback;
+
+    public RedisRateLimiter(StringRedisTemplate redisTemplate, Map<String, RateLimitPolicy> policies, RateLimiter fallback) {
+        this.redisTemplate = redisTemplate;
+        this.policies = Map.copyOf(policies);
+        this.fallback = fallback;
+    }
+
+    @Override
+    public long tryAcquire(String policyName, String key) {
+        RateLimitPolicy policy = policies.get(policyName);
+        if (policy == null) {
+            throw new IllegalArgumentException("요청 제한 정책 없음: " + policyName);
+        }
+
+        try {
+            Long wait = redisTemplate.execute(ACQUIRE_SCRIPT, List.of(KEY_PREFIX + policyName + ":" + key),
+                    String.valueOf(policy.refillInterval().toMillis()), String.valueOf(policy.fullRefill().toMillis()));
+            return wait != null ? wait : 0;
+        } catch (DataAccessException e) {
+            log.warn(LogMarkers.HOT_PATH, "Redis 요청 제한 실패, 인스턴스 내 제한으로 처리: {}", e.getMessage());
+            return fallback.tryAcquire(policyName, key);
+        }
+    }
+}
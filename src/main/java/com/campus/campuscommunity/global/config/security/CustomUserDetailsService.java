@@ -20,14 +20,15 @@ public class CustomUserDetailsService implements UserDetailsService {
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         // 이메일(username)로 사용자 조회
-        User user = userRepository.findByEmail(username)
+        User user = userRepository.findUserByEmail(username)
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + username));
 
         // Spring Security의 UserDetails 객체 생성 (User 엔티티와 다른 클래스)
+        // 권한은 사용자 역할 그대로 (hasRole("ADMIN") 검사용 ROLE_ 접두사)
         return new org.springframework.security.core.userdetails.User(
                 user.getEmail(),
                 user.getPassword(),
-                Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"))
+                Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + user.getRoleKey()))
         );
     }
 }
\ No newline at end of file
@@ -0,0 +1,31 @@
+package com.campus.campuscommunity.global.config.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Locale;
+
+/**
+ * 요청한 사용자를 구분하는 키 (요청 제한, 멱등 키 저장 등)
+ *
+ * 인증된 사용자 이름(이메일), 없으면 email 파라미터, 둘 다 없으면 클라이언트 IP입니다.
+ */
+public final class RequestUserKey {
+
+    private RequestUserKey() {
+    }
+
+    public static String of(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated() && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return authentication.getName().toLowerCase(Locale.ROOT);
+        }
+        String email = request.getParameter("email");
+        if (email != null && !email.isBlank()) {
+            return email.trim().toLowerCase(Locale.ROOT);
+        }
+        return request.getRemoteAddr();
+    }
+}
@@ -4,9 +4,12 @@ import com.campus.campuscommunity.global.config.jwt.JwtAuthenticationFilter;
 import com.campus.campuscommunity.global.config.jwt.JwtTokenProvider;
 import com.campus.campuscommunity.global.config.oauth.CustomOAuth2UserService;
 import com.campus.campuscommunity.global.config.oauth.OAuth2SuccessHandler;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
@@ -15,6 +18,7 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 
 @Configuration // 스프링 설정 클래스임을 나타냅니다
 @EnableWebSecurity // 웹 보안 활성화
@@ -29,12 +33,19 @@ public class SecurityConfig {
     }
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http, CustomOAuth2UserService customOAuth2UserService, OAuth2SuccessHandler oAuth2SuccessHandler) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, CustomOAuth2UserService customOAuth2UserService, OAuth2SuccessHandler oAuth2SuccessHandler,
+                                           @Value("${server.port:8080}") int serverPort,
+                                           @Value("${management.server.port:${server.port:8080}}") int managementPort) throws Exception {
+        // Actuator 전용 내부 포트로 들어온 요청 (앱 포트와 같게 설정하면 적용하지 않음)
+        RequestMatcher managementPortRequest = request -> managementPort != serverPort && request.getLocalPort() == managementPort;
+
         return http
                 .csrf(AbstractHttpConfigurer::disable)
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .httpBasic(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(auth -> auth
+                        // SSE 응답의 비동기 디스패치 (인증은 최초 요청에서 이미 완료됨)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(
                                 "/swagger-ui/**",
                                 "/swagger-ui.html",
@@ -50,7 +61,12 @@ public class SecurityConfig {
                         )
                         .permitAll()
                         .requestMatchers("/api/users/signup", "/api/users/login").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/boards/feed").permitAll() // 비로그인 피드 (CDN 캐시 대상)
+                        .requestMatchers("/actuator/health").permitAll() // 헬스 체크
+                        .requestMatchers(managementPortRequest).permitAll() // 메트릭 수집 (관리 포트는 외부에 열지 않음)
+                        .requestMatchers("/ws/**").permitAll() // WebSocket 핸드셰이크 (인증은 STOMP CONNECT 프레임에서 처리)
                         .requestMatchers("/api/users/verify-department/ocr").authenticated()
+                        .requestMatchers("/api/admin/**").hasRole("ADMIN") // 운영용 API (캐시 통계 등)
                         .anyRequest().authenticated()
                 )
                 .oauth2Login(oauth2 -> oauth2
@@ -0,0 +1,243 @@
+package com.campus.campuscommunity.global.config.sse;
+
+import com.campus.campuscommunity.global.common.response.ResponseCode;
+import com.campus.campuscommunity.global.config.exception.CustomException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * SSE 구독자 관리 및 이벤트 전송
+ *
+ * - 구독자는 채널(예: "boards", "comments:board:1")을 하나 구독하고, 필요하면 필터로 이벤트를 거릅니다.
+ * - 이벤트는 한 번만 SSE 프레임으로 만들어 각 구독자의 고정 크기 버퍼에 넣고, 전송은 별도 스레드에서 처리합니다.
+ *   (발행하는 요청 스레드는 네트워크 전송을 기다리지 않습니다)
+ * - 버퍼가 가득 찬 구독자(느린 소비자)는 연결을 끊습니다. 클라이언트는 재연결 후 목록 API로 빠진 항목을 채웁니다.
+ */
+@Slf4j
+@Component
+public class SseEmitterHub {
+
+    private static final Set<ResponseBodyEmitter.DataWithMediaType> CONNECTED = SseEmitter.event().comment("connected").build();
+    private static final Set<ResponseBodyEmitter.DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("heartbeat").build();
+
+    private final ObjectMapper objectMapper;
+    private final long timeoutMillis;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final ExecutorService dispatcher;
+
+    private final Map<String, Set<Subscriber>> channels = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final LongAdder droppedSubscribers = new LongAdder();
+
+    public SseEmitterHub(ObjectMapper objectMapper,
+                         @Value("${campus.sse.timeout-ms:1800000}") long timeoutMillis,
+                         @Value("${campus.sse.buffer-size:64}") int bufferSize,
+                         @Value("${campus.sse.max-subscribers:5000}") int maxSubscribers,
+                         @Value("${campus.sse.dispatch-threads:4}") int dispatchThreads) {
+        this.objectMapper = objectMapper;
+        this.timeoutMillis = timeoutMillis;
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.dispatcher = Executors.newFixedThreadPool(dispatchThreads, runnable -> {
+            Thread thread = new Thread(runnable, "sse-dispatch-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 채널 구독
+     * @param channel 채널 이름
+     * @param filter 전송할 이벤트 데이터 필터 (모두 받으려면 data -> true)
+     * @return 응답으로 반환할 SseEmitter
+     */
+    public SseEmitter subscribe(String channel, Predicate<Object> filter) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            log.warn("SSE 구독자 수 초과: 채널={}, 최대={}", channel, maxSubscribers);
+            throw new CustomException(ResponseCode.SERVICE_UNAVAILABLE, "실시간 구독자가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(channel, emitter, filter, new ArrayBlockingQueue<>(bufferSize));
+        channels.compute(channel, (key, subscribers) -> {
+            Set<Subscriber> channelSubscribers = subscribers != null ? subscribers : ConcurrentHashMap.newKeySet();
+            channelSubscribers.add(subscriber);
+            return channelSubscribers;
+        });
+
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(error -> remove(subscriber));
+
+        // 연결 직후 응답 헤더를 내보내기 위한 첫 이벤트
+        enqueue(subscriber, CONNECTED);
+        log.debug("SSE 구독: 채널={}, 전체 구독자={}", channel, subscriberCount.get());
+        return emitter;
+    }
+
+    /**
+     * 채널에 이벤트 발행
+     * @param channel 채널 이름
+     * @param eventName SSE 이벤트 이름
+     * @param eventId SSE 이벤트 ID (재연결 시 Last-Event-ID로 돌아옴)
+     * @param data 이벤트 데이터 (필터 판단용 원본 객체, 전송은 JSON)
+     */
+    public void publish(String channel, String eventName, Object eventId, Object data) {
+        Set<Subscriber> subscribers = channels.get(channel);
+        if (subscribers == null || subscribers.isEmpty()) {
+            return;
+        }
+
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(data);
+        } catch (JsonProcessingException e) {
+            log.error("SSE 이벤트 직렬화 실패: 채널={}, 이벤트={}, 오류={}", channel, eventName, e.getMessage());
+            return;
+        }
+
+        Set<ResponseBodyEmitter.DataWithMediaType> frame = SseEmitter.event()
+                .name(eventName)
+                .id(String.valueOf(eventId))
+                .data(json, MediaType.APPLICATION_JSON)
+                .build();
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.filter.test(data)) {
+                enqueue(subscriber, frame);
+            }
+        }
+    }
+
+    /**
+     * 주기적으로 하트비트 전송 (프록시의 유휴 연결 종료 방지, 끊어진 연결 정리)
+     */
+    @Scheduled(fixedDelayString = "${campus.sse.heartbeat-interval-ms:15000}")
+    public void sendHeartbeat() {
+        channels.values().forEach(subscribers ->
+                subscribers.forEach(subscriber -> enqueue(subscriber, HEARTBEAT)));
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    public long getDroppedSubscriberCount() {
+        return droppedSubscribers.sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        channels.values().forEach(subscribers -> subscribers.forEach(subscriber -> subscriber.closed.set(true)));
+    }
+
+    private void enqueue(Subscriber subscriber, Set<ResponseBodyEmitter.DataWithMediaType> frame) {
+        if (subscriber.closed.get()) {
+            return;
+        }
+        if (!subscriber.queue.offer(frame)) {
+            // 느린 소비자: 버퍼가 가득 차면 구독 해제 (전송 스레드가 현재 전송을 마친 뒤 연결을 닫음)
+            droppedSubscribers.increment();
+            log.info("SSE 느린 구독자 연결 종료: 채널={}, 버퍼={}", subscriber.channel, bufferSize);
+            subscriber.closed.set(true);
+            remove(subscriber);
+            scheduleDrain(subscriber);
+            return;
+        }
+        scheduleDrain(subscriber);
+    }
+
+    // 구독자마다 동시에 하나의 전송 작업만 실행
+    private void scheduleDrain(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            try {
+                dispatcher.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                subscriber.draining.set(false);
+            }
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            Set<ResponseBodyEmitter.DataWithMediaType> frame;
+            while (!subscriber.closed.get() && (frame = subscriber.queue.poll()) != null) {
+                subscriber.emitter.send(frame);
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트 연결 종료
+            subscriber.closed.set(true);
+            remove(subscriber);
+        } finally {
+            subscriber.draining.set(false);
+        }
+
+        if (subscriber.closed.get()) {
+            subscriber.queue.clear();
+            completeQuietly(subscriber);
+        } else if (!subscriber.queue.isEmpty()) {
+            // drain 종료 직후 들어온 이벤트 처리
+            scheduleDrain(subscriber);
+        }
+    }
+
+    private void completeQuietly(Subscriber subscriber) {
+        try {
+            subscriber.emitter.complete();
+        } catch (Exception e) {
+            log.debug("SSE 연결 종료 처리 실패: 채널={}, 오류={}", subscriber.channel, e.getMessage());
+        }
+    }
+
+    // 구독 해제 (채널에 남은 구독자가 없으면 채널도 제거)
+    private void remove(Subscriber subscriber) {
+        channels.computeIfPresent(subscriber.channel, (key, subscribers) -> {
+            if (subscribers.remove(subscriber)) {
+                subscriberCount.decrementAndGet();
+            }
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    private static final class Subscriber {
+        private final String channel;
+        private final SseEmitter emitter;
+        private final Predicate<Object> filter;
+        private final Queue<Set<ResponseBodyEmitter.DataWithMediaType>> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Subscriber(String channel, SseEmitter emitter, Predicate<Object> filter,
+                           Queue<Set<ResponseBodyEmitter.DataWithMediaType>> queue) {
+            this.channel = channel;
+            this.emitter = emitter;
+            this.filter = filter;
+            this.queue = queue;
+        }
+    }
+}
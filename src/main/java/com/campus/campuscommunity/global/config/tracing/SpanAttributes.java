@@ -0,0 +1,28 @@
+package com.campus.campuscommunity.global.config.tracing;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 현재 span에 속성 추가 (추적 중이 아니면 무시)
+ * 예) 서비스 메서드 span에 board.id, comment.count 기록
+ */
+@Component
+@RequiredArgsConstructor
+public class SpanAttributes {
+
+    public static final String BOARD_ID = "board.id";
+    public static final String COMMENT_COUNT = "comment.count";
+    public static final String QUERY_COUNT = "db.query.count";
+
+    private final Tracer tracer;
+
+    public void put(String key, Object value) {
+        Span span = tracer.currentSpan();
+        if (span != null && value != null) {
+            span.tag(key, String.valueOf(value));
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.campus.campuscommunity.global.config.tracing;
+
+import com.campus.campuscommunity.global.config.query.QueryCountContext;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.aop.ObservedAspect;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.exporter.SpanExportingPredicate;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 분산 추적 설정 (Micrometer Tracing + OpenTelemetry)
+ *
+ * 요청 하나에 아래 span이 만들어집니다.
+ * - 컨트롤러: HTTP 서버 요청 span (Spring MVC 자동 계측, db.query.count 포함)
+ * - 서비스: {@code @Observed}가 붙은 서비스의 public 메서드
+ * - 리포지토리: 리포지토리 메서드(JPA 쿼리)마다 span (db.query.count 포함)
+ * - 외부 호출: RestTemplateBuilder로 만든 RestTemplate의 HTTP 클라이언트 span (OCR)
+ *
+ * 내보내기: MANAGEMENT_OTLP_TRACING_ENDPOINT(OTLP) 또는 campus.tracing.file-exporter.path(JSON 파일)
+ */
+@Configuration
+public class TracingConfig {
+
+    // @Observed 처리
+    @Bean
+    public ObservedAspect observedAspect(ObservationRegistry observationRegistry) {
+        return new ObservedAspect(observationRegistry);
+    }
+
+    /**
+     * 주기 작업(@Scheduled) span은 느린 경우에만 내보내기
+     * 카운트 전송(250ms)/하트비트 같은 짧은 주기 작업이 추적 저장소를 채우지 않도록 합니다.
+     */
+    @Bean
+    public SpanExportingPredicate scheduledTaskSpanPredicate(
+            @Value("${campus.tracing.scheduled-task-threshold-ms:100}") long thresholdMillis) {
+        Duration threshold = Duration.ofMillis(thresholdMillis);
+        return span -> !span.getName().startsWith("task ") || span.getDuration().compareTo(threshold) >= 0;
+    }
+
+    // 로컬 확인용 파일 내보내기 (span 하나당 JSON 한 줄)
+    @Bean
+    @ConditionalOnProperty(name = "campus.tracing.file-exporter.path")
+    public FileSpanExporter fileSpanExporter(Environment environment) {
+        return new FileSpanExporter(Path.of(environment.getRequiredProperty("campus.tracing.file-exporter.path")));
+    }
+
+    /**
+     * 리포지토리 메서드 span
+     * 추적 중인 요청 안에서만 만들어, 스케줄러 등에서 리포지토리만 단독 span으로 남지 않게 합니다.
+     */
+    @Bean
+    public static BeanPostProcessor repositoryTracingPostProcessor(ObjectProvider<Tracer> tracerProvider) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory ->
+                            factory.addRepositoryProxyPostProcessor((proxyFactory, repositoryInformation) ->
+                                    proxyFactory.addAdvice(repositorySpanInterceptor(tracerProvider,
+                                            repositoryInformation.getRepositoryInterface().getSimpleName()))));
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static MethodInterceptor repositorySpanInterceptor(ObjectProvider<Tracer> tracerProvider, String repositoryName) {
+        return invocation -> {
+            Tracer tracer = tracerProvider.getIfAvailable();
+            if (tracer == null || tracer.currentSpan() == null) {
+                return invocation.proceed();
+            }
+
+            String method = invocation.getMethod().getName();
+            Span span = tracer.nextSpan()
+                    .name(repositoryName + "." + method)
+                    .tag("db.system", "mysql")
+                    .tag("db.repository", repositoryName)
+                    .tag("db.operation", method)
+                    .start();
+            QueryCountContext queryCount = QueryCountContext.current();
+            int queriesBefore = queryCount != null ? queryCount.getTotal() : 0;
+            try (Tracer.SpanInScope ignored = tracer.withSpan(span)) {
+                return invocation.proceed();
+            } catch (Throwable e) {
+                span.error(e);
+                throw e;
+            } finally {
+                if (queryCount != null) {
+                    span.tag("db.query.count", queryCount.getTotal() - queriesBefore);
+                }
+                span.end();
+            }
+        };
+    }
+}
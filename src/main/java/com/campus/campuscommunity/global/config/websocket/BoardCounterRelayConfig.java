@@ -0,0 +1,35 @@
+package com.campus.campuscommunity.global.config.websocket;
+
+import com.campus.campuscommunity.domain.board.service.BoardCounterService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 게시글 카운트 메시지 노드 간 전달 (campus.board.counter-relay=redis)
+ *
+ * 각 노드가 모아 보낸 카운트 메시지를 모든 노드(보낸 노드 포함)가 받아 자기 노드의 STOMP 구독자에게 전송합니다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "campus.board.counter-relay", havingValue = "redis")
+public class BoardCounterRelayConfig {
+
+    @Bean
+    public RedisMessageListenerContainer boardCounterListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       BoardCounterService boardCounterService) {
+        log.info("게시글 카운트 전송: Redis pub/sub으로 모든 노드에 전달");
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> boardCounterService.receive(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(BoardCounterService.RELAY_CHANNEL));
+        return container;
+    }
+}
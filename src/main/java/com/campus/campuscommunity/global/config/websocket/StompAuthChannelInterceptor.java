@@ -0,0 +1,60 @@
+package com.campus.campuscommunity.global.config.websocket;
+
+import com.campus.campuscommunity.global.config.jwt.JwtTokenProvider;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+import java.util.regex.Pattern;
+
+/**
+ * STOMP 인바운드 프레임 검사
+ *
+ * - CONNECT: Authorization 헤더(Bearer JWT) 검증 후 세션 사용자 설정
+ * - SUBSCRIBE: 게시글 카운트 토픽만 허용
+ * - SEND: 클라이언트가 토픽에 직접 발행하지 못하도록 차단
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+
+    private static final Pattern ALLOWED_SUBSCRIPTION = Pattern.compile("^/topic/boards/\\d+/counters$");
+
+    private final JwtTokenProvider jwtTokenProvider;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+
+        StompCommand command = accessor.getCommand();
+        if (command == StompCommand.CONNECT) {
+            String authorization = accessor.getFirstNativeHeader("Authorization");
+            if (authorization == null || !authorization.startsWith("Bearer ")
+                    || !jwtTokenProvider.validateToken(authorization.substring(7))) {
+                log.warn("WebSocket 인증 실패: 세션={}", accessor.getSessionId());
+                throw new MessageDeliveryException("인증이 필요합니다.");
+            }
+            accessor.setUser(jwtTokenProvider.getAuthentication(authorization.substring(7)));
+        } else if (command == StompCommand.SUBSCRIBE) {
+            String destination = accessor.getDestination();
+            if (destination == null || !ALLOWED_SUBSCRIPTION.matcher(destination).matches()) {
+                log.warn("허용되지 않은 WebSocket 구독: 세션={}, 주소={}", accessor.getSessionId(), destination);
+                throw new MessageDeliveryException("구독할 수 없는 주소입니다.");
+            }
+        } else if (command == StompCommand.SEND) {
+            throw new MessageDeliveryException("메시지를 보낼 수 없습니다.");
+        }
+        return message;
+    }
+}
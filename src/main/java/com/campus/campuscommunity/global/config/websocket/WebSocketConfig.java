@@ -0,0 +1,72 @@
+package com.campus.campuscommunity.global.config.websocket;
+
+import com.campus.campuscommunity.global.config.CorsConfig;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+/**
+ * WebSocket(STOMP) 설정
+ *
+ * - 접속 주소: /ws (STOMP CONNECT 프레임의 Authorization 헤더로 인증)
+ * - 구독 주소: /topic/boards/{boardId}/counters
+ * - 메시지는 한 번만 직렬화되고 내장 브로커가 구독자 세션마다 같은 payload를 전송합니다.
+ * - 내장 브로커는 자기 노드의 세션에만 전송하므로, 여러 노드에서는 카운트 메시지를 Redis로 모든 노드에 나눠 줍니다
+ *   (BoardCounterService, campus.board.counter-relay=redis).
+ * - 느린 클라이언트는 전송 시간/버퍼 한도를 넘으면 연결을 끊어 다른 구독자 전송을 막지 않게 합니다.
+ */
+@Configuration
+@EnableWebSocketMessageBroker
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+
+    private final StompAuthChannelInterceptor stompAuthChannelInterceptor;
+
+    @Override
+    public void registerStompEndpoints(StompEndpointRegistry registry) {
+        registry.addEndpoint("/ws")
+                .setAllowedOriginPatterns(CorsConfig.ALLOWED_ORIGINS);
+    }
+
+    // STOMP heartbeat 전용 스케줄러 (빈으로 등록해 컨텍스트 종료 시 스레드도 정리됨, @Scheduled는 taskScheduler 사용)
+    @Bean
+    public ThreadPoolTaskScheduler webSocketHeartbeatScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("ws-heartbeat-");
+        return scheduler;
+    }
+
+    @Override
+    public void configureMessageBroker(MessageBrokerRegistry registry) {
+        registry.enableSimpleBroker("/topic")
+                .setHeartbeatValue(new long[]{10000, 10000})
+                .setTaskScheduler(webSocketHeartbeatScheduler());
+        registry.setApplicationDestinationPrefixes("/app");
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(stompAuthChannelInterceptor);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        int threads = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+        registration.taskExecutor().corePoolSize(threads).maxPoolSize(threads);
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit(10 * 1000)          // 한 세션에 10초 이상 전송이 밀리면 연결 종료
+                .setSendBufferSizeLimit(256 * 1024)        // 세션별 대기 버퍼 256KB
+                .setMessageSizeLimit(16 * 1024);           // 클라이언트가 보내는 프레임 크기 제한
+    }
+}
@@ -0,0 +1,163 @@
+package com.campus.campuscommunity.benchmark;
+
+import com.campus.campuscommunity.domain.board.entity.Board;
+import com.campus.campuscommunity.domain.board.entity.BoardCategory;
+import com.campus.campuscommunity.domain.board.repository.BoardRepository;
+import com.campus.campuscommunity.domain.board.repository.BoardSummaryView;
+import com.campus.campuscommunity.domain.department.service.DepartmentDictionary;
+import com.campus.campuscommunity.domain.user.entity.User;
+import com.campus.campuscommunity.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 목록 한 페이지 조회 비용 벤치마크
+ * 같은 피드 쿼리를 엔티티 조회(영속성 컨텍스트 적재)와 BoardSummaryView projection 조회로 비교합니다.
+ * (리포지토리 프록시/파생 쿼리 처리 비용은 두 방식이 같으므로 EntityManager로 직접 실행)
+ * - 페이지당 힙 할당량 (현재 스레드 기준)
+ * - 페이지당 조회 시간
+ * - 목록 조회에서 읽지 않는 본문(board_contents) 바이트 수
+ * 실행: ./gradlew benchmark --tests '*BoardListFetchBenchmarkTest'
+ */
+@Tag("benchmark")
+@DataJpaTest(showSql = false)
+@Import(DepartmentDictionary.class) // 작성자 학과 컨버터(DepartmentIdConverter)가 사용
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("benchmark")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class BoardListFetchBenchmarkTest {
+
+    private static final int BOARD_COUNT = Integer.getInteger("benchmark.boards", 2000);
+    private static final int ROUNDS = Integer.getInteger("benchmark.rounds", 1000);
+    private static final int[] PAGE_SIZES = {10, 100};
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeAll
+    void setUp() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+
+        Random random = new Random(20250301L);
+        transactionTemplate.executeWithoutResult(status -> {
+            User writer = userRepository.save(User.builder()
+                    .email("bench-list@university.ac.kr")
+                    .name("벤치")
+                    .department("컴퓨터공학과")
+                    .verified(true)
+                    .build());
+            List<Board> boards = new ArrayList<>(BOARD_COUNT);
+            for (int i = 0; i < BOARD_COUNT; i++) {
+                boards.add(Board.builder()
+                        .title("게시글 제목 " + i + " - 스터디 모집합니다")
+                        .content("본문 ".repeat(100 + random.nextInt(900)))
+                        .writer(writer)
+                        .writerDepartment("컴퓨터공학과")
+                        .category(BoardCategory.FREE)
+                        .createdAt(LocalDateTime.now())
+                        .updatedAt(LocalDateTime.now())
+                        .build());
+            }
+            boardRepository.saveAll(boards);
+        });
+    }
+
+    @Test
+    void boardListPage() {
+        for (int pageSize : PAGE_SIZES) {
+            PageRequest pageable = PageRequest.of(0, pageSize);
+
+            Measurement entity = measure(() -> entityManager
+                    .createQuery("SELECT b FROM Board b WHERE b.isDeleted = false AND b.id < :cursor ORDER BY b.id DESC", Board.class)
+                    .setParameter("cursor", Long.MAX_VALUE)
+                    .setMaxResults(pageSize)
+                    .getResultList());
+            Measurement projection = measure(() -> entityManager
+                    .createQuery("SELECT new com.campus.campuscommunity.domain.board.repository.BoardSummaryView(" +
+                            "b.id, b.title, b.writerDepartment, b.category, b.viewCount, b.likeCount, b.commentCount, b.createdAt) " +
+                            "FROM Board b WHERE b.isDeleted = false AND b.id < :cursor ORDER BY b.id DESC", BoardSummaryView.class)
+                    .setParameter("cursor", Long.MAX_VALUE)
+                    .setMaxResults(pageSize)
+                    .getResultList());
+
+            List<Long> ids = readOnlyTransaction.execute(status ->
+                    boardRepository.findByIsDeletedFalseAndIdLessThanOrderByIdDesc(Long.MAX_VALUE, pageable)
+                            .map(BoardSummaryView::id)
+                            .getContent());
+            Long contentBytes = jdbcTemplate.queryForObject(
+                    "SELECT SUM(OCTET_LENGTH(content)) FROM board_contents WHERE board_id IN (:ids)", Map.of("ids", ids), Long.class);
+
+            report("entity", pageSize, entity);
+            report("projection", pageSize, projection);
+            System.out.printf("[benchmark] board list page: size=%d -> content not read %d bytes/page%n",
+                    pageSize, contentBytes != null ? contentBytes : 0);
+        }
+    }
+
+    // 읽기 전용 트랜잭션 안에서 조회 (ROUNDS번 워밍업 후 ROUNDS번 측정)
+    private Measurement measure(Supplier<List<?>> query) {
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long allocatedBytes = 0;
+        long elapsedNanos = 0;
+        for (int round = 0; round < ROUNDS * 2; round++) {
+            long allocatedBefore = threadBean.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+            readOnlyTransaction.execute(status -> query.get());
+            long nanos = System.nanoTime() - start;
+            long allocated = threadBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+            if (round >= ROUNDS) {
+                elapsedNanos += nanos;
+                allocatedBytes += allocated;
+            }
+        }
+        return new Measurement(allocatedBytes / ROUNDS, elapsedNanos / ROUNDS);
+    }
+
+    private void report(String mode, int pageSize, Measurement measurement) {
+        System.out.printf("[benchmark] board list page (%s): size=%d -> %.1f KB allocated/page, %.3f ms/page%n",
+                mode, pageSize, measurement.allocatedBytes() / 1024.0, measurement.nanos() / 1_000_000.0);
+    }
+
+    private record Measurement(long allocatedBytes, long nanos) {
+    }
+}
@@ -0,0 +1,173 @@
+package com.campus.campuscommunity.benchmark;
+
+import com.campus.campuscommunity.domain.board.entity.Board;
+import com.campus.campuscommunity.domain.board.entity.BoardCategory;
+import com.campus.campuscommunity.domain.board.entity.BoardLike;
+import com.campus.campuscommunity.domain.board.repository.BoardLikeRepository;
+import com.campus.campuscommunity.domain.board.repository.BoardRepository;
+import com.campus.campuscommunity.domain.comment.entity.Comment;
+import com.campus.campuscommunity.domain.comment.repository.CommentRepository;
+import com.campus.campuscommunity.domain.department.service.DepartmentDictionary;
+import com.campus.campuscommunity.domain.user.entity.User;
+import com.campus.campuscommunity.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 댓글 / 게시글 좋아요 대량 insert 처리량 벤치마크
+ * JDBC 배치 크기 1(배치 미사용)과 설정값(50)을 비교합니다.
+ * 실행: ./gradlew benchmark --tests '*WriteBurstBenchmarkTest'
+ */
+@Tag("benchmark")
+@DataJpaTest
+@Import(DepartmentDictionary.class) // 작성자 학과 컨버터(DepartmentIdConverter)가 사용
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("benchmark")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class WriteBurstBenchmarkTest {
+
+    private static final int BURST_SIZE = Integer.getInteger("benchmark.burst-size", 2000);
+    private static final int ROUNDS = Integer.getInteger("benchmark.rounds", 5);
+    private static final int[] BATCH_SIZES = {1, 50};
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private BoardLikeRepository boardLikeRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private List<User> users;
+
+    @BeforeAll
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        users = transactionTemplate.execute(status -> {
+            List<User> created = new ArrayList<>();
+            for (int i = 0; i < BURST_SIZE; i++) {
+                created.add(userRepository.save(User.builder()
+                        .email("bench" + i + "@university.ac.kr")
+                        .name("벤치" + i)
+                        .department("컴퓨터공학과")
+                        .verified(true)
+                        .build()));
+            }
+            return created;
+        });
+    }
+
+    @Test
+    void commentInsertBurst() {
+        for (int batchSize : BATCH_SIZES) {
+            Board board = createBoard();
+            long elapsedNanos = 0;
+            for (int round = 0; round <= ROUNDS; round++) {
+                long nanos = timeInTransaction(batchSize, () -> {
+                    List<Comment> comments = new ArrayList<>(BURST_SIZE);
+                    for (int i = 0; i < BURST_SIZE; i++) {
+                        comments.add(Comment.builder()
+                                .content("벤치마크 댓글 " + i)
+                                .board(board)
+                                .writer(users.get(i))
+                                .writerDepartment("컴퓨터공학과")
+                                .createdAt(LocalDateTime.now())
+                                .updatedAt(LocalDateTime.now())
+                                .build());
+                    }
+                    commentRepository.saveAll(comments);
+                });
+                // 첫 라운드는 워밍업
+                if (round > 0) {
+                    elapsedNanos += nanos;
+                }
+            }
+            report("Comment", batchSize, elapsedNanos);
+        }
+    }
+
+    @Test
+    void boardLikeInsertBurst() {
+        for (int batchSize : BATCH_SIZES) {
+            long elapsedNanos = 0;
+            for (int round = 0; round <= ROUNDS; round++) {
+                // (board_id, user_id) 유니크 제약 때문에 라운드마다 새 게시글 사용
+                Board board = createBoard();
+                long nanos = timeInTransaction(batchSize, () -> {
+                    List<BoardLike> likes = new ArrayList<>(BURST_SIZE);
+                    for (int i = 0; i < BURST_SIZE; i++) {
+                        likes.add(BoardLike.builder()
+                                .board(board)
+                                .user(users.get(i))
+                                .status(BoardLike.LikeStatus.LIKE)
+                                .createdAt(LocalDateTime.now())
+                                .build());
+                    }
+                    boardLikeRepository.saveAll(likes);
+                });
+                if (round > 0) {
+                    elapsedNanos += nanos;
+                }
+            }
+            report("BoardLike", batchSize, elapsedNanos);
+        }
+    }
+
+    private Board createBoard() {
+        return transactionTemplate.execute(status -> boardRepository.save(Board.builder()
+                .title("벤치마크 게시글")
+                .content("벤치마크용 게시글입니다.")
+                .writer(users.get(0))
+                .writerDepartment("컴퓨터공학과")
+                .category(BoardCategory.FREE)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build()));
+    }
+
+    // 한 트랜잭션 안에서 작업을 수행하고 커밋(flush)까지의 시간을 측정
+    private long timeInTransaction(int batchSize, Runnable work) {
+        long start = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+            work.run();
+        });
+        return System.nanoTime() - start;
+    }
+
+    private void report(String entity, int batchSize, long elapsedNanos) {
+        double millisPerRound = elapsedNanos / 1_000_000.0 / ROUNDS;
+        double rowsPerSecond = BURST_SIZE / (millisPerRound / 1000.0);
+        System.out.printf("[benchmark] %s insert burst: rows=%d, jdbc.batch_size=%d -> %.1f ms/burst, %.0f rows/s%n",
+                entity, BURST_SIZE, batchSize, millisPerRound, rowsPerSecond);
+    }
+}
@@ -0,0 +1,142 @@
+package com.campus.campuscommunity.domain.archive.service;
+
+import com.campus.campuscommunity.domain.archive.entity.ArchivedContent;
+import com.campus.campuscommunity.domain.archive.repository.ArchiveCheckpointRepository;
+import com.campus.campuscommunity.domain.archive.repository.ArchivedContentRepository;
+import com.campus.campuscommunity.domain.board.dto.BoardRequestDto;
+import com.campus.campuscommunity.domain.board.entity.BoardCategory;
+import com.campus.campuscommunity.domain.board.service.BoardService;
+import com.campus.campuscommunity.domain.comment.dto.CommentRequestDto;
+import com.campus.campuscommunity.domain.comment.service.CommentService;
+import com.campus.campuscommunity.domain.user.entity.User;
+import com.campus.campuscommunity.domain.user.repository.UserRepository;
+import com.campus.campuscommunity.global.config.compression.TextCompressor;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 삭제 게시글/댓글 보관 테스트
+ * 보관 기간 0일, 배치 크기 1로 여러 배치에 걸쳐 처리되는지 확인합니다.
+ */
+@SpringBootTest(properties = {
+        "campus.archive.retention-days=0",
+        "campus.archive.batch-size=1",
+        "campus.archive.pause-ms=0"
+})
+class DeletedContentArchiverTest {
+
+    @Autowired
+    private DeletedContentArchiver archiver;
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ArchivedContentRepository archivedContentRepository;
+
+    @Autowired
+    private ArchiveCheckpointRepository archiveCheckpointRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void archivesDeletedBoardsAndCommentsWithTheirLikes() throws Exception {
+        String email = "archive-" + UUID.randomUUID() + "@campus.ac.kr";
+        userRepository.save(User.builder()
+                .email(email)
+                .password("password")
+                .name("작성자")
+                .department("컴퓨터공학과")
+                .verified(true)
+                .providerType(User.ProviderType.LOCAL)
+                .role(User.Role.USER)
+                .build());
+
+        // 삭제된 게시글 (댓글, 좋아요 포함)
+        Long deletedBoardId = createBoard(email);
+        Long commentOfDeletedBoard = createComment(email, deletedBoardId, null);
+        boardService.toggleLike(deletedBoardId, email, true);
+        commentService.toggleLike(commentOfDeletedBoard, email);
+        boardService.deleteBoard(deletedBoardId, email);
+
+        // 살아 있는 게시글의 삭제된 댓글
+        Long liveBoardId = createBoard(email);
+        Long deletedComment = createComment(email, liveBoardId, null);
+        commentService.toggleLike(deletedComment, email);
+        commentService.deleteComment(deletedComment, email);
+        Long liveComment = createComment(email, liveBoardId, null);
+        // 대댓글이 남아 있는 삭제된 댓글은 보관하지 않음
+        Long deletedParent = createComment(email, liveBoardId, null);
+        Long liveReply = createComment(email, liveBoardId, deletedParent);
+        commentService.deleteComment(deletedParent, email);
+
+        archiver.archive();
+
+        assertThat(count("SELECT COUNT(*) FROM boards WHERE id = ?", deletedBoardId)).isZero();
+        assertThat(count("SELECT COUNT(*) FROM board_contents WHERE board_id = ?", deletedBoardId)).isZero();
+        assertThat(count("SELECT COUNT(*) FROM board_likes WHERE board_id = ?", deletedBoardId)).isZero();
+        assertThat(count("SELECT COUNT(*) FROM comments WHERE board_id = ?", deletedBoardId)).isZero();
+        assertThat(count("SELECT COUNT(*) FROM comments WHERE id = ?", deletedComment)).isZero();
+        assertThat(count("SELECT COUNT(*) FROM comment_likes WHERE comment_id IN (?, ?)", commentOfDeletedBoard, deletedComment)).isZero();
+        assertThat(count("SELECT COUNT(*) FROM comments WHERE id IN (?, ?, ?)", liveComment, deletedParent, liveReply)).isEqualTo(3);
+        assertThat(count("SELECT COUNT(*) FROM boards WHERE id = ?", liveBoardId)).isEqualTo(1);
+
+        JsonNode board = payload(ArchivedContent.ContentType.BOARD, deletedBoardId);
+        assertThat(board.get("content").asText()).isEqualTo("게시글 본문");
+        assertThat(board.get("likes")).hasSize(1);
+        assertThat(board.get("comments")).hasSize(1);
+        assertThat(board.get("comments").get(0).get("likes")).hasSize(1);
+
+        JsonNode comment = payload(ArchivedContent.ContentType.COMMENT, deletedComment);
+        assertThat(comment.get("comment").get("content").asText()).isEqualTo("댓글 내용");
+        assertThat(comment.get("likes")).hasSize(1);
+        assertThat(archivedContentRepository.findByContentTypeAndOriginalId(ArchivedContent.ContentType.COMMENT, deletedParent)).isEmpty();
+
+        // 끝까지 처리했으므로 다음 실행은 처음부터
+        assertThat(archiveCheckpointRepository.findById(DeletedContentArchiver.BOARDS).orElseThrow().getLastId()).isZero();
+        assertThat(archiveCheckpointRepository.findById(DeletedContentArchiver.COMMENTS).orElseThrow().getLastId()).isZero();
+    }
+
+    private Long createBoard(String email) {
+        return boardService.createBoard(email, BoardRequestDto.CreateRequest.builder()
+                .title("보관 테스트")
+                .content("게시글 본문")
+                .category(BoardCategory.FREE)
+                .build()).getId();
+    }
+
+    private Long createComment(String email, Long boardId, Long parentId) {
+        return commentService.createComment(email, CommentRequestDto.CreateRequest.builder()
+                .content("댓글 내용")
+                .boardId(boardId)
+                .parentId(parentId)
+                .build()).getComment().getId();
+    }
+
+    private long count(String sql, Object... args) {
+        return jdbcTemplate.queryForObject(sql, Long.class, args);
+    }
+
+    private JsonNode payload(ArchivedContent.ContentType type, Long originalId) throws Exception {
+        ArchivedContent archived = archivedContentRepository.findByContentTypeAndOriginalId(type, originalId).orElseThrow();
+        return objectMapper.readTree(TextCompressor.decompress(archived.getPayload()));
+    }
+}
@@ -0,0 +1,66 @@
+package com.campus.campuscommunity.domain.board.repository;
+
+import com.campus.campuscommunity.domain.board.dto.BoardRequestDto;
+import com.campus.campuscommunity.domain.board.entity.BoardCategory;
+import com.campus.campuscommunity.domain.board.service.BoardService;
+import com.campus.campuscommunity.domain.user.entity.User;
+import com.campus.campuscommunity.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 키워드 검색 테스트
+ * 압축 기준보다 긴 본문도 검색되는지 확인합니다.
+ */
+@SpringBootTest
+class BoardSearchTest {
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${campus.compression.text-threshold-bytes}")
+    private int compressionThresholdBytes;
+
+    @Test
+    void findsWordThatAppearsOnlyInLongBody() {
+        String email = "search-" + UUID.randomUUID() + "@campus.ac.kr";
+        userRepository.save(User.builder()
+                .email(email)
+                .password("password")
+                .name("작성자")
+                .department("컴퓨터공학과")
+                .verified(true)
+                .providerType(User.ProviderType.LOCAL)
+                .role(User.Role.USER)
+                .build());
+
+        // 반복이 많아 압축되는 긴 본문 끝에만 있는 단어
+        String keyword = "검색어" + UUID.randomUUID().toString().substring(0, 8);
+        String content = "자료구조 스터디 정리 노트입니다. ".repeat(300) + keyword;
+        assertThat(content.getBytes(StandardCharsets.UTF_8).length).isGreaterThan(compressionThresholdBytes);
+
+        Long boardId = boardService.createBoard(email, BoardRequestDto.CreateRequest.builder()
+                .title("스터디 노트")
+                .content(content)
+                .category(BoardCategory.STUDY)
+                .build()).getId();
+
+        assertThat(boardRepository.searchByKeyword(keyword, PageRequest.of(0, 10)).getContent())
+                .extracting(BoardSummaryView::id)
+                .containsExactly(boardId);
+    }
+}
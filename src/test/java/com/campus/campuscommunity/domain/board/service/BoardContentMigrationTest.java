@@ -0,0 +1,83 @@
+package com.campus.campuscommunity.domain.board.service;
+
+import com.campus.campuscommunity.domain.board.dto.BoardRequestDto;
+import com.campus.campuscommunity.domain.board.entity.BoardCategory;
+import com.campus.campuscommunity.domain.user.entity.User;
+import com.campus.campuscommunity.domain.user.repository.UserRepository;
+import com.campus.campuscommunity.global.config.migration.MigrationHistory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 본문 이전 테스트
+ * 이전 DB처럼 boards.content 컬럼을 만들어 두고 실행합니다.
+ */
+@SpringBootTest
+class BoardContentMigrationTest {
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MigrationHistory migrationHistory;
+
+    @Test
+    void copiesLegacyBodiesOnceAndSkipsAfterCompletion() throws Exception {
+        Long boardId = createBoard();
+        jdbcTemplate.execute("ALTER TABLE boards ADD COLUMN content VARCHAR(1000)");
+        try {
+            jdbcTemplate.update("UPDATE boards SET content = '이전 본문' WHERE id = ?", boardId);
+            jdbcTemplate.update("DELETE FROM board_contents WHERE board_id = ?", boardId);
+            jdbcTemplate.update("DELETE FROM schema_migrations WHERE name = 'board-content'");
+            BoardContentMigration migration = new BoardContentMigration(jdbcTemplate, migrationHistory, 1000, 0, false);
+
+            migration.run(null);
+            migration.run(null); // 이미 복사된 게시글은 건너뜀
+
+            assertThat(bodies(boardId)).containsExactly("이전 본문");
+            assertThat(migrationHistory.isDone("board-content")).isTrue();
+
+            // 완료 기록이 있으면 다시 복사하지 않음 (boards를 읽지 않음)
+            jdbcTemplate.update("DELETE FROM board_contents WHERE board_id = ?", boardId);
+            migration.run(null);
+            assertThat(bodies(boardId)).isEmpty();
+        } finally {
+            jdbcTemplate.execute("ALTER TABLE boards DROP COLUMN content");
+        }
+    }
+
+    private List<String> bodies(Long boardId) {
+        return jdbcTemplate.queryForList("SELECT content FROM board_contents WHERE board_id = ?", String.class, boardId);
+    }
+
+    private Long createBoard() {
+        String email = "migration-" + UUID.randomUUID() + "@campus.ac.kr";
+        userRepository.save(User.builder()
+                .email(email)
+                .password("password")
+                .name("작성자")
+                .department("컴퓨터공학과")
+                .verified(true)
+                .providerType(User.ProviderType.LOCAL)
+                .role(User.Role.USER)
+                .build());
+        return boardService.createBoard(email, BoardRequestDto.CreateRequest.builder()
+                .title("이전 테스트")
+                .content("새 본문")
+                .category(BoardCategory.FREE)
+                .build()).getId();
+    }
+}
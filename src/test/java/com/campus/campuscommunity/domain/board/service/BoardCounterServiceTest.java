@@ -0,0 +1,140 @@
+package com.campus.campuscommunity.domain.board.service;
+
+import com.campus.campuscommunity.domain.board.dto.BoardRequestDto;
+import com.campus.campuscommunity.domain.board.dto.BoardResponseDto;
+import com.campus.campuscommunity.domain.board.entity.BoardCategory;
+import com.campus.campuscommunity.domain.board.event.BoardCounterChangedEvent;
+import com.campus.campuscommunity.domain.user.entity.User;
+import com.campus.campuscommunity.domain.user.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 게시글 카운트 전송 테스트
+ * 주기 전송(flush)은 직접 호출하고 STOMP/Redis 전송은 mock으로 확인합니다.
+ */
+@SpringBootTest
+class BoardCounterServiceTest {
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+
+    @Test
+    void coalescesDeltasPerBoardAndAddsCurrentCounts() {
+        BoardCounterService service = localService();
+        Long boardId = createBoard();
+        jdbcTemplate.update("UPDATE boards SET like_count = 7, dislike_count = 1 WHERE id = ?", boardId);
+
+        service.onCounterChanged(BoardCounterChangedEvent.ofBoardLike(boardId, 1, 0));
+        service.onCounterChanged(BoardCounterChangedEvent.ofBoardLike(boardId, 1, 0));
+        service.onCounterChanged(BoardCounterChangedEvent.ofBoardLike(boardId, -1, 1));
+        service.onCounterChanged(BoardCounterChangedEvent.ofComment(boardId, 1));
+        service.flush();
+
+        ArgumentCaptor<BoardResponseDto.BoardCounterDelta> sent = ArgumentCaptor.forClass(BoardResponseDto.BoardCounterDelta.class);
+        verify(messagingTemplate, times(1)).convertAndSend(eq(BoardCounterService.topic(boardId)), sent.capture());
+        BoardResponseDto.BoardCounterDelta delta = sent.getValue();
+        assertThat(delta.getLikeDelta()).isEqualTo(1);
+        assertThat(delta.getDislikeDelta()).isEqualTo(1);
+        assertThat(delta.getCommentDelta()).isEqualTo(1);
+        assertThat(delta.getLikeCount()).isEqualTo(7);
+        assertThat(delta.getDislikeCount()).isEqualTo(1);
+
+        // 보낸 변화량은 비워짐
+        service.flush();
+        verify(messagingTemplate, times(1)).convertAndSend(anyString(), any(Object.class));
+    }
+
+    @Test
+    void cancelledOutDeltasAreNotSent() {
+        BoardCounterService service = localService();
+        Long boardId = createBoard();
+
+        service.onCounterChanged(BoardCounterChangedEvent.ofBoardLike(boardId, 1, 0));
+        service.onCounterChanged(BoardCounterChangedEvent.ofBoardLike(boardId, -1, 0));
+        service.onCounterChanged(BoardCounterChangedEvent.ofCommentLike(boardId, 1L, 1));
+        service.onCounterChanged(BoardCounterChangedEvent.ofCommentLike(boardId, 1L, -1));
+        service.flush();
+
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+    }
+
+    @Test
+    void redisRelayDeliversThroughEveryNode() {
+        StringRedisTemplate redis = mock(StringRedisTemplate.class);
+        @SuppressWarnings("unchecked")
+        ObjectProvider<StringRedisTemplate> redisProvider = mock(ObjectProvider.class);
+        when(redisProvider.getObject()).thenReturn(redis);
+        BoardCounterService sender = new BoardCounterService(mock(SimpMessagingTemplate.class), jdbcTemplate, objectMapper, redisProvider, "redis");
+        BoardCounterService receiver = new BoardCounterService(messagingTemplate, jdbcTemplate, objectMapper, redisProvider, "redis");
+        Long boardId = createBoard();
+
+        sender.onCounterChanged(BoardCounterChangedEvent.ofBoardLike(boardId, 1, 0));
+        sender.flush();
+
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        verify(redis).convertAndSend(eq(BoardCounterService.RELAY_CHANNEL), message.capture());
+        receiver.receive(message.getValue());
+
+        ArgumentCaptor<BoardResponseDto.BoardCounterDelta> sent = ArgumentCaptor.forClass(BoardResponseDto.BoardCounterDelta.class);
+        verify(messagingTemplate).convertAndSend(eq(BoardCounterService.topic(boardId)), sent.capture());
+        assertThat(sent.getValue().getLikeDelta()).isEqualTo(1);
+        assertThat(sent.getValue().getLikeCount()).isZero();
+        assertThat(sent.getValue().getCommentLikeDeltas()).isEqualTo(Map.of());
+    }
+
+    private BoardCounterService localService() {
+        @SuppressWarnings("unchecked")
+        ObjectProvider<StringRedisTemplate> redisProvider = mock(ObjectProvider.class);
+        return new BoardCounterService(messagingTemplate, jdbcTemplate, objectMapper, redisProvider, "local");
+    }
+
+    private Long createBoard() {
+        String email = "counter-" + UUID.randomUUID() + "@campus.ac.kr";
+        userRepository.save(User.builder()
+                .email(email)
+                .password("password")
+                .name("작성자")
+                .department("컴퓨터공학과")
+                .verified(true)
+                .providerType(User.ProviderType.LOCAL)
+                .role(User.Role.USER)
+                .build());
+        return boardService.createBoard(email, BoardRequestDto.CreateRequest.builder()
+                .title("카운트 테스트")
+                .content("본문")
+                .category(BoardCategory.FREE)
+                .build()).getId();
+    }
+}
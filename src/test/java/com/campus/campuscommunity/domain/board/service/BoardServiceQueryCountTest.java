@@ -0,0 +1,110 @@
+package com.campus.campuscommunity.domain.board.service;
+
+import com.campus.campuscommunity.domain.board.dto.BoardRequestDto;
+import com.campus.campuscommunity.domain.board.entity.BoardCategory;
+import com.campus.campuscommunity.domain.user.entity.User;
+import com.campus.campuscommunity.domain.user.repository.UserRepository;
+import com.campus.campuscommunity.global.config.query.QueryCountExtension;
+import com.campus.campuscommunity.global.config.query.QueryCounter;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+
+import java.util.UUID;
+
+/**
+ * 게시글 서비스 SQL 실행 횟수 테스트
+ * 캐시를 비운 상태(가장 나쁜 경우)에서 측정합니다.
+ */
+@SpringBootTest
+@ExtendWith(QueryCountExtension.class)
+class BoardServiceQueryCountTest {
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private String email;
+
+    @BeforeEach
+    void setUp() {
+        email = "board-" + UUID.randomUUID() + "@campus.ac.kr";
+        userRepository.save(User.builder()
+                .email(email)
+                .password("password")
+                .name("작성자")
+                .department("컴퓨터공학과")
+                .verified(true)
+                .providerType(User.ProviderType.LOCAL)
+                .role(User.Role.USER)
+                .build());
+    }
+
+    @Test
+    void boardDetailQueryCount(QueryCounter queries) {
+        Long boardId = createBoards(1);
+        clearCaches();
+
+        queries.maxQueries(3, () -> boardService.getBoardDetail(boardId, email));
+        // 두 번째 조회는 캐시에서 응답
+        queries.maxQueries(1, () -> boardService.getBoardDetail(boardId, email));
+    }
+
+    @Test
+    void boardListQueryCountDoesNotDependOnPageSize(QueryCounter queries) {
+        createBoards(30);
+        clearCaches();
+
+        queries.maxQueries(2, () -> boardService.getBoardList(BoardRequestDto.SearchRequest.builder()
+                .category(BoardCategory.STUDY)
+                .size(30)
+                .build()));
+    }
+
+    @Test
+    void boardFeedQueryCountDoesNotDependOnPageSize(QueryCounter queries) {
+        createBoards(30);
+        clearCaches();
+
+        queries.maxQueries(1, () -> boardService.getBoardFeed(null, BoardCategory.STUDY, 30));
+    }
+
+    @Test
+    void toggleLikeQueryCount(QueryCounter queries) {
+        Long boardId = createBoards(1);
+        clearCaches();
+
+        // outbox 기록 insert 1건 포함
+        queries.maxQueries(6, () -> boardService.toggleLike(boardId, email, true));
+    }
+
+    // 게시글 count개 작성 후 마지막 게시글 ID 반환
+    private Long createBoards(int count) {
+        Long lastId = null;
+        for (int i = 0; i < count; i++) {
+            lastId = boardService.createBoard(email, BoardRequestDto.CreateRequest.builder()
+                    .title("스터디 모집 " + i)
+                    .content("내용")
+                    .category(BoardCategory.STUDY)
+                    .build()).getId();
+        }
+        return lastId;
+    }
+
+    private void clearCaches() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        entityManagerFactory.getCache().evictAll();
+    }
+}
@@ -0,0 +1,65 @@
+package com.campus.campuscommunity.domain.comment.service;
+
+import com.campus.campuscommunity.domain.board.dto.BoardRequestDto;
+import com.campus.campuscommunity.domain.board.entity.BoardCategory;
+import com.campus.campuscommunity.domain.board.service.BoardService;
+import com.campus.campuscommunity.domain.comment.dto.CommentRequestDto;
+import com.campus.campuscommunity.domain.user.entity.User;
+import com.campus.campuscommunity.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 댓글 작성/삭제 후 게시글 상세 캐시의 댓글 수와 ETag 테스트
+ */
+@SpringBootTest
+class CommentBoardDetailCacheTest {
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void boardDetailCommentCountFollowsCommentCreateAndDelete() {
+        String email = "detail-cache-" + UUID.randomUUID() + "@campus.ac.kr";
+        userRepository.save(User.builder()
+                .email(email)
+                .password("password")
+                .name("작성자")
+                .department("컴퓨터공학과")
+                .verified(true)
+                .providerType(User.ProviderType.LOCAL)
+                .role(User.Role.USER)
+                .build());
+        Long boardId = boardService.createBoard(email, BoardRequestDto.CreateRequest.builder()
+                .title("상세 캐시 테스트")
+                .content("내용")
+                .category(BoardCategory.FREE)
+                .build()).getId();
+
+        // 상세 캐시에 올려 둠
+        assertThat(boardService.getBoardDetail(boardId, email).getCommentCount()).isZero();
+        String eTag = boardService.findBoardDetailETag(boardId, email);
+
+        Long commentId = commentService.createComment(email, CommentRequestDto.CreateRequest.builder()
+                .content("댓글")
+                .boardId(boardId)
+                .build()).getComment().getId();
+        assertThat(boardService.getBoardDetail(boardId, email).getCommentCount()).isEqualTo(1);
+        // 댓글 수가 바뀌면 ETag도 바뀌어 304로 예전 댓글 수를 돌려주지 않음
+        assertThat(boardService.findBoardDetailETag(boardId, email)).isNotEqualTo(eTag);
+
+        commentService.deleteComment(commentId, email);
+        assertThat(boardService.getBoardDetail(boardId, email).getCommentCount()).isZero();
+    }
+}
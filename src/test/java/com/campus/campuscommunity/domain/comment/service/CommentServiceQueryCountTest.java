@@ -0,0 +1,137 @@
+package com.campus.campuscommunity.domain.comment.service;
+
+import com.campus.campuscommunity.domain.board.dto.BoardRequestDto;
+import com.campus.campuscommunity.domain.board.entity.BoardCategory;
+import com.campus.campuscommunity.domain.board.service.BoardService;
+import com.campus.campuscommunity.domain.comment.dto.CommentRequestDto;
+import com.campus.campuscommunity.domain.comment.dto.CommentResponseDto;
+import com.campus.campuscommunity.domain.user.entity.User;
+import com.campus.campuscommunity.domain.user.repository.UserRepository;
+import com.campus.campuscommunity.global.config.query.QueryCountExtension;
+import com.campus.campuscommunity.global.config.query.QueryCounter;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 댓글 서비스 SQL 실행 횟수 테스트
+ * 캐시를 비운 상태(가장 나쁜 경우)에서 측정하며, 댓글 수가 늘어도 SQL 수가 늘지 않아야 합니다.
+ */
+@SpringBootTest
+@ExtendWith(QueryCountExtension.class)
+class CommentServiceQueryCountTest {
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private String writerEmail;
+    private String readerEmail;
+
+    @BeforeEach
+    void setUp() {
+        writerEmail = createUser("writer");
+        readerEmail = createUser("reader");
+    }
+
+    @Test
+    void commentListQueryCountDoesNotGrowWithComments(QueryCounter queries) {
+        Long smallBoardId = createBoardWithComments(2, 1);
+        Long largeBoardId = createBoardWithComments(10, 3);
+        clearCaches();
+
+        queries.maxQueries(5, () -> commentService.getCommentsByBoardId(smallBoardId, readerEmail));
+        int small = queries.last().getTotal();
+
+        clearCaches();
+        CommentResponseDto.CommentListResponse response =
+                queries.maxQueries(5, () -> commentService.getCommentsByBoardId(largeBoardId, readerEmail));
+
+        assertThat(queries.last().getTotal()).isEqualTo(small);
+        assertThat(response.getComments()).hasSize(10);
+        assertThat(response.getComments().get(0).getReplies()).hasSize(3);
+        assertThat(response.getComments().get(0).getLiked()).isTrue();
+        assertThat(response.getComments().get(0).getReplyCount()).isEqualTo(3);
+    }
+
+    @Test
+    void anonymousCommentListSkipsLikeLookup(QueryCounter queries) {
+        Long boardId = createBoardWithComments(5, 2);
+        clearCaches();
+
+        queries.maxQueries(3, () -> commentService.getCommentsByBoardId(boardId, null));
+    }
+
+    @Test
+    void createCommentQueryCount(QueryCounter queries) {
+        Long boardId = createBoardWithComments(0, 0);
+        clearCaches();
+
+        queries.maxQueries(4, () -> commentService.createComment(writerEmail, CommentRequestDto.CreateRequest.builder()
+                .boardId(boardId)
+                .content("댓글")
+                .build()));
+    }
+
+    // 일반 댓글 topLevel개, 각 댓글에 대댓글 replies개 작성 (reader가 일반 댓글마다 좋아요)
+    private Long createBoardWithComments(int topLevel, int replies) {
+        Long boardId = boardService.createBoard(writerEmail, BoardRequestDto.CreateRequest.builder()
+                .title("댓글 테스트")
+                .content("내용")
+                .category(BoardCategory.FREE)
+                .build()).getId();
+        for (int i = 0; i < topLevel; i++) {
+            Long commentId = commentService.createComment(writerEmail, CommentRequestDto.CreateRequest.builder()
+                    .boardId(boardId)
+                    .content("댓글 " + i)
+                    .build()).getComment().getId();
+            commentService.toggleLike(commentId, readerEmail);
+            for (int j = 0; j < replies; j++) {
+                commentService.createComment(writerEmail, CommentRequestDto.CreateRequest.builder()
+                        .boardId(boardId)
+                        .parentId(commentId)
+                        .content("대댓글 " + j)
+                        .build());
+            }
+        }
+        return boardId;
+    }
+
+    private String createUser(String prefix) {
+        String email = prefix + "-" + UUID.randomUUID() + "@campus.ac.kr";
+        userRepository.save(User.builder()
+                .email(email)
+                .password("password")
+                .name(prefix)
+                .department("컴퓨터공학과")
+                .verified(true)
+                .providerType(User.ProviderType.LOCAL)
+                .role(User.Role.USER)
+                .build());
+        return email;
+    }
+
+    private void clearCaches() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        entityManagerFactory.getCache().evictAll();
+    }
+}
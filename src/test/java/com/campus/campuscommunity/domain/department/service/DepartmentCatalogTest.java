@@ -0,0 +1,45 @@
+package com.campus.campuscommunity.domain.department.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DepartmentCatalogTest {
+
+    private final Map<String, List<String>> seed = DepartmentCatalog.seed();
+
+    @Test
+    void variantsAreAliasesOfOneDepartment() {
+        assertThat(seed.get("컴퓨터공학과")).containsExactly("컴퓨터공학", "컴퓨터공학부");
+        assertThat(seed.get("경영학과")).containsExactly("경영학", "경영학부");
+        assertThat(seed.get("미술학과")).containsExactly("미술");
+        assertThat(seed.get("국어교육과")).containsExactly("국어교육");
+    }
+
+    @Test
+    void differentStemsStaySeparate() {
+        assertThat(seed).containsKeys("의학과", "의예과", "컴퓨터학과", "건축공학과", "건축학과", "수학과", "수학교육과");
+    }
+
+    @Test
+    void everyListedNameIsSeededOnce() {
+        Set<String> seeded = new HashSet<>();
+        seed.forEach((name, aliases) -> {
+            assertThat(seeded.add(name)).isTrue();
+            aliases.forEach(alias -> assertThat(seeded.add(alias)).isTrue());
+        });
+
+        assertThat(seeded).containsExactlyInAnyOrderElementsOf(new HashSet<>(DepartmentCatalog.NAMES));
+    }
+
+    @Test
+    void keyIgnoresWhitespaceAndCase() {
+        assertThat(DepartmentCatalog.key(" 컴퓨터 공학과 ")).isEqualTo("컴퓨터공학과");
+        assertThat(DepartmentCatalog.key("AI빅데이터학과")).isEqualTo(DepartmentCatalog.key("ai빅데이터학과"));
+    }
+}
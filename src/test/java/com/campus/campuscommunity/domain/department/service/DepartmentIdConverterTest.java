@@ -0,0 +1,30 @@
+package com.campus.campuscommunity.domain.department.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class DepartmentIdConverterTest {
+
+    @SuppressWarnings("unchecked")
+    private final ObjectProvider<DepartmentDictionary> dictionary = mock(ObjectProvider.class);
+    private final DepartmentIdConverter converter = new DepartmentIdConverter(dictionary);
+
+    @Test
+    void unmigratedRowReadsAsUnknownAndWritesBackAsZero() {
+        String name = converter.convertToEntityAttribute(0);
+
+        assertThat(name).isEqualTo(DepartmentIdConverter.UNKNOWN);
+        assertThat(converter.convertToDatabaseColumn(name)).isZero();
+        verifyNoInteractions(dictionary);
+    }
+
+    @Test
+    void nullStaysNull() {
+        assertThat(converter.convertToEntityAttribute(null)).isNull();
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+    }
+}
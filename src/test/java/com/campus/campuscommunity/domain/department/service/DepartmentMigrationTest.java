@@ -0,0 +1,86 @@
+package com.campus.campuscommunity.domain.department.service;
+
+import com.campus.campuscommunity.domain.board.dto.BoardRequestDto;
+import com.campus.campuscommunity.domain.board.entity.BoardCategory;
+import com.campus.campuscommunity.domain.board.service.BoardService;
+import com.campus.campuscommunity.domain.user.entity.User;
+import com.campus.campuscommunity.domain.user.repository.UserRepository;
+import com.campus.campuscommunity.global.config.migration.MigrationHistory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 작성자 학과 이전 테스트
+ * 이전 DB처럼 boards.writer_department 컬럼을 만들고 ddl-auto가 넣는 0을 학과 ID로 둔 뒤 실행합니다.
+ */
+@SpringBootTest
+class DepartmentMigrationTest {
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MigrationHistory migrationHistory;
+
+    @Autowired
+    private DepartmentDictionary departmentDictionary;
+
+    @Test
+    void fillsDepartmentIdsOnceAndSkipsAfterCompletion() throws Exception {
+        Long boardId = createBoard();
+        jdbcTemplate.execute("ALTER TABLE boards ADD COLUMN writer_department VARCHAR(255)");
+        try {
+            jdbcTemplate.update("UPDATE boards SET writer_department = '경영학부', writer_department_id = 0 WHERE id = ?", boardId);
+            jdbcTemplate.update("DELETE FROM schema_migrations WHERE name = 'department-id:boards'");
+            DepartmentMigration migration = new DepartmentMigration(jdbcTemplate, migrationHistory, departmentDictionary, 1000, 0, false);
+
+            migration.run(null);
+
+            assertThat(departmentId(boardId)).isEqualTo(departmentDictionary.idOf("경영학과"));
+            assertThat(migrationHistory.isDone("department-id:boards")).isTrue();
+            assertThat(migrationHistory.isDone("department-id:comments")).isTrue(); // 이전 컬럼이 없는 테이블
+
+            // 완료 기록이 있으면 다시 채우지 않음 (boards를 읽지 않음)
+            jdbcTemplate.update("UPDATE boards SET writer_department_id = 0 WHERE id = ?", boardId);
+            migration.run(null);
+            assertThat(departmentId(boardId)).isZero();
+        } finally {
+            jdbcTemplate.update("UPDATE boards SET writer_department_id = ? WHERE id = ?", departmentDictionary.idOf("경영학과"), boardId);
+            jdbcTemplate.execute("ALTER TABLE boards DROP COLUMN writer_department");
+        }
+    }
+
+    private Integer departmentId(Long boardId) {
+        return jdbcTemplate.queryForObject("SELECT writer_department_id FROM boards WHERE id = ?", Integer.class, boardId);
+    }
+
+    private Long createBoard() {
+        String email = "department-" + UUID.randomUUID() + "@campus.ac.kr";
+        userRepository.save(User.builder()
+                .email(email)
+                .password("password")
+                .name("작성자")
+                .department("컴퓨터공학과")
+                .verified(true)
+                .providerType(User.ProviderType.LOCAL)
+                .role(User.Role.USER)
+                .build());
+        return boardService.createBoard(email, BoardRequestDto.CreateRequest.builder()
+                .title("이전 테스트")
+                .content("본문")
+                .category(BoardCategory.FREE)
+                .build()).getId();
+    }
+}
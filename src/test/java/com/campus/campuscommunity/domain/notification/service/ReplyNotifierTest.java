@@ -0,0 +1,215 @@
+package com.campus.campuscommunity.domain.notification.service;
+
+import com.campus.campuscommunity.domain.board.dto.BoardRequestDto;
+import com.campus.campuscommunity.domain.board.entity.BoardCategory;
+import com.campus.campuscommunity.domain.board.service.BoardService;
+import com.campus.campuscommunity.domain.comment.dto.CommentRequestDto;
+import com.campus.campuscommunity.domain.comment.event.CommentCreated;
+import com.campus.campuscommunity.domain.comment.service.CommentService;
+import com.campus.campuscommunity.domain.notification.dto.NotificationResponseDto;
+import com.campus.campuscommunity.domain.notification.repository.NotificationRepository;
+import com.campus.campuscommunity.domain.outbox.service.OutboxRelay;
+import com.campus.campuscommunity.domain.user.entity.User;
+import com.campus.campuscommunity.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대댓글 알림 테스트
+ * 댓글 작성 -> outbox 전달(relay()를 직접 호출) -> 알림함 조회까지 확인합니다.
+ */
+@SpringBootTest(properties = {
+        "campus.outbox.relay.enabled=true",
+        "campus.outbox.poll-interval-ms=3600000"
+})
+class ReplyNotifierTest {
+
+    @Autowired
+    private OutboxRelay relay;
+
+    @Autowired
+    private ReplyNotifier replyNotifier;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private NotificationCounters notificationCounters;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void coalescesRepliesPerThreadUntilRead() {
+        String parentWriter = createUser();
+        String replier = createUser();
+        Long boardId = createBoard(parentWriter);
+        Long parentId = createComment(parentWriter, boardId, null);
+
+        createComment(replier, boardId, parentId);
+        Long lastReplyId = createComment(replier, boardId, parentId);
+        createComment(parentWriter, boardId, parentId); // 자기 댓글에 단 대댓글은 알림 없음
+        relay.relay();
+
+        List<NotificationResponseDto.NotificationInfo> inbox = notificationService.getInbox(parentWriter, null, 20).getNotifications();
+        assertThat(inbox).hasSize(1);
+        assertThat(inbox.get(0).getReplyCount()).isEqualTo(2);
+        assertThat(inbox.get(0).getLastCommentId()).isEqualTo(lastReplyId);
+        assertThat(notificationService.getUnreadCount(parentWriter).getUnreadCount()).isEqualTo(1);
+        assertThat(notificationService.getInbox(replier, null, 20).getNotifications()).isEmpty();
+
+        // 읽은 뒤 달린 대댓글은 새 알림
+        notificationService.markRead(inbox.get(0).getId(), parentWriter);
+        assertThat(notificationService.getUnreadCount(parentWriter).getUnreadCount()).isZero();
+        createComment(replier, boardId, parentId);
+        relay.relay();
+
+        inbox = notificationService.getInbox(parentWriter, null, 20).getNotifications();
+        assertThat(inbox).hasSize(2);
+        assertThat(inbox.get(0).isRead()).isFalse();
+        assertThat(inbox.get(0).getReplyCount()).isEqualTo(1);
+        assertThat(inbox.get(1).getReplyCount()).isEqualTo(2);
+        assertThat(notificationService.getUnreadCount(parentWriter).getUnreadCount()).isEqualTo(1);
+    }
+
+    @Test
+    void redeliveredRepliesAreIgnored() {
+        String parentWriter = createUser();
+        String replier = createUser();
+        Long boardId = createBoard(parentWriter);
+        Long parentId = createComment(parentWriter, boardId, null);
+        Long replyId = createComment(replier, boardId, parentId);
+        relay.relay();
+
+        CommentCreated redelivered = new CommentCreated(replyId, boardId, userId(replier), parentId, userId(parentWriter), LocalDateTime.now());
+        transactionTemplate.executeWithoutResult(status -> replyNotifier.handle(List.of(redelivered, redelivered)));
+
+        List<NotificationResponseDto.NotificationInfo> inbox = notificationService.getInbox(parentWriter, null, 20).getNotifications();
+        assertThat(inbox).hasSize(1);
+        assertThat(inbox.get(0).getReplyCount()).isEqualTo(1);
+        assertThat(notificationService.getUnreadCount(parentWriter).getUnreadCount()).isEqualTo(1);
+    }
+
+    @Test
+    void replyAfterConcurrentMarkReadStartsNewNotification() {
+        String parentWriter = createUser();
+        String replier = createUser();
+        Long boardId = createBoard(parentWriter);
+        Long parentId = createComment(parentWriter, boardId, null);
+        createComment(replier, boardId, parentId);
+        relay.relay();
+        Long notificationId = notificationService.getInbox(parentWriter, null, 20).getNotifications().get(0).getId();
+
+        // 알림을 읽어 온 직후 다른 트랜잭션에서 읽음 처리
+        NotificationRepository racing = (NotificationRepository) Proxy.newProxyInstance(
+                NotificationRepository.class.getClassLoader(), new Class<?>[]{NotificationRepository.class},
+                (proxy, method, args) -> {
+                    try {
+                        Object result = method.invoke(notificationRepository, args);
+                        if (method.getName().equals("findRecentByThreads")) {
+                            CompletableFuture.runAsync(() -> notificationService.markRead(notificationId, parentWriter)).join();
+                        }
+                        return result;
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+        ReplyNotifier notifier = new ReplyNotifier(racing, notificationCounters, jdbcTemplate, 10);
+        Long lastReplyId = createComment(replier, boardId, parentId);
+        CommentCreated reply = new CommentCreated(lastReplyId, boardId, userId(replier), parentId, userId(parentWriter), LocalDateTime.now());
+        transactionTemplate.executeWithoutResult(status -> notifier.handle(List.of(reply)));
+
+        List<NotificationResponseDto.NotificationInfo> inbox = notificationService.getInbox(parentWriter, null, 20).getNotifications();
+        assertThat(inbox).hasSize(2);
+        assertThat(inbox.get(0).isRead()).isFalse();
+        assertThat(inbox.get(0).getLastCommentId()).isEqualTo(lastReplyId);
+        assertThat(inbox.get(1).isRead()).isTrue();
+        assertThat(inbox.get(1).getReplyCount()).isEqualTo(1);
+        assertThat(notificationService.getUnreadCount(parentWriter).getUnreadCount()).isEqualTo(1);
+    }
+
+    @Test
+    void inboxPagesByCursorAndMarksAllRead() {
+        String parentWriter = createUser();
+        String replier = createUser();
+        Long boardId = createBoard(parentWriter);
+        for (int i = 0; i < 3; i++) {
+            Long parentId = createComment(parentWriter, boardId, null);
+            createComment(replier, boardId, parentId);
+        }
+        relay.relay();
+
+        NotificationResponseDto.InboxResponse first = notificationService.getInbox(parentWriter, null, 2);
+        assertThat(first.getNotifications()).hasSize(2);
+        assertThat(first.isHasNext()).isTrue();
+        NotificationResponseDto.InboxResponse second = notificationService.getInbox(parentWriter, first.getNextCursor(), 2);
+        assertThat(second.getNotifications()).hasSize(1);
+        assertThat(second.isHasNext()).isFalse();
+        assertThat(second.getNotifications().get(0).getId()).isLessThan(first.getNextCursor());
+        assertThat(notificationService.getUnreadCount(parentWriter).getUnreadCount()).isEqualTo(3);
+
+        notificationService.markAllRead(parentWriter);
+        assertThat(notificationService.getUnreadCount(parentWriter).getUnreadCount()).isZero();
+    }
+
+    private String createUser() {
+        String email = "notification-" + UUID.randomUUID() + "@campus.ac.kr";
+        userRepository.save(User.builder()
+                .email(email)
+                .password("password")
+                .name("작성자")
+                .department("컴퓨터공학과")
+                .verified(true)
+                .providerType(User.ProviderType.LOCAL)
+                .role(User.Role.USER)
+                .build());
+        return email;
+    }
+
+    private Long userId(String email) {
+        return userRepository.findByEmail(email).orElseThrow().getId();
+    }
+
+    private Long createBoard(String email) {
+        return boardService.createBoard(email, BoardRequestDto.CreateRequest.builder()
+                .title("알림 테스트")
+                .content("내용")
+                .category(BoardCategory.FREE)
+                .build()).getId();
+    }
+
+    private Long createComment(String email, Long boardId, Long parentId) {
+        return commentService.createComment(email, CommentRequestDto.CreateRequest.builder()
+                .content("댓글")
+                .boardId(boardId)
+                .parentId(parentId)
+                .build()).getComment().getId();
+    }
+}
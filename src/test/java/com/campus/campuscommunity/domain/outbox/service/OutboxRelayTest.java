@@ -0,0 +1,233 @@
+package com.campus.campuscommunity.domain.outbox.service;
+
+import com.campus.campuscommunity.domain.board.dto.BoardRequestDto;
+import com.campus.campuscommunity.domain.board.entity.BoardCategory;
+import com.campus.campuscommunity.domain.board.event.BoardCreated;
+import com.campus.campuscommunity.domain.board.event.LikeToggled;
+import com.campus.campuscommunity.domain.board.service.BoardService;
+import com.campus.campuscommunity.domain.comment.dto.CommentRequestDto;
+import com.campus.campuscommunity.domain.comment.event.CommentCreated;
+import com.campus.campuscommunity.domain.comment.service.CommentService;
+import com.campus.campuscommunity.domain.outbox.event.OutboxMessage;
+import com.campus.campuscommunity.domain.outbox.event.OutboxSubscriber;
+import com.campus.campuscommunity.domain.user.entity.User;
+import com.campus.campuscommunity.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * outbox 기록/전달 테스트
+ * 테스트에서는 전달이 꺼져 있으므로 이 컨텍스트에서만 켜고, 스케줄 실행은 사실상 끈 채(poll-interval 1시간) relay()를 직접 호출합니다.
+ * 배치 크기는 5로 줄여 여러 배치에 걸친 경우를 확인합니다.
+ */
+@SpringBootTest(properties = {
+        "campus.outbox.relay.enabled=true",
+        "campus.outbox.poll-interval-ms=3600000",
+        "campus.outbox.batch-size=5"
+})
+class OutboxRelayTest {
+
+    @Autowired
+    private OutboxRelay relay;
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private Recorder recorder;
+
+    @Test
+    void relaysEventsOfEachBoardInOrder() {
+        String email = createUser();
+        Long boardId = createBoard(email);
+        Long commentId = createComment(email, boardId, null);
+        Long replyId = createComment(email, boardId, commentId);
+        commentService.toggleLike(commentId, email);
+        boardService.toggleLike(boardId, email, true);
+
+        assertThat(pending(boardId)).isEqualTo(5);
+        relay.relay();
+
+        List<OutboxMessage> received = recorder.of(boardId);
+        assertThat(received).hasSize(5);
+        assertThat(received.get(0)).isInstanceOf(BoardCreated.class);
+        assertThat(((CommentCreated) received.get(1)).commentId()).isEqualTo(commentId);
+        CommentCreated reply = (CommentCreated) received.get(2);
+        assertThat(reply.commentId()).isEqualTo(replyId);
+        assertThat(reply.parentId()).isEqualTo(commentId);
+        assertThat(reply.parentWriterId()).isEqualTo(((CommentCreated) received.get(1)).writerId());
+        assertThat(((LikeToggled) received.get(3)).commentId()).isEqualTo(commentId);
+        assertThat(((LikeToggled) received.get(4)).likeDelta()).isEqualTo(1);
+        assertThat(pending(boardId)).isZero();
+    }
+
+    @Test
+    void failedEventHoldsBackLaterEventsOfTheSameBoardOnly() {
+        String email = createUser();
+        Long failingBoardId = createBoard(email);
+        Long otherBoardId = createBoard(email);
+        recorder.failing.add(failingBoardId);
+        createComment(email, failingBoardId, null);
+        createComment(email, otherBoardId, null);
+
+        relay.relay();
+
+        // 실패한 게시글은 첫 이벤트부터 남고, 다른 게시글은 전달됨
+        assertThat(recorder.of(failingBoardId)).isEmpty();
+        assertThat(recorder.of(otherBoardId)).hasSize(2);
+        assertThat(pending(failingBoardId)).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT attempts FROM outbox_events WHERE aggregate_id = ? ORDER BY id LIMIT 1", Integer.class, failingBoardId)).isEqualTo(1);
+
+        // 재시도 시각이 되면 순서대로 전달
+        recorder.failing.remove(failingBoardId);
+        jdbcTemplate.update("UPDATE outbox_events SET next_attempt_at = NULL WHERE aggregate_id = ?", failingBoardId);
+        relay.relay();
+
+        List<OutboxMessage> received = recorder.of(failingBoardId);
+        assertThat(received).hasSize(2);
+        assertThat(received.get(0)).isInstanceOf(BoardCreated.class);
+        assertThat(received.get(1)).isInstanceOf(CommentCreated.class);
+        assertThat(pending(failingBoardId)).isZero();
+    }
+
+    @Test
+    void blockedBoardLargerThanBatchDoesNotHoldBackOtherBoards() {
+        String email = createUser();
+        Long failingBoardId = createBoard(email);
+        recorder.failing.add(failingBoardId);
+        for (int i = 0; i < 7; i++) {
+            boardService.toggleLike(failingBoardId, email, true); // 배치 크기보다 많은 이벤트
+        }
+        Long otherBoardId = createBoard(email);
+
+        relay.relay();
+
+        assertThat(recorder.of(failingBoardId)).isEmpty();
+        assertThat(recorder.of(otherBoardId)).hasSize(1);
+        assertThat(pending(failingBoardId)).isEqualTo(8);
+
+        // 재시도 시각 전에도 새 이벤트는 바로 전달
+        createComment(email, otherBoardId, null);
+        relay.relay();
+
+        assertThat(recorder.of(otherBoardId)).hasSize(2);
+        assertThat(recorder.of(failingBoardId)).isEmpty();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT MAX(attempts) FROM outbox_events WHERE aggregate_id = ?", Integer.class, failingBoardId)).isEqualTo(1);
+
+        recorder.failing.remove(failingBoardId);
+        jdbcTemplate.update("UPDATE outbox_events SET next_attempt_at = NULL WHERE aggregate_id = ?", failingBoardId);
+        relay.relay();
+
+        assertThat(recorder.of(failingBoardId)).hasSize(8);
+        assertThat(pending(failingBoardId)).isZero();
+    }
+
+    private String createUser() {
+        String email = "outbox-" + UUID.randomUUID() + "@campus.ac.kr";
+        userRepository.save(User.builder()
+                .email(email)
+                .password("password")
+                .name("작성자")
+                .department("컴퓨터공학과")
+                .verified(true)
+                .providerType(User.ProviderType.LOCAL)
+                .role(User.Role.USER)
+                .build());
+        return email;
+    }
+
+    private Long createBoard(String email) {
+        return boardService.createBoard(email, BoardRequestDto.CreateRequest.builder()
+                .title("outbox 테스트")
+                .content("내용")
+                .category(BoardCategory.FREE)
+                .build()).getId();
+    }
+
+    private Long createComment(String email, Long boardId, Long parentId) {
+        return commentService.createComment(email, CommentRequestDto.CreateRequest.builder()
+                .content("댓글")
+                .boardId(boardId)
+                .parentId(parentId)
+                .build()).getComment().getId();
+    }
+
+    private long pending(Long boardId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_events WHERE aggregate_id = ?", Long.class, boardId);
+    }
+
+    // 받은 이벤트 기록 (failing에 든 게시글의 이벤트는 실패)
+    static class Recorder {
+
+        final List<OutboxMessage> received = new CopyOnWriteArrayList<>();
+        final Set<Long> failing = ConcurrentHashMap.newKeySet();
+
+        <T extends OutboxMessage> OutboxSubscriber<T> subscriber(Class<T> type) {
+            return new OutboxSubscriber<>() {
+                @Override
+                public Class<T> eventType() {
+                    return type;
+                }
+
+                @Override
+                public void handle(List<T> events) {
+                    if (events.stream().anyMatch(event -> failing.contains(event.aggregateId()))) {
+                        throw new IllegalStateException("구독자 실패");
+                    }
+                    received.addAll(events);
+                }
+            };
+        }
+
+        List<OutboxMessage> of(Long boardId) {
+            return received.stream().filter(event -> event.aggregateId().equals(boardId)).toList();
+        }
+    }
+
+    @TestConfiguration
+    static class RecorderConfig {
+
+        @Bean
+        Recorder recorder() {
+            return new Recorder();
+        }
+
+        @Bean
+        OutboxSubscriber<BoardCreated> boardCreatedRecorder(Recorder recorder) {
+            return recorder.subscriber(BoardCreated.class);
+        }
+
+        @Bean
+        OutboxSubscriber<CommentCreated> commentCreatedRecorder(Recorder recorder) {
+            return recorder.subscriber(CommentCreated.class);
+        }
+
+        @Bean
+        OutboxSubscriber<LikeToggled> likeToggledRecorder(Recorder recorder) {
+            return recorder.subscriber(LikeToggled.class);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.campus.campuscommunity.domain.outbox.service;
+
+import com.campus.campuscommunity.domain.board.dto.BoardRequestDto;
+import com.campus.campuscommunity.domain.board.entity.BoardCategory;
+import com.campus.campuscommunity.domain.board.service.BoardService;
+import com.campus.campuscommunity.domain.comment.dto.CommentRequestDto;
+import com.campus.campuscommunity.domain.comment.service.CommentService;
+import com.campus.campuscommunity.domain.user.entity.User;
+import com.campus.campuscommunity.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * outbox 기록 테스트
+ * 기본 구성에서는 CommentCreated(대댓글 알림)만 구독자가 있으므로 게시글 작성/좋아요는 기록되지 않아야 합니다.
+ */
+@SpringBootTest
+class OutboxTest {
+
+    @Autowired
+    private BoardService boardService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void appendsOnlyEventTypesWithSubscribers() {
+        String email = "outbox-" + UUID.randomUUID() + "@campus.ac.kr";
+        userRepository.save(User.builder()
+                .email(email)
+                .password("password")
+                .name("작성자")
+                .department("컴퓨터공학과")
+                .verified(true)
+                .providerType(User.ProviderType.LOCAL)
+                .role(User.Role.USER)
+                .build());
+        Long boardId = boardService.createBoard(email, BoardRequestDto.CreateRequest.builder()
+                .title("outbox 테스트")
+                .content("내용")
+                .category(BoardCategory.FREE)
+                .build()).getId();
+        boardService.toggleLike(boardId, email, true);
+        Long commentId = commentService.createComment(email, CommentRequestDto.CreateRequest.builder()
+                .content("댓글")
+                .boardId(boardId)
+                .build()).getComment().getId();
+        commentService.toggleLike(commentId, email);
+
+        assertThat(eventTypes(boardId)).containsExactly("CommentCreated");
+    }
+
+    private List<String> eventTypes(Long boardId) {
+        return jdbcTemplate.queryForList("SELECT event_type FROM outbox_events WHERE aggregate_id = ? ORDER BY id", String.class, boardId);
+    }
+}
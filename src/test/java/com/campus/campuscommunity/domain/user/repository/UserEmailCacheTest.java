@@ -0,0 +1,73 @@
+package com.campus.campuscommunity.domain.user.repository;
+
+import com.campus.campuscommunity.domain.user.dto.UserRequestDto;
+import com.campus.campuscommunity.domain.user.entity.User;
+import com.campus.campuscommunity.domain.user.service.UserService;
+import com.campus.campuscommunity.global.config.cache.CacheConfig;
+import com.campus.campuscommunity.global.config.cache.CacheNames;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 이메일 사용자 캐시 테스트
+ * 캐시(L1, Redis L2 직렬화 값)에 비밀번호 해시가 없고, 캐시가 채워진 뒤에도 로그인이 되는지 확인합니다.
+ */
+@SpringBootTest
+class UserEmailCacheTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Test
+    void cachedUserCarriesNoPasswordHash() {
+        String email = "cache-" + UUID.randomUUID() + "@campus.ac.kr";
+        String hash = passwordEncoder.encode("password123");
+        userRepository.save(User.builder()
+                .email(email)
+                .password(hash)
+                .name("사용자")
+                .department("컴퓨터공학과")
+                .verified(true)
+                .providerType(User.ProviderType.LOCAL)
+                .role(User.Role.USER)
+                .build());
+
+        assertThat(userRepository.findByEmail(email)).isPresent();
+
+        User cached = cacheManager.getCache(CacheNames.USER_BY_EMAIL).get(email, User.class);
+        assertThat(cached).isNotNull();
+        assertThat(cached.getPassword()).isNull();
+        assertThat(cached.getRole()).isEqualTo(User.Role.USER);
+
+        // Redis L2에 저장되는 값에도 해시가 없음
+        @SuppressWarnings("unchecked")
+        RedisSerializer<Object> serializer = (RedisSerializer<Object>)
+                CacheConfig.cacheRedisTemplate(mock(RedisConnectionFactory.class)).getValueSerializer();
+        assertThat(new String(serializer.serialize(cached), StandardCharsets.UTF_8)).doesNotContain(hash);
+
+        // 로그인은 캐시가 아닌 DB 값으로 비밀번호를 확인
+        assertThat(userRepository.findUserByEmail(email)).get()
+                .extracting(User::getPassword).isEqualTo(hash);
+        assertThat(userService.login(new UserRequestDto.LoginRequest(email, "password123")).getToken()).isNotBlank();
+    }
+}
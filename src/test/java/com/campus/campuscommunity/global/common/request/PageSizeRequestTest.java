@@ -0,0 +1,67 @@
+package com.campus.campuscommunity.global.common.request;
+
+import com.campus.campuscommunity.domain.user.entity.User;
+import com.campus.campuscommunity.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 목록 API 페이지 크기 검사 테스트 (범위 밖이면 400)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class PageSizeRequestTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void anonymousFeedRejectsOutOfRangeSize() throws Exception {
+        mockMvc.perform(get("/api/boards/feed").param("size", "0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/boards/feed").param("size", "-1"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/boards/feed").param("size", String.valueOf(PageSizes.MAX + 1)))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/boards/feed").param("size", String.valueOf(PageSizes.MAX)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void notificationInboxRejectsOutOfRangeSize() throws Exception {
+        String email = createUser();
+
+        mockMvc.perform(get("/api/notifications").param("email", email).param("size", "0").with(user(email)))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/notifications").param("email", email).param("size", "1000000").with(user(email)))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/notifications").param("email", email).with(user(email)))
+                .andExpect(status().isOk());
+    }
+
+    private String createUser() {
+        String email = "page-" + UUID.randomUUID() + "@campus.ac.kr";
+        userRepository.save(User.builder()
+                .email(email)
+                .password("password")
+                .name("사용자")
+                .department("컴퓨터공학과")
+                .verified(true)
+                .providerType(User.ProviderType.LOCAL)
+                .role(User.Role.USER)
+                .build());
+        return email;
+    }
+}
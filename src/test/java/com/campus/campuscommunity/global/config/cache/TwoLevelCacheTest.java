@@ -0,0 +1,158 @@
+package com.campus.campuscommunity.global.config.cache;
+
+import com.campus.campuscommunity.domain.board.dto.BoardResponseDto;
+import com.campus.campuscommunity.domain.board.entity.BoardCategory;
+import com.github.fppt.jedismock.RedisServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 2단계 캐시 테스트 (내장 Redis 호환 서버 사용)
+ * 두 개의 CacheManager를 서로 다른 노드로 보고 L2 공유와 pub/sub 무효화를 확인합니다.
+ */
+class TwoLevelCacheTest {
+
+    private RedisServer redisServer;
+    private LettuceConnectionFactory connectionFactory;
+    private final List<RedisMessageListenerContainer> containers = new ArrayList<>();
+
+    private TwoLevelCacheManager node1;
+    private TwoLevelCacheManager node2;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        redisServer = RedisServer.newRedisServer().start();
+
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redisServer.getHost(), redisServer.getBindPort()));
+        connectionFactory.afterPropertiesSet();
+
+        node1 = createNode("node-1");
+        node2 = createNode("node-2");
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (RedisMessageListenerContainer container : containers) {
+            container.destroy();
+        }
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @Test
+    void valueStoredByOneNodeIsReadFromRemoteTierByAnother() {
+        BoardResponseDto.BoardDetailResponse detail = boardDetail(1L, "첫 게시글");
+
+        cache(node1, CacheNames.BOARD_DETAIL).put(1L, detail);
+
+        BoardResponseDto.BoardDetailResponse cached =
+                cache(node2, CacheNames.BOARD_DETAIL).get(1L, BoardResponseDto.BoardDetailResponse.class);
+
+        assertThat(cached).isNotNull();
+        assertThat(cached.getTitle()).isEqualTo("첫 게시글");
+        assertThat(cached.getCategory()).isEqualTo(BoardCategory.FREE);
+        assertThat(cached.getCreatedAt()).isEqualTo(detail.getCreatedAt());
+
+        TwoLevelCache node2Cache = cache(node2, CacheNames.BOARD_DETAIL);
+        assertThat(node2Cache.getLocalMisses()).isEqualTo(1);
+        assertThat(node2Cache.getRemoteHits()).isEqualTo(1);
+
+        // 두 번째 조회는 L1에서 응답
+        cache(node2, CacheNames.BOARD_DETAIL).get(1L, BoardResponseDto.BoardDetailResponse.class);
+        assertThat(node2Cache.getLocalHits()).isEqualTo(1);
+        assertThat(node2Cache.getRemoteHits()).isEqualTo(1);
+    }
+
+    @Test
+    void evictInvalidatesLocalTierOnOtherNodes() throws InterruptedException {
+        cache(node1, CacheNames.BOARD_DETAIL).put(1L, boardDetail(1L, "수정 전"));
+        cache(node2, CacheNames.BOARD_DETAIL).get(1L); // node2 L1에 적재
+
+        cache(node1, CacheNames.BOARD_DETAIL).evict(1L);
+
+        waitUntilLocalEmpty(cache(node2, CacheNames.BOARD_DETAIL));
+        assertThat(cache(node2, CacheNames.BOARD_DETAIL).get(1L)).isNull();
+    }
+
+    @Test
+    void clearRemovesOnlyKeysOfThatCache() throws InterruptedException {
+        cache(node1, CacheNames.BOARD_LIST).put("page-0", "목록");
+        cache(node1, CacheNames.BOARD_DETAIL).put(1L, boardDetail(1L, "상세"));
+        cache(node2, CacheNames.BOARD_LIST).get("page-0");
+
+        cache(node1, CacheNames.BOARD_LIST).clear();
+
+        waitUntilLocalEmpty(cache(node2, CacheNames.BOARD_LIST));
+        assertThat(cache(node2, CacheNames.BOARD_LIST).get("page-0")).isNull();
+        assertThat(cache(node2, CacheNames.BOARD_DETAIL).get(1L)).isNotNull();
+    }
+
+    @Test
+    void localModeUsesOnlyLocalTier() {
+        TwoLevelCacheManager local = new TwoLevelCacheManager(CacheConfig.cacheSpecs(), null, null, "local");
+        local.afterPropertiesSet();
+
+        TwoLevelCache cache = local.findTwoLevelCache(CacheNames.USER_BY_EMAIL);
+        cache.put("user@campus.ac.kr", "사용자");
+        cache.evict("user@campus.ac.kr");
+
+        assertThat(cache.get("user@campus.ac.kr")).isNull();
+        assertThat(cache.getStatistics()).containsEntry("remoteEnabled", false);
+    }
+
+    private TwoLevelCacheManager createNode(String nodeId) throws Exception {
+        StringRedisTemplate stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+        TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(CacheConfig.cacheSpecs(),
+                CacheConfig.cacheRedisTemplate(connectionFactory), stringRedisTemplate, nodeId);
+        cacheManager.afterPropertiesSet();
+
+        RedisMessageListenerContainer container = CacheConfig.invalidationListenerContainer(connectionFactory, cacheManager);
+        container.afterPropertiesSet();
+        container.start();
+        containers.add(container);
+        return cacheManager;
+    }
+
+    private TwoLevelCache cache(TwoLevelCacheManager cacheManager, String name) {
+        return cacheManager.findTwoLevelCache(name);
+    }
+
+    private void waitUntilLocalEmpty(TwoLevelCache cache) throws InterruptedException {
+        com.github.benmanes.caffeine.cache.Cache<?, ?> localCache =
+                (com.github.benmanes.caffeine.cache.Cache<?, ?>) cache.getNativeCache();
+        for (int i = 0; i < 50 && localCache.estimatedSize() > 0; i++) {
+            Thread.sleep(100);
+        }
+        assertThat(localCache.estimatedSize()).isZero();
+    }
+
+    private BoardResponseDto.BoardDetailResponse boardDetail(Long id, String title) {
+        return BoardResponseDto.BoardDetailResponse.builder()
+                .id(id)
+                .title(title)
+                .content("내용")
+                .writerDepartment("컴퓨터공학과")
+                .writerId(1L)
+                .category(BoardCategory.FREE)
+                .categoryDisplayName(BoardCategory.FREE.getDisplayName())
+                .viewCount(0)
+                .likeCount(0)
+                .dislikeCount(0)
+                .createdAt(LocalDateTime.of(2025, 4, 15, 14, 30))
+                .updatedAt(LocalDateTime.of(2025, 4, 15, 14, 30))
+                .likeStatus("NONE")
+                .build();
+    }
+}
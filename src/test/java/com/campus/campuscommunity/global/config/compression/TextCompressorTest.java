@@ -0,0 +1,54 @@
+package com.campus.campuscommunity.global.config.compression;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TextCompressorTest {
+
+    private final TextCompressor compressor = new TextCompressor(1024);
+
+    @Test
+    void shortTextIsStoredAsIs() {
+        String text = "짧은 댓글입니다.";
+
+        assertThat(compressor.compress(text)).isEqualTo(text);
+        assertThat(TextCompressor.decompress(text)).isEqualTo(text);
+    }
+
+    @Test
+    void longTextIsCompressedAndRestored() {
+        String text = "스터디 모집합니다. 매주 화요일 저녁 7시, 도서관 세미나실에서 만나요.\n".repeat(100);
+
+        String stored = compressor.compress(text);
+
+        assertThat(stored).startsWith(TextCompressor.MARKER + "L");
+        assertThat(stored.length()).isLessThan(text.getBytes(StandardCharsets.UTF_8).length / 4);
+        assertThat(TextCompressor.decompress(stored)).isEqualTo(text);
+    }
+
+    @Test
+    void incompressibleTextIsStoredAsIs() {
+        StringBuilder builder = new StringBuilder();
+        Random random = new Random(1);
+        for (int i = 0; i < 2000; i++) {
+            builder.append((char) ('가' + random.nextInt(11000)));
+        }
+        String text = builder.toString();
+
+        assertThat(compressor.compress(text)).isEqualTo(text);
+    }
+
+    @Test
+    void textStartingWithMarkerIsAlwaysEncoded() {
+        String text = TextCompressor.MARKER + "L3:abc";
+
+        String stored = compressor.compress(text);
+
+        assertThat(stored).isNotEqualTo(text);
+        assertThat(TextCompressor.decompress(stored)).isEqualTo(text);
+    }
+}
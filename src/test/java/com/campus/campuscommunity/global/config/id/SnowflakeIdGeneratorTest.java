@@ -0,0 +1,78 @@
+package com.campus.campuscommunity.global.config.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SnowflakeIdGeneratorTest {
+
+    @Test
+    void idsAreStrictlyIncreasing() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(3);
+
+        long previous = generator.nextId();
+        for (int i = 0; i < 100_000; i++) {
+            long next = generator.nextId();
+            assertThat(next).isGreaterThan(previous);
+            previous = next;
+        }
+    }
+
+    @Test
+    void idsAreUniqueAcrossThreads() throws InterruptedException {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        for (int t = 0; t < 8; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < 20_000; i++) {
+                    ids.add(generator.nextId());
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(ids).hasSize(8 * 20_000);
+    }
+
+    @Test
+    void idEncodesCreationTimeAndStaysJavaScriptSafe() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID);
+        Instant before = Instant.now();
+
+        long id = generator.nextId();
+
+        assertThat(SnowflakeIdGenerator.extractInstant(id)).isBetween(before.minusMillis(1), Instant.now().plusSeconds(1));
+        assertThat(id).isGreaterThanOrEqualTo(SnowflakeIdGenerator.minIdAt(before.minus(Duration.ofMillis(1))));
+        assertThat(id).isLessThan(1L << 53);
+    }
+
+    @Test
+    void pruningBoundsToleratesClockSkewAndLegacyIds() {
+        long parent = new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID).nextId();
+        // 시계가 느린 다른 노드에서 나중에 만든 행
+        long child = SnowflakeIdGenerator.minIdAt(SnowflakeIdGenerator.extractInstant(parent).minusSeconds(5));
+
+        assertThat(SnowflakeIdGenerator.minIdAfter(parent)).isLessThanOrEqualTo(child);
+        assertThat(SnowflakeIdGenerator.maxIdBefore(SnowflakeIdGenerator.extractInstant(child))).isGreaterThan(parent);
+        // IDENTITY 시절 ID는 하한 없음
+        assertThat(SnowflakeIdGenerator.minIdAfter(12_345L)).isZero();
+    }
+
+    @Test
+    void rejectsOutOfRangeNodeId() {
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,90 @@
+package com.campus.campuscommunity.global.config.idempotency;
+
+import com.campus.campuscommunity.domain.user.entity.User;
+import com.campus.campuscommunity.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Idempotency-Key 요청 테스트
+ * 같은 키의 같은 요청은 처음 응답을 돌려주고, 본문이나 쿼리가 다르면 422로 거부합니다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class IdempotencyRequestTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void sameKeyReplaysOnlyTheSameRequest() throws Exception {
+        String email = createUser();
+        String key = UUID.randomUUID().toString();
+        String title = "멱등 " + key;
+
+        mockMvc.perform(createBoard(email, key, title))
+                .andExpect(status().isCreated());
+        mockMvc.perform(createBoard(email, key, title))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(IdempotencyInterceptor.REPLAYED_HEADER, "true"));
+
+        // 같은 키로 본문이 다른 요청
+        mockMvc.perform(createBoard(email, key, title + " 수정"))
+                .andExpect(status().isUnprocessableEntity());
+        // 같은 키로 쿼리가 다른 요청
+        mockMvc.perform(createBoard(email, key, title, "&draft=true"))
+                .andExpect(status().isUnprocessableEntity());
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM boards WHERE title LIKE ?", Long.class, title + "%"))
+                .isEqualTo(1);
+    }
+
+    private MockHttpServletRequestBuilder createBoard(String email, String key, String title) {
+        return createBoard(email, key, title, "");
+    }
+
+    // 지문은 실제 요청처럼 쿼리 문자열로 만들어지므로 파라미터를 URL에 둠
+    private MockHttpServletRequestBuilder createBoard(String email, String key, String title, String extraQuery) {
+        return post("/api/boards?email=" + email + extraQuery)
+                .with(user(email))
+                .header(IdempotencyInterceptor.HEADER, key)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"title": "%s", "content": "내용", "category": "FREE"}
+                        """.formatted(title));
+    }
+
+    private String createUser() {
+        String email = "idempotency-" + UUID.randomUUID() + "@campus.ac.kr";
+        userRepository.save(User.builder()
+                .email(email)
+                .password("password")
+                .name("작성자")
+                .department("컴퓨터공학과")
+                .verified(true)
+                .providerType(User.ProviderType.LOCAL)
+                .role(User.Role.USER)
+                .build());
+        return email;
+    }
+}
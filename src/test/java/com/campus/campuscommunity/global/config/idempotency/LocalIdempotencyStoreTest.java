@@ -0,0 +1,52 @@
+package com.campus.campuscommunity.global.config.idempotency;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalIdempotencyStoreTest {
+
+    private final LocalIdempotencyStore store = new LocalIdempotencyStore(Duration.ofMinutes(1), 1_000_000);
+
+    @Test
+    void firstRequestReservesAndRetriesWaitThenReplay() {
+        assertThat(store.reserve("key", "fp")).isEqualTo(IdempotencyStore.Reservation.RESERVED);
+        assertThat(store.reserve("key", "fp")).isEqualTo(IdempotencyStore.Reservation.IN_PROGRESS);
+
+        StoredResponse response = new StoredResponse(201, "application/json", "{\"id\":1}".getBytes(StandardCharsets.UTF_8));
+        store.complete("key", "fp", response);
+
+        IdempotencyStore.Reservation retry = store.reserve("key", "fp");
+        assertThat(retry.state()).isEqualTo(IdempotencyStore.Reservation.State.COMPLETED);
+        assertThat(retry.response()).isSameAs(response);
+    }
+
+    @Test
+    void sameKeyWithDifferentRequestIsRejected() {
+        assertThat(store.reserve("key", "fp")).isEqualTo(IdempotencyStore.Reservation.RESERVED);
+        assertThat(store.reserve("key", "other")).isEqualTo(IdempotencyStore.Reservation.MISMATCH);
+
+        store.complete("key", "fp", new StoredResponse(201, "application/json", new byte[0]));
+
+        assertThat(store.reserve("key", "other")).isEqualTo(IdempotencyStore.Reservation.MISMATCH);
+        assertThat(store.reserve("key", "fp").state()).isEqualTo(IdempotencyStore.Reservation.State.COMPLETED);
+    }
+
+    @Test
+    void releasedKeyCanBeReservedAgain() {
+        store.reserve("key", "fp");
+        store.release("key");
+
+        assertThat(store.reserve("key", "fp")).isEqualTo(IdempotencyStore.Reservation.RESERVED);
+    }
+
+    @Test
+    void keysAreIndependent() {
+        store.reserve("user-a POST /api/comments k1", "fp");
+
+        assertThat(store.reserve("user-b POST /api/comments k1", "fp")).isEqualTo(IdempotencyStore.Reservation.RESERVED);
+    }
+}
@@ -0,0 +1,42 @@
+package com.campus.campuscommunity.global.config.partition;
+
+import com.campus.campuscommunity.global.config.id.SnowflakeIdGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MonthlyPartitionTest {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
+    @Test
+    void upperBoundIsFirstIdOfNextMonthInZone() {
+        MonthlyPartition october = MonthlyPartition.of(YearMonth.of(2025, 10), SEOUL);
+
+        long lastOfOctober = idAt(LocalDateTime.of(2025, 10, 31, 23, 59, 59, 999_000_000)) | 0xFFF;
+        long firstOfNovember = idAt(LocalDateTime.of(2025, 11, 1, 0, 0));
+
+        assertThat(lastOfOctober).isLessThan(october.upperBound());
+        assertThat(firstOfNovember).isEqualTo(october.upperBound());
+        assertThat(MonthlyPartition.monthOf(lastOfOctober, SEOUL)).isEqualTo(YearMonth.of(2025, 10));
+        assertThat(MonthlyPartition.monthOf(firstOfNovember, SEOUL)).isEqualTo(YearMonth.of(2025, 11));
+    }
+
+    @Test
+    void nameRoundTrips() {
+        MonthlyPartition partition = MonthlyPartition.of(YearMonth.of(2026, 3), SEOUL);
+
+        assertThat(partition.name()).isEqualTo("p202603");
+        assertThat(partition.definition()).isEqualTo("PARTITION p202603 VALUES LESS THAN (" + partition.upperBound() + ")");
+        assertThat(MonthlyPartition.parseMonth("p202603")).contains(YearMonth.of(2026, 3));
+        assertThat(MonthlyPartition.parseMonth("pmax")).isEmpty();
+    }
+
+    private long idAt(LocalDateTime time) {
+        return SnowflakeIdGenerator.minIdAt(time.atZone(SEOUL).toInstant());
+    }
+}
@@ -0,0 +1,32 @@
+package com.campus.campuscommunity.global.config.query;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+
+/**
+ * 테스트 메서드에 {@link QueryCounter}를 주입하는 JUnit 확장
+ *
+ * <pre>
+ * &#64;ExtendWith(QueryCountExtension.class)
+ * class CommentServiceQueryCountTest {
+ *     &#64;Test
+ *     void commentList(QueryCounter queries) {
+ *         queries.maxQueries(5, () -> commentService.getCommentsByBoardId(boardId, email));
+ *     }
+ * }
+ * </pre>
+ * 애플리케이션 컨텍스트에 {@link QueryCountConfig}가 적용되어 있어야 합니다 (campus.query-count.enabled=true).
+ */
+public class QueryCountExtension implements ParameterResolver {
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return parameterContext.getParameter().getType() == QueryCounter.class;
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return new QueryCounter(extensionContext.getDisplayName());
+    }
+}
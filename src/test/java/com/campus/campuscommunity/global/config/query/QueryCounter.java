@@ -0,0 +1,50 @@
+package com.campus.campuscommunity.global.config.query;
+
+import org.junit.jupiter.api.function.ThrowingSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 측정 구간에서 실행된 SQL 수 확인
+ * 같은 스레드에서 실행된 SQL만 세므로, 서비스 메서드를 직접 호출하는 테스트에서 사용합니다.
+ */
+public class QueryCounter {
+
+    private final String testName;
+    private QueryCountContext last;
+
+    QueryCounter(String testName) {
+        this.testName = testName;
+    }
+
+    /**
+     * 실행한 SQL이 max건 이하인지 확인
+     * @return action의 반환값
+     */
+    public <T> T maxQueries(int max, ThrowingSupplier<T> action) {
+        T result = count(action);
+        assertThat(last.getTotal())
+                .as("%s: SQL %d건 (리포지토리 메서드별 %s)", testName, last.getTotal(), last.getCountsByRepositoryMethod())
+                .isLessThanOrEqualTo(max);
+        return result;
+    }
+
+    /**
+     * SQL 수만 측정 (확인은 {@link #last()}로)
+     */
+    public <T> T count(ThrowingSupplier<T> action) {
+        try (QueryCountContext context = QueryCountContext.start()) {
+            last = context;
+            return action.get();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 마지막 측정 결과
+    public QueryCountContext last() {
+        return last;
+    }
+}
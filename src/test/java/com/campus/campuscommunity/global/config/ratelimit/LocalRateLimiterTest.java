@@ -0,0 +1,90 @@
+package com.campus.campuscommunity.global.config.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LocalRateLimiterTest {
+
+    private static final String POLICY = "test";
+
+    private final AtomicLong clock = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+    private final LocalRateLimiter rateLimiter = new LocalRateLimiter(
+            Map.of(POLICY, new RateLimitPolicy(3, Duration.ofSeconds(10))), 1_000, clock::get);
+
+    @Test
+    void allowsBurstThenRefillsOneTokenPerInterval() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(rateLimiter.tryAcquire(POLICY, "user")).isZero();
+        }
+        assertThat(rateLimiter.tryAcquire(POLICY, "user")).isEqualTo(10_000);
+
+        advance(Duration.ofSeconds(4));
+        assertThat(rateLimiter.tryAcquire(POLICY, "user")).isEqualTo(6_000);
+
+        advance(Duration.ofSeconds(6));
+        assertThat(rateLimiter.tryAcquire(POLICY, "user")).isZero();
+        assertThat(rateLimiter.tryAcquire(POLICY, "user")).isPositive();
+    }
+
+    @Test
+    void bucketsAreSeparatePerUser() {
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryAcquire(POLICY, "user");
+        }
+
+        assertThat(rateLimiter.tryAcquire(POLICY, "user")).isPositive();
+        assertThat(rateLimiter.tryAcquire(POLICY, "other")).isZero();
+    }
+
+    @Test
+    void idleBucketRefillsToCapacityOnly() {
+        rateLimiter.tryAcquire(POLICY, "user");
+        advance(Duration.ofHours(1));
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(rateLimiter.tryAcquire(POLICY, "user")).isZero();
+        }
+        assertThat(rateLimiter.tryAcquire(POLICY, "user")).isPositive();
+    }
+
+    @Test
+    void concurrentRequestsNeverExceedCapacity() throws InterruptedException {
+        LocalRateLimiter limiter = new LocalRateLimiter(
+                Map.of(POLICY, new RateLimitPolicy(100, Duration.ofHours(1))), 1_000);
+        AtomicInteger allowed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int t = 0; t < 8; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < 1_000; i++) {
+                    if (limiter.tryAcquire(POLICY, "user") == 0) {
+                        allowed.incrementAndGet();
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(allowed).hasValue(100);
+    }
+
+    @Test
+    void rejectsUnknownPolicy() {
+        assertThatThrownBy(() -> rateLimiter.tryAcquire("unknown", "user"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void advance(Duration duration) {
+        clock.addAndGet(duration.toNanos());
+    }
+}
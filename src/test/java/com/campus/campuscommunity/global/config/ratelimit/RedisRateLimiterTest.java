@@ -0,0 +1,72 @@
+package com.campus.campuscommunity.global.config.ratelimit;
+
+import com.github.fppt.jedismock.RedisServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Redis 공유 요청 제한 테스트 (내장 Redis 호환 서버 사용)
+ * 두 RedisRateLimiter를 서로 다른 노드로 보고 버킷을 함께 쓰는지 확인합니다.
+ */
+class RedisRateLimiterTest {
+
+    private static final String POLICY = "test";
+    private static final Map<String, RateLimitPolicy> POLICIES = Map.of(POLICY, new RateLimitPolicy(3, Duration.ofMinutes(1)));
+
+    private RedisServer redisServer;
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        redisServer = RedisServer.newRedisServer().start();
+
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redisServer.getHost(), redisServer.getBindPort()));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        connectionFactory.destroy();
+        if (redisServer != null) {
+            redisServer.stop();
+        }
+    }
+
+    @Test
+    void nodesShareOneBucketPerUser() {
+        RedisRateLimiter node1 = new RedisRateLimiter(redisTemplate, POLICIES, new LocalRateLimiter(POLICIES, 100));
+        RedisRateLimiter node2 = new RedisRateLimiter(redisTemplate, POLICIES, new LocalRateLimiter(POLICIES, 100));
+
+        assertThat(node1.tryAcquire(POLICY, "user")).isZero();
+        assertThat(node2.tryAcquire(POLICY, "user")).isZero();
+        assertThat(node1.tryAcquire(POLICY, "user")).isZero();
+
+        assertThat(node2.tryAcquire(POLICY, "user")).isBetween(1L, Duration.ofMinutes(1).toMillis());
+        assertThat(node1.tryAcquire(POLICY, "other")).isZero();
+        assertThat(redisTemplate.getExpire("rate-limit:test:user")).isPositive();
+    }
+
+    @Test
+    void fallsBackToLocalLimitWhenRedisIsDown() throws Exception {
+        RedisRateLimiter limiter = new RedisRateLimiter(redisTemplate, POLICIES, new LocalRateLimiter(POLICIES, 100));
+        redisServer.stop();
+        redisServer = null;
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire(POLICY, "user")).isZero();
+        }
+        assertThat(limiter.tryAcquire(POLICY, "user")).isPositive();
+    }
+}
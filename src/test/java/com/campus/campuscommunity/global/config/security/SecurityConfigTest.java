@@ -0,0 +1,103 @@
+package com.campus.campuscommunity.global.config.security;
+
+import com.campus.campuscommunity.domain.user.entity.User;
+import com.campus.campuscommunity.domain.user.repository.UserRepository;
+import com.campus.campuscommunity.global.config.jwt.JwtTokenProvider;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 경로별 접근 권한 테스트 (JWT로 인증한 요청)
+ */
+@SpringBootTest(properties = "management.server.port=8080") // MockMvc로 Actuator 경로도 확인하도록 앱 포트와 같게
+@AutoConfigureMockMvc
+class SecurityConfigTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void adminApiRequiresAdminRole() throws Exception {
+        mockMvc.perform(get("/api/admin/cache/stats"))
+                .andExpect(status().is3xxRedirection()); // 비로그인은 로그인 페이지로
+        mockMvc.perform(get("/api/admin/cache/stats").header("Authorization", bearer(createUser(User.Role.USER))))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/admin/cache/stats").header("Authorization", bearer(createUser(User.Role.ADMIN))))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void signedUpUserStaysAuthenticatedAfterProfileUpdate() throws Exception {
+        String email = "signup-" + UUID.randomUUID() + "@campus.ac.kr";
+        mockMvc.perform(post("/api/users/signup").contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"email": "%s", "password": "password123", "name": "가입자", "department": "컴퓨터공학과"}
+                                """.formatted(email)))
+                .andExpect(status().isCreated());
+        String login = mockMvc.perform(post("/api/users/login").contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"email": "%s", "password": "password123"}
+                                """.formatted(email)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String bearer = "Bearer " + JsonPath.read(login, "$.data.token");
+
+        mockMvc.perform(get("/api/users/me").param("email", email).header("Authorization", bearer))
+                .andExpect(status().isOk());
+        // 정보 수정 후에도 권한 유지
+        mockMvc.perform(put("/api/users/me").param("email", email).header("Authorization", bearer)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name": "수정", "department": "경영학과"}
+                                """))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/users/me").param("email", email).header("Authorization", bearer))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void onlyHealthIsPublicOnApplicationPort() throws Exception {
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().is3xxRedirection());
+        mockMvc.perform(get("/actuator/metrics"))
+                .andExpect(status().is3xxRedirection());
+    }
+
+    private String createUser(User.Role role) {
+        String email = "security-" + UUID.randomUUID() + "@campus.ac.kr";
+        userRepository.save(User.builder()
+                .email(email)
+                .password("password")
+                .name("사용자")
+                .department("컴퓨터공학과")
+                .verified(true)
+                .providerType(User.ProviderType.LOCAL)
+                .role(role)
+                .build());
+        return email;
+    }
+
+    private String bearer(String email) {
+        return "Bearer " + jwtTokenProvider.createToken(email);
+    }
+}
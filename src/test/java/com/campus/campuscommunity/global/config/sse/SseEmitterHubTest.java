@@ -0,0 +1,111 @@
+package com.campus.campuscommunity.global.config.sse;
+
+import com.campus.campuscommunity.domain.board.dto.BoardResponseDto;
+import com.campus.campuscommunity.domain.board.entity.BoardCategory;
+import com.campus.campuscommunity.domain.board.event.BoardCreatedEvent;
+import com.campus.campuscommunity.global.common.response.ResponseCode;
+import com.campus.campuscommunity.global.config.exception.CustomException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * SSE 구독자 관리 테스트
+ * 느린 구독자/구독자 수 제한은 설정을 줄인 허브를 직접 만들어 확인하고,
+ * 롤백된 트랜잭션의 이벤트는 애플리케이션의 허브와 게시글 스트림으로 확인합니다.
+ */
+@SpringBootTest
+class SseEmitterHubTest {
+
+    @Autowired
+    private SseEmitterHub sseEmitterHub;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void slowSubscriberIsDroppedWhenItsBufferIsFull() {
+        SseEmitterHub hub = new SseEmitterHub(objectMapper, 60_000, 2, 10, 1);
+        try {
+            SseEmitter slow = hub.subscribe("boards", data -> true);
+
+            // 전송(SseEmitter.send)은 emitter에 동기화되어 있으므로, 잠금을 쥐고 있는 동안 한 건도 보내지 못함
+            synchronized (slow) {
+                for (int i = 0; i < 5; i++) {
+                    hub.publish("boards", "board-created", i, "event-" + i);
+                }
+                assertThat(hub.getDroppedSubscriberCount()).isEqualTo(1);
+                assertThat(hub.getSubscriberCount()).isZero();
+            }
+
+            // 끊긴 구독자에게는 더 이상 넣지 않음
+            hub.publish("boards", "board-created", 5, "event-5");
+            assertThat(hub.getDroppedSubscriberCount()).isEqualTo(1);
+        } finally {
+            hub.shutdown();
+        }
+    }
+
+    @Test
+    void subscribeBeyondMaxSubscribersIsRejected() {
+        SseEmitterHub hub = new SseEmitterHub(objectMapper, 60_000, 2, 1, 1);
+        try {
+            hub.subscribe("boards", data -> true);
+
+            assertThatThrownBy(() -> hub.subscribe("comments:board:1", data -> true))
+                    .isInstanceOf(CustomException.class)
+                    .extracting(e -> ((CustomException) e).getResponseCode())
+                    .isEqualTo(ResponseCode.SERVICE_UNAVAILABLE);
+            assertThat(hub.getSubscriberCount()).isEqualTo(1);
+        } finally {
+            hub.shutdown();
+        }
+    }
+
+    @Test
+    void eventsFromRolledBackTransactionAreNeverDelivered() {
+        // 필터는 발행 때 구독자마다 호출되므로 전달된 이벤트를 기록하는 데 사용
+        List<Object> delivered = new CopyOnWriteArrayList<>();
+        SseEmitter emitter = sseEmitterHub.subscribe("boards", data -> delivered.add(data));
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        try {
+            BoardResponseDto.BoardSummary rolledBack = summary(-1L);
+            transactionTemplate.executeWithoutResult(status -> {
+                eventPublisher.publishEvent(new BoardCreatedEvent(rolledBack));
+                status.setRollbackOnly();
+            });
+            assertThat(delivered).isEmpty();
+
+            BoardResponseDto.BoardSummary committed = summary(-2L);
+            transactionTemplate.executeWithoutResult(status -> eventPublisher.publishEvent(new BoardCreatedEvent(committed)));
+            assertThat(delivered).containsExactly(committed);
+        } finally {
+            emitter.complete();
+        }
+    }
+
+    private BoardResponseDto.BoardSummary summary(Long id) {
+        return BoardResponseDto.BoardSummary.builder()
+                .id(id)
+                .title("SSE 테스트")
+                .writerDepartment("컴퓨터공학과")
+                .category(BoardCategory.FREE)
+                .build();
+    }
+}